@@ -0,0 +1,55 @@
+package com.example.syndicatelending.common.domain.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Money・Percentage の演算のベンチマーク
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoneyBenchmark {
+
+    private Money principal;
+    private Money interest;
+    private BigDecimal multiplier;
+    private Percentage share;
+
+    @Setup
+    public void setUp() {
+        principal = Money.of(new BigDecimal("1234567.89"));
+        interest = Money.of(new BigDecimal("2571.93"));
+        multiplier = new BigDecimal("0.025");
+        share = Percentage.of(new BigDecimal("0.3333"));
+    }
+
+    @Benchmark
+    public Money add() {
+        return principal.add(interest);
+    }
+
+    @Benchmark
+    public Money multiply() {
+        return principal.multiply(multiplier);
+    }
+
+    @Benchmark
+    public Money percentageApplyTo() {
+        return share.applyTo(principal);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.syndicatelending.loan.entity;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Loan#generatePaymentSchedule()} のベンチマーク。
+ * STOREDモードでPaymentDetailまで生成する場合と、PROJECTEDモードでスケジュールの計算のみ行う場合を比較する。
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PaymentScheduleBenchmark {
+
+    @Param({ "12", "120", "360" })
+    public int periods;
+
+    @Param({ "EQUAL_INSTALLMENT", "BULLET_PAYMENT" })
+    public RepaymentMethod repaymentMethod;
+
+    private Loan storedLoan;
+    private Loan projectedLoan;
+
+    @Setup
+    public void setUp() {
+        storedLoan = loan(PaymentScheduleMode.STORED);
+        projectedLoan = loan(PaymentScheduleMode.PROJECTED);
+    }
+
+    @Benchmark
+    public List<PaymentDetail> generateStored() {
+        storedLoan.generatePaymentSchedule();
+        return storedLoan.getPaymentDetails();
+    }
+
+    @Benchmark
+    public Integer generateProjected() {
+        projectedLoan.generatePaymentSchedule();
+        return projectedLoan.getNextPaymentNumber();
+    }
+
+    private Loan loan(PaymentScheduleMode mode) {
+        return new Loan(1L, 1L, Money.of(new BigDecimal("120000000")), Percentage.of(new BigDecimal("0.025")),
+                LocalDate.of(2025, 1, 31), periods, "MONTHLY", repaymentMethod, "JPY", mode);
+    }
+}
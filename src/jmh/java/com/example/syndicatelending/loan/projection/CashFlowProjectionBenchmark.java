@@ -0,0 +1,92 @@
+package com.example.syndicatelending.loan.projection;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.loan.domain.DistributionVector;
+import com.example.syndicatelending.loan.entity.DistributionWeight;
+import com.example.syndicatelending.loan.entity.RepaymentMethod;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CashFlowProjectionEngine#project} のベンチマーク。
+ * 100,000件のローン（投資家500、3通貨）を120か月分、月単位で集計する。ローンの読み込みはメモリ上のリストから行う。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CashFlowProjectionBenchmark {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+
+    @Param({ "100000" })
+    public int loanCount;
+
+    @Param({ "1", "4" })
+    public int parallelism;
+
+    private List<ProjectedLoan> loans;
+    private ExecutorService executor;
+    private CashFlowProjectionEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        loans = generateLoans(loanCount, 500);
+        executor = Executors.newFixedThreadPool(parallelism);
+        engine = new CashFlowProjectionEngine(executor, parallelism, 1_000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public CashFlowAccumulator projectMonthly() {
+        // ローンIDは 1 から連番
+        return engine.project(1L, loans.size(),
+                (fromId, toId) -> loans.subList((int) fromId - 1, (int) Math.min(toId, loans.size())),
+                FROM, FROM.plusMonths(120), CashFlowGranularity.MONTH);
+    }
+
+    private static List<ProjectedLoan> generateLoans(int count, int investorCount) {
+        List<ProjectedLoan> loans = new ArrayList<>(count);
+        String[] currencies = { "JPY", "USD", "EUR" };
+        for (int i = 1; i <= count; i++) {
+            List<DistributionWeight> weights = new ArrayList<>();
+            for (int j = 0; j < 3 + i % 5; j++) {
+                weights.add(new DistributionWeight((long) ((i * 7 + j * 13) % investorCount) + 1, 100_000L + j * 3));
+            }
+            loans.add(new ProjectedLoan((long) i, currencies[i % currencies.length],
+                    Money.of(new BigDecimal(1_000_000 + i * 17L)),
+                    Percentage.of(new BigDecimal(i % 2 == 0 ? "0.025" : "0.031")),
+                    FROM.minusMonths(i % 24).plusDays(i % 28), 12 + (i % 10) * 12,
+                    i % 3 == 0 ? RepaymentMethod.BULLET_PAYMENT : RepaymentMethod.EQUAL_INSTALLMENT,
+                    DistributionVector.fromWeights(weights)));
+        }
+        return loans;
+    }
+}
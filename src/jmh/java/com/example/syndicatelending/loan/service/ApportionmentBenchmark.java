@@ -0,0 +1,80 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.facility.domain.InvestorShare;
+import com.example.syndicatelending.loan.domain.DistributionVector;
+import com.example.syndicatelending.loan.entity.AmountPie;
+import com.example.syndicatelending.loan.entity.Drawdown;
+import com.example.syndicatelending.loan.entity.Payment;
+import com.example.syndicatelending.loan.entity.PaymentDistribution;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ドローダウン時のSharePieによる按分と、支払い時の投資家への配分のベンチマーク
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ApportionmentBenchmark {
+
+    @Param({ "3", "20", "100" })
+    public int investors;
+
+    private BigDecimal drawdownAmount;
+    private List<InvestorShare> sharePies;
+    private Drawdown drawdown;
+    private Payment payment;
+    private DistributionVector weights;
+
+    @Setup
+    public void setUp() {
+        drawdownAmount = new BigDecimal("123456789.01");
+        // 合計が1になるように最後の投資家で調整した持分
+        sharePies = new ArrayList<>(investors);
+        BigDecimal share = BigDecimal.ONE.divide(BigDecimal.valueOf(investors), 4, RoundingMode.DOWN);
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 1; i < investors; i++) {
+            sharePies.add(new InvestorShare((long) i, Percentage.of(share)));
+            total = total.add(share);
+        }
+        sharePies.add(new InvestorShare((long) investors, Percentage.of(BigDecimal.ONE.subtract(total))));
+
+        drawdown = new Drawdown();
+        weights = DistributionVector.fromAmountPies(
+                DrawdownService.apportionBySharePies(drawdownAmount, "JPY", sharePies, drawdown));
+        payment = new Payment(1L, LocalDate.of(2025, 2, 28), Money.of(new BigDecimal("3600000.01")),
+                Money.of(new BigDecimal("3342765.43")), Money.of(new BigDecimal("257234.58")), "JPY");
+    }
+
+    @Benchmark
+    public List<AmountPie> drawdownApportionment() {
+        return DrawdownService.apportionBySharePies(drawdownAmount, "JPY", sharePies, drawdown);
+    }
+
+    @Benchmark
+    public List<PaymentDistribution> paymentDistributions() {
+        return PaymentService.createPaymentDistributions(payment, weights);
+    }
+}
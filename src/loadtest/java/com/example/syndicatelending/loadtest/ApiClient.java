@@ -0,0 +1,86 @@
+package com.example.syndicatelending.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * APIを呼び出し、レスポンスを受信するまでの時間をエンドポイントごとに記録するクライアント。
+ */
+final class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String apiUrl;
+    private final EndpointLatencies latencies;
+
+    ApiClient(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl, EndpointLatencies latencies) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.apiUrl = baseUrl + "/api/v1";
+        this.latencies = latencies;
+    }
+
+    /**
+     * @param endpoint 集計に使うパステンプレート（例: {@code /loans/{loanId}/position}）
+     * @param path     実際のパス
+     */
+    JsonNode post(String endpoint, String path, Object body) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+        return send("POST " + endpoint, HttpRequest.newBuilder(URI.create(apiUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)));
+    }
+
+    JsonNode get(String endpoint, String path) {
+        return send("GET " + endpoint, HttpRequest.newBuilder(URI.create(apiUrl + path)).GET());
+    }
+
+    private JsonNode send(String endpoint, HttpRequest.Builder builder) {
+        HttpRequest request = builder.timeout(REQUEST_TIMEOUT).build();
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            latencies.record(endpoint, System.nanoTime() - start, false);
+            throw new FlowFailedException(endpoint + " failed: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowFailedException(endpoint + " interrupted");
+        }
+        boolean success = response.statusCode() / 100 == 2;
+        latencies.record(endpoint, System.nanoTime() - start, success);
+        if (!success) {
+            throw new FlowFailedException(endpoint + " returned " + response.statusCode() + ": " + response.body());
+        }
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (JsonProcessingException e) {
+            throw new FlowFailedException(endpoint + " returned invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * 仮想ユーザーのシナリオを中断するエラー（後続のステップは前のステップのIDに依存するため）
+     */
+    static final class FlowFailedException extends RuntimeException {
+        FlowFailedException(String message) {
+            super(message);
+        }
+    }
+}
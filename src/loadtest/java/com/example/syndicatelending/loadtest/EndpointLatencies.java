@@ -0,0 +1,90 @@
+package com.example.syndicatelending.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * エンドポイント（メソッド + パステンプレート）ごとのレイテンシ（マイクロ秒）とエラー件数。
+ */
+final class EndpointLatencies {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long elapsedNanos, boolean success) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS);
+        histograms.computeIfAbsent(endpoint, key -> new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS))
+                .recordValue(micros);
+        if (!success) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * エンドポイントごとの件数・エラー件数・パーセンタイル（ミリ秒）を表形式で出力する
+     */
+    void report(PrintStream out) {
+        out.printf("%-48s %8s %6s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "mean(ms)", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        new TreeMap<>(histograms).forEach((endpoint, histogram) -> out.printf(
+                "%-48s %8d %6d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint,
+                histogram.getTotalCount(),
+                errors.containsKey(endpoint) ? errors.get(endpoint).sum() : 0L,
+                histogram.getMean() / 1000.0,
+                histogram.getValueAtPercentile(50.0) / 1000.0,
+                histogram.getValueAtPercentile(99.0) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0));
+    }
+
+    /**
+     * エンドポイントをタグとして HdrHistogram ログを書き出す。
+     * HistogramLogProcessor / HdrHistogramVisualizer でコミット間の比較に使う。
+     */
+    Path writeLog(Path dir, String label, long startMillis, long endMillis) throws IOException {
+        Files.createDirectories(dir);
+        Path file = dir.resolve(label + "-" + startMillis + ".hlog");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            HistogramLogWriter writer = new HistogramLogWriter(out);
+            writer.outputComment("syndicate-lending load test: values in microseconds");
+            writer.outputLogFormatVersion();
+            writer.outputStartTime(startMillis);
+            writer.setBaseTime(startMillis);
+            writer.outputLegend();
+            for (Map.Entry<String, Histogram> entry : new TreeMap<>(histograms).entrySet()) {
+                Histogram histogram = entry.getValue().copy();
+                histogram.setTag(tag(entry.getKey()));
+                histogram.setStartTimeStamp(startMillis);
+                histogram.setEndTimeStamp(endMillis);
+                writer.outputIntervalHistogram(histogram);
+            }
+        }
+        return file;
+    }
+
+    /**
+     * タグに使えない空白・カンマを置き換える（例: {@code POST_/loans/payments}）
+     */
+    private static String tag(String endpoint) {
+        return endpoint.replaceAll("[\\s,]", "_");
+    }
+}
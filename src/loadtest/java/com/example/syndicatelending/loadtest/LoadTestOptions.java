@@ -0,0 +1,117 @@
+package com.example.syndicatelending.loadtest;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 負荷試験の設定。{@code --key=value} 形式の引数から作成する。
+ * 負荷試験のキー以外の引数（{@code --spring.datasource.hikari.maximum-pool-size=20} など）は組み込みサーバーに渡す。
+ */
+final class LoadTestOptions {
+
+    /** 接続先のベースURL（未指定の場合はランダムポートで組み込みサーバーを起動する） */
+    private final String baseUrl;
+    /** シナリオを実行する仮想ユーザー数（1ユーザーが Company → … → 支払い を1回実行する） */
+    private final int virtualUsers;
+    /** 同時に実行する仮想ユーザー数 */
+    private final int concurrency;
+    /** 仮想ユーザーごとのシンジケート参加投資家数 */
+    private final int investors;
+    /** 仮想ユーザーごとのドローダウン件数 */
+    private final int drawdowns;
+    /** ドローダウンごとの支払い件数 */
+    private final int payments;
+    /** HdrHistogram ログの出力先 */
+    private final Path outputDir;
+    /** 出力ファイル名に付ける名前（比較するコミットの識別など） */
+    private final String label;
+    private final List<String> serverArgs;
+
+    private LoadTestOptions(Map<String, String> values, List<String> serverArgs) {
+        this.baseUrl = values.get("base-url");
+        this.virtualUsers = intValue(values, "virtual-users", 50);
+        this.concurrency = intValue(values, "concurrency", 8);
+        this.investors = intValue(values, "investors", 3);
+        this.drawdowns = intValue(values, "drawdowns", 5);
+        this.payments = intValue(values, "payments", 12);
+        this.outputDir = Path.of(values.getOrDefault("output-dir", "target/loadtest"));
+        this.label = values.getOrDefault("label", "latency");
+        this.serverArgs = serverArgs;
+        if (virtualUsers < 1 || concurrency < 1 || investors < 1 || drawdowns < 1 || payments < 0) {
+            throw new IllegalArgumentException("virtual-users, concurrency, investors and drawdowns must be positive");
+        }
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        List<String> serverArgs = new ArrayList<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String key = arg.startsWith("--") && separator > 2 ? arg.substring(2, separator) : null;
+            if (key != null && isOption(key)) {
+                values.put(key, arg.substring(separator + 1));
+            } else {
+                serverArgs.add(arg);
+            }
+        }
+        return new LoadTestOptions(values, serverArgs);
+    }
+
+    private static boolean isOption(String key) {
+        return switch (key) {
+            case "base-url", "virtual-users", "concurrency", "investors", "drawdowns", "payments", "output-dir",
+                    "label" -> true;
+            default -> false;
+        };
+    }
+
+    private static int intValue(Map<String, String> values, String key, int defaultValue) {
+        String value = values.get(key);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    String getBaseUrl() {
+        return baseUrl;
+    }
+
+    int getVirtualUsers() {
+        return virtualUsers;
+    }
+
+    int getConcurrency() {
+        return concurrency;
+    }
+
+    int getInvestors() {
+        return investors;
+    }
+
+    int getDrawdowns() {
+        return drawdowns;
+    }
+
+    int getPayments() {
+        return payments;
+    }
+
+    Path getOutputDir() {
+        return outputDir;
+    }
+
+    String getLabel() {
+        return label;
+    }
+
+    String[] getServerArgs() {
+        return serverArgs.toArray(new String[0]);
+    }
+
+    @Override
+    public String toString() {
+        return "virtualUsers=" + virtualUsers + ", concurrency=" + concurrency + ", investors=" + investors
+                + ", drawdowns=" + drawdowns + ", payments=" + payments;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.syndicatelending.loadtest;
+
+import com.example.syndicatelending.DemoApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * シナリオを多数の仮想ユーザーで同時に実行する負荷試験。
+ * <p>
+ * {@code --base-url} を指定しない場合はランダムポートで組み込みサーバーを起動して試験し、終了時に停止する。
+ * 実行方法は README の「負荷試験」を参照。
+ * </p>
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ConfigurableApplicationContext server = null;
+        String baseUrl = options.getBaseUrl();
+        if (baseUrl == null) {
+            server = startServer(options.getServerArgs());
+            baseUrl = "http://localhost:" + ((WebServerApplicationContext) server).getWebServer().getPort();
+        }
+
+        int failedUsers;
+        try {
+            failedUsers = run(options, baseUrl);
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+        System.exit(failedUsers == 0 ? 0 : 1);
+    }
+
+    /**
+     * @return シナリオが失敗した仮想ユーザー数
+     */
+    private static int run(LoadTestOptions options, String baseUrl) throws Exception {
+        EndpointLatencies latencies = new EndpointLatencies();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        ApiClient client = new ApiClient(httpClient, new ObjectMapper(), baseUrl, latencies);
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+
+        System.out.println("Load test against " + baseUrl + " (" + options + ")");
+        long startMillis = System.currentTimeMillis();
+        int failedUsers = 0;
+        ExecutorService executor = Executors.newFixedThreadPool(options.getConcurrency());
+        try {
+            List<Future<?>> futures = new ArrayList<>(options.getVirtualUsers());
+            for (int user = 0; user < options.getVirtualUsers(); user++) {
+                futures.add(executor.submit(new SyndicationFlow(client, options, runId, user)));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    failedUsers++;
+                    if (failedUsers <= 10) {
+                        System.err.println("Virtual user failed: " + e.getCause().getMessage());
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        long endMillis = System.currentTimeMillis();
+
+        double seconds = (endMillis - startMillis) / 1000.0;
+        System.out.printf("%nCompleted %d virtual users in %.1f s (%d failed, %d failed requests)%n%n",
+                options.getVirtualUsers(), seconds, failedUsers, latencies.totalErrors());
+        latencies.report(System.out);
+        Path log = latencies.writeLog(options.getOutputDir(), options.getLabel(), startMillis, endMillis);
+        System.out.println();
+        System.out.println("HdrHistogram log: " + log);
+        return failedUsers;
+    }
+
+    private static ConfigurableApplicationContext startServer(String[] serverArgs) {
+        List<String> args = new ArrayList<>(List.of(serverArgs));
+        // application.properties より優先させるためコマンドライン引数として渡す（同じキーが指定されていれば追加しない）
+        Map<String, String> defaults = Map.of(
+                "server.port", "0",
+                "spring.jpa.show-sql", "false",
+                "spring.h2.console.enabled", "false",
+                "logging.level.root", "WARN");
+        defaults.forEach((key, value) -> {
+            if (args.stream().noneMatch(arg -> arg.startsWith("--" + key + "="))) {
+                args.add("--" + key + "=" + value);
+            }
+        });
+        return SpringApplication.run(DemoApplication.class, args.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.syndicatelending.loadtest;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 1人の仮想ユーザーのシナリオ。test_scenario.sh と同じ順序で
+ * Company → Borrower → Investor → Syndicate → Facility → ドローダウン → 支払い を作成し、作成した値を参照する。
+ * 名前・メールアドレスは仮想ユーザーごとに一意にし、ユーザー間でデータを共有しない。
+ */
+final class SyndicationFlow implements Runnable {
+
+    /** ドローダウン1件の金額 */
+    private static final BigDecimal DRAWDOWN_AMOUNT = new BigDecimal("1200000");
+
+    private final ApiClient client;
+    private final LoadTestOptions options;
+    private final String runId;
+    private final int user;
+
+    SyndicationFlow(ApiClient client, LoadTestOptions options, String runId, int user) {
+        this.client = client;
+        this.options = options;
+        this.runId = runId;
+        this.user = user;
+    }
+
+    @Override
+    public void run() {
+        BigDecimal commitment = DRAWDOWN_AMOUNT.multiply(BigDecimal.valueOf(options.getDrawdowns()));
+        String suffix = runId + "-" + user;
+
+        long companyId = client.post("/parties/companies", "/parties/companies", Map.of(
+                "companyName", "LoadTest Company " + suffix,
+                "registrationNumber", "REG-" + suffix,
+                "industry", "IT",
+                "address", "Tokyo",
+                "country", "JAPAN")).get("id").asLong();
+
+        long borrowerId = client.post("/parties/borrowers", "/parties/borrowers", Map.of(
+                "name", "LoadTest Borrower " + suffix,
+                "email", "borrower-" + suffix + "@example.com",
+                "phoneNumber", "123-456-7890",
+                "companyId", String.valueOf(companyId),
+                "creditLimit", commitment.multiply(BigDecimal.TEN),
+                "creditRating", "AA")).get("id").asLong();
+
+        List<Long> investorIds = new ArrayList<>(options.getInvestors());
+        for (int i = 0; i < options.getInvestors(); i++) {
+            investorIds.add(client.post("/parties/investors", "/parties/investors", Map.of(
+                    "name", "LoadTest Investor " + suffix + "-" + i,
+                    "email", "investor-" + suffix + "-" + i + "@example.com",
+                    "phoneNumber", "987-654-3210",
+                    "investmentCapacity", commitment,
+                    "investorType", i == 0 ? "LEAD_BANK" : "BANK")).get("id").asLong());
+        }
+
+        long syndicateId = client.post("/syndicates", "/syndicates", Map.of(
+                "name", "LoadTest Syndicate " + suffix,
+                "leadBankId", investorIds.get(0),
+                "borrowerId", borrowerId,
+                "memberInvestorIds", investorIds)).get("id").asLong();
+        client.get("/syndicates/{id}", "/syndicates/" + syndicateId);
+
+        LocalDate startDate = LocalDate.now();
+        long facilityId = client.post("/facilities", "/facilities", Map.of(
+                "syndicateId", syndicateId,
+                "commitment", commitment,
+                "currency", "JPY",
+                "startDate", startDate.toString(),
+                "endDate", startDate.plusYears(5).toString(),
+                "interestTerms", "TIBOR + 1%",
+                "sharePies", sharePies(investorIds))).get("id").asLong();
+        client.get("/facilities/{id}", "/facilities/" + facilityId);
+
+        for (int d = 0; d < options.getDrawdowns(); d++) {
+            long loanId = drawdown(facilityId, borrowerId, startDate);
+            for (int p = 1; p <= options.getPayments(); p++) {
+                payment(loanId, startDate.plusMonths(p));
+            }
+            client.get("/loans/payments/loan/{loanId}/summary", "/loans/payments/loan/" + loanId + "/summary");
+            client.get("/loans/{loanId}/position", "/loans/" + loanId + "/position");
+        }
+        client.get("/loans/drawdowns/facility/{facilityId}", "/loans/drawdowns/facility/" + facilityId);
+    }
+
+    private long drawdown(long facilityId, long borrowerId, LocalDate drawdownDate) {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("facilityId", facilityId);
+        request.put("borrowerId", borrowerId);
+        request.put("amount", DRAWDOWN_AMOUNT);
+        request.put("currency", "JPY");
+        request.put("purpose", "Load test");
+        request.put("annualInterestRate", new BigDecimal("0.025"));
+        request.put("drawdownDate", drawdownDate.toString());
+        request.put("repaymentPeriodMonths", Math.max(options.getPayments(), 1));
+        request.put("repaymentCycle", "MONTHLY");
+        request.put("repaymentMethod", "EQUAL_INSTALLMENT");
+        return client.post("/loans/drawdowns", "/loans/drawdowns", request).get("loanId").asLong();
+    }
+
+    private void payment(long loanId, LocalDate paymentDate) {
+        BigDecimal principal = DRAWDOWN_AMOUNT.divide(BigDecimal.valueOf(options.getPayments()), 2,
+                RoundingMode.DOWN);
+        client.post("/loans/payments", "/loans/payments", Map.of(
+                "loanId", loanId,
+                "paymentDate", paymentDate.toString(),
+                "principalAmount", principal,
+                "interestAmount", new BigDecimal("2500"),
+                "currency", "JPY"));
+    }
+
+    /**
+     * 投資家数で均等に分け、端数を先頭（リードバンク）の持分に含める
+     */
+    private static List<Map<String, Object>> sharePies(List<Long> investorIds) {
+        BigDecimal share = BigDecimal.ONE.divide(BigDecimal.valueOf(investorIds.size()), 4, RoundingMode.DOWN);
+        BigDecimal leadShare = BigDecimal.ONE.subtract(share.multiply(BigDecimal.valueOf(investorIds.size() - 1)));
+        List<Map<String, Object>> sharePies = new ArrayList<>(investorIds.size());
+        for (int i = 0; i < investorIds.size(); i++) {
+            sharePies.add(Map.of("investorId", investorIds.get(i), "share", i == 0 ? leadShare : share));
+        }
+        return sharePies;
+    }
+}
@@ -1,16 +1,32 @@
 package com.example.syndicatelending.common.application.exception;
 
+import java.util.List;
+
 /**
  * 業務ルール違反が発生したことを示すアプリケーション例外。
  * (例: 利用可能額を超えるドローダウン要求など)
+ * 複数の違反をまとめて報告する場合は {@link #getViolations()} で個別に参照できる。
  */
 public class BusinessRuleViolationException extends RuntimeException { // RuntimeExceptionとして定義
 
+    private final List<String> violations;
+
     public BusinessRuleViolationException(String message) {
         super(message);
+        this.violations = List.of(message);
     }
 
     public BusinessRuleViolationException(String message, Throwable cause) {
         super(message, cause);
+        this.violations = List.of(message);
+    }
+
+    public BusinessRuleViolationException(List<String> violations) {
+        super(String.join("; ", violations));
+        this.violations = List.copyOf(violations);
+    }
+
+    public List<String> getViolations() {
+        return violations;
     }
 }
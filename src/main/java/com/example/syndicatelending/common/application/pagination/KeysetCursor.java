@@ -0,0 +1,101 @@
+package com.example.syndicatelending.common.application.pagination;
+
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * キーセットページングの位置を表すカーソル。
+ * 直前のページの最終行のソートキー（日付とID、または IDのみ）を保持し、
+ * クライアントには中身を意識させない不透明な文字列としてやり取りする。
+ */
+public final class KeysetCursor {
+
+    private static final char SEPARATOR = ':';
+
+    private final LocalDate date;
+    private final Long id;
+
+    private KeysetCursor(LocalDate date, Long id) {
+        this.date = date;
+        this.id = Objects.requireNonNull(id, "id must not be null");
+    }
+
+    /**
+     * (日付, ID) の順でソートされた一覧のカーソル
+     */
+    public static KeysetCursor of(LocalDate date, Long id) {
+        return new KeysetCursor(Objects.requireNonNull(date, "date must not be null"), id);
+    }
+
+    /**
+     * IDのみでソートされた一覧のカーソル
+     */
+    public static KeysetCursor ofId(Long id) {
+        return new KeysetCursor(null, id);
+    }
+
+    /**
+     * クライアントから受け取ったカーソル文字列を復元する。
+     *
+     * @throws BusinessRuleViolationException カーソルの形式が不正な場合
+     */
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("separator not found");
+            }
+            LocalDate date = separator == 0 ? null : LocalDate.parse(raw.substring(0, separator));
+            return new KeysetCursor(date, Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessRuleViolationException("Invalid cursor: " + token, e);
+        }
+    }
+
+    public String encode() {
+        String raw = (date == null ? "" : date.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * (日付, ID) のカーソルとして日付を取得する。
+     *
+     * @throws BusinessRuleViolationException IDのみのカーソルが渡された場合
+     */
+    public LocalDate getDate() {
+        if (date == null) {
+            throw new BusinessRuleViolationException("Cursor does not contain a date key");
+        }
+        return date;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof KeysetCursor))
+            return false;
+        KeysetCursor that = (KeysetCursor) o;
+        return Objects.equals(date, that.date) && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(date, id);
+    }
+
+    @Override
+    public String toString() {
+        return encode();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.syndicatelending.common.application.pagination;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * キーセットページングの結果。
+ * 次ページは {@link #getNextCursor()} をそのまま次のリクエストに渡して取得する。
+ * 総件数は COUNT クエリを伴うため、要求された場合のみ設定される。
+ */
+public class KeysetPage<T> {
+
+    /** 1ページの最大件数 */
+    public static final int MAX_SIZE = 1000;
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final Long totalElements;
+
+    private KeysetPage(List<T> content, String nextCursor, Long totalElements) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.totalElements = totalElements;
+    }
+
+    /**
+     * ページ件数より1件多く取得するための {@link Pageable}。
+     * 余分な1件の有無で次ページの存在を判定し、COUNT クエリを不要にする。
+     */
+    public static Pageable probe(int size) {
+        return PageRequest.ofSize(clampSize(size) + 1);
+    }
+
+    /**
+     * {@link #probe(int)} で取得した行からページを組み立てる。
+     *
+     * @param rows       ページ件数+1件まで取得した行
+     * @param size       ページ件数
+     * @param cursorOf   行から次ページのカーソルを作る関数
+     * @param totalCount 総件数を取得する関数。null の場合は COUNT クエリを発行しない
+     */
+    public static <T> KeysetPage<T> of(List<T> rows, int size, Function<T, KeysetCursor> cursorOf,
+            LongSupplier totalCount) {
+        int pageSize = clampSize(size);
+        boolean hasNext = rows.size() > pageSize;
+        List<T> content = hasNext ? List.copyOf(rows.subList(0, pageSize)) : List.copyOf(rows);
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        Long totalElements = totalCount != null ? totalCount.getAsLong() : null;
+        return new KeysetPage<>(content, nextCursor, totalElements);
+    }
+
+    static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Long getTotalElements() {
+        return totalElements;
+    }
+}
@@ -48,6 +48,13 @@ public final class Money {
         return new Money(BigDecimal.valueOf(amount));
     }
 
+    /**
+     * 最小通貨単位（小数点以下2桁を整数化した値）からMoneyインスタンスを生成するファクトリメソッド。
+     */
+    public static Money ofMinorUnits(long minorUnits) {
+        return new Money(BigDecimal.valueOf(minorUnits, DEFAULT_SCALE));
+    }
+
     /**
      * ゼロ金額のMoneyインスタンスを取得する。
      */
@@ -62,6 +69,13 @@ public final class Money {
         return amount;
     }
 
+    /**
+     * 最小通貨単位（小数点以下2桁を整数化した値）を取得する。
+     */
+    public long toMinorUnits() {
+        return amount.unscaledValue().longValueExact();
+    }
+
     /**
      * JSON用の値を取得する。
      */
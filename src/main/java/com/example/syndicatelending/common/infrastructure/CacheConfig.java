@@ -0,0 +1,36 @@
+package com.example.syndicatelending.common.infrastructure;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 参照系データ（SharePie・シンジケートメンバー）のキャッシュ設定。
+ * <p>
+ * Caffeineでサイズ・TTLを制限し、統計を記録してActuatorの cache.gets メトリクスで
+ * ヒット/ミスを公開する。evict はトランザクションのコミット後に反映する。
+ * </p>
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /** ファシリティIDごとの SharePie（投資家ID・持分） */
+    public static final String FACILITY_SHARE_PIES = "facilitySharePies";
+
+    /** シンジケートIDごとのBorrowerとメンバー投資家ID */
+    public static final String SYNDICATE_MEMBERS = "syndicateMembers";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${spring.cache.caffeine.spec:maximumSize=10000,expireAfterWrite=10m,recordStats}") String spec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(FACILITY_SHARE_PIES, SYNDICATE_MEMBERS);
+        cacheManager.setCacheSpecification(spec);
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
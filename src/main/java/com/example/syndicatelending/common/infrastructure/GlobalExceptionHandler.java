@@ -2,6 +2,7 @@ package com.example.syndicatelending.common.infrastructure;
 
 import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
 import com.example.syndicatelending.common.application.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.OptimisticLockingFailureException;
@@ -12,6 +13,8 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest; // Request情報にアクセスする場合
 
+import java.util.List;
+
 /**
  * アプリケーション全体で発生する例外を処理するグローバルハンドラー。
  * 例外を捕捉し、適切なHTTPレスポンスにマッピングする。
@@ -26,6 +29,7 @@ public class GlobalExceptionHandler {
         private int status;
         private String error;
         private String message;
+        private List<String> violations;
         // Timestamp, path など追加可能
 
         public ErrorResponse(int status, String error, String message) {
@@ -34,6 +38,11 @@ public class GlobalExceptionHandler {
             this.message = message;
         }
 
+        public ErrorResponse(int status, String error, String message, List<String> violations) {
+            this(status, error, message);
+            this.violations = violations;
+        }
+
         // Getters (for JSON serialization)
         public int getStatus() {
             return status;
@@ -46,6 +55,12 @@ public class GlobalExceptionHandler {
         public String getMessage() {
             return message;
         }
+
+        // 複数の業務ルール違反がある場合のみ出力
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        public List<String> getViolations() {
+            return violations;
+        }
     }
 
     /**
@@ -77,10 +92,12 @@ public class GlobalExceptionHandler {
         HttpStatus status = HttpStatus.BAD_REQUEST; // Or HttpStatus.UNPROCESSABLE_ENTITY (422)
         log.warn("Business Rule Violation: {}", ex.getMessage()); // Warnレベルでログ出力
 
+        List<String> violations = ex.getViolations().size() > 1 ? ex.getViolations() : null;
         ErrorResponse errorResponse = new ErrorResponse(
                 status.value(),
                 status.getReasonPhrase(),
-                ex.getMessage());
+                ex.getMessage(),
+                violations);
         return new ResponseEntity<>(errorResponse, status);
     }
 
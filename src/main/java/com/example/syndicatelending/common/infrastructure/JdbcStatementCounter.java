@@ -0,0 +1,25 @@
+package com.example.syndicatelending.common.infrastructure;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate が準備したSQL文をスレッドごとに数える StatementInspector。
+ * 区間（HTTPリクエスト、{@link StatementBudget} を付けたメソッドなど）の件数は、前後の {@link #current()} の差で求める。
+ */
+public class JdbcStatementCounter implements StatementInspector {
+
+    private final ThreadLocal<long[]> count = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        count.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * 現在のスレッドでこれまでに準備されたSQL文の件数
+     */
+    public long current() {
+        return count.get()[0];
+    }
+}
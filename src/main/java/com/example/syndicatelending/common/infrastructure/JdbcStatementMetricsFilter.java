@@ -0,0 +1,61 @@
+package com.example.syndicatelending.common.infrastructure;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * HTTPリクエストごとに発行されたSQL文の件数を {@code http.server.requests.jdbc.statements}（method, uri）として記録する。
+ * uri は http.server.requests と同じくパステンプレート（例: {@code /api/v1/facilities/{id}}）。
+ * ハンドラーのメソッドに {@link StatementBudget} があれば、リクエスト全体の件数を上限と比較する。
+ * リクエストのスレッド以外（NDJSONエクスポートの非同期書き出しなど）で発行されたSQL文は含まない。
+ */
+public class JdbcStatementMetricsFilter extends OncePerRequestFilter {
+
+    static final String METRIC = "http.server.requests.jdbc.statements";
+
+    private final JdbcStatementCounter counter;
+    private final StatementBudgetEnforcer enforcer;
+    private final MeterRegistry meterRegistry;
+
+    public JdbcStatementMetricsFilter(JdbcStatementCounter counter, StatementBudgetEnforcer enforcer,
+            MeterRegistry meterRegistry) {
+        this.counter = counter;
+        this.enforcer = enforcer;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long before = counter.current();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            DistributionSummary.builder(METRIC)
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri(request))
+                    .register(meterRegistry)
+                    .record(counter.current() - before);
+        }
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler
+                && handler.hasMethodAnnotation(StatementBudget.class)) {
+            enforcer.check(request.getMethod() + " " + uri(request),
+                    handler.getMethodAnnotation(StatementBudget.class), counter.current() - before);
+        }
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.syndicatelending.common.infrastructure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * リクエスト単位のSQL文件数の計測と {@link StatementBudget} の設定。
+ * <p>
+ * サービス・リポジトリの処理時間と業務ルール違反は {@link ServiceMetricsAspect}、
+ * Hibernate の統計は metrics プロファイル（{@code hibernate.generate_statistics=true}）で収集し、hibernate-micrometer で公開する。
+ * </p>
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public JdbcStatementCounter jdbcStatementCounter() {
+        return new JdbcStatementCounter();
+    }
+
+    /**
+     * StatementInspector が明示的に設定されている場合（テストなど）はそちらを優先する
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcStatementCounterCustomizer(JdbcStatementCounter counter) {
+        return properties -> properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, counter);
+    }
+
+    @Bean
+    public StatementBudgetEnforcer statementBudgetEnforcer(
+            @Value("${statement.budget.mode:LOG}") StatementBudgetMode mode, MeterRegistry meterRegistry) {
+        return new StatementBudgetEnforcer(mode, meterRegistry);
+    }
+
+    @Bean
+    public JdbcStatementMetricsFilter jdbcStatementMetricsFilter(JdbcStatementCounter counter,
+            StatementBudgetEnforcer enforcer, MeterRegistry meterRegistry) {
+        return new JdbcStatementMetricsFilter(counter, enforcer, meterRegistry);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.syndicatelending.common.infrastructure;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * リポジトリの {@link Stream} 結果を NDJSON（1行1 JSON）として書き出すエクスポータ。
+ * <p>
+ * 行は読み込んだ順にそのまま出力し、一定件数ごとに出力をフラッシュして永続化コンテキストを
+ * クリアするため、件数によらずメモリ使用量は一定に保たれる。
+ * 呼び出し元は読み取り専用トランザクション内で Stream を取得し、書き出し後に close すること。
+ * </p>
+ */
+@Component
+public class NdjsonExporter {
+
+    public static final String MEDIA_TYPE = "application/x-ndjson";
+
+    /** エクスポート用 Stream クエリの JDBC fetch size（@QueryHint で参照する） */
+    public static final String FETCH_SIZE = "500";
+
+    /** フラッシュと永続化コンテキストのクリアを行う間隔（行数） */
+    static final int FLUSH_INTERVAL = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ObjectWriter writer;
+
+    public NdjsonExporter(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n");
+    }
+
+    /**
+     * 行を NDJSON として書き出す。
+     *
+     * @return 書き出した行数
+     */
+    public <T> long write(Stream<T> rows, OutputStream out) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = writer.createGenerator(out)) {
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                    entityManager.clear();
+                }
+            }
+            if (count > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+        return count;
+    }
+}
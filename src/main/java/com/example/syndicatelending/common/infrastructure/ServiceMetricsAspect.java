@@ -0,0 +1,122 @@
+package com.example.syndicatelending.common.infrastructure;
+
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * サービス・リポジトリの呼び出しを計測するアスペクト。
+ * <ul>
+ * <li>{@code service.method}: 各サービスの public メソッドの処理時間（class, method, exception）</li>
+ * <li>{@code repository.method}: 各リポジトリメソッドの処理時間（repository, method, exception）</li>
+ * <li>{@code business.rule.violations}: 業務ルール違反の件数（rule = 例外を送出したクラス.メソッド）</li>
+ * </ul>
+ * 業務ルール違反はサービスの入れ子呼び出しで重複して数えないよう、最も外側のサービス呼び出しでのみ数える。
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    static final String SERVICE_METRIC = "service.method";
+    static final String REPOSITORY_METRIC = "repository.method";
+    static final String VIOLATION_METRIC = "business.rule.violations";
+
+    private static final String APPLICATION_PACKAGE = "com.example.syndicatelending.";
+    private static final String NONE = "none";
+
+    /** 現在のスレッドで実行中のサービス呼び出しの深さ */
+    private static final ThreadLocal<int[]> SERVICE_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.example.syndicatelending..service..*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        int[] depth = SERVICE_DEPTH.get();
+        depth[0]++;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NONE;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            if (depth[0] == 1 && e instanceof BusinessRuleViolationException violation) {
+                countViolation(violation);
+            }
+            throw e;
+        } finally {
+            depth[0]--;
+            sample.stop(Timer.builder(SERVICE_METRIC)
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Around("execution(public * org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NONE;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(REPOSITORY_METRIC)
+                    .tag("repository", repositoryName(joinPoint.getThis()))
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    private void countViolation(BusinessRuleViolationException violation) {
+        Counter.builder(VIOLATION_METRIC)
+                .tag("rule", rule(violation))
+                .register(meterRegistry)
+                .increment(violation.getViolations().size());
+    }
+
+    /**
+     * 例外を送出したアプリケーションのクラス.メソッド（例: {@code DrawdownService.validateDrawdownRequest}）
+     */
+    static String rule(Throwable e) {
+        for (StackTraceElement element : e.getStackTrace()) {
+            String className = element.getClassName();
+            if (className.startsWith(APPLICATION_PACKAGE) && !className.contains("$$")) {
+                return className.substring(className.lastIndexOf('.') + 1) + "." + element.getMethodName();
+            }
+        }
+        return "unknown";
+    }
+
+    /**
+     * 継承したメソッド（save など）もリポジトリのインターフェース名で集計する
+     */
+    private String repositoryName(Object proxy) {
+        return repositoryNames.computeIfAbsent(proxy.getClass(), type -> {
+            for (Class<?> candidate : AopProxyUtils.proxiedUserInterfaces(proxy)) {
+                if (Repository.class.isAssignableFrom(candidate)) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return type.getSimpleName();
+        });
+    }
+}
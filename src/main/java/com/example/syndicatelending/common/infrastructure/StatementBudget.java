@@ -0,0 +1,24 @@
+package com.example.syndicatelending.common.infrastructure;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 1回の呼び出しで発行してよいSQL文の上限。
+ * <ul>
+ * <li>サービスのメソッド: トランザクションのコミット（flush）までを含むメソッドの実行中に発行されたSQL文を数える</li>
+ * <li>コントローラーのメソッド: レスポンスのシリアライズ（遅延ロード）までを含むHTTPリクエスト全体で発行されたSQL文を数える</li>
+ * </ul>
+ * 上限を超えた場合の扱い（ログ出力または例外）は {@code statement.budget.mode} で切り替える。
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface StatementBudget {
+
+    /** 発行してよいSQL文の件数 */
+    int max();
+}
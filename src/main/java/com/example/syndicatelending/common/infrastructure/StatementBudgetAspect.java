@@ -0,0 +1,37 @@
+package com.example.syndicatelending.common.infrastructure;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link StatementBudget} を付けたサービスのメソッドで発行されたSQL文を数え、上限と比較する。
+ * トランザクションのコミット時の flush も数えるため、トランザクションより外側で計測する
+ * （引数の束縛に必要な ExposeInvocationInterceptor よりは内側）。
+ * コントローラーのメソッドは HTTPリクエスト単位で {@link JdbcStatementMetricsFilter} が比較する。
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class StatementBudgetAspect {
+
+    private final JdbcStatementCounter counter;
+    private final StatementBudgetEnforcer enforcer;
+
+    public StatementBudgetAspect(JdbcStatementCounter counter, StatementBudgetEnforcer enforcer) {
+        this.counter = counter;
+        this.enforcer = enforcer;
+    }
+
+    @Around("@annotation(budget) && !@within(org.springframework.web.bind.annotation.RestController)")
+    public Object enforce(ProceedingJoinPoint joinPoint, StatementBudget budget) throws Throwable {
+        long before = counter.current();
+        Object result = joinPoint.proceed();
+        enforcer.check(joinPoint.getSignature().getDeclaringType().getSimpleName() + "."
+                + joinPoint.getSignature().getName(), budget, counter.current() - before);
+        return result;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.syndicatelending.common.infrastructure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 発行されたSQL文の件数を {@link StatementBudget} の上限と比較し、超過を記録する。
+ * 超過は {@code statement.budget.exceeded}（operation）として数え、{@link StatementBudgetMode#FAIL} の場合は例外を送出する。
+ */
+public class StatementBudgetEnforcer {
+
+    static final String METRIC = "statement.budget.exceeded";
+
+    private static final Logger log = LoggerFactory.getLogger(StatementBudgetEnforcer.class);
+
+    private final StatementBudgetMode mode;
+    private final MeterRegistry meterRegistry;
+
+    public StatementBudgetEnforcer(StatementBudgetMode mode, MeterRegistry meterRegistry) {
+        this.mode = mode;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param operation  計測対象（例: {@code FacilityService.getFacilityView}、{@code GET /api/v1/facilities/{id}}）
+     * @param statements 発行されたSQL文の件数
+     */
+    public void check(String operation, StatementBudget budget, long statements) {
+        if (statements <= budget.max()) {
+            return;
+        }
+        Counter.builder(METRIC)
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
+        log.warn("{} issued {} SQL statements (budget: {})", operation, statements, budget.max());
+        if (mode == StatementBudgetMode.FAIL) {
+            throw new StatementBudgetExceededException(operation, budget.max(), statements);
+        }
+    }
+}
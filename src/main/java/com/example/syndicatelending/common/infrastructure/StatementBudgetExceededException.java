@@ -0,0 +1,31 @@
+package com.example.syndicatelending.common.infrastructure;
+
+/**
+ * {@link StatementBudget} の上限を超えるSQL文が発行されたことを表す例外。
+ * {@link StatementBudgetMode#FAIL} の場合のみ送出される。
+ */
+public class StatementBudgetExceededException extends RuntimeException {
+
+    private final String operation;
+    private final int max;
+    private final long statements;
+
+    public StatementBudgetExceededException(String operation, int max, long statements) {
+        super(String.format("%s issued %d SQL statements (budget: %d)", operation, statements, max));
+        this.operation = operation;
+        this.max = max;
+        this.statements = statements;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+}
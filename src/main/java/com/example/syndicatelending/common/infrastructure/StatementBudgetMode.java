@@ -0,0 +1,12 @@
+package com.example.syndicatelending.common.infrastructure;
+
+/**
+ * {@link StatementBudget} の上限を超えた場合の扱いを表すEnum。
+ */
+public enum StatementBudgetMode {
+    /** 警告ログを出力し、statement.budget.exceeded を記録する */
+    LOG,
+
+    /** LOG に加えて {@link StatementBudgetExceededException} を送出する（テスト用） */
+    FAIL
+}
@@ -0,0 +1,42 @@
+package com.example.syndicatelending.exposure.controller;
+
+import com.example.syndicatelending.exposure.dto.ExposureRebuildResult;
+import com.example.syndicatelending.exposure.dto.ExposureView;
+import com.example.syndicatelending.exposure.service.ExposureService;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/exposures")
+public class ExposureController {
+    private final ExposureService exposureService;
+
+    public ExposureController(ExposureService exposureService) {
+        this.exposureService = exposureService;
+    }
+
+    @GetMapping("/investors/{investorId}")
+    public ResponseEntity<List<ExposureView>> getInvestorExposures(@PathVariable Long investorId) {
+        return ResponseEntity.ok(exposureService.getInvestorExposures(investorId));
+    }
+
+    @GetMapping("/investors/{investorId}/facilities/{facilityId}")
+    public ResponseEntity<List<ExposureView>> getInvestorFacilityExposures(@PathVariable Long investorId,
+            @PathVariable Long facilityId) {
+        return ResponseEntity.ok(exposureService.getInvestorFacilityExposures(investorId, facilityId));
+    }
+
+    @GetMapping("/facilities/{facilityId}")
+    public ResponseEntity<List<ExposureView>> getFacilityExposures(@PathVariable Long facilityId) {
+        return ResponseEntity.ok(exposureService.getFacilityExposures(facilityId));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<ExposureRebuildResult> rebuild(@RequestParam(required = false) Long facilityId,
+            @RequestParam(defaultValue = "false") boolean dryRun) {
+        return ResponseEntity.ok(exposureService.rebuild(facilityId, dryRun));
+    }
+}
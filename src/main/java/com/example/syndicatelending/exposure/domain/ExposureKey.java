@@ -0,0 +1,60 @@
+package com.example.syndicatelending.exposure.domain;
+
+import com.example.syndicatelending.exposure.entity.InvestorFacilityExposure;
+
+import java.util.Objects;
+
+/**
+ * エクスポージャ参照モデルの1行を特定するキー（投資家 × Facility × 通貨）。
+ */
+public final class ExposureKey {
+    private final Long investorId;
+    private final Long facilityId;
+    private final String currency;
+
+    private ExposureKey(Long investorId, Long facilityId, String currency) {
+        this.investorId = Objects.requireNonNull(investorId, "investorId must not be null");
+        this.facilityId = Objects.requireNonNull(facilityId, "facilityId must not be null");
+        this.currency = Objects.requireNonNull(currency, "currency must not be null");
+    }
+
+    public static ExposureKey of(Long investorId, Long facilityId, String currency) {
+        return new ExposureKey(investorId, facilityId, currency);
+    }
+
+    public static ExposureKey of(InvestorFacilityExposure exposure) {
+        return new ExposureKey(exposure.getInvestorId(), exposure.getFacilityId(), exposure.getCurrency());
+    }
+
+    public Long getInvestorId() {
+        return investorId;
+    }
+
+    public Long getFacilityId() {
+        return facilityId;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof ExposureKey other))
+            return false;
+        return investorId.equals(other.investorId) && facilityId.equals(other.facilityId)
+                && currency.equals(other.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(investorId, facilityId, currency);
+    }
+
+    @Override
+    public String toString() {
+        return "investor=" + investorId + ", facility=" + facilityId + ", currency=" + currency;
+    }
+}
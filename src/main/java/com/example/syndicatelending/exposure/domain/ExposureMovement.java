@@ -0,0 +1,44 @@
+package com.example.syndicatelending.exposure.domain;
+
+import com.example.syndicatelending.common.domain.model.Money;
+
+/**
+ * ドローダウン・支払いの1レッグがエクスポージャに与える増減。
+ */
+public final class ExposureMovement {
+    private final ExposureKey key;
+    private final Money drawn;
+    private final Money repaid;
+
+    private ExposureMovement(ExposureKey key, Money drawn, Money repaid) {
+        this.key = key;
+        this.drawn = drawn;
+        this.repaid = repaid;
+    }
+
+    /**
+     * ドローダウンのAmountPie1件分
+     */
+    public static ExposureMovement drawn(Long investorId, Long facilityId, String currency, Money amount) {
+        return new ExposureMovement(ExposureKey.of(investorId, facilityId, currency), amount, Money.zero());
+    }
+
+    /**
+     * 支払い配分1件分の元本
+     */
+    public static ExposureMovement repaid(Long investorId, Long facilityId, String currency, Money principal) {
+        return new ExposureMovement(ExposureKey.of(investorId, facilityId, currency), Money.zero(), principal);
+    }
+
+    public ExposureKey getKey() {
+        return key;
+    }
+
+    public Money getDrawn() {
+        return drawn;
+    }
+
+    public Money getRepaid() {
+        return repaid;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.syndicatelending.exposure.dto;
+
+import com.example.syndicatelending.common.domain.model.Money;
+
+/**
+ * 再構築時に検出された、参照モデルの行と元データからの再計算値の差異。
+ */
+public class ExposureMismatch {
+    private final Long investorId;
+    private final Long facilityId;
+    private final String currency;
+    private final Money expectedCommittedAmount;
+    private final Money actualCommittedAmount;
+    private final Money expectedDrawnAmount;
+    private final Money actualDrawnAmount;
+    private final Money expectedRepaidAmount;
+    private final Money actualRepaidAmount;
+
+    public ExposureMismatch(Long investorId, Long facilityId, String currency,
+            Money expectedCommittedAmount, Money actualCommittedAmount,
+            Money expectedDrawnAmount, Money actualDrawnAmount,
+            Money expectedRepaidAmount, Money actualRepaidAmount) {
+        this.investorId = investorId;
+        this.facilityId = facilityId;
+        this.currency = currency;
+        this.expectedCommittedAmount = expectedCommittedAmount;
+        this.actualCommittedAmount = actualCommittedAmount;
+        this.expectedDrawnAmount = expectedDrawnAmount;
+        this.actualDrawnAmount = actualDrawnAmount;
+        this.expectedRepaidAmount = expectedRepaidAmount;
+        this.actualRepaidAmount = actualRepaidAmount;
+    }
+
+    public Long getInvestorId() {
+        return investorId;
+    }
+
+    public Long getFacilityId() {
+        return facilityId;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public Money getExpectedCommittedAmount() {
+        return expectedCommittedAmount;
+    }
+
+    public Money getActualCommittedAmount() {
+        return actualCommittedAmount;
+    }
+
+    public Money getExpectedDrawnAmount() {
+        return expectedDrawnAmount;
+    }
+
+    public Money getActualDrawnAmount() {
+        return actualDrawnAmount;
+    }
+
+    public Money getExpectedRepaidAmount() {
+        return expectedRepaidAmount;
+    }
+
+    public Money getActualRepaidAmount() {
+        return actualRepaidAmount;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.syndicatelending.exposure.dto;
+
+import java.util.List;
+
+/**
+ * エクスポージャ参照モデルの再構築結果。
+ * 差異の明細は先頭の {@code MAX_REPORTED_MISMATCHES} 件のみを含み、件数は全件を数える。
+ */
+public class ExposureRebuildResult {
+    public static final int MAX_REPORTED_MISMATCHES = 100;
+
+    private final boolean dryRun;
+    private final int facilities;
+    private final int rows;
+    private final int mismatchCount;
+    private final List<ExposureMismatch> mismatches;
+    private final long elapsedMillis;
+
+    public ExposureRebuildResult(boolean dryRun, int facilities, int rows, int mismatchCount,
+            List<ExposureMismatch> mismatches, long elapsedMillis) {
+        this.dryRun = dryRun;
+        this.facilities = facilities;
+        this.rows = rows;
+        this.mismatchCount = mismatchCount;
+        this.mismatches = mismatches;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /** trueの場合は差異の検出のみを行い、行は更新していない */
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    public int getFacilities() {
+        return facilities;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getMismatchCount() {
+        return mismatchCount;
+    }
+
+    public List<ExposureMismatch> getMismatches() {
+        return mismatches;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
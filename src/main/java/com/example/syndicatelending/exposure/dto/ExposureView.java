@@ -0,0 +1,63 @@
+package com.example.syndicatelending.exposure.dto;
+
+import com.example.syndicatelending.common.domain.model.Money;
+
+import java.time.LocalDateTime;
+
+/**
+ * 参照系APIで返す投資家 × Facility × 通貨 のエクスポージャ。
+ */
+public class ExposureView {
+    private final Long investorId;
+    private final Long facilityId;
+    private final String currency;
+    private final Money committedAmount;
+    private final Money drawnAmount;
+    private final Money repaidAmount;
+    private final Money outstandingAmount;
+    private final LocalDateTime updatedAt;
+
+    public ExposureView(Long investorId, Long facilityId, String currency, Money committedAmount,
+            Money drawnAmount, Money repaidAmount, Money outstandingAmount, LocalDateTime updatedAt) {
+        this.investorId = investorId;
+        this.facilityId = facilityId;
+        this.currency = currency;
+        this.committedAmount = committedAmount;
+        this.drawnAmount = drawnAmount;
+        this.repaidAmount = repaidAmount;
+        this.outstandingAmount = outstandingAmount;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getInvestorId() {
+        return investorId;
+    }
+
+    public Long getFacilityId() {
+        return facilityId;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public Money getCommittedAmount() {
+        return committedAmount;
+    }
+
+    public Money getDrawnAmount() {
+        return drawnAmount;
+    }
+
+    public Money getRepaidAmount() {
+        return repaidAmount;
+    }
+
+    public Money getOutstandingAmount() {
+        return outstandingAmount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
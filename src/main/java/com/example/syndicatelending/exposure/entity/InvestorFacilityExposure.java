@@ -0,0 +1,144 @@
+package com.example.syndicatelending.exposure.entity;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.MoneyAttributeConverter;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 投資家 × Facility × 通貨 ごとのエクスポージャ（参照モデル）。
+ * <p>
+ * Facilityの作成・更新・削除、ドローダウン、支払いと同じトランザクションで増分更新され、
+ * 参照APIは集計せずに行をそのまま返す。残高（outstanding）は drawn − repaid として行に保持する。
+ * </p>
+ */
+@Entity
+@Table(name = "investor_facility_exposure",
+        uniqueConstraints = @UniqueConstraint(name = "uk_investor_facility_exposure",
+                columnNames = { "investor_id", "facility_id", "currency" }))
+public class InvestorFacilityExposure {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "investor_facility_exposure_seq")
+    @SequenceGenerator(name = "investor_facility_exposure_seq", sequenceName = "investor_facility_exposure_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "investor_id", nullable = false)
+    private Long investorId;
+
+    @Column(name = "facility_id", nullable = false)
+    private Long facilityId;
+
+    @Column(name = "currency", nullable = false)
+    private String currency;
+
+    /** Commitment × 持分 */
+    @Convert(converter = MoneyAttributeConverter.class)
+    @Column(name = "committed_amount", nullable = false, precision = 19, scale = 2)
+    private Money committedAmount;
+
+    /** ドローダウン済み金額（AmountPieの合計） */
+    @Convert(converter = MoneyAttributeConverter.class)
+    @Column(name = "drawn_amount", nullable = false, precision = 19, scale = 2)
+    private Money drawnAmount;
+
+    /** 返済済み元本（PaymentDistributionの元本の合計） */
+    @Convert(converter = MoneyAttributeConverter.class)
+    @Column(name = "repaid_amount", nullable = false, precision = 19, scale = 2)
+    private Money repaidAmount;
+
+    /** 残高（drawn − repaid） */
+    @Convert(converter = MoneyAttributeConverter.class)
+    @Column(name = "outstanding_amount", nullable = false, precision = 19, scale = 2)
+    private Money outstandingAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    protected InvestorFacilityExposure() {
+        // for JPA
+    }
+
+    public InvestorFacilityExposure(Long investorId, Long facilityId, String currency) {
+        this.investorId = investorId;
+        this.facilityId = facilityId;
+        this.currency = currency;
+        this.committedAmount = Money.zero();
+        this.drawnAmount = Money.zero();
+        this.repaidAmount = Money.zero();
+        this.outstandingAmount = Money.zero();
+    }
+
+    public void setCommittedAmount(Money committedAmount) {
+        this.committedAmount = committedAmount;
+    }
+
+    /**
+     * ドローダウン済み金額と返済済み元本を加算し、残高を再計算する
+     */
+    public void add(Money drawn, Money repaid) {
+        this.drawnAmount = this.drawnAmount.add(drawn);
+        this.repaidAmount = this.repaidAmount.add(repaid);
+        this.outstandingAmount = this.drawnAmount.subtract(this.repaidAmount);
+    }
+
+    /**
+     * 再構築で求めた値で置き換える
+     */
+    public void replace(Money committed, Money drawn, Money repaid) {
+        this.committedAmount = committed;
+        this.drawnAmount = drawn;
+        this.repaidAmount = repaid;
+        this.outstandingAmount = drawn.subtract(repaid);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getInvestorId() {
+        return investorId;
+    }
+
+    public Long getFacilityId() {
+        return facilityId;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public Money getCommittedAmount() {
+        return committedAmount;
+    }
+
+    public Money getDrawnAmount() {
+        return drawnAmount;
+    }
+
+    public Money getRepaidAmount() {
+        return repaidAmount;
+    }
+
+    public Money getOutstandingAmount() {
+        return outstandingAmount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
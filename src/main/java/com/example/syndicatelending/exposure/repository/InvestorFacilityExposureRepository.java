@@ -0,0 +1,68 @@
+package com.example.syndicatelending.exposure.repository;
+
+import com.example.syndicatelending.exposure.dto.ExposureView;
+import com.example.syndicatelending.exposure.entity.InvestorFacilityExposure;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface InvestorFacilityExposureRepository extends JpaRepository<InvestorFacilityExposure, Long> {
+
+    String VIEW_SELECT = "SELECT new com.example.syndicatelending.exposure.dto.ExposureView(e.investorId, "
+            + "e.facilityId, e.currency, e.committedAmount, e.drawnAmount, e.repaidAmount, e.outstandingAmount, "
+            + "e.updatedAt) FROM InvestorFacilityExposure e";
+
+    @Query(VIEW_SELECT + " WHERE e.investorId = :investorId ORDER BY e.facilityId, e.currency")
+    List<ExposureView> findViewsByInvestorId(@Param("investorId") Long investorId);
+
+    @Query(VIEW_SELECT + " WHERE e.investorId = :investorId AND e.facilityId = :facilityId ORDER BY e.currency")
+    List<ExposureView> findViewsByInvestorIdAndFacilityId(@Param("investorId") Long investorId,
+            @Param("facilityId") Long facilityId);
+
+    @Query(VIEW_SELECT + " WHERE e.facilityId = :facilityId ORDER BY e.investorId, e.currency")
+    List<ExposureView> findViewsByFacilityId(@Param("facilityId") Long facilityId);
+
+    /**
+     * 更新対象の行を行ロック付きで取得する（投資家IDとFacility IDの組み合わせの上位集合を返す）。
+     * 同じ行を更新するトランザクションはロックの取得順（ID順）に直列化される。
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM InvestorFacilityExposure e WHERE e.facilityId IN :facilityIds "
+            + "AND e.investorId IN :investorIds ORDER BY e.id")
+    List<InvestorFacilityExposure> findForUpdate(@Param("facilityIds") Collection<Long> facilityIds,
+            @Param("investorIds") Collection<Long> investorIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM InvestorFacilityExposure e WHERE e.facilityId = :facilityId ORDER BY e.id")
+    List<InvestorFacilityExposure> findByFacilityIdForUpdate(@Param("facilityId") Long facilityId);
+
+    /**
+     * 再構築の対象となるFacility ID（削除済みFacilityの行やローンも含む）
+     */
+    @Query(value = "SELECT id FROM facilities UNION SELECT facility_id FROM loan "
+            + "UNION SELECT facility_id FROM investor_facility_exposure ORDER BY 1", nativeQuery = true)
+    List<Long> findFacilityIdsToRebuild();
+
+    /**
+     * FacilityのAmountPie合計（投資家ID, 通貨, 金額）
+     */
+    @Query(value = "SELECT p.investor_id, p.currency, SUM(p.amount) FROM drawdown_amount_pies p "
+            + "JOIN transaction t ON t.id = p.drawdown_id WHERE t.facility_id = :facilityId "
+            + "GROUP BY p.investor_id, p.currency", nativeQuery = true)
+    List<Object[]> sumDrawnByFacilityId(@Param("facilityId") Long facilityId);
+
+    /**
+     * FacilityのPaymentDistribution元本合計（投資家ID, 通貨, 金額）
+     */
+    @Query(value = "SELECT pd.investor_id, pd.currency, SUM(pd.principal_amount) FROM payment_distributions pd "
+            + "JOIN payments p ON p.id = pd.payment_id JOIN loan l ON l.id = p.loan_id "
+            + "WHERE l.facility_id = :facilityId GROUP BY pd.investor_id, pd.currency", nativeQuery = true)
+    List<Object[]> sumRepaidByFacilityId(@Param("facilityId") Long facilityId);
+}
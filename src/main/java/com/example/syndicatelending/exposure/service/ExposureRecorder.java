@@ -0,0 +1,103 @@
+package com.example.syndicatelending.exposure.service;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.exposure.domain.ExposureKey;
+import com.example.syndicatelending.exposure.domain.ExposureMovement;
+import com.example.syndicatelending.exposure.entity.InvestorFacilityExposure;
+import com.example.syndicatelending.exposure.repository.InvestorFacilityExposureRepository;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * エクスポージャ参照モデルを、元になる取引と同じトランザクションで増分更新するサービス。
+ * <p>
+ * 更新対象の行は1回のクエリで行ロック付きで取得し、存在しない行はまとめて作成する
+ * （batchプロファイルではJDBCバッチで発行される）。同じ行を更新する取引はロックで直列化されるため、
+ * 楽観的ロックの競合にはならない。初めて現れるキーの行を同時に作成した場合は一意制約違反となる。
+ * </p>
+ */
+@Service
+public class ExposureRecorder {
+    private final InvestorFacilityExposureRepository exposureRepository;
+
+    public ExposureRecorder(InvestorFacilityExposureRepository exposureRepository) {
+        this.exposureRepository = exposureRepository;
+    }
+
+    /**
+     * Facilityのコミット額を設定する。
+     * 指定されなかった投資家・通貨の行（持分の削除や通貨の変更）はコミット額をゼロにする。
+     *
+     * @param facilityId          Facility ID
+     * @param currency            Facilityの通貨
+     * @param committedByInvestor 投資家ごとのコミット額（Facility削除時は空）
+     */
+    @Transactional
+    public void recordCommitments(Long facilityId, String currency, Map<Long, Money> committedByInvestor) {
+        Map<ExposureKey, InvestorFacilityExposure> rows = new HashMap<>();
+        for (InvestorFacilityExposure row : exposureRepository.findByFacilityIdForUpdate(facilityId)) {
+            rows.put(ExposureKey.of(row), row);
+            row.setCommittedAmount(Money.zero());
+        }
+
+        List<InvestorFacilityExposure> created = new ArrayList<>();
+        for (Map.Entry<Long, Money> entry : committedByInvestor.entrySet()) {
+            ExposureKey key = ExposureKey.of(entry.getKey(), facilityId, currency);
+            InvestorFacilityExposure row = rows.get(key);
+            if (row == null) {
+                row = new InvestorFacilityExposure(key.getInvestorId(), facilityId, currency);
+                created.add(row);
+            }
+            row.setCommittedAmount(entry.getValue());
+        }
+        exposureRepository.saveAll(created);
+    }
+
+    /**
+     * ドローダウン・支払いによる増減を反映する。
+     *
+     * @param movements 反映する増減
+     */
+    @Transactional
+    public void record(List<ExposureMovement> movements) {
+        if (movements.isEmpty()) {
+            return;
+        }
+        Map<ExposureKey, Money[]> totals = new LinkedHashMap<>();
+        Set<Long> facilityIds = new HashSet<>();
+        Set<Long> investorIds = new HashSet<>();
+        for (ExposureMovement movement : movements) {
+            Money[] total = totals.computeIfAbsent(movement.getKey(), key -> new Money[] { Money.zero(), Money.zero() });
+            total[0] = total[0].add(movement.getDrawn());
+            total[1] = total[1].add(movement.getRepaid());
+            facilityIds.add(movement.getKey().getFacilityId());
+            investorIds.add(movement.getKey().getInvestorId());
+        }
+
+        Map<ExposureKey, InvestorFacilityExposure> rows = new HashMap<>();
+        for (InvestorFacilityExposure row : exposureRepository.findForUpdate(facilityIds, investorIds)) {
+            rows.put(ExposureKey.of(row), row);
+        }
+
+        List<InvestorFacilityExposure> created = new ArrayList<>();
+        for (Map.Entry<ExposureKey, Money[]> entry : totals.entrySet()) {
+            ExposureKey key = entry.getKey();
+            InvestorFacilityExposure row = rows.get(key);
+            if (row == null) {
+                row = new InvestorFacilityExposure(key.getInvestorId(), key.getFacilityId(), key.getCurrency());
+                created.add(row);
+            }
+            row.add(entry.getValue()[0], entry.getValue()[1]);
+        }
+        exposureRepository.saveAll(created);
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.syndicatelending.exposure.service;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.exposure.domain.ExposureKey;
+import com.example.syndicatelending.exposure.dto.ExposureMismatch;
+import com.example.syndicatelending.exposure.dto.ExposureRebuildResult;
+import com.example.syndicatelending.exposure.dto.ExposureView;
+import com.example.syndicatelending.exposure.entity.InvestorFacilityExposure;
+import com.example.syndicatelending.exposure.repository.InvestorFacilityExposureRepository;
+import com.example.syndicatelending.facility.entity.SharePie;
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * エクスポージャ参照モデルの参照と再構築を行うサービス。
+ */
+@Service
+public class ExposureService {
+    private static final Logger log = LoggerFactory.getLogger(ExposureService.class);
+
+    private static final int COMMITTED = 0;
+    private static final int DRAWN = 1;
+    private static final int REPAID = 2;
+
+    private final InvestorFacilityExposureRepository exposureRepository;
+    private final FacilityRepository facilityRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ExposureService(InvestorFacilityExposureRepository exposureRepository,
+            FacilityRepository facilityRepository,
+            PlatformTransactionManager transactionManager) {
+        this.exposureRepository = exposureRepository;
+        this.facilityRepository = facilityRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ExposureView> getInvestorExposures(Long investorId) {
+        return exposureRepository.findViewsByInvestorId(investorId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ExposureView> getInvestorFacilityExposures(Long investorId, Long facilityId) {
+        return exposureRepository.findViewsByInvestorIdAndFacilityId(investorId, facilityId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ExposureView> getFacilityExposures(Long facilityId) {
+        return exposureRepository.findViewsByFacilityId(facilityId);
+    }
+
+    /**
+     * 参照モデルを元データ（SharePie × Commitment、AmountPie、PaymentDistribution）から再計算し、差異を報告する。
+     * <p>
+     * Facility単位に1トランザクションで処理し、対象Facilityの行をロックしてから再計算するため、
+     * 実行中のドローダウン・支払いとも整合する。
+     * </p>
+     *
+     * @param facilityId 対象のFacility ID（nullの場合は全Facility）
+     * @param dryRun     trueの場合は差異の検出のみを行い、行を更新しない
+     * @return 再構築結果
+     */
+    public ExposureRebuildResult rebuild(Long facilityId, boolean dryRun) {
+        long startedAt = System.nanoTime();
+        List<Long> facilityIds = facilityId != null
+                ? List.of(facilityId)
+                : exposureRepository.findFacilityIdsToRebuild();
+        List<ExposureMismatch> mismatches = new ArrayList<>();
+        int[] counts = new int[2];
+        for (Long id : facilityIds) {
+            transactionTemplate.executeWithoutResult(status -> {
+                counts[0] += rebuildFacility(id, dryRun, mismatches);
+                counts[1]++;
+            });
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("Exposure rebuild{}: {} facilities, {} rows, {} mismatches in {} ms", dryRun ? " (dry run)" : "",
+                counts[1], counts[0], mismatches.size(), elapsedMillis);
+        List<ExposureMismatch> reported = mismatches.size() > ExposureRebuildResult.MAX_REPORTED_MISMATCHES
+                ? new ArrayList<>(mismatches.subList(0, ExposureRebuildResult.MAX_REPORTED_MISMATCHES))
+                : mismatches;
+        return new ExposureRebuildResult(dryRun, counts[1], counts[0], mismatches.size(), reported, elapsedMillis);
+    }
+
+    /**
+     * 1つのFacilityの行を再計算する。
+     *
+     * @return 比較した行数
+     */
+    private int rebuildFacility(Long facilityId, boolean dryRun, List<ExposureMismatch> mismatches) {
+        Map<ExposureKey, InvestorFacilityExposure> rows = new HashMap<>();
+        for (InvestorFacilityExposure row : exposureRepository.findByFacilityIdForUpdate(facilityId)) {
+            rows.put(ExposureKey.of(row), row);
+        }
+
+        Map<ExposureKey, Money[]> expected = new LinkedHashMap<>();
+        facilityRepository.findById(facilityId).ifPresent(facility -> {
+            for (SharePie pie : facility.getSharePies()) {
+                expectedOf(expected, ExposureKey.of(pie.getInvestorId(), facilityId, facility.getCurrency()))[COMMITTED] =
+                        facility.getCommitment().multiply(pie.getShare().getValue());
+            }
+        });
+        for (Object[] total : exposureRepository.sumDrawnByFacilityId(facilityId)) {
+            expectedOf(expected, keyOf(total, facilityId))[DRAWN] = Money.of((BigDecimal) total[2]);
+        }
+        for (Object[] total : exposureRepository.sumRepaidByFacilityId(facilityId)) {
+            expectedOf(expected, keyOf(total, facilityId))[REPAID] = Money.of((BigDecimal) total[2]);
+        }
+        for (ExposureKey key : rows.keySet()) {
+            expectedOf(expected, key);
+        }
+
+        List<InvestorFacilityExposure> created = new ArrayList<>();
+        for (Map.Entry<ExposureKey, Money[]> entry : expected.entrySet()) {
+            ExposureKey key = entry.getKey();
+            Money[] amounts = entry.getValue();
+            InvestorFacilityExposure row = rows.get(key);
+            Money actualCommitted = row == null ? Money.zero() : row.getCommittedAmount();
+            Money actualDrawn = row == null ? Money.zero() : row.getDrawnAmount();
+            Money actualRepaid = row == null ? Money.zero() : row.getRepaidAmount();
+            if (actualCommitted.equals(amounts[COMMITTED]) && actualDrawn.equals(amounts[DRAWN])
+                    && actualRepaid.equals(amounts[REPAID])) {
+                continue;
+            }
+
+            mismatches.add(new ExposureMismatch(key.getInvestorId(), facilityId, key.getCurrency(),
+                    amounts[COMMITTED], actualCommitted, amounts[DRAWN], actualDrawn, amounts[REPAID], actualRepaid));
+            if (dryRun) {
+                continue;
+            }
+            if (row == null) {
+                row = new InvestorFacilityExposure(key.getInvestorId(), facilityId, key.getCurrency());
+                created.add(row);
+            }
+            row.replace(amounts[COMMITTED], amounts[DRAWN], amounts[REPAID]);
+        }
+        exposureRepository.saveAll(created);
+        return expected.size();
+    }
+
+    private static Money[] expectedOf(Map<ExposureKey, Money[]> expected, ExposureKey key) {
+        return expected.computeIfAbsent(key, k -> new Money[] { Money.zero(), Money.zero(), Money.zero() });
+    }
+
+    private static ExposureKey keyOf(Object[] total, Long facilityId) {
+        return ExposureKey.of(((Number) total[0]).longValue(), facilityId, (String) total[1]);
+    }
+}
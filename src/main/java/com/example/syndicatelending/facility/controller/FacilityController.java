@@ -1,13 +1,19 @@
 package com.example.syndicatelending.facility.controller;
 
+import com.example.syndicatelending.common.infrastructure.NdjsonExporter;
 import com.example.syndicatelending.facility.dto.CreateFacilityRequest;
+import com.example.syndicatelending.facility.dto.FacilityView;
 import com.example.syndicatelending.facility.dto.UpdateFacilityRequest;
 import com.example.syndicatelending.facility.entity.Facility;
 import com.example.syndicatelending.facility.service.FacilityService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/v1/facilities")
@@ -25,14 +31,22 @@ public class FacilityController {
     }
 
     @GetMapping
-    public ResponseEntity<Page<Facility>> getAllFacilities(Pageable pageable) {
-        Page<Facility> facilities = facilityService.getAllFacilities(pageable);
+    public ResponseEntity<Page<FacilityView>> getAllFacilities(Pageable pageable,
+            @RequestParam(required = false) Set<String> expand) {
+        Page<FacilityView> facilities = facilityService.getFacilityViews(pageable, expandsSharePies(expand));
         return ResponseEntity.ok(facilities);
     }
 
+    @GetMapping(value = "/export", produces = NdjsonExporter.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> exportFacilities() {
+        StreamingResponseBody body = facilityService::exportFacilities;
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NdjsonExporter.MEDIA_TYPE)).body(body);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Facility> getFacilityById(@PathVariable Long id) {
-        Facility facility = facilityService.getFacilityById(id);
+    public ResponseEntity<FacilityView> getFacilityById(@PathVariable Long id,
+            @RequestParam(required = false) Set<String> expand) {
+        FacilityView facility = facilityService.getFacilityView(id, expandsSharePies(expand));
         return ResponseEntity.ok(facility);
     }
 
@@ -47,4 +61,8 @@ public class FacilityController {
         facilityService.deleteFacility(id);
         return ResponseEntity.noContent().build();
     }
+
+    private static boolean expandsSharePies(Set<String> expand) {
+        return expand != null && expand.contains("sharePies");
+    }
 }
@@ -5,78 +5,63 @@ import com.example.syndicatelending.common.domain.model.Money;
 import com.example.syndicatelending.common.domain.model.Percentage;
 import com.example.syndicatelending.facility.dto.CreateFacilityRequest;
 import com.example.syndicatelending.facility.dto.UpdateFacilityRequest;
-import com.example.syndicatelending.facility.entity.Facility;
-import com.example.syndicatelending.facility.repository.FacilityRepository;
 import com.example.syndicatelending.party.entity.Borrower;
 import com.example.syndicatelending.party.entity.Investor;
 import com.example.syndicatelending.party.repository.BorrowerRepository;
 import com.example.syndicatelending.party.repository.InvestorRepository;
-import com.example.syndicatelending.syndicate.entity.Syndicate;
-import com.example.syndicatelending.syndicate.repository.SyndicateRepository;
+import com.example.syndicatelending.syndicate.domain.SyndicateMembership;
+import com.example.syndicatelending.syndicate.service.SyndicateMembershipCache;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Facility作成時のバリデーションを集約するクラス
  * 外部依存を必要とするバリデーションロジックを一元管理
+ * <p>
+ * Syndicateのメンバーは {@link SyndicateMembershipCache} から読み取り、
+ * その他の参照データ（Investor・Borrower・既存Commitment合計）はそれぞれ1回のクエリで取得し、
+ * 全ルールをメモリ上で評価したうえで、違反をまとめて1つの例外として報告する。
+ * </p>
  */
 @Component
 public class FacilityValidator {
 
-    private final SyndicateRepository syndicateRepository;
-    // 将来の機能拡張のために保持
-    @SuppressWarnings("unused")
+    private final SyndicateMembershipCache syndicateMembershipCache;
     private final InvestorRepository investorRepository;
-    @SuppressWarnings("unused")
     private final BorrowerRepository borrowerRepository;
-    @SuppressWarnings("unused")
-    private final FacilityRepository facilityRepository;
+    private final SyndicateCommittedExposureCounter committedExposureCounter;
 
-    public FacilityValidator(SyndicateRepository syndicateRepository,
+    public FacilityValidator(SyndicateMembershipCache syndicateMembershipCache,
             InvestorRepository investorRepository,
             BorrowerRepository borrowerRepository,
-            FacilityRepository facilityRepository) {
-        this.syndicateRepository = syndicateRepository;
+            SyndicateCommittedExposureCounter committedExposureCounter) {
+        this.syndicateMembershipCache = syndicateMembershipCache;
         this.investorRepository = investorRepository;
         this.borrowerRepository = borrowerRepository;
-        this.facilityRepository = facilityRepository;
+        this.committedExposureCounter = committedExposureCounter;
     }
 
     /**
      * Facility作成リクエストの総合バリデーション
      */
     public void validateCreateFacilityRequest(CreateFacilityRequest request) {
-        validateBasicInputs(request);
-        validateSyndicateExists(request.getSyndicateId());
-
-        Syndicate syndicate = syndicateRepository.findById(request.getSyndicateId())
-                .orElseThrow(() -> new BusinessRuleViolationException("Syndicateが見つかりません"));
-
-        validateInvestorsExistAndBelongToSyndicate(request, syndicate);
-        validateSharePieDuplication(request);
-        validateCreditLimit(request, syndicate, null); // 新規作成時は除外IDなし
-        validateSharePiePercentage(request);
+        validate(request, null); // 新規作成時は除外IDなし
     }
 
     /**
      * Facility更新リクエストの総合バリデーション
      */
     public void validateUpdateFacilityRequest(CreateFacilityRequest request, Long excludeFacilityId) {
-        validateBasicInputs(request);
-        validateSyndicateExists(request.getSyndicateId());
-
-        Syndicate syndicate = syndicateRepository.findById(request.getSyndicateId())
-                .orElseThrow(() -> new BusinessRuleViolationException("Syndicateが見つかりません"));
-
-        validateInvestorsExistAndBelongToSyndicate(request, syndicate);
-        validateSharePieDuplication(request);
-        validateCreditLimit(request, syndicate, excludeFacilityId); // 更新時は自分自身を除外
-        validateSharePiePercentage(request);
+        validate(request, excludeFacilityId); // 更新時は自分自身を除外
     }
 
     /**
@@ -88,6 +73,37 @@ public class FacilityValidator {
         validateUpdateFacilityRequest(createRequest, excludeFacilityId);
     }
 
+    /**
+     * 参照データを一括取得して全ルールを評価し、違反があればまとめて例外を投げる
+     */
+    private void validate(CreateFacilityRequest request, Long excludeFacilityId) {
+        List<String> violations = new ArrayList<>();
+        List<CreateFacilityRequest.SharePieRequest> sharePies = request.getSharePies() == null
+                ? List.of()
+                : request.getSharePies();
+
+        validateBasicInputs(request, violations);
+
+        SyndicateMembership syndicate = syndicateMembershipCache.getMembership(request.getSyndicateId())
+                .orElse(null);
+        if (syndicate == null) {
+            violations.add("指定されたSyndicateが存在しません: id=" + request.getSyndicateId());
+        }
+
+        validateInvestors(sharePies, syndicate, loadInvestors(sharePies), violations);
+        validateSharePieDuplication(sharePies, violations);
+        if (syndicate != null && hasPositiveCommitment(request)) {
+            validateCreditLimit(request, syndicate, excludeFacilityId, violations);
+        }
+        if (!sharePies.isEmpty()) {
+            validateSharePiePercentage(sharePies, violations);
+        }
+
+        if (!violations.isEmpty()) {
+            throw new BusinessRuleViolationException(violations);
+        }
+    }
+
     /**
      * UpdateFacilityRequestをCreateFacilityRequestに変換（バリデーション用）
      */
@@ -116,53 +132,69 @@ public class FacilityValidator {
     /**
      * 基本入力値のバリデーション
      */
-    private void validateBasicInputs(CreateFacilityRequest request) {
-        if (request.getCommitment() == null || request.getCommitment().getAmount().compareTo(BigDecimal.ZERO) <= 0) {
-            throw new BusinessRuleViolationException("コミットメント金額は正の値である必要があります");
+    private void validateBasicInputs(CreateFacilityRequest request, List<String> violations) {
+        if (!hasPositiveCommitment(request)) {
+            violations.add("コミットメント金額は正の値である必要があります");
         }
 
         if (request.getStartDate() == null || request.getEndDate() == null) {
-            throw new BusinessRuleViolationException("開始日と終了日は必須です");
-        }
-
-        if (request.getStartDate().isAfter(request.getEndDate())) {
-            throw new BusinessRuleViolationException("開始日は終了日より前である必要があります");
+            violations.add("開始日と終了日は必須です");
+        } else if (request.getStartDate().isAfter(request.getEndDate())) {
+            violations.add("開始日は終了日より前である必要があります");
         }
 
         if (request.getSharePies() == null || request.getSharePies().isEmpty()) {
-            throw new BusinessRuleViolationException("SharePieは最低1つ必要です");
+            violations.add("SharePieは最低1つ必要です");
         }
     }
 
+    private boolean hasPositiveCommitment(CreateFacilityRequest request) {
+        return request.getCommitment() != null
+                && request.getCommitment().getAmount().compareTo(BigDecimal.ZERO) > 0;
+    }
+
     /**
-     * Syndicateの存在チェック
+     * SharePieで参照される全Investorを1回のクエリで取得する
      */
-    private void validateSyndicateExists(Long syndicateId) {
-        if (!syndicateRepository.existsById(syndicateId)) {
-            throw new BusinessRuleViolationException("指定されたSyndicateが存在しません: id=" + syndicateId);
+    private Map<Long, Investor> loadInvestors(List<CreateFacilityRequest.SharePieRequest> sharePies) {
+        Set<Long> investorIds = sharePies.stream()
+                .map(CreateFacilityRequest.SharePieRequest::getInvestorId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (investorIds.isEmpty()) {
+            return Map.of();
         }
+        return investorRepository.findAllById(investorIds).stream()
+                .collect(Collectors.toMap(Investor::getId, Function.identity()));
     }
 
     /**
-     * Investorの存在とSyndicateメンバーシップチェック
+     * Investorの存在・アクティブ状態とSyndicateメンバーシップチェック
      */
-    private void validateInvestorsExistAndBelongToSyndicate(CreateFacilityRequest request, Syndicate syndicate) {
-        for (CreateFacilityRequest.SharePieRequest pie : request.getSharePies()) {
+    private void validateInvestors(List<CreateFacilityRequest.SharePieRequest> sharePies,
+            SyndicateMembership syndicate, Map<Long, Investor> investors, List<String> violations) {
+        Set<Long> checked = new HashSet<>();
+        for (CreateFacilityRequest.SharePieRequest pie : sharePies) {
+            // 重複したInvestorは重複チェックで報告するため、ここでは1回だけ評価する
+            if (!checked.add(pie.getInvestorId())) {
+                continue;
+            }
+
             // Investor存在チェック
-            Investor investor = investorRepository.findById(pie.getInvestorId())
-                    .orElseThrow(() -> new BusinessRuleViolationException(
-                            "指定されたInvestorが存在しません: id=" + pie.getInvestorId()));
+            Investor investor = investors.get(pie.getInvestorId());
+            if (investor == null) {
+                violations.add("指定されたInvestorが存在しません: id=" + pie.getInvestorId());
+                continue;
+            }
 
             // アクティブ状態チェック
             if (!investor.getIsActive()) {
-                throw new BusinessRuleViolationException(
-                        "非アクティブなInvestorは投資できません: investorId=" + pie.getInvestorId());
+                violations.add("非アクティブなInvestorは投資できません: investorId=" + pie.getInvestorId());
             }
 
             // Syndicateメンバーシップチェック
-            if (!syndicate.getMemberInvestorIds().contains(pie.getInvestorId())) {
-                throw new BusinessRuleViolationException(
-                        "InvestorはSyndicateメンバーではありません: investorId=" + pie.getInvestorId());
+            if (syndicate != null && !syndicate.isMember(pie.getInvestorId())) {
+                violations.add("InvestorはSyndicateメンバーではありません: investorId=" + pie.getInvestorId());
             }
         }
     }
@@ -170,12 +202,13 @@ public class FacilityValidator {
     /**
      * SharePieの重複チェック
      */
-    private void validateSharePieDuplication(CreateFacilityRequest request) {
+    private void validateSharePieDuplication(List<CreateFacilityRequest.SharePieRequest> sharePies,
+            List<String> violations) {
         Set<Long> investorIds = new HashSet<>();
-        for (CreateFacilityRequest.SharePieRequest pie : request.getSharePies()) {
-            if (!investorIds.add(pie.getInvestorId())) {
-                throw new BusinessRuleViolationException(
-                        "同一のInvestorが複数のSharePieに含まれています: investorId=" + pie.getInvestorId());
+        Set<Long> reported = new HashSet<>();
+        for (CreateFacilityRequest.SharePieRequest pie : sharePies) {
+            if (!investorIds.add(pie.getInvestorId()) && reported.add(pie.getInvestorId())) {
+                violations.add("同一のInvestorが複数のSharePieに含まれています: investorId=" + pie.getInvestorId());
             }
         }
     }
@@ -183,51 +216,47 @@ public class FacilityValidator {
     /**
      * BorrowerのCreditLimitチェック
      */
-    private void validateCreditLimit(CreateFacilityRequest request, Syndicate syndicate, Long excludeFacilityId) {
-        Borrower borrower = borrowerRepository.findById(syndicate.getBorrowerId())
-                .orElseThrow(() -> new BusinessRuleViolationException(
-                        "指定されたSyndicateにBorrowerが関連付けられていません"));
+    private void validateCreditLimit(CreateFacilityRequest request, SyndicateMembership syndicate,
+            Long excludeFacilityId, List<String> violations) {
+        Borrower borrower = borrowerRepository.findById(syndicate.getBorrowerId()).orElse(null);
+        if (borrower == null) {
+            violations.add("指定されたSyndicateにBorrowerが関連付けられていません");
+            return;
+        }
 
         // 新規CommitmentがCreditLimitを超えていないかチェック
         if (borrower.getCreditLimit().getAmount().compareTo(request.getCommitment().getAmount()) < 0) {
-            throw new BusinessRuleViolationException(
-                    "FacilityのCommitment(" + request.getCommitment() +
-                            ")がBorrowerのCreditLimit(" + borrower.getCreditLimit() + ")を超えています");
-        }
-
-        // 既存Facility合計 + 新規CommitmentがCreditLimit以下かチェック
-        List<Facility> existingFacilities = facilityRepository.findBySyndicateId(request.getSyndicateId());
-
-        // 更新時は自分自身を除外
-        if (excludeFacilityId != null) {
-            existingFacilities = existingFacilities.stream()
-                    .filter(facility -> !facility.getId().equals(excludeFacilityId))
-                    .collect(java.util.stream.Collectors.toList());
+            violations.add("FacilityのCommitment(" + request.getCommitment() +
+                    ")がBorrowerのCreditLimit(" + borrower.getCreditLimit() + ")を超えています");
         }
 
-        Money totalExistingCommitment = existingFacilities.stream()
-                .map(Facility::getCommitment)
-                .reduce(Money.zero(), Money::add);
+        // 既存Facility合計（更新時は自分自身を除外） + 新規CommitmentがCreditLimit以下かチェック
+        Money totalExistingCommitment = committedExposureCounter.committedAmountExcluding(
+                request.getSyndicateId(), excludeFacilityId);
 
         Money totalCommitment = totalExistingCommitment.add(request.getCommitment());
         if (totalCommitment.getAmount().compareTo(borrower.getCreditLimit().getAmount()) > 0) {
-            throw new BusinessRuleViolationException(
-                    "総Commitment(" + totalCommitment +
-                            ")がBorrowerのCreditLimit(" + borrower.getCreditLimit() + ")を超えています");
+            violations.add("総Commitment(" + totalCommitment +
+                    ")がBorrowerのCreditLimit(" + borrower.getCreditLimit() + ")を超えています");
         }
     }
 
     /**
      * SharePieの合計が100%であることをチェック
      */
-    private void validateSharePiePercentage(CreateFacilityRequest request) {
-        Percentage totalPercentage = request.getSharePies().stream()
+    private void validateSharePiePercentage(List<CreateFacilityRequest.SharePieRequest> sharePies,
+            List<String> violations) {
+        if (sharePies.stream().anyMatch(pie -> pie.getShare() == null)) {
+            violations.add("SharePieの持分は必須です");
+            return;
+        }
+        Percentage totalPercentage = sharePies.stream()
                 .map(CreateFacilityRequest.SharePieRequest::getShare)
                 .reduce(Percentage.of(BigDecimal.ZERO), Percentage::add);
 
         Percentage hundred = Percentage.of(BigDecimal.ONE);
         if (!hundred.equals(totalPercentage)) {
-            throw new BusinessRuleViolationException("SharePieの合計は100%である必要があります。現在の合計: " + totalPercentage);
+            violations.add("SharePieの合計は100%である必要があります。現在の合計: " + totalPercentage);
         }
     }
 }
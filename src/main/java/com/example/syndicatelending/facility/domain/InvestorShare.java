@@ -0,0 +1,47 @@
+package com.example.syndicatelending.facility.domain;
+
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.facility.entity.SharePie;
+
+import java.util.Objects;
+
+/**
+ * ファシリティにおける投資家の持分（SharePieの不変な写し）。
+ * キャッシュに保持するためエンティティではなくこの値オブジェクトを使う。
+ */
+public final class InvestorShare {
+    private final Long investorId;
+    private final Percentage share;
+
+    public InvestorShare(Long investorId, Percentage share) {
+        this.investorId = investorId;
+        this.share = share;
+    }
+
+    public static InvestorShare of(SharePie sharePie) {
+        return new InvestorShare(sharePie.getInvestorId(), sharePie.getShare());
+    }
+
+    public Long getInvestorId() {
+        return investorId;
+    }
+
+    public Percentage getShare() {
+        return share;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        InvestorShare that = (InvestorShare) o;
+        return Objects.equals(investorId, that.investorId) && Objects.equals(share, that.share);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(investorId, share);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.syndicatelending.facility.domain;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.facility.entity.SyndicateCommittedExposure;
+import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.repository.SyndicateCommittedExposureRepository;
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.syndicate.repository.SyndicateRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Syndicate単位のコミット済みエクスポージャを参照・維持するコンポーネント。
+ * <p>
+ * カウンタ行が未作成のSyndicate（導入前から存在するデータ）は、
+ * Commitmentの集計クエリで値を求め、最初の変更時に行を作成する。
+ * </p>
+ */
+@Component
+public class SyndicateCommittedExposureCounter {
+
+    private final SyndicateCommittedExposureRepository exposureRepository;
+    private final FacilityRepository facilityRepository;
+    private final SyndicateRepository syndicateRepository;
+
+    public SyndicateCommittedExposureCounter(SyndicateCommittedExposureRepository exposureRepository,
+            FacilityRepository facilityRepository,
+            SyndicateRepository syndicateRepository) {
+        this.exposureRepository = exposureRepository;
+        this.facilityRepository = facilityRepository;
+        this.syndicateRepository = syndicateRepository;
+    }
+
+    /**
+     * 指定されたFacilityを除いたSyndicateのCommitment合計を取得する
+     *
+     * @param excludeFacilityId 除外するFacilityのID（新規作成時はnull）
+     */
+    public Money committedAmountExcluding(Long syndicateId, Long excludeFacilityId) {
+        Optional<SyndicateCommittedExposure> exposure = exposureRepository.findById(syndicateId);
+        if (exposure.isEmpty()) {
+            return Money.of(excludeFacilityId == null
+                    ? facilityRepository.sumCommitmentBySyndicateId(syndicateId)
+                    : facilityRepository.sumCommitmentBySyndicateIdExcluding(syndicateId, excludeFacilityId));
+        }
+
+        Money committed = exposure.get().getCommittedAmount();
+        if (excludeFacilityId == null) {
+            return committed;
+        }
+        // 更新対象のFacilityは呼び出し元で取得済みのため、永続化コンテキストから返る
+        return facilityRepository.findById(excludeFacilityId)
+                .filter(facility -> syndicateId.equals(facility.getSyndicateId()))
+                .map(Facility::getCommitment)
+                .map(committed::subtract)
+                .orElse(committed);
+    }
+
+    /**
+     * Facilityの変更に合わせてSyndicateのコミット済み金額を増減する。
+     * Facilityの変更を永続化コンテキストに反映した後に呼び出すこと。
+     */
+    public void record(Long syndicateId, Money delta) {
+        Optional<SyndicateCommittedExposure> exposure = exposureRepository.findById(syndicateId);
+        if (exposure.isPresent()) {
+            exposure.get().add(delta);
+            return;
+        }
+
+        // Syndicateが存在しないFacility（facilities.syndicate_id に外部キーはない）は、
+        // 与信枠を判定する借り手がいないためカウンタを作成しない
+        if (!syndicateRepository.existsById(syndicateId)) {
+            return;
+        }
+
+        // カウンタ未作成: 変更を反映した後の集計値で初期化する（deltaは集計値に含まれる）
+        facilityRepository.flush();
+        exposureRepository.save(new SyndicateCommittedExposure(syndicateId,
+                Money.of(facilityRepository.sumCommitmentBySyndicateId(syndicateId))));
+    }
+}
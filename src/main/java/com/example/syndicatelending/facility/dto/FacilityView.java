@@ -0,0 +1,91 @@
+package com.example.syndicatelending.facility.dto;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 参照系APIで返すFacility。
+ * SharePieは {@code ?expand=sharePies} を指定した場合のみ含まれる。
+ */
+public class FacilityView {
+    private final Long id;
+    private final Long syndicateId;
+    private final Money commitment;
+    private final String currency;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final String interestTerms;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final Long version;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<SharePieView> sharePies;
+
+    public FacilityView(Long id, Long syndicateId, Money commitment, String currency, LocalDate startDate,
+            LocalDate endDate, String interestTerms, LocalDateTime createdAt, LocalDateTime updatedAt,
+            Long version) {
+        this.id = id;
+        this.syndicateId = syndicateId;
+        this.commitment = commitment;
+        this.currency = currency;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.interestTerms = interestTerms;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getSyndicateId() {
+        return syndicateId;
+    }
+
+    public Money getCommitment() {
+        return commitment;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public String getInterestTerms() {
+        return interestTerms;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public List<SharePieView> getSharePies() {
+        return sharePies;
+    }
+
+    public void setSharePies(List<SharePieView> sharePies) {
+        this.sharePies = sharePies;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.syndicatelending.facility.dto;
+
+import com.example.syndicatelending.common.domain.model.Percentage;
+
+/**
+ * 参照系APIで返すSharePie。
+ */
+public class SharePieView {
+    private final Long id;
+    private final Long facilityId;
+    private final Long investorId;
+    private final Percentage share;
+
+    public SharePieView(Long id, Long facilityId, Long investorId, Percentage share) {
+        this.id = id;
+        this.facilityId = facilityId;
+        this.investorId = investorId;
+        this.share = share;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getFacilityId() {
+        return facilityId;
+    }
+
+    public Long getInvestorId() {
+        return investorId;
+    }
+
+    public Percentage getShare() {
+        return share;
+    }
+}
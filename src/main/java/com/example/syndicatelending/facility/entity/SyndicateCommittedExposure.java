@@ -0,0 +1,72 @@
+package com.example.syndicatelending.facility.entity;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.MoneyAttributeConverter;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Syndicateのコミット済みエクスポージャ（Facility Commitmentの合計）を保持するカウンタ。
+ * <p>
+ * BorrowerのCreditLimitチェックはSyndicateに属するFacilityのCommitment合計で行うため、Syndicateごとに1行を持つ。
+ * Facilityの作成・更新・削除と同じトランザクションで増減され、
+ * {@code @Version} により同一Syndicateへの同時変更は楽観的ロックで直列化される。
+ * </p>
+ */
+@Entity
+@Table(name = "syndicate_committed_exposure")
+public class SyndicateCommittedExposure {
+
+    @Id
+    @Column(name = "syndicate_id")
+    private Long syndicateId;
+
+    @Convert(converter = MoneyAttributeConverter.class)
+    @Column(name = "committed_amount", nullable = false, precision = 19, scale = 2)
+    private Money committedAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    protected SyndicateCommittedExposure() {
+        // for JPA
+    }
+
+    public SyndicateCommittedExposure(Long syndicateId, Money committedAmount) {
+        this.syndicateId = syndicateId;
+        this.committedAmount = committedAmount;
+    }
+
+    /**
+     * コミット済み金額を増減する（減少は負の値）
+     */
+    public void add(Money delta) {
+        this.committedAmount = this.committedAmount.add(delta);
+    }
+
+    public Long getSyndicateId() {
+        return syndicateId;
+    }
+
+    public Money getCommittedAmount() {
+        return committedAmount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
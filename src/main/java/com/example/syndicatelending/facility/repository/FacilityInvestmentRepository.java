@@ -4,7 +4,11 @@ import com.example.syndicatelending.facility.entity.FacilityInvestment;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface FacilityInvestmentRepository extends JpaRepository<FacilityInvestment, Long> {
+    List<FacilityInvestment> findByFacilityId(Long facilityId);
+
     void deleteByFacilityId(Long facilityId);
 }
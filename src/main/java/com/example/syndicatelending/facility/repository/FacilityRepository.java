@@ -1,15 +1,60 @@
 package com.example.syndicatelending.facility.repository;
 
+import com.example.syndicatelending.common.infrastructure.NdjsonExporter;
+import com.example.syndicatelending.facility.dto.FacilityView;
 import com.example.syndicatelending.facility.entity.Facility;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface FacilityRepository extends JpaRepository<Facility, Long> {
+    /** 参照系APIで返す {@link FacilityView} を組み立てるSELECT句 */
+    String VIEW_SELECT = "SELECT new com.example.syndicatelending.facility.dto.FacilityView(f.id, f.syndicateId, "
+            + "f.commitment, f.currency, f.startDate, f.endDate, f.interestTerms, f.createdAt, f.updatedAt, "
+            + "f.version) FROM Facility f";
+
     /**
      * 指定されたSyndicateに関連付けられたFacilityリストを取得
      */
     List<Facility> findBySyndicateId(Long syndicateId);
+
+    /**
+     * 指定されたSyndicateのCommitment合計を取得
+     * （commitmentはMoneyに変換されるため、集計はネイティブクエリで行う）
+     */
+    @Query(value = "SELECT COALESCE(SUM(f.commitment), 0) FROM facilities f WHERE f.syndicate_id = :syndicateId", nativeQuery = true)
+    BigDecimal sumCommitmentBySyndicateId(@Param("syndicateId") Long syndicateId);
+
+    /**
+     * 指定されたFacilityを除いた、SyndicateのCommitment合計を取得
+     */
+    @Query(value = "SELECT COALESCE(SUM(f.commitment), 0) FROM facilities f WHERE f.syndicate_id = :syndicateId AND f.id <> :excludeFacilityId", nativeQuery = true)
+    BigDecimal sumCommitmentBySyndicateIdExcluding(@Param("syndicateId") Long syndicateId,
+            @Param("excludeFacilityId") Long excludeFacilityId);
+
+    @Query(value = VIEW_SELECT, countQuery = "SELECT COUNT(f) FROM Facility f")
+    Page<FacilityView> findAllViews(Pageable pageable);
+
+    @Query(VIEW_SELECT + " WHERE f.id = :id")
+    Optional<FacilityView> findViewById(@Param("id") Long id);
+
+    /**
+     * エクスポート用に全FacilityをID順に逐次取得する（呼び出し元で close すること）
+     */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonExporter.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query(VIEW_SELECT + " ORDER BY f.id")
+    Stream<FacilityView> streamAllViews();
 }
@@ -1,14 +1,32 @@
 package com.example.syndicatelending.facility.repository;
 
+import com.example.syndicatelending.facility.dto.SharePieView;
 import com.example.syndicatelending.facility.entity.SharePie;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface SharePieRepository extends JpaRepository<SharePie, Long> {
-    List<SharePie> findByFacility_Id(Long facilityId);
+    /**
+     * 外部キー列で絞り込む（派生クエリでは Facility を外部結合して主キーで絞り込み、全件走査になるため）
+     */
+    @Query("SELECT p FROM SharePie p WHERE p.facility.id = :facilityId")
+    List<SharePie> findByFacility_Id(@Param("facilityId") Long facilityId);
+
+    @Query("SELECT p FROM SharePie p WHERE p.facility.id IN :facilityIds")
+    List<SharePie> findByFacility_IdIn(@Param("facilityIds") Collection<Long> facilityIds);
+
+    /**
+     * 複数FacilityのSharePieを参照系の形式でまとめて取得する
+     */
+    @Query("SELECT new com.example.syndicatelending.facility.dto.SharePieView(p.id, p.facility.id, p.investorId, "
+            + "p.share) FROM SharePie p WHERE p.facility.id IN :facilityIds ORDER BY p.id")
+    List<SharePieView> findViewsByFacilityIdIn(@Param("facilityIds") Collection<Long> facilityIds);
 
     void deleteByFacility_Id(Long facilityId);
 }
@@ -0,0 +1,9 @@
+package com.example.syndicatelending.facility.repository;
+
+import com.example.syndicatelending.facility.entity.SyndicateCommittedExposure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SyndicateCommittedExposureRepository extends JpaRepository<SyndicateCommittedExposure, Long> {
+}
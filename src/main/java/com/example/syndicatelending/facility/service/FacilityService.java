@@ -1,7 +1,10 @@
 package com.example.syndicatelending.facility.service;
 
 import com.example.syndicatelending.facility.dto.CreateFacilityRequest;
+import com.example.syndicatelending.facility.dto.FacilityView;
+import com.example.syndicatelending.facility.dto.SharePieView;
 import com.example.syndicatelending.facility.dto.UpdateFacilityRequest;
+import com.example.syndicatelending.facility.domain.SyndicateCommittedExposureCounter;
 import com.example.syndicatelending.facility.domain.FacilityValidator;
 import com.example.syndicatelending.facility.entity.Facility;
 import com.example.syndicatelending.facility.entity.SharePie;
@@ -11,34 +14,60 @@ import com.example.syndicatelending.facility.repository.FacilityInvestmentReposi
 import com.example.syndicatelending.facility.entity.FacilityInvestment;
 import com.example.syndicatelending.common.application.exception.ResourceNotFoundException;
 import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.common.infrastructure.CacheConfig;
+import com.example.syndicatelending.common.infrastructure.NdjsonExporter;
+import com.example.syndicatelending.common.infrastructure.StatementBudget;
+import com.example.syndicatelending.exposure.service.ExposureRecorder;
 import com.example.syndicatelending.syndicate.repository.SyndicateRepository;
 import com.example.syndicatelending.syndicate.entity.Syndicate;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
 public class FacilityService {
+    /** Facility更新時の投資額差分を表す取引種別 */
+    private static final String INVESTMENT_ADJUSTMENT_TRANSACTION_TYPE = "FACILITY_INVESTMENT_ADJUSTMENT";
+
     private final FacilityRepository facilityRepository;
     private final FacilityValidator facilityValidator;
     private final SharePieRepository sharePieRepository;
     private final FacilityInvestmentRepository facilityInvestmentRepository;
     private final SyndicateRepository syndicateRepository;
+    private final SyndicateCommittedExposureCounter committedExposureCounter;
+    private final NdjsonExporter ndjsonExporter;
+    private final ExposureRecorder exposureRecorder;
 
     public FacilityService(FacilityRepository facilityRepository, FacilityValidator facilityValidator,
             SharePieRepository sharePieRepository, FacilityInvestmentRepository facilityInvestmentRepository,
-            SyndicateRepository syndicateRepository) {
+            SyndicateRepository syndicateRepository, SyndicateCommittedExposureCounter committedExposureCounter,
+            NdjsonExporter ndjsonExporter, ExposureRecorder exposureRecorder) {
         this.facilityRepository = facilityRepository;
         this.facilityValidator = facilityValidator;
         this.sharePieRepository = sharePieRepository;
         this.facilityInvestmentRepository = facilityInvestmentRepository;
         this.syndicateRepository = syndicateRepository;
+        this.committedExposureCounter = committedExposureCounter;
+        this.ndjsonExporter = ndjsonExporter;
+        this.exposureRecorder = exposureRecorder;
     }
 
     @Transactional
@@ -69,6 +98,7 @@ public class FacilityService {
 
         // 4. Facility保存（cascadeによりSharePieも一緒に保存される）
         Facility savedFacility = facilityRepository.save(facility);
+        committedExposureCounter.record(savedFacility.getSyndicateId(), savedFacility.getCommitment());
 
         // 5. FacilityInvestment生成・保存
         List<FacilityInvestment> investments = new ArrayList<>();
@@ -91,6 +121,7 @@ public class FacilityService {
             investments.add(investment);
         }
         facilityInvestmentRepository.saveAll(investments);
+        recordCommittedExposure(savedFacility);
 
         return savedFacility;
     }
@@ -108,78 +139,227 @@ public class FacilityService {
                 .orElseThrow(() -> new ResourceNotFoundException("Facility not found with id: " + id));
     }
 
+    /**
+     * 参照系APIで返すFacilityの一覧を取得する。
+     *
+     * @param expandSharePies trueの場合、SharePieを1クエリでまとめて取得して含める
+     */
+    @StatementBudget(max = 3)
+    @Transactional(readOnly = true)
+    public Page<FacilityView> getFacilityViews(Pageable pageable, boolean expandSharePies) {
+        Page<FacilityView> page = facilityRepository.findAllViews(pageable);
+        withSharePies(page.getContent(), expandSharePies);
+        return page;
+    }
+
+    @StatementBudget(max = 2)
+    @Transactional(readOnly = true)
+    public FacilityView getFacilityView(Long id, boolean expandSharePies) {
+        FacilityView view = facilityRepository.findViewById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Facility not found with id: " + id));
+        withSharePies(List.of(view), expandSharePies);
+        return view;
+    }
+
+    /**
+     * 全FacilityをID順に NDJSON として書き出す。
+     * 一覧を List に保持せず、行を読み込みながら出力する。
+     *
+     * @return 書き出した件数
+     */
+    @Transactional(readOnly = true)
+    public long exportFacilities(OutputStream out) throws IOException {
+        try (Stream<FacilityView> facilities = facilityRepository.streamAllViews()) {
+            return ndjsonExporter.write(facilities, out);
+        }
+    }
+
+    private void withSharePies(List<FacilityView> views, boolean expandSharePies) {
+        if (!expandSharePies || views.isEmpty()) {
+            return;
+        }
+        Map<Long, List<SharePieView>> sharePiesByFacility = new HashMap<>();
+        List<Long> facilityIds = views.stream().map(FacilityView::getId).toList();
+        for (SharePieView sharePie : sharePieRepository.findViewsByFacilityIdIn(facilityIds)) {
+            sharePiesByFacility.computeIfAbsent(sharePie.getFacilityId(), id -> new ArrayList<>()).add(sharePie);
+        }
+        for (FacilityView view : views) {
+            view.setSharePies(sharePiesByFacility.getOrDefault(view.getId(), List.of()));
+        }
+    }
+
+    /**
+     * Facilityを更新する。
+     * SharePieは投資家単位の差分（追加・削除・持分変更）のみを反映し、
+     * FacilityInvestmentは既存の履歴を残したまま、投資額の差分を調整取引として追記する。
+     */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.FACILITY_SHARE_PIES, key = "#id")
     public Facility updateFacility(Long id, UpdateFacilityRequest request) {
         Facility existingFacility = getFacilityById(id);
+        if (!Objects.equals(existingFacility.getVersion(), request.getVersion())) {
+            throw new OptimisticLockingFailureException("Facility has been modified: id=" + id);
+        }
 
         // バリデーション実行（UpdateFacilityRequestを直接使用）
         facilityValidator.validateUpdateFacilityRequest(request, id);
 
-        Facility entityToSave = new Facility();
+        // 変更前の値を保持（コミット済みエクスポージャと投資額の差分計算に使用）
+        Long previousSyndicateId = existingFacility.getSyndicateId();
+        Money previousCommitment = existingFacility.getCommitment();
+        Map<Long, Percentage> previousShares = sharesByInvestor(existingFacility.getSharePies());
 
-        entityToSave.setId(id);
-        entityToSave.setVersion(request.getVersion());
+        // 基本情報を設定（値が変わらない項目は更新対象にならない）
+        existingFacility.setSyndicateId(request.getSyndicateId());
+        existingFacility.setCommitment(request.getCommitment());
+        existingFacility.setCurrency(request.getCurrency());
+        existingFacility.setStartDate(request.getStartDate());
+        existingFacility.setEndDate(request.getEndDate());
+        existingFacility.setInterestTerms(request.getInterestTerms());
 
-        // 基本情報を設定
-        entityToSave.setSyndicateId(request.getSyndicateId());
-        entityToSave.setCommitment(request.getCommitment());
-        entityToSave.setCurrency(request.getCurrency());
-        entityToSave.setStartDate(request.getStartDate());
-        entityToSave.setEndDate(request.getEndDate());
-        entityToSave.setInterestTerms(request.getInterestTerms());
-        entityToSave.setCreatedAt(existingFacility.getCreatedAt());
+        if (applySharePieChanges(existingFacility, request.getSharePies())) {
+            // SharePieのみの変更でもFacilityのバージョンを進める
+            existingFacility.setUpdatedAt(LocalDateTime.now());
+        }
 
-        // 既存のSharePieエンティティをクリア
-        existingFacility.getSharePies().clear();
-        // SharePieRepositoryを用いて、既存のSharePie(Facilityに紐づく)を明示的に削除する。
-        sharePieRepository.deleteByFacility_Id(id);
+        Facility savedFacility = facilityRepository.save(existingFacility);
+        recordCommitmentChange(previousSyndicateId, previousCommitment, savedFacility);
 
-        // 新しいSharePieエンティティを作成して追加
-        List<SharePie> newSharePies = new ArrayList<>();
-        for (UpdateFacilityRequest.SharePieRequest pie : request.getSharePies()) {
-            SharePie entity = new SharePie();
-            entity.setInvestorId(pie.getInvestorId());
-            entity.setShare(pie.getShare());
-            entity.setFacility(entityToSave);
-            newSharePies.add(entity);
+        // Facility → Syndicate → BorrowerIdを取得
+        Long borrowerId = findBorrowerId(savedFacility.getSyndicateId());
+        Long previousBorrowerId = previousSyndicateId.equals(savedFacility.getSyndicateId())
+                ? borrowerId
+                : findBorrowerId(previousSyndicateId);
+
+        // 投資額の差分のみFacilityInvestmentとして追記
+        List<FacilityInvestment> adjustments = new ArrayList<>();
+        Map<Long, Percentage> newShares = sharesByInvestor(existingFacility.getSharePies());
+        Set<Long> investorIds = new LinkedHashSet<>(previousShares.keySet());
+        investorIds.addAll(newShares.keySet());
+        for (Long investorId : investorIds) {
+            Money before = allocate(previousCommitment, previousShares.get(investorId));
+            Money after = allocate(savedFacility.getCommitment(), newShares.get(investorId));
+            if (previousBorrowerId.equals(borrowerId)) {
+                Money delta = after.subtract(before);
+                if (!delta.isZero()) {
+                    adjustments.add(createInvestmentAdjustment(savedFacility.getId(), investorId, borrowerId, delta));
+                }
+            } else {
+                // Borrowerが変わる場合は旧Borrower分を取り消し、新Borrower分を計上する
+                if (!before.isZero()) {
+                    adjustments.add(createInvestmentAdjustment(savedFacility.getId(), investorId,
+                            previousBorrowerId, Money.zero().subtract(before)));
+                }
+                if (!after.isZero()) {
+                    adjustments.add(createInvestmentAdjustment(savedFacility.getId(), investorId, borrowerId, after));
+                }
+            }
         }
-        entityToSave.setSharePies(newSharePies);
+        facilityInvestmentRepository.saveAll(adjustments);
+        recordCommittedExposure(savedFacility);
 
-        Facility savedFacility = facilityRepository.save(entityToSave);
+        return savedFacility;
+    }
 
-        // 既存のFacilityInvestmentを削除
-        facilityInvestmentRepository.deleteByFacilityId(id);
+    /**
+     * リクエストのSharePieとの差分を反映する。
+     *
+     * @return SharePieに変更があった場合true
+     */
+    private boolean applySharePieChanges(Facility facility, List<UpdateFacilityRequest.SharePieRequest> requested) {
+        Map<Long, SharePie> current = new HashMap<>();
+        for (SharePie pie : facility.getSharePies()) {
+            current.put(pie.getInvestorId(), pie);
+        }
 
-        // 新しいFacilityInvestmentを生成・保存
-        List<FacilityInvestment> newInvestments = new ArrayList<>();
-        Money newCommitment = savedFacility.getCommitment();
-        
-        // Facility → Syndicate → BorrowerIdを取得
-        Syndicate syndicate = syndicateRepository.findById(savedFacility.getSyndicateId())
-                .orElseThrow(() -> new ResourceNotFoundException("Syndicate not found with id: " + savedFacility.getSyndicateId()));
-        Long borrowerId = syndicate.getBorrowerId();
-        
-        for (SharePie pie : savedFacility.getSharePies()) {
-            FacilityInvestment investment = new FacilityInvestment();
-            investment.setFacilityId(savedFacility.getId());
-            investment.setInvestorId(pie.getInvestorId());
-            investment.setBorrowerId(borrowerId);
-            // 按分金額計算: Money × Percentage.value → Money
-            investment.setAmount(newCommitment.multiply(pie.getShare().getValue()));
-            investment.setTransactionType("FACILITY_INVESTMENT");
-            investment.setTransactionDate(LocalDate.now());
-            newInvestments.add(investment);
+        boolean changed = false;
+        for (UpdateFacilityRequest.SharePieRequest pie : requested) {
+            SharePie existing = current.remove(pie.getInvestorId());
+            if (existing == null) {
+                SharePie entity = new SharePie();
+                entity.setInvestorId(pie.getInvestorId());
+                entity.setShare(pie.getShare());
+                entity.setFacility(facility);
+                facility.getSharePies().add(entity);
+                changed = true;
+            } else if (!existing.getShare().equals(pie.getShare())) {
+                existing.setShare(pie.getShare());
+                changed = true;
+            }
         }
-        facilityInvestmentRepository.saveAll(newInvestments);
 
-        return savedFacility;
+        // リクエストに含まれない投資家のSharePieを削除
+        if (!current.isEmpty()) {
+            facility.getSharePies().removeAll(current.values());
+            sharePieRepository.deleteAll(current.values());
+            changed = true;
+        }
+        return changed;
+    }
+
+    private Map<Long, Percentage> sharesByInvestor(List<SharePie> sharePies) {
+        Map<Long, Percentage> shares = new HashMap<>();
+        for (SharePie pie : sharePies) {
+            shares.put(pie.getInvestorId(), pie.getShare());
+        }
+        return shares;
+    }
+
+    /**
+     * 按分金額計算: Money × Percentage.value → Money（持分なしはゼロ）
+     */
+    private Money allocate(Money commitment, Percentage share) {
+        return share == null ? Money.zero() : commitment.multiply(share.getValue());
+    }
+
+    private FacilityInvestment createInvestmentAdjustment(Long facilityId, Long investorId, Long borrowerId,
+            Money amount) {
+        FacilityInvestment investment = new FacilityInvestment();
+        investment.setFacilityId(facilityId);
+        investment.setInvestorId(investorId);
+        investment.setBorrowerId(borrowerId);
+        investment.setAmount(amount);
+        investment.setTransactionType(INVESTMENT_ADJUSTMENT_TRANSACTION_TYPE);
+        investment.setTransactionDate(LocalDate.now());
+        return investment;
+    }
+
+    private Long findBorrowerId(Long syndicateId) {
+        Syndicate syndicate = syndicateRepository.findById(syndicateId)
+                .orElseThrow(() -> new ResourceNotFoundException("Syndicate not found with id: " + syndicateId));
+        return syndicate.getBorrowerId();
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.FACILITY_SHARE_PIES, key = "#id")
     public void deleteFacility(Long id) {
-        if (!facilityRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Facility not found with id: " + id);
+        Facility facility = getFacilityById(id);
+        facilityRepository.delete(facility);
+        committedExposureCounter.record(facility.getSyndicateId(), Money.zero().subtract(facility.getCommitment()));
+        exposureRecorder.recordCommitments(id, facility.getCurrency(), Map.of());
+    }
+
+    /**
+     * 投資家ごとのコミット額（Commitment × 持分）をエクスポージャ参照モデルに反映する
+     */
+    private void recordCommittedExposure(Facility facility) {
+        Map<Long, Money> committedByInvestor = new HashMap<>();
+        for (SharePie pie : facility.getSharePies()) {
+            committedByInvestor.put(pie.getInvestorId(), allocate(facility.getCommitment(), pie.getShare()));
+        }
+        exposureRecorder.recordCommitments(facility.getId(), facility.getCurrency(), committedByInvestor);
+    }
+
+    /**
+     * 更新前後のCommitment差分をコミット済みエクスポージャに反映する
+     */
+    private void recordCommitmentChange(Long previousSyndicateId, Money previousCommitment, Facility savedFacility) {
+        if (previousSyndicateId.equals(savedFacility.getSyndicateId())) {
+            committedExposureCounter.record(previousSyndicateId,
+                    savedFacility.getCommitment().subtract(previousCommitment));
+        } else {
+            committedExposureCounter.record(previousSyndicateId, Money.zero().subtract(previousCommitment));
+            committedExposureCounter.record(savedFacility.getSyndicateId(), savedFacility.getCommitment());
         }
-        facilityRepository.deleteById(id);
     }
 }
@@ -0,0 +1,32 @@
+package com.example.syndicatelending.facility.service;
+
+import com.example.syndicatelending.common.infrastructure.CacheConfig;
+import com.example.syndicatelending.facility.domain.InvestorShare;
+import com.example.syndicatelending.facility.repository.SharePieRepository;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * ファシリティのSharePieを読み取るキャッシュ。
+ * FacilityService の更新・削除時に evict される。
+ */
+@Component
+public class FacilitySharePieCache {
+    private final SharePieRepository sharePieRepository;
+
+    public FacilitySharePieCache(SharePieRepository sharePieRepository) {
+        this.sharePieRepository = sharePieRepository;
+    }
+
+    @Cacheable(cacheNames = CacheConfig.FACILITY_SHARE_PIES)
+    @Transactional(readOnly = true)
+    public List<InvestorShare> getSharePies(Long facilityId) {
+        return sharePieRepository.findByFacility_Id(facilityId).stream()
+                .map(InvestorShare::of)
+                .toList();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.syndicatelending.loan.controller;
+
+import com.example.syndicatelending.loan.dto.CashFlowProjectionReport;
+import com.example.syndicatelending.loan.projection.CashFlowGranularity;
+import com.example.syndicatelending.loan.service.CashFlowProjectionService;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/loans/cash-flow-projection")
+public class CashFlowProjectionController {
+    private final CashFlowProjectionService cashFlowProjectionService;
+
+    public CashFlowProjectionController(CashFlowProjectionService cashFlowProjectionService) {
+        this.cashFlowProjectionService = cashFlowProjectionService;
+    }
+
+    @GetMapping
+    public ResponseEntity<CashFlowProjectionReport> getCashFlowProjection(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(defaultValue = "12") int months,
+            @RequestParam(defaultValue = "MONTH") CashFlowGranularity granularity,
+            @RequestParam(required = false) Long investorId) {
+        CashFlowProjectionReport report = cashFlowProjectionService.project(from != null ? from : LocalDate.now(),
+                months, granularity, investorId);
+        return ResponseEntity.ok(report);
+    }
+}
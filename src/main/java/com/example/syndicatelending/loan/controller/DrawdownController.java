@@ -1,15 +1,22 @@
 package com.example.syndicatelending.loan.controller;
 
+import com.example.syndicatelending.common.application.pagination.KeysetPage;
+import com.example.syndicatelending.common.infrastructure.NdjsonExporter;
 import com.example.syndicatelending.loan.dto.CreateDrawdownRequest;
+import com.example.syndicatelending.loan.dto.DrawdownBatchResult;
+import com.example.syndicatelending.loan.dto.DrawdownView;
 import com.example.syndicatelending.loan.entity.Drawdown;
 import com.example.syndicatelending.loan.service.DrawdownService;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/v1/loans/drawdowns")
@@ -26,27 +33,57 @@ public class DrawdownController {
         return ResponseEntity.ok(drawdown);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<DrawdownBatchResult> createDrawdowns(@RequestBody List<CreateDrawdownRequest> requests) {
+        DrawdownBatchResult result = drawdownService.createDrawdowns(requests);
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping
-    public ResponseEntity<List<Drawdown>> getAllDrawdowns() {
-        List<Drawdown> drawdowns = drawdownService.getAllDrawdowns();
+    public ResponseEntity<List<DrawdownView>> getAllDrawdowns(@RequestParam(required = false) Set<String> expand) {
+        List<DrawdownView> drawdowns = drawdownService.getDrawdownViews(expandsAmountPies(expand));
         return ResponseEntity.ok(drawdowns);
     }
 
     @GetMapping("/paged")
-    public ResponseEntity<Page<Drawdown>> getAllDrawdowns(Pageable pageable) {
-        Page<Drawdown> drawdowns = drawdownService.getAllDrawdowns(pageable);
+    public ResponseEntity<Page<DrawdownView>> getAllDrawdowns(Pageable pageable,
+            @RequestParam(required = false) Set<String> expand) {
+        Page<DrawdownView> drawdowns = drawdownService.getDrawdownViews(pageable, expandsAmountPies(expand));
+        return ResponseEntity.ok(drawdowns);
+    }
+
+    @GetMapping(value = "/export", produces = NdjsonExporter.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> exportDrawdowns() {
+        StreamingResponseBody body = drawdownService::exportDrawdowns;
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NdjsonExporter.MEDIA_TYPE)).body(body);
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<KeysetPage<DrawdownView>> scrollDrawdowns(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal,
+            @RequestParam(required = false) Set<String> expand) {
+        KeysetPage<DrawdownView> drawdowns = drawdownService.scrollDrawdownViews(cursor, size, withTotal,
+                expandsAmountPies(expand));
         return ResponseEntity.ok(drawdowns);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Drawdown> getDrawdownById(@PathVariable Long id) {
-        Drawdown drawdown = drawdownService.getDrawdownById(id);
+    public ResponseEntity<DrawdownView> getDrawdownById(@PathVariable Long id,
+            @RequestParam(required = false) Set<String> expand) {
+        DrawdownView drawdown = drawdownService.getDrawdownView(id, expandsAmountPies(expand));
         return ResponseEntity.ok(drawdown);
     }
 
     @GetMapping("/facility/{facilityId}")
-    public ResponseEntity<List<Drawdown>> getDrawdownsByFacilityId(@PathVariable Long facilityId) {
-        List<Drawdown> drawdowns = drawdownService.getDrawdownsByFacilityId(facilityId);
+    public ResponseEntity<List<DrawdownView>> getDrawdownsByFacilityId(@PathVariable Long facilityId,
+            @RequestParam(required = false) Set<String> expand) {
+        List<DrawdownView> drawdowns = drawdownService.getDrawdownViewsByFacilityId(facilityId,
+                expandsAmountPies(expand));
         return ResponseEntity.ok(drawdowns);
     }
+
+    private static boolean expandsAmountPies(Set<String> expand) {
+        return expand != null && expand.contains("amountPies");
+    }
 }
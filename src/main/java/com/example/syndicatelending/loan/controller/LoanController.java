@@ -0,0 +1,57 @@
+package com.example.syndicatelending.loan.controller;
+
+import com.example.syndicatelending.loan.dto.LoanPosition;
+import com.example.syndicatelending.loan.dto.OverridePaymentDetailRequest;
+import com.example.syndicatelending.loan.entity.PaymentDetail;
+import com.example.syndicatelending.loan.service.LoanPositionService;
+import com.example.syndicatelending.loan.service.PaymentScheduleService;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/loans")
+public class LoanController {
+    private final PaymentScheduleService paymentScheduleService;
+    private final LoanPositionService loanPositionService;
+
+    public LoanController(PaymentScheduleService paymentScheduleService, LoanPositionService loanPositionService) {
+        this.paymentScheduleService = paymentScheduleService;
+        this.loanPositionService = loanPositionService;
+    }
+
+    @GetMapping("/{loanId}/position")
+    public ResponseEntity<LoanPosition> getPosition(@PathVariable Long loanId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        LoanPosition position = loanPositionService.getPosition(loanId, asOf != null ? asOf : LocalDate.now());
+        return ResponseEntity.ok(position);
+    }
+
+    @GetMapping("/{loanId}/payment-details")
+    public ResponseEntity<List<PaymentDetail>> getPaymentSchedule(@PathVariable Long loanId,
+            @RequestParam(required = false) Integer fromPaymentNumber,
+            @RequestParam(required = false) Integer toPaymentNumber) {
+        List<PaymentDetail> details = paymentScheduleService.getPaymentSchedule(loanId, fromPaymentNumber,
+                toPaymentNumber);
+        return ResponseEntity.ok(details);
+    }
+
+    @GetMapping("/{loanId}/payment-details/paged")
+    public ResponseEntity<Page<PaymentDetail>> getPaymentSchedule(@PathVariable Long loanId, Pageable pageable) {
+        Page<PaymentDetail> details = paymentScheduleService.getPaymentSchedule(loanId, pageable);
+        return ResponseEntity.ok(details);
+    }
+
+    @PutMapping("/{loanId}/payment-details/{paymentNumber}")
+    public ResponseEntity<PaymentDetail> overridePaymentDetail(@PathVariable Long loanId,
+            @PathVariable Integer paymentNumber, @RequestBody OverridePaymentDetailRequest request) {
+        PaymentDetail detail = paymentScheduleService.overridePaymentDetail(loanId, paymentNumber, request);
+        return ResponseEntity.ok(detail);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.syndicatelending.loan.controller;
+
+import com.example.syndicatelending.common.application.pagination.KeysetPage;
+import com.example.syndicatelending.common.infrastructure.StatementBudget;
+import com.example.syndicatelending.loan.dto.CreatePaymentRequest;
+import com.example.syndicatelending.loan.dto.PaymentBatchResult;
+import com.example.syndicatelending.loan.dto.PaymentSummary;
+import com.example.syndicatelending.loan.entity.Payment;
+import com.example.syndicatelending.loan.service.PaymentService;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/loans/payments")
+public class PaymentController {
+    private final PaymentService paymentService;
+
+    public PaymentController(PaymentService paymentService) {
+        this.paymentService = paymentService;
+    }
+
+    @PostMapping
+    public ResponseEntity<Payment> createPayment(@RequestBody CreatePaymentRequest request) {
+        Payment payment = paymentService.processPayment(request);
+        return ResponseEntity.ok(payment);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<PaymentBatchResult> createPayments(@RequestBody List<CreatePaymentRequest> requests) {
+        PaymentBatchResult result = paymentService.processPayments(requests);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<KeysetPage<PaymentSummary>> scrollPayments(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        KeysetPage<PaymentSummary> payments = paymentService.scrollPaymentSummaries(cursor, size, withTotal);
+        return ResponseEntity.ok(payments);
+    }
+
+    @StatementBudget(max = 1)
+    @GetMapping("/{id}")
+    public ResponseEntity<Payment> getPaymentById(@PathVariable Long id) {
+        Payment payment = paymentService.getPaymentById(id);
+        return ResponseEntity.ok(payment);
+    }
+
+    @StatementBudget(max = 1)
+    @GetMapping("/loan/{loanId}")
+    public ResponseEntity<List<Payment>> getPaymentsByLoanId(@PathVariable Long loanId) {
+        List<Payment> payments = paymentService.getPaymentsByLoanId(loanId);
+        return ResponseEntity.ok(payments);
+    }
+
+    @GetMapping("/loan/{loanId}/summary")
+    public ResponseEntity<List<PaymentSummary>> getPaymentSummariesByLoanId(@PathVariable Long loanId) {
+        List<PaymentSummary> payments = paymentService.getPaymentSummariesByLoanId(loanId);
+        return ResponseEntity.ok(payments);
+    }
+}
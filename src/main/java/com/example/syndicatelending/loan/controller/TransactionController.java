@@ -0,0 +1,27 @@
+package com.example.syndicatelending.loan.controller;
+
+import com.example.syndicatelending.common.application.pagination.KeysetPage;
+import com.example.syndicatelending.loan.dto.TransactionView;
+import com.example.syndicatelending.loan.service.TransactionService;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/loans/transactions")
+public class TransactionController {
+    private final TransactionService transactionService;
+
+    public TransactionController(TransactionService transactionService) {
+        this.transactionService = transactionService;
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<KeysetPage<TransactionView>> scrollTransactions(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        KeysetPage<TransactionView> transactions = transactionService.scrollTransactions(cursor, size, withTotal);
+        return ResponseEntity.ok(transactions);
+    }
+}
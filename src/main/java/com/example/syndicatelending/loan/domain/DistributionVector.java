@@ -0,0 +1,151 @@
+package com.example.syndicatelending.loan.domain;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.loan.entity.AmountPie;
+import com.example.syndicatelending.loan.entity.DistributionWeight;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ローンの支払いを投資家に按分するための重みベクトル。
+ * <p>
+ * 重みはドローダウン時の投資額（最小通貨単位の整数）で、ローンごとに一度だけ計算して保持する。
+ * 按分は最大剰余法で行い、各投資家の配分額の合計は常に支払額と一致する。
+ * 比率を小数で求めないため、丸め誤差の調整は不要。
+ * </p>
+ */
+public final class DistributionVector {
+
+    private final Long[] investorIds;
+    private final long[] weights;
+    private final long totalWeight;
+
+    private DistributionVector(Long[] investorIds, long[] weights) {
+        long total = 0;
+        for (long weight : weights) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Distribution weight must be positive or zero: " + weight);
+            }
+            total = Math.addExact(total, weight);
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("Total distribution weight must be positive");
+        }
+        this.investorIds = investorIds;
+        this.weights = weights;
+        this.totalWeight = total;
+    }
+
+    /**
+     * ドローダウンのAmountPieから重みを作成する。同一投資家のAmountPieは合算する。
+     */
+    public static DistributionVector fromAmountPies(List<AmountPie> amountPies) {
+        Map<Long, Long> weightsByInvestor = new LinkedHashMap<>();
+        for (AmountPie amountPie : amountPies) {
+            weightsByInvestor.merge(amountPie.getInvestorId(),
+                    Money.of(amountPie.getAmount()).toMinorUnits(), Math::addExact);
+        }
+        Long[] investorIds = weightsByInvestor.keySet().toArray(new Long[0]);
+        long[] weights = weightsByInvestor.values().stream().mapToLong(Long::longValue).toArray();
+        return new DistributionVector(investorIds, weights);
+    }
+
+    /**
+     * 永続化された重みから作成する。
+     */
+    public static DistributionVector fromWeights(List<DistributionWeight> distributionWeights) {
+        Long[] investorIds = new Long[distributionWeights.size()];
+        long[] weights = new long[distributionWeights.size()];
+        for (int i = 0; i < distributionWeights.size(); i++) {
+            investorIds[i] = distributionWeights.get(i).getInvestorId();
+            weights[i] = distributionWeights.get(i).getWeight();
+        }
+        return new DistributionVector(investorIds, weights);
+    }
+
+    public List<DistributionWeight> toWeights() {
+        List<DistributionWeight> distributionWeights = new ArrayList<>(weights.length);
+        for (int i = 0; i < weights.length; i++) {
+            distributionWeights.add(new DistributionWeight(investorIds[i], weights[i]));
+        }
+        return distributionWeights;
+    }
+
+    public int size() {
+        return weights.length;
+    }
+
+    public Long investorIdAt(int index) {
+        return investorIds[index];
+    }
+
+    /**
+     * 金額を重みに比例して按分する（最大剰余法）。
+     * <p>
+     * 各投資家にまず floor(amount × weight / totalWeight) を配分し、
+     * 残りの最小通貨単位を剰余の大きい投資家から1ずつ配分する（同率の場合は先頭から）。
+     * </p>
+     *
+     * @param amount 按分する金額（0以上）
+     * @return 投資家ごとの配分額（{@link #investorIdAt(int)} と同じ順序）
+     */
+    public Money[] allocate(Money amount) {
+        long[] shares = allocateMinorUnits(amount.toMinorUnits());
+        Money[] result = new Money[shares.length];
+        for (int i = 0; i < shares.length; i++) {
+            result[i] = Money.ofMinorUnits(shares[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 最小通貨単位の金額を重みに比例して按分する。按分規則は {@link #allocate(Money)} と同じ。
+     *
+     * @param amountMinor 按分する金額（最小通貨単位、0以上）
+     * @return 投資家ごとの配分額（最小通貨単位、{@link #investorIdAt(int)} と同じ順序）
+     */
+    public long[] allocateMinorUnits(long amountMinor) {
+        if (amountMinor < 0) {
+            throw new IllegalArgumentException("Amount to allocate must be positive or zero: " + amountMinor);
+        }
+
+        long[] shares = new long[weights.length];
+        long[] remainders = new long[weights.length];
+        long allocated = 0;
+        for (int i = 0; i < weights.length; i++) {
+            long high = Math.multiplyHigh(amountMinor, weights[i]);
+            long low = amountMinor * weights[i];
+            if (high == 0 && low >= 0) {
+                shares[i] = low / totalWeight;
+                remainders[i] = low % totalWeight;
+            } else {
+                // 積がlongに収まらない場合のみBigIntegerで計算
+                BigInteger[] qr = BigInteger.valueOf(amountMinor)
+                        .multiply(BigInteger.valueOf(weights[i]))
+                        .divideAndRemainder(BigInteger.valueOf(totalWeight));
+                shares[i] = qr[0].longValueExact();
+                remainders[i] = qr[1].longValueExact();
+            }
+            allocated += shares[i];
+        }
+
+        // 残り（投資家数未満）を剰余の大きい順に配分
+        long leftover = amountMinor - allocated;
+        if (leftover > 0) {
+            Integer[] order = new Integer[weights.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(remainders[b], remainders[a]));
+            for (int i = 0; i < leftover; i++) {
+                shares[order[i]]++;
+            }
+        }
+        return shares;
+    }
+}
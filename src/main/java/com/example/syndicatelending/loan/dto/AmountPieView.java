@@ -0,0 +1,42 @@
+package com.example.syndicatelending.loan.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 参照系APIで返すAmountPie。
+ */
+public class AmountPieView {
+    private final Long id;
+    private final Long drawdownId;
+    private final Long investorId;
+    private final BigDecimal amount;
+    private final String currency;
+
+    public AmountPieView(Long id, Long drawdownId, Long investorId, BigDecimal amount, String currency) {
+        this.id = id;
+        this.drawdownId = drawdownId;
+        this.investorId = investorId;
+        this.amount = amount;
+        this.currency = currency;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getDrawdownId() {
+        return drawdownId;
+    }
+
+    public Long getInvestorId() {
+        return investorId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.syndicatelending.loan.dto;
+
+import com.example.syndicatelending.loan.projection.CashFlowGranularity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 投資家 × 通貨ごとの予測入金額レポート。
+ * 金額の配列は {@link #getBuckets()} と同じ順序で、各バケットに期日が入る元本・利息の合計を持つ。
+ */
+public class CashFlowProjectionReport {
+    private final LocalDate from;
+    private final LocalDate to;
+    private final CashFlowGranularity granularity;
+    private final List<LocalDate> buckets;
+    private final List<InvestorCashFlow> investors;
+    private final long loanCount;
+    private final long elapsedMillis;
+
+    public CashFlowProjectionReport(LocalDate from, LocalDate to, CashFlowGranularity granularity,
+            List<LocalDate> buckets, List<InvestorCashFlow> investors, long loanCount, long elapsedMillis) {
+        this.from = from;
+        this.to = to;
+        this.granularity = granularity;
+        this.buckets = buckets;
+        this.investors = investors;
+        this.loanCount = loanCount;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /** 集計期間の開始日（この日を含む） */
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    /** 集計期間の終了日（この日を含まない） */
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public CashFlowGranularity getGranularity() {
+        return granularity;
+    }
+
+    /** 各バケットの開始日 */
+    public List<LocalDate> getBuckets() {
+        return buckets;
+    }
+
+    public List<InvestorCashFlow> getInvestors() {
+        return investors;
+    }
+
+    /** 集計期間内に期日があったローンの件数 */
+    public long getLoanCount() {
+        return loanCount;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * 1投資家・1通貨の予測入金額
+     */
+    public static class InvestorCashFlow {
+        private final Long investorId;
+        private final String currency;
+        private final List<BigDecimal> principal;
+        private final List<BigDecimal> interest;
+
+        public InvestorCashFlow(Long investorId, String currency, List<BigDecimal> principal,
+                List<BigDecimal> interest) {
+            this.investorId = investorId;
+            this.currency = currency;
+            this.principal = principal;
+            this.interest = interest;
+        }
+
+        public Long getInvestorId() {
+            return investorId;
+        }
+
+        public String getCurrency() {
+            return currency;
+        }
+
+        public List<BigDecimal> getPrincipal() {
+            return principal;
+        }
+
+        public List<BigDecimal> getInterest() {
+            return interest;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.syndicatelending.loan.dto;
+
+import com.example.syndicatelending.loan.entity.Drawdown;
+
+/**
+ * 一括ドローダウンの明細ごとの処理結果。
+ */
+public class DrawdownBatchItemResult {
+    public enum Status {
+        SUCCESS, FAILED
+    }
+
+    /** リクエスト内での位置（0始まり） */
+    private int index;
+    private Status status;
+    private Long drawdownId;
+    private Long loanId;
+    private String errorMessage;
+
+    public static DrawdownBatchItemResult success(int index, Drawdown drawdown) {
+        DrawdownBatchItemResult result = new DrawdownBatchItemResult();
+        result.setIndex(index);
+        result.setStatus(Status.SUCCESS);
+        result.setDrawdownId(drawdown.getId());
+        result.setLoanId(drawdown.getLoanId());
+        return result;
+    }
+
+    public static DrawdownBatchItemResult failure(int index, String errorMessage) {
+        DrawdownBatchItemResult result = new DrawdownBatchItemResult();
+        result.setIndex(index);
+        result.setStatus(Status.FAILED);
+        result.setErrorMessage(errorMessage);
+        return result;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Long getDrawdownId() {
+        return drawdownId;
+    }
+
+    public void setDrawdownId(Long drawdownId) {
+        this.drawdownId = drawdownId;
+    }
+
+    public Long getLoanId() {
+        return loanId;
+    }
+
+    public void setLoanId(Long loanId) {
+        this.loanId = loanId;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+}
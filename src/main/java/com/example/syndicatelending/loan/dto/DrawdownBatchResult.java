@@ -0,0 +1,57 @@
+package com.example.syndicatelending.loan.dto;
+
+import java.util.List;
+
+/**
+ * 一括ドローダウンの処理結果レポート。
+ */
+public class DrawdownBatchResult {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<DrawdownBatchItemResult> items;
+
+    public DrawdownBatchResult() {
+    }
+
+    public DrawdownBatchResult(List<DrawdownBatchItemResult> items) {
+        this.items = items;
+        this.total = items.size();
+        this.succeeded = (int) items.stream()
+                .filter(item -> item.getStatus() == DrawdownBatchItemResult.Status.SUCCESS)
+                .count();
+        this.failed = this.total - this.succeeded;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<DrawdownBatchItemResult> getItems() {
+        return items;
+    }
+
+    public void setItems(List<DrawdownBatchItemResult> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.syndicatelending.loan.dto;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 参照系APIで返すDrawdown。
+ * AmountPieは {@code ?expand=amountPies} を指定した場合のみ含まれる。
+ */
+public class DrawdownView {
+    private final Long id;
+    private final Long facilityId;
+    private final Long borrowerId;
+    private final Long loanId;
+    private final LocalDate transactionDate;
+    private final String transactionType;
+    private final Money amount;
+    private final String currency;
+    private final String purpose;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final Long version;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<AmountPieView> amountPies;
+
+    public DrawdownView(Long id, Long facilityId, Long borrowerId, Long loanId, LocalDate transactionDate,
+            String transactionType, Money amount, String currency, String purpose, LocalDateTime createdAt,
+            LocalDateTime updatedAt, Long version) {
+        this.id = id;
+        this.facilityId = facilityId;
+        this.borrowerId = borrowerId;
+        this.loanId = loanId;
+        this.transactionDate = transactionDate;
+        this.transactionType = transactionType;
+        this.amount = amount;
+        this.currency = currency;
+        this.purpose = purpose;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getFacilityId() {
+        return facilityId;
+    }
+
+    public Long getBorrowerId() {
+        return borrowerId;
+    }
+
+    public Long getLoanId() {
+        return loanId;
+    }
+
+    public LocalDate getTransactionDate() {
+        return transactionDate;
+    }
+
+    public String getTransactionType() {
+        return transactionType;
+    }
+
+    public Money getAmount() {
+        return amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public String getPurpose() {
+        return purpose;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public List<AmountPieView> getAmountPies() {
+        return amountPies;
+    }
+
+    public void setAmountPies(List<AmountPieView> amountPies) {
+        this.amountPies = amountPies;
+    }
+}
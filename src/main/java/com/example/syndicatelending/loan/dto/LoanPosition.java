@@ -0,0 +1,116 @@
+package com.example.syndicatelending.loan.dto;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDate;
+
+/**
+ * ローンの現在のポジション（残高・経過利息・次回返済）。
+ * Loan行のみから組み立て、支払いや支払い詳細は集計しない。
+ */
+public class LoanPosition {
+    private final Long loanId;
+    private final String currency;
+    private final Money principalAmount;
+    private final Money outstandingBalance;
+    private final Percentage annualInterestRate;
+    private final LocalDate drawdownDate;
+    private final LocalDate lastPaymentDate;
+    private final Integer nextPaymentNumber;
+    private final LocalDate nextDueDate;
+    private final Money nextPrincipalDue;
+    private final Money nextInterestDue;
+    private final Long version;
+
+    private LocalDate asOf;
+    private Money accruedInterest;
+
+    public LoanPosition(Long loanId, String currency, Money principalAmount, Money outstandingBalance,
+            Percentage annualInterestRate, LocalDate drawdownDate, LocalDate lastPaymentDate,
+            Integer nextPaymentNumber, LocalDate nextDueDate, Money nextPrincipalDue, Money nextInterestDue,
+            Long version) {
+        this.loanId = loanId;
+        this.currency = currency;
+        this.principalAmount = principalAmount;
+        this.outstandingBalance = outstandingBalance;
+        this.annualInterestRate = annualInterestRate;
+        this.drawdownDate = drawdownDate;
+        this.lastPaymentDate = lastPaymentDate;
+        this.nextPaymentNumber = nextPaymentNumber;
+        this.nextDueDate = nextDueDate;
+        this.nextPrincipalDue = nextPrincipalDue;
+        this.nextInterestDue = nextInterestDue;
+        this.version = version;
+    }
+
+    /**
+     * 利息の起算日（最終支払日、支払いがない場合はドローダウン日）
+     */
+    @JsonIgnore
+    public LocalDate getInterestAccrualStartDate() {
+        return lastPaymentDate != null ? lastPaymentDate : drawdownDate;
+    }
+
+    public Long getLoanId() {
+        return loanId;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public Money getPrincipalAmount() {
+        return principalAmount;
+    }
+
+    public Money getOutstandingBalance() {
+        return outstandingBalance;
+    }
+
+    public Percentage getAnnualInterestRate() {
+        return annualInterestRate;
+    }
+
+    public LocalDate getDrawdownDate() {
+        return drawdownDate;
+    }
+
+    public LocalDate getLastPaymentDate() {
+        return lastPaymentDate;
+    }
+
+    public Integer getNextPaymentNumber() {
+        return nextPaymentNumber;
+    }
+
+    public LocalDate getNextDueDate() {
+        return nextDueDate;
+    }
+
+    public Money getNextPrincipalDue() {
+        return nextPrincipalDue;
+    }
+
+    public Money getNextInterestDue() {
+        return nextInterestDue;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public LocalDate getAsOf() {
+        return asOf;
+    }
+
+    public Money getAccruedInterest() {
+        return accruedInterest;
+    }
+
+    public void setAccruedInterest(LocalDate asOf, Money accruedInterest) {
+        this.asOf = asOf;
+        this.accruedInterest = accruedInterest;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.syndicatelending.loan.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 支払いスケジュールの特定の期を上書きするリクエスト。
+ * 指定されなかった項目は計算済みの値を維持する。
+ */
+public class OverridePaymentDetailRequest {
+    private BigDecimal principalPayment;
+    private BigDecimal interestPayment;
+    private LocalDate dueDate;
+    private BigDecimal remainingBalance;
+
+    public BigDecimal getPrincipalPayment() {
+        return principalPayment;
+    }
+
+    public void setPrincipalPayment(BigDecimal principalPayment) {
+        this.principalPayment = principalPayment;
+    }
+
+    public BigDecimal getInterestPayment() {
+        return interestPayment;
+    }
+
+    public void setInterestPayment(BigDecimal interestPayment) {
+        this.interestPayment = interestPayment;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public BigDecimal getRemainingBalance() {
+        return remainingBalance;
+    }
+
+    public void setRemainingBalance(BigDecimal remainingBalance) {
+        this.remainingBalance = remainingBalance;
+    }
+}
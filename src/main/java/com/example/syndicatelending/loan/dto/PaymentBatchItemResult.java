@@ -0,0 +1,76 @@
+package com.example.syndicatelending.loan.dto;
+
+import com.example.syndicatelending.loan.entity.Payment;
+
+/**
+ * 一括支払いの明細ごとの処理結果。
+ */
+public class PaymentBatchItemResult {
+    public enum Status {
+        SUCCESS, FAILED
+    }
+
+    /** リクエスト内（ファイル取り込みではファイル内）での位置（0始まり） */
+    private int index;
+    private Status status;
+    private Long paymentId;
+    private Long loanId;
+    private String errorMessage;
+
+    public static PaymentBatchItemResult success(int index, Payment payment) {
+        PaymentBatchItemResult result = new PaymentBatchItemResult();
+        result.setIndex(index);
+        result.setStatus(Status.SUCCESS);
+        result.setPaymentId(payment.getId());
+        result.setLoanId(payment.getLoanId());
+        return result;
+    }
+
+    public static PaymentBatchItemResult failure(int index, String errorMessage) {
+        PaymentBatchItemResult result = new PaymentBatchItemResult();
+        result.setIndex(index);
+        result.setStatus(Status.FAILED);
+        result.setErrorMessage(errorMessage);
+        return result;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Long getPaymentId() {
+        return paymentId;
+    }
+
+    public void setPaymentId(Long paymentId) {
+        this.paymentId = paymentId;
+    }
+
+    public Long getLoanId() {
+        return loanId;
+    }
+
+    public void setLoanId(Long loanId) {
+        this.loanId = loanId;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+}
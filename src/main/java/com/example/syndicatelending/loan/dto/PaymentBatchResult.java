@@ -0,0 +1,80 @@
+package com.example.syndicatelending.loan.dto;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 一括支払いの処理結果レポート。件数・処理時間・スループットと明細ごとの結果を含む。
+ */
+public class PaymentBatchResult {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private long elapsedMillis;
+    /** 1秒あたりの処理件数 */
+    private double recordsPerSecond;
+    private List<PaymentBatchItemResult> items;
+
+    public PaymentBatchResult() {
+    }
+
+    public PaymentBatchResult(List<PaymentBatchItemResult> items, Duration elapsed) {
+        this.items = items;
+        this.total = items.size();
+        this.succeeded = (int) items.stream()
+                .filter(item -> item.getStatus() == PaymentBatchItemResult.Status.SUCCESS)
+                .count();
+        this.failed = this.total - this.succeeded;
+        this.elapsedMillis = elapsed.toMillis();
+        long elapsedNanos = Math.max(elapsed.toNanos(), 1);
+        this.recordsPerSecond = total * 1_000_000_000d / elapsedNanos;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public double getRecordsPerSecond() {
+        return recordsPerSecond;
+    }
+
+    public void setRecordsPerSecond(double recordsPerSecond) {
+        this.recordsPerSecond = recordsPerSecond;
+    }
+
+    public List<PaymentBatchItemResult> getItems() {
+        return items;
+    }
+
+    public void setItems(List<PaymentBatchItemResult> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.syndicatelending.loan.dto;
+
+import com.example.syndicatelending.common.domain.model.Money;
+
+import java.time.LocalDate;
+
+/**
+ * 支払い一覧表示用のサマリ。投資家への配分は含まず、配分件数のみを持つ。
+ */
+public class PaymentSummary {
+    private final Long id;
+    private final Long loanId;
+    private final LocalDate paymentDate;
+    private final Money totalAmount;
+    private final Money principalAmount;
+    private final Money interestAmount;
+    private final String currency;
+    private final long distributionCount;
+
+    public PaymentSummary(Long id, Long loanId, LocalDate paymentDate, Money totalAmount, Money principalAmount,
+            Money interestAmount, String currency, long distributionCount) {
+        this.id = id;
+        this.loanId = loanId;
+        this.paymentDate = paymentDate;
+        this.totalAmount = totalAmount;
+        this.principalAmount = principalAmount;
+        this.interestAmount = interestAmount;
+        this.currency = currency;
+        this.distributionCount = distributionCount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getLoanId() {
+        return loanId;
+    }
+
+    public LocalDate getPaymentDate() {
+        return paymentDate;
+    }
+
+    public Money getTotalAmount() {
+        return totalAmount;
+    }
+
+    public Money getPrincipalAmount() {
+        return principalAmount;
+    }
+
+    public Money getInterestAmount() {
+        return interestAmount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public long getDistributionCount() {
+        return distributionCount;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.syndicatelending.loan.dto;
+
+import com.example.syndicatelending.common.domain.model.Money;
+
+import java.time.LocalDate;
+
+/**
+ * 照合処理などで取引を順に読み出すための、取引種別に共通する項目のみを持つビュー。
+ */
+public class TransactionView {
+    private final Long id;
+    private final Long facilityId;
+    private final Long borrowerId;
+    private final LocalDate transactionDate;
+    private final String transactionType;
+    private final Money amount;
+
+    public TransactionView(Long id, Long facilityId, Long borrowerId, LocalDate transactionDate,
+            String transactionType, Money amount) {
+        this.id = id;
+        this.facilityId = facilityId;
+        this.borrowerId = borrowerId;
+        this.transactionDate = transactionDate;
+        this.transactionType = transactionType;
+        this.amount = amount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getFacilityId() {
+        return facilityId;
+    }
+
+    public Long getBorrowerId() {
+        return borrowerId;
+    }
+
+    public LocalDate getTransactionDate() {
+        return transactionDate;
+    }
+
+    public String getTransactionType() {
+        return transactionType;
+    }
+
+    public Money getAmount() {
+        return amount;
+    }
+}
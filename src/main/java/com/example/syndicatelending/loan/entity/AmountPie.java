@@ -9,7 +9,8 @@ import java.time.LocalDateTime;
 @Table(name = "drawdown_amount_pies")
 public class AmountPie {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "drawdown_amount_pies_seq")
+    @SequenceGenerator(name = "drawdown_amount_pies_seq", sequenceName = "drawdown_amount_pies_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
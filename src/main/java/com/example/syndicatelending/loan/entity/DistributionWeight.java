@@ -0,0 +1,52 @@
+package com.example.syndicatelending.loan.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.util.Objects;
+
+/**
+ * ローンの支払い配分に用いる投資家ごとの重み。
+ * 重みはドローダウン時の投資額を最小通貨単位（金額 × 100）の整数で保持する。
+ */
+@Embeddable
+public class DistributionWeight {
+
+    @Column(name = "investor_id", nullable = false)
+    private Long investorId;
+
+    @Column(name = "weight", nullable = false)
+    private long weight;
+
+    protected DistributionWeight() {
+        // for JPA
+    }
+
+    public DistributionWeight(Long investorId, long weight) {
+        this.investorId = investorId;
+        this.weight = weight;
+    }
+
+    public Long getInvestorId() {
+        return investorId;
+    }
+
+    public long getWeight() {
+        return weight;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        DistributionWeight that = (DistributionWeight) o;
+        return weight == that.weight && Objects.equals(investorId, that.investorId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(investorId, weight);
+    }
+}
@@ -1,8 +1,6 @@
 package com.example.syndicatelending.loan.entity;
 
 import jakarta.persistence.*;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -11,6 +9,9 @@ import com.example.syndicatelending.common.domain.model.Money;
 import com.example.syndicatelending.common.domain.model.Percentage;
 import com.example.syndicatelending.common.domain.model.MoneyAttributeConverter;
 import com.example.syndicatelending.common.domain.model.PercentageAttributeConverter;
+import com.example.syndicatelending.loan.schedule.AmortizationEngine;
+import com.example.syndicatelending.loan.schedule.AmortizationSchedule;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 /**
  * ローン（貸付）エンティティ。
@@ -24,7 +25,8 @@ import com.example.syndicatelending.common.domain.model.PercentageAttributeConve
 public class Loan {
     /** ローンID（主キー） */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "loan_seq")
+    @SequenceGenerator(name = "loan_seq", sequenceName = "loan_seq", allocationSize = 50)
     private Long id;
 
     /** ファシリティID（外部キー） */
@@ -67,14 +69,54 @@ public class Loan {
     @Enumerated(EnumType.STRING)
     private RepaymentMethod repaymentMethod;
 
-    /** 支払い詳細リスト */
+    /** 支払いスケジュールの保持方法 */
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private PaymentScheduleMode scheduleMode = PaymentScheduleMode.STORED;
+
+    /**
+     * 支払い詳細リスト。
+     * PROJECTEDモードでは支払い済み・上書きされた期のみを保持する。
+     */
     @OneToMany(mappedBy = "loan", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private List<PaymentDetail> paymentDetails = new ArrayList<>();
 
+    /**
+     * 支払い配分用の投資家ごとの重み。
+     * ドローダウン時に一度だけ計算し、支払いのたびにAmountPieを集計し直さないようにする。
+     */
+    @JsonIgnore
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "loan_distribution_weights", joinColumns = @JoinColumn(name = "loan_id"))
+    @OrderColumn(name = "position")
+    private List<DistributionWeight> distributionWeights = new ArrayList<>();
+
     /** 通貨コード（例: JPY, USD等） */
     @Column(nullable = false)
     private String currency;
 
+    /** 次回返済の支払い番号（完済済みの場合はnull） */
+    @Column(name = "next_payment_number")
+    private Integer nextPaymentNumber;
+
+    /** 次回返済期日 */
+    @Column(name = "next_due_date")
+    private LocalDate nextDueDate;
+
+    /** 次回返済の元本額 */
+    @Column(name = "next_principal_due")
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money nextPrincipalDue;
+
+    /** 次回返済の利息額 */
+    @Column(name = "next_interest_due")
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money nextInterestDue;
+
+    /** 最終支払日（利息はこの日から日割りで発生する。支払いがない場合はnull） */
+    @Column(name = "last_payment_date")
+    private LocalDate lastPaymentDate;
+
     /** レコード作成日時 */
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -107,11 +149,22 @@ public class Loan {
 
     /**
      * 主要プロパティを全て受け取るコンストラクタ。
-     * 支払いスケジュールも自動生成する。
+     * 支払いスケジュールも自動生成する（STOREDモード）。
      */
     public Loan(Long facilityId, Long borrowerId, Money principalAmount, Percentage annualInterestRate,
             LocalDate drawdownDate, Integer repaymentPeriodMonths, String repaymentCycle,
             RepaymentMethod repaymentMethod, String currency) {
+        this(facilityId, borrowerId, principalAmount, annualInterestRate, drawdownDate, repaymentPeriodMonths,
+                repaymentCycle, repaymentMethod, currency, PaymentScheduleMode.STORED);
+    }
+
+    /**
+     * 支払いスケジュールの保持方法を指定するコンストラクタ。
+     * PROJECTEDモードでは支払い詳細を生成しない。
+     */
+    public Loan(Long facilityId, Long borrowerId, Money principalAmount, Percentage annualInterestRate,
+            LocalDate drawdownDate, Integer repaymentPeriodMonths, String repaymentCycle,
+            RepaymentMethod repaymentMethod, String currency, PaymentScheduleMode scheduleMode) {
         this.facilityId = facilityId;
         this.borrowerId = borrowerId;
         this.principalAmount = principalAmount;
@@ -122,6 +175,7 @@ public class Loan {
         this.repaymentCycle = repaymentCycle;
         this.repaymentMethod = repaymentMethod;
         this.currency = currency;
+        this.scheduleMode = scheduleMode;
         // 支払いスケジュール自動生成
         generatePaymentSchedule();
     }
@@ -214,6 +268,14 @@ public class Loan {
         this.repaymentMethod = repaymentMethod;
     }
 
+    public PaymentScheduleMode getScheduleMode() {
+        return scheduleMode;
+    }
+
+    public void setScheduleMode(PaymentScheduleMode scheduleMode) {
+        this.scheduleMode = scheduleMode;
+    }
+
     public List<PaymentDetail> getPaymentDetails() {
         return paymentDetails;
     }
@@ -222,6 +284,14 @@ public class Loan {
         this.paymentDetails = paymentDetails;
     }
 
+    public List<DistributionWeight> getDistributionWeights() {
+        return distributionWeights;
+    }
+
+    public void setDistributionWeights(List<DistributionWeight> distributionWeights) {
+        this.distributionWeights = distributionWeights;
+    }
+
     public String getCurrency() {
         return currency;
     }
@@ -230,6 +300,26 @@ public class Loan {
         this.currency = currency;
     }
 
+    public Integer getNextPaymentNumber() {
+        return nextPaymentNumber;
+    }
+
+    public LocalDate getNextDueDate() {
+        return nextDueDate;
+    }
+
+    public Money getNextPrincipalDue() {
+        return nextPrincipalDue;
+    }
+
+    public Money getNextInterestDue() {
+        return nextInterestDue;
+    }
+
+    public LocalDate getLastPaymentDate() {
+        return lastPaymentDate;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -257,156 +347,121 @@ public class Loan {
     /**
      * 支払いスケジュールを生成します。
      * <p>
-     * 返済方法に基づいて適切な支払い詳細を生成し、既存の支払い詳細をクリアしてから新しいものを設定します。
+     * 返済方法に基づいて {@link AmortizationEngine} でスケジュールを計算し、
+     * 既存の支払い詳細をクリアしてから新しいものを設定します。
+     * PROJECTEDモードでは読み取り時に計算するため、既存の支払い詳細のクリアのみ行います。
      * </p>
      */
     public void generatePaymentSchedule() {
         // 既存の支払い詳細をクリア
         this.paymentDetails.clear();
 
-        // 返済方法に基づいて支払いスケジュールを生成
-        List<PaymentDetail> newPaymentDetails;
-        switch (this.repaymentMethod) {
-            case EQUAL_INSTALLMENT:
-                newPaymentDetails = generateEqualInstallmentSchedule();
-                break;
-            case BULLET_PAYMENT:
-                newPaymentDetails = generateBulletPaymentSchedule();
-                break;
-            default:
-                throw new IllegalStateException("サポートされていない返済方法です: " + this.repaymentMethod);
+        AmortizationSchedule schedule = projectPaymentSchedule();
+        moveNextDue(schedule, 0);
+        if (isScheduleProjected()) {
+            return;
         }
 
         // 生成された支払い詳細を設定
-        this.paymentDetails.addAll(newPaymentDetails);
+        this.paymentDetails.addAll(schedule.toPaymentDetails(this));
     }
 
     /**
-     * 元利均等返済の支払いスケジュールを生成します。
+     * 支払いを残高と次回返済に反映します。
+     * <p>
+     * 次回返済の期から判定し、返済後残高以下まで残高が減った期（繰上返済で既に返済済みの後続の期を含む）を消し込みます。
+     * 一部のみの支払いでは次回返済の期は変わりません。利息のみの期（元本返済額ゼロ）は次回返済の期であれば消し込み、
+     * 後続の期としては読み飛ばしません。残高がなくなった場合は完済として次回返済をクリアします。
+     * 支払い元本が残高を超えないことは呼び出し側で検証します。
+     * 消し込んだ期は支払日を設定した計算値の支払い詳細として返し、呼び出し側で永続化します。
+     * Loan行の更新のみで完結し、{@code @Version} により同じローンへの同時支払いは楽観的ロックで検出されます。
+     * </p>
      *
-     * @return 支払い詳細のリスト
+     * @param principal   支払い元本
+     * @param paymentDate 支払日
+     * @return この支払いで消し込んだ期（支払い番号順、未永続化）
      */
-    private List<PaymentDetail> generateEqualInstallmentSchedule() {
-        List<PaymentDetail> details = new ArrayList<>();
-
-        // 月利を計算
-        BigDecimal monthlyRate = this.annualInterestRate.getValue().divide(new BigDecimal("12"), 10,
-                RoundingMode.HALF_UP);
-
-        // 毎月の支払額を計算（元利均等）
-        BigDecimal principalBd = this.principalAmount.getAmount();
-        int numberOfPayments = this.repaymentPeriodMonths;
-
-        BigDecimal monthlyPayment = calculateEqualInstallmentPayment(principalBd, monthlyRate, numberOfPayments);
-
-        BigDecimal remainingBalance = principalBd;
-        LocalDate paymentDate = this.drawdownDate.plusMonths(1);
-
-        for (int i = 1; i <= numberOfPayments; i++) {
-            // 利息部分を計算
-            BigDecimal interestPayment = remainingBalance.multiply(monthlyRate).setScale(0, RoundingMode.HALF_UP);
-
-            // 元本部分を計算
-            BigDecimal principalPayment = monthlyPayment.subtract(interestPayment);
+    public List<PaymentDetail> applyPayment(Money principal, LocalDate paymentDate) {
+        boolean paidOff = this.outstandingBalance.toMinorUnits() <= 0;
+        this.outstandingBalance = this.outstandingBalance.subtract(principal);
+        if (this.lastPaymentDate == null || paymentDate.isAfter(this.lastPaymentDate)) {
+            this.lastPaymentDate = paymentDate;
+        }
 
-            // 最終回の調整
-            if (i == numberOfPayments) {
-                principalPayment = remainingBalance;
-                monthlyPayment = principalPayment.add(interestPayment);
+        AmortizationSchedule schedule = projectPaymentSchedule();
+        // nextPaymentNumber は1始まり。未設定の場合、完済済みなら消し込む期はなく、導入前のローンなら第1回から判定する
+        int from = this.nextPaymentNumber != null ? this.nextPaymentNumber - 1 : paidOff ? schedule.size() : 0;
+        int index = from;
+        long outstandingMinor = this.outstandingBalance.toMinorUnits();
+        if (outstandingMinor <= 0) {
+            index = schedule.size();
+        } else {
+            if (index < schedule.size() && schedule.principalPaymentMinor(index) == 0) {
+                index++;
+            }
+            while (index < schedule.size() && schedule.principalPaymentMinor(index) > 0
+                    && schedule.remainingBalanceMinor(index) >= outstandingMinor) {
+                index++;
             }
-
-            // 残高を更新
-            remainingBalance = remainingBalance.subtract(principalPayment);
-
-            // PaymentDetailを作成
-            PaymentDetail detail = new PaymentDetail(
-                    this,
-                    i,
-                    Money.of(principalPayment),
-                    Money.of(interestPayment),
-                    paymentDate,
-                    Money.of(remainingBalance));
-
-            details.add(detail);
-            paymentDate = paymentDate.plusMonths(1);
         }
+        moveNextDue(schedule, index);
 
-        return details;
+        List<PaymentDetail> settled = new ArrayList<>(Math.max(index - from, 0));
+        for (int i = from; i < index; i++) {
+            PaymentDetail detail = schedule.toPaymentDetail(this, i);
+            detail.setPaidDate(paymentDate);
+            settled.add(detail);
+        }
+        return settled;
     }
 
     /**
-     * バレット返済の支払いスケジュールを生成します。
-     *
-     * @return 支払い詳細のリスト
+     * 上書きされた支払い詳細が次回返済の期であれば、その金額と期日を次回返済に反映します。
      */
-    private List<PaymentDetail> generateBulletPaymentSchedule() {
-        List<PaymentDetail> details = new ArrayList<>();
-
-        // 月利を計算
-        BigDecimal monthlyRate = this.annualInterestRate.getValue().divide(new BigDecimal("12"), 10,
-                RoundingMode.HALF_UP);
-        BigDecimal principalBd = this.principalAmount.getAmount();
-
-        LocalDate paymentDate = this.drawdownDate.plusMonths(1);
-
-        // 利息のみの支払い（最終回を除く）
-        for (int i = 1; i < this.repaymentPeriodMonths; i++) {
-            BigDecimal interestPayment = principalBd.multiply(monthlyRate).setScale(0, RoundingMode.HALF_UP);
-
-            PaymentDetail detail = new PaymentDetail(
-                    this,
-                    i,
-                    Money.zero(),
-                    Money.of(interestPayment),
-                    paymentDate,
-                    this.principalAmount // 残高は元本と同じ
-            );
-
-            details.add(detail);
-            paymentDate = paymentDate.plusMonths(1);
+    public void refreshNextDue(PaymentDetail detail) {
+        if (this.nextPaymentNumber == null || !this.nextPaymentNumber.equals(detail.getPaymentNumber())) {
+            return;
         }
+        this.nextDueDate = detail.getDueDate();
+        this.nextPrincipalDue = detail.getPrincipalPayment();
+        this.nextInterestDue = detail.getInterestPayment();
+    }
 
-        // 最終回：元本 + 利息
-        if (this.repaymentPeriodMonths > 0) {
-            BigDecimal finalInterestPayment = principalBd.multiply(monthlyRate).setScale(0, RoundingMode.HALF_UP);
-
-            PaymentDetail finalDetail = new PaymentDetail(
-                    this,
-                    this.repaymentPeriodMonths,
-                    this.principalAmount, // 元本全額
-                    Money.of(finalInterestPayment),
-                    paymentDate,
-                    Money.zero() // 最終的な残高は0
-            );
-
-            details.add(finalDetail);
+    /**
+     * 次回返済を指定した期（0始まり）に設定します。期が範囲外の場合は完済として次回返済をクリアします。
+     */
+    private void moveNextDue(AmortizationSchedule schedule, int index) {
+        if (index >= schedule.size()) {
+            this.nextPaymentNumber = null;
+            this.nextDueDate = null;
+            this.nextPrincipalDue = null;
+            this.nextInterestDue = null;
+            return;
         }
-
-        return details;
+        this.nextPaymentNumber = schedule.paymentNumber(index);
+        this.nextDueDate = schedule.dueDate(index);
+        this.nextPrincipalDue = Money.ofMinorUnits(schedule.principalPaymentMinor(index));
+        this.nextInterestDue = Money.ofMinorUnits(schedule.interestPaymentMinor(index));
     }
 
     /**
-     * 元利均等返済の月次支払額を計算します。
+     * ローン条件から支払いスケジュールを計算します（永続化はしない）。
      *
-     * @param principal        元本金額
-     * @param monthlyRate      月利
-     * @param numberOfPayments 支払回数
-     * @return 月次支払額
+     * @return 支払いスケジュール
      */
-    private BigDecimal calculateEqualInstallmentPayment(BigDecimal principal, BigDecimal monthlyRate,
-            int numberOfPayments) {
-        if (monthlyRate.compareTo(BigDecimal.ZERO) == 0) {
-            // 無利息の場合
-            return principal.divide(new BigDecimal(numberOfPayments), 0, RoundingMode.HALF_UP);
-        }
-
-        // PMT計算式: P * r * (1 + r)^n / ((1 + r)^n - 1)
-        BigDecimal onePlusRate = BigDecimal.ONE.add(monthlyRate);
-        BigDecimal onePlusRatePowerN = onePlusRate.pow(numberOfPayments);
-
-        BigDecimal numerator = principal.multiply(monthlyRate).multiply(onePlusRatePowerN);
-        BigDecimal denominator = onePlusRatePowerN.subtract(BigDecimal.ONE);
+    public AmortizationSchedule projectPaymentSchedule() {
+        return AmortizationEngine.calculate(
+                this.principalAmount,
+                this.annualInterestRate,
+                this.drawdownDate,
+                this.repaymentPeriodMonths,
+                this.repaymentMethod);
+    }
 
-        return numerator.divide(denominator, 0, RoundingMode.HALF_UP);
+    /**
+     * 支払いスケジュールを読み取り時に計算するローンかどうか。
+     */
+    public boolean isScheduleProjected() {
+        return this.scheduleMode == PaymentScheduleMode.PROJECTED;
     }
 }
@@ -10,9 +10,14 @@ import java.util.ArrayList;
 
 @Entity
 @Table(name = "payments")
+@NamedEntityGraph(name = Payment.WITH_DISTRIBUTIONS, attributeNodes = @NamedAttributeNode("paymentDistributions"))
 public class Payment {
+    /** 投資家への配分を同時に取得するエンティティグラフ */
+    public static final String WITH_DISTRIBUTIONS = "Payment.withDistributions";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payments_seq")
+    @SequenceGenerator(name = "payments_seq", sequenceName = "payments_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "loan_id", nullable = false)
@@ -36,7 +41,7 @@ public class Payment {
     @Column(name = "currency", nullable = false)
     private String currency;
 
-    @OneToMany(mappedBy = "payment", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "payment", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<PaymentDistribution> paymentDistributions = new ArrayList<>();
 
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -5,12 +5,15 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import com.example.syndicatelending.common.domain.model.Money;
 import com.example.syndicatelending.common.domain.model.MoneyAttributeConverter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 /**
  * 返済明細エンティティ。
  * <p>
  * ローンの返済スケジュールを表す。
  * Loanエンティティに所有されるコンポーネント（集約の一部）。
+ * PROJECTEDモードのローンでは、IDを持たない（未永続化の）インスタンスが計算結果として返される。
+ * 支払いで消し込まれた期は {@link #getPaidDate()} に支払日を持つ。
  * </p>
  */
 @Entity
@@ -18,12 +21,14 @@ import com.example.syndicatelending.common.domain.model.MoneyAttributeConverter;
 public class PaymentDetail {
     /** 返済明細ID（主キー） */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_detail_seq")
+    @SequenceGenerator(name = "payment_detail_seq", sequenceName = "payment_detail_seq", allocationSize = 50)
     private Long id;
 
     /** 所属するローン */
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "loan_id", nullable = false)
+    @JsonIgnore
     private Loan loan;
 
     /** 返済回数 */
@@ -49,6 +54,9 @@ public class PaymentDetail {
     @Convert(converter = MoneyAttributeConverter.class)
     private Money remainingBalance;
 
+    /** 支払いで消し込まれた日（未消し込みの期は null） */
+    private LocalDate paidDate;
+
     /** レコード作成日時 */
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -145,6 +153,14 @@ public class PaymentDetail {
         this.remainingBalance = remainingBalance;
     }
 
+    public LocalDate getPaidDate() {
+        return paidDate;
+    }
+
+    public void setPaidDate(LocalDate paidDate) {
+        this.paidDate = paidDate;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
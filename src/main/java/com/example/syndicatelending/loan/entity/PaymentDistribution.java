@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
 @Table(name = "payment_distributions")
 public class PaymentDistribution {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_distributions_seq")
+    @SequenceGenerator(name = "payment_distributions_seq", sequenceName = "payment_distributions_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "investor_id", nullable = false)
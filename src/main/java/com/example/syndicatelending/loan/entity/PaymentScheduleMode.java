@@ -0,0 +1,12 @@
+package com.example.syndicatelending.loan.entity;
+
+/**
+ * 支払いスケジュールの保持方法を表すEnum。
+ */
+public enum PaymentScheduleMode {
+    /** 全期間のPaymentDetailをローン作成時に永続化する */
+    STORED,
+
+    /** ローン条件から読み取り時に計算し、支払い済み・上書きされた期のみ永続化する */
+    PROJECTED
+}
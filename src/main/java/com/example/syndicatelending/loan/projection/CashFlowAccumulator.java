@@ -0,0 +1,143 @@
+package com.example.syndicatelending.loan.projection;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 投資家 × 通貨 × バケットごとの予測入金額（最小通貨単位）の集計器。
+ * <p>
+ * 行（投資家 × 通貨）ごとにバケット数の long 配列を持ち、加算時にオブジェクトを生成しない。
+ * スレッドセーフではないため、並列計算ではタスクごとに集計器を作成し {@link #merge(CashFlowAccumulator)} で合算する。
+ * </p>
+ */
+public final class CashFlowAccumulator {
+
+    private static final int INITIAL_ROWS = 16;
+
+    private final int bucketCount;
+    private final Map<RowKey, Integer> rowIndex = new HashMap<>();
+    private long[] investorIds = new long[INITIAL_ROWS];
+    private String[] currencies = new String[INITIAL_ROWS];
+    private long[][] principals = new long[INITIAL_ROWS][];
+    private long[][] interests = new long[INITIAL_ROWS][];
+    private int rowCount;
+    private long loanCount;
+
+    public CashFlowAccumulator(int bucketCount) {
+        this.bucketCount = bucketCount;
+    }
+
+    /**
+     * 投資家 × 通貨の行番号を返す。存在しない場合は行を追加する。
+     */
+    public int row(long investorId, String currency) {
+        RowKey key = new RowKey(investorId, currency);
+        Integer index = rowIndex.get(key);
+        if (index != null) {
+            return index;
+        }
+        if (rowCount == investorIds.length) {
+            int capacity = rowCount * 2;
+            investorIds = Arrays.copyOf(investorIds, capacity);
+            currencies = Arrays.copyOf(currencies, capacity);
+            principals = Arrays.copyOf(principals, capacity);
+            interests = Arrays.copyOf(interests, capacity);
+        }
+        int row = rowCount++;
+        investorIds[row] = investorId;
+        currencies[row] = currency;
+        principals[row] = new long[bucketCount];
+        interests[row] = new long[bucketCount];
+        rowIndex.put(key, row);
+        return row;
+    }
+
+    public void add(int row, int bucket, long principalMinor, long interestMinor) {
+        principals[row][bucket] += principalMinor;
+        interests[row][bucket] += interestMinor;
+    }
+
+    /**
+     * 予測に含めたローンの件数を数える。
+     */
+    public void countLoan() {
+        loanCount++;
+    }
+
+    /**
+     * 他の集計器の値をこの集計器に加算する。
+     */
+    public CashFlowAccumulator merge(CashFlowAccumulator other) {
+        if (other.bucketCount != bucketCount) {
+            throw new IllegalArgumentException("Bucket count mismatch: " + other.bucketCount + " != " + bucketCount);
+        }
+        for (int source = 0; source < other.rowCount; source++) {
+            int target = row(other.investorIds[source], other.currencies[source]);
+            long[] principal = principals[target];
+            long[] interest = interests[target];
+            long[] otherPrincipal = other.principals[source];
+            long[] otherInterest = other.interests[source];
+            for (int bucket = 0; bucket < bucketCount; bucket++) {
+                principal[bucket] += otherPrincipal[bucket];
+                interest[bucket] += otherInterest[bucket];
+            }
+        }
+        loanCount += other.loanCount;
+        return this;
+    }
+
+    public int bucketCount() {
+        return bucketCount;
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public long loanCount() {
+        return loanCount;
+    }
+
+    public long investorIdAt(int row) {
+        return investorIds[row];
+    }
+
+    public String currencyAt(int row) {
+        return currencies[row];
+    }
+
+    public long principalMinor(int row, int bucket) {
+        return principals[row][bucket];
+    }
+
+    public long interestMinor(int row, int bucket) {
+        return interests[row][bucket];
+    }
+
+    private static final class RowKey {
+        private final long investorId;
+        private final String currency;
+
+        private RowKey(long investorId, String currency) {
+            this.investorId = investorId;
+            this.currency = currency;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof RowKey))
+                return false;
+            RowKey that = (RowKey) o;
+            return investorId == that.investorId && Objects.equals(currency, that.currency);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(investorId) + Objects.hashCode(currency);
+        }
+    }
+}
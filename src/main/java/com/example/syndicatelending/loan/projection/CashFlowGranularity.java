@@ -0,0 +1,59 @@
+package com.example.syndicatelending.loan.projection;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * キャッシュフロー予測の集計単位。
+ * 集計期間 [from, to) を日単位または暦月単位のバケットに分割する。月単位の先頭・末尾のバケットは月の途中から・途中までとなる。
+ */
+public enum CashFlowGranularity {
+    DAY {
+        @Override
+        public int bucketCount(LocalDate from, LocalDate to) {
+            return (int) ChronoUnit.DAYS.between(from, to);
+        }
+
+        @Override
+        public int bucketOf(LocalDate from, LocalDate date) {
+            return (int) ChronoUnit.DAYS.between(from, date);
+        }
+
+        @Override
+        public LocalDate bucketStart(LocalDate from, int bucket) {
+            return from.plusDays(bucket);
+        }
+    },
+    MONTH {
+        @Override
+        public int bucketCount(LocalDate from, LocalDate to) {
+            return bucketOf(from, to.minusDays(1)) + 1;
+        }
+
+        @Override
+        public int bucketOf(LocalDate from, LocalDate date) {
+            return (int) ChronoUnit.MONTHS.between(YearMonth.from(from), YearMonth.from(date));
+        }
+
+        @Override
+        public LocalDate bucketStart(LocalDate from, int bucket) {
+            return bucket == 0 ? from : YearMonth.from(from).plusMonths(bucket).atDay(1);
+        }
+    };
+
+    /**
+     * 集計期間 [from, to) のバケット数
+     */
+    public abstract int bucketCount(LocalDate from, LocalDate to);
+
+    /**
+     * 集計期間内の日付が属するバケットの番号（0始まり）
+     */
+    public abstract int bucketOf(LocalDate from, LocalDate date);
+
+    /**
+     * バケットの開始日
+     */
+    public abstract LocalDate bucketStart(LocalDate from, int bucket);
+}
@@ -0,0 +1,162 @@
+package com.example.syndicatelending.loan.projection;
+
+import com.example.syndicatelending.loan.domain.DistributionVector;
+import com.example.syndicatelending.loan.schedule.AmortizationSchedule;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ローン全体の予測入金額を投資家 × 通貨 × バケットごとに集計するエンジン。
+ * <p>
+ * ローンIDの範囲を {@code rangeSize} 件ずつに分割し、{@code parallelism} 個のワーカーが
+ * 未処理の範囲を順に取り出して読み込み・計算する。ワーカーごとの {@link CashFlowAccumulator} を最後に合算する。
+ * 範囲の読み込みはJDBCでブロックするため、ワーカーは呼び出し側が用意した固定サイズのスレッドプールで実行する。
+ * 各ローンの支払いスケジュールは {@link com.example.syndicatelending.loan.schedule.AmortizationEngine} で計算し、
+ * 次回返済の期から現在の残高に基づいて予測する。期ごとの元本・利息は実際の支払い配分と同じ最大剰余法で投資家に按分する。
+ * </p>
+ */
+public class CashFlowProjectionEngine {
+
+    /**
+     * ID範囲（両端を含む）のローンを読み込む。ワーカースレッドから並行して呼ばれる。
+     */
+    @FunctionalInterface
+    public interface LoanRangeLoader {
+        List<ProjectedLoan> load(long fromId, long toId);
+    }
+
+    private final ExecutorService executor;
+    private final int parallelism;
+    private final long rangeSize;
+
+    public CashFlowProjectionEngine(ExecutorService executor, int parallelism, long rangeSize) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        if (rangeSize <= 0) {
+            throw new IllegalArgumentException("rangeSize must be positive: " + rangeSize);
+        }
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.rangeSize = rangeSize;
+    }
+
+    /**
+     * ID範囲 [minId, maxId] のローンについて、期日が [from, to) に入る予測入金額を集計する。
+     */
+    public CashFlowAccumulator project(long minId, long maxId, LoanRangeLoader loader, LocalDate from, LocalDate to,
+            CashFlowGranularity granularity) {
+        int bucketCount = granularity.bucketCount(from, to);
+        if (minId > maxId) {
+            return new CashFlowAccumulator(bucketCount);
+        }
+
+        AtomicLong nextFromId = new AtomicLong(minId);
+        long rangeCount = (maxId - minId) / rangeSize + 1;
+        int workers = (int) Math.min(parallelism, rangeCount);
+        List<Future<CashFlowAccumulator>> futures = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            futures.add(executor.submit(() -> {
+                CashFlowAccumulator accumulator = new CashFlowAccumulator(bucketCount);
+                long fromId;
+                while ((fromId = nextFromId.getAndAdd(rangeSize)) <= maxId) {
+                    long toId = Math.min(maxId, fromId + rangeSize - 1);
+                    for (ProjectedLoan loan : loader.load(fromId, toId)) {
+                        accumulate(loan, from, to, granularity, accumulator);
+                    }
+                }
+                return accumulator;
+            }));
+        }
+
+        CashFlowAccumulator result = null;
+        try {
+            for (Future<CashFlowAccumulator> future : futures) {
+                CashFlowAccumulator accumulator = future.get();
+                result = result == null ? accumulator : result.merge(accumulator);
+            }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Cash flow projection was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Cash flow projection failed", e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * 1件のローンの予測入金額を集計器に加算する。
+     * <p>
+     * 次回返済の期から、各期の元本を「残高 − その期の返済後残高」として残高を順に減らしながら求める。
+     * 支払いのないローンではスケジュールどおりの元本になり、繰上返済・一部支払いで残高が少ない場合は
+     * 既に返済された分を除き、延滞で残高が多い場合は次回返済の期に不足分を含める。
+     * 利息は期首の残高がスケジュールより少ない場合のみ残高の割合で減らす。
+     * 集計期間より前の期日の期も残高の計算には含める。
+     * </p>
+     */
+    public static void accumulate(ProjectedLoan loan, LocalDate from, LocalDate to, CashFlowGranularity granularity,
+            CashFlowAccumulator accumulator) {
+        if (loan.isPaidOff() || loan.getRepaymentPeriodMonths() <= 0 || loan.latestDueDate().isBefore(from)
+                || !loan.firstDueDate().isBefore(to)) {
+            return;
+        }
+        accumulator.countLoan();
+
+        DistributionVector weights = loan.getWeights();
+        AmortizationSchedule schedule = loan.schedule();
+        long balance = loan.getOutstandingBalanceMinor();
+        int[] rows = null;
+        for (int i = loan.firstUnsettledIndex(); i < schedule.size() && balance > 0; i++) {
+            LocalDate dueDate = schedule.dueDate(i);
+            if (!dueDate.isBefore(to)) {
+                break;
+            }
+            long remaining = schedule.remainingBalanceMinor(i);
+            long principal = Math.max(balance - remaining, 0);
+            long interest = interestOnBalance(schedule, i, balance);
+            balance -= principal;
+            if (dueDate.isBefore(from) || (principal == 0 && interest == 0)) {
+                continue;
+            }
+            if (rows == null) {
+                rows = new int[weights.size()];
+                for (int j = 0; j < rows.length; j++) {
+                    rows[j] = accumulator.row(weights.investorIdAt(j), loan.getCurrency());
+                }
+            }
+            int bucket = granularity.bucketOf(from, dueDate);
+            long[] principals = weights.allocateMinorUnits(principal);
+            long[] interests = weights.allocateMinorUnits(interest);
+            for (int j = 0; j < rows.length; j++) {
+                accumulator.add(rows[j], bucket, principals[j], interests[j]);
+            }
+        }
+    }
+
+    /**
+     * 期首の残高に対するその期の利息（最小通貨単位）。
+     * 残高がスケジュールの期首残高以上ならスケジュールどおり、少なければ残高の割合で按分する（HALF_UP）。
+     */
+    private static long interestOnBalance(AmortizationSchedule schedule, int index, long balance) {
+        long scheduledInterest = schedule.interestPaymentMinor(index);
+        long scheduledOpening = schedule.remainingBalanceMinor(index) + schedule.principalPaymentMinor(index);
+        if (balance >= scheduledOpening || scheduledOpening <= 0) {
+            return scheduledInterest;
+        }
+        return BigDecimal.valueOf(scheduledInterest).multiply(BigDecimal.valueOf(balance))
+                .divide(BigDecimal.valueOf(scheduledOpening), 0, RoundingMode.HALF_UP).longValueExact();
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.syndicatelending.loan.projection;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.loan.domain.DistributionVector;
+import com.example.syndicatelending.loan.entity.Loan;
+import com.example.syndicatelending.loan.entity.RepaymentMethod;
+import com.example.syndicatelending.loan.schedule.AmortizationEngine;
+import com.example.syndicatelending.loan.schedule.AmortizationSchedule;
+
+import java.time.LocalDate;
+
+/**
+ * キャッシュフロー予測の入力となるローン条件・現在の返済状況と、投資家への按分用の重み。
+ */
+public final class ProjectedLoan {
+    private final Long loanId;
+    private final String currency;
+    private final Money principalAmount;
+    private final Percentage annualInterestRate;
+    private final LocalDate drawdownDate;
+    private final int repaymentPeriodMonths;
+    private final RepaymentMethod repaymentMethod;
+    private final long outstandingBalanceMinor;
+    private final Integer nextPaymentNumber;
+    private final DistributionVector weights;
+
+    /**
+     * 支払いのないローン（残高は元本、次回返済は第1回）
+     */
+    public ProjectedLoan(Long loanId, String currency, Money principalAmount, Percentage annualInterestRate,
+            LocalDate drawdownDate, int repaymentPeriodMonths, RepaymentMethod repaymentMethod,
+            DistributionVector weights) {
+        this(loanId, currency, principalAmount, annualInterestRate, drawdownDate, repaymentPeriodMonths,
+                repaymentMethod, principalAmount.toMinorUnits(), 1, weights);
+    }
+
+    /**
+     * @param outstandingBalanceMinor 現在の残高（最小通貨単位）
+     * @param nextPaymentNumber       次回返済の支払い番号（完済済み、または支払い番号を保持する前のローンはnull）
+     */
+    public ProjectedLoan(Long loanId, String currency, Money principalAmount, Percentage annualInterestRate,
+            LocalDate drawdownDate, int repaymentPeriodMonths, RepaymentMethod repaymentMethod,
+            long outstandingBalanceMinor, Integer nextPaymentNumber, DistributionVector weights) {
+        this.loanId = loanId;
+        this.currency = currency;
+        this.principalAmount = principalAmount;
+        this.annualInterestRate = annualInterestRate;
+        this.drawdownDate = drawdownDate;
+        this.repaymentPeriodMonths = repaymentPeriodMonths;
+        this.repaymentMethod = repaymentMethod;
+        this.outstandingBalanceMinor = outstandingBalanceMinor;
+        this.nextPaymentNumber = nextPaymentNumber;
+        this.weights = weights;
+    }
+
+    public static ProjectedLoan of(Loan loan, DistributionVector weights) {
+        return new ProjectedLoan(loan.getId(), loan.getCurrency(), loan.getPrincipalAmount(),
+                loan.getAnnualInterestRate(), loan.getDrawdownDate(), loan.getRepaymentPeriodMonths(),
+                loan.getRepaymentMethod(), loan.getOutstandingBalance().toMinorUnits(), loan.getNextPaymentNumber(),
+                weights);
+    }
+
+    /**
+     * ローン条件から支払いスケジュールを計算する（{@link Loan#projectPaymentSchedule()} と同じ計算）
+     */
+    public AmortizationSchedule schedule() {
+        return AmortizationEngine.calculate(principalAmount, annualInterestRate, drawdownDate,
+                repaymentPeriodMonths, repaymentMethod);
+    }
+
+    /**
+     * 予測を始める期（0始まり）。支払い番号を保持する前のローンは第1回から残高で判定する。
+     */
+    public int firstUnsettledIndex() {
+        return nextPaymentNumber != null ? nextPaymentNumber - 1 : 0;
+    }
+
+    /**
+     * 残高がなく、今後の入金がないかどうか
+     */
+    public boolean isPaidOff() {
+        return outstandingBalanceMinor <= 0;
+    }
+
+    /**
+     * 初回の支払期日
+     */
+    public LocalDate firstDueDate() {
+        return drawdownDate.plusMonths(1);
+    }
+
+    /**
+     * 最終回の支払期日の上限。
+     * 期日は前回の期日に1か月ずつ加算して求めるため、月末日のドローダウンではこの日付より前になることがある。
+     */
+    public LocalDate latestDueDate() {
+        return drawdownDate.plusMonths(repaymentPeriodMonths);
+    }
+
+    public Long getLoanId() {
+        return loanId;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public int getRepaymentPeriodMonths() {
+        return repaymentPeriodMonths;
+    }
+
+    public long getOutstandingBalanceMinor() {
+        return outstandingBalanceMinor;
+    }
+
+    public Integer getNextPaymentNumber() {
+        return nextPaymentNumber;
+    }
+
+    public DistributionVector getWeights() {
+        return weights;
+    }
+}
@@ -1,16 +1,41 @@
 package com.example.syndicatelending.loan.repository;
 
+import com.example.syndicatelending.loan.dto.AmountPieView;
 import com.example.syndicatelending.loan.entity.AmountPie;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface AmountPieRepository extends JpaRepository<AmountPie, Long> {
-    List<AmountPie> findByDrawdown_Id(Long drawdownId);
-    
-    List<AmountPie> findByDrawdown_LoanId(Long loanId);
+    /**
+     * 外部キー列で絞り込む（派生クエリでは Drawdown を外部結合して主キーで絞り込み、全件走査になるため）
+     */
+    @Query("SELECT p FROM AmountPie p WHERE p.drawdown.id = :drawdownId")
+    List<AmountPie> findByDrawdown_Id(@Param("drawdownId") Long drawdownId);
+
+    /**
+     * Loan別に絞り込む（派生クエリでは Drawdown を外部結合し、AmountPie 側が全件走査になるため内部結合にする）
+     */
+    @Query("SELECT p FROM AmountPie p JOIN p.drawdown d WHERE d.loanId = :loanId")
+    List<AmountPie> findByDrawdown_LoanId(@Param("loanId") Long loanId);
+
+    /**
+     * 複数Loanのドローダウン時のAmountPieを、Drawdownを fetch join して取得する
+     */
+    @Query("SELECT p FROM AmountPie p JOIN FETCH p.drawdown d WHERE d.loanId IN :loanIds ORDER BY p.id")
+    List<AmountPie> findWithDrawdownByLoanIdIn(@Param("loanIds") Collection<Long> loanIds);
+
+    /**
+     * 複数DrawdownのAmountPieを参照系の形式でまとめて取得する
+     */
+    @Query("SELECT new com.example.syndicatelending.loan.dto.AmountPieView(p.id, p.drawdown.id, p.investorId, "
+            + "p.amount, p.currency) FROM AmountPie p WHERE p.drawdown.id IN :drawdownIds ORDER BY p.id")
+    List<AmountPieView> findViewsByDrawdownIdIn(@Param("drawdownIds") Collection<Long> drawdownIds);
 
     void deleteByDrawdown_Id(Long drawdownId);
 }
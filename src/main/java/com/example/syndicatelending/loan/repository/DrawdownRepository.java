@@ -1,14 +1,64 @@
 package com.example.syndicatelending.loan.repository;
 
+import com.example.syndicatelending.common.infrastructure.NdjsonExporter;
+import com.example.syndicatelending.loan.dto.DrawdownView;
 import com.example.syndicatelending.loan.entity.Drawdown;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface DrawdownRepository extends JpaRepository<Drawdown, Long> {
+    /** 参照系APIで返す {@link DrawdownView} を組み立てるSELECT句 */
+    String VIEW_SELECT = "SELECT new com.example.syndicatelending.loan.dto.DrawdownView(d.id, d.facilityId, "
+            + "d.borrowerId, d.loanId, d.transactionDate, d.transactionType, d.amount, d.currency, d.purpose, "
+            + "d.createdAt, d.updatedAt, d.version) FROM Drawdown d";
+
     List<Drawdown> findByFacilityId(Long facilityId);
     List<Drawdown> findByLoanId(Long loanId);
     List<Drawdown> findByBorrowerId(Long borrowerId);
+
+    @Query(VIEW_SELECT + " ORDER BY d.id")
+    List<DrawdownView> findAllViews();
+
+    @Query(value = VIEW_SELECT, countQuery = "SELECT COUNT(d) FROM Drawdown d")
+    Page<DrawdownView> findAllViews(Pageable pageable);
+
+    @Query(VIEW_SELECT + " WHERE d.id = :id")
+    Optional<DrawdownView> findViewById(@Param("id") Long id);
+
+    @Query(VIEW_SELECT + " WHERE d.facilityId = :facilityId ORDER BY d.id")
+    List<DrawdownView> findViewsByFacilityId(@Param("facilityId") Long facilityId);
+
+    /**
+     * キーセットページングの先頭ページを (取引日, ID) の昇順で取得する
+     */
+    @Query(VIEW_SELECT + " ORDER BY d.transactionDate, d.id")
+    List<DrawdownView> findFirstViews(Pageable pageable);
+
+    /**
+     * キーセットページングで、指定した (取引日, ID) より後のDrawdownを取得する
+     */
+    @Query(VIEW_SELECT + " WHERE d.transactionDate > :date OR (d.transactionDate = :date AND d.id > :id)"
+            + " ORDER BY d.transactionDate, d.id")
+    List<DrawdownView> findViewsAfter(@Param("date") LocalDate date, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * エクスポート用に全DrawdownをID順に逐次取得する（呼び出し元で close すること）
+     */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonExporter.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query(VIEW_SELECT + " ORDER BY d.id")
+    Stream<DrawdownView> streamAllViews();
 }
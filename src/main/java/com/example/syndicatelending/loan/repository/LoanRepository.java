@@ -1,14 +1,51 @@
 package com.example.syndicatelending.loan.repository;
 
+import com.example.syndicatelending.loan.dto.LoanPosition;
 import com.example.syndicatelending.loan.entity.Loan;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface LoanRepository extends JpaRepository<Loan, Long> {
     List<Loan> findByFacilityId(Long facilityId);
     List<Loan> findByBorrowerId(Long borrowerId);
     List<Loan> findByFacilityIdAndBorrowerId(Long facilityId, Long borrowerId);
+
+    /**
+     * 指定したIDのうち存在するLoanのIDと残高を取得する（[id, outstandingBalance]）
+     */
+    @Query("SELECT l.id, l.outstandingBalance FROM Loan l WHERE l.id IN :ids")
+    List<Object[]> findOutstandingBalancesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 支払い配分用の重みを fetch join してLoanを取得する
+     */
+    @Query("SELECT DISTINCT l FROM Loan l LEFT JOIN FETCH l.distributionWeights WHERE l.id IN :ids")
+    List<Loan> findWithDistributionWeightsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * ID範囲（両端を含む）のLoanを、支払い配分用の重みを fetch join して取得する
+     */
+    @Query("SELECT DISTINCT l FROM Loan l LEFT JOIN FETCH l.distributionWeights WHERE l.id BETWEEN :fromId AND :toId")
+    List<Loan> findWithDistributionWeightsByIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * ローンのポジションを主キーによる1行の参照で取得する
+     */
+    @Query("SELECT new com.example.syndicatelending.loan.dto.LoanPosition(l.id, l.currency, l.principalAmount, "
+            + "l.outstandingBalance, l.annualInterestRate, l.drawdownDate, l.lastPaymentDate, l.nextPaymentNumber, "
+            + "l.nextDueDate, l.nextPrincipalDue, l.nextInterestDue, l.version) FROM Loan l WHERE l.id = :id")
+    Optional<LoanPosition> findPositionById(@Param("id") Long id);
+
+    @Query("SELECT MIN(l.id) FROM Loan l")
+    Long findMinId();
+
+    @Query("SELECT MAX(l.id) FROM Loan l")
+    Long findMaxId();
 }
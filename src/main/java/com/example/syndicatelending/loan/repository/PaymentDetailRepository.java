@@ -1,50 +1,58 @@
 package com.example.syndicatelending.loan.repository;
 
 import com.example.syndicatelending.loan.entity.PaymentDetail;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * PaymentDetailエンティティのリポジトリインターフェース。
  * <p>
  * 支払い詳細に関するデータアクセス操作を提供します。
+ * ローン単位の参照系メソッドは {@link PaymentDetailRepositoryCustom} で実装され、
+ * PROJECTEDモードのローンでは計算されたスケジュールと永続化済みの明細を合成して返します。
  * </p>
  */
 @Repository
-public interface PaymentDetailRepository extends JpaRepository<PaymentDetail, Long> {
+public interface PaymentDetailRepository extends JpaRepository<PaymentDetail, Long>, PaymentDetailRepositoryCustom {
 
     /**
-     * 指定されたローンIDに関連するすべての支払い詳細を、支払い番号順で取得します。
+     * 指定されたローンIDの永続化済み支払い詳細を、支払い番号順で取得します。
+     * PROJECTEDモードのローンでは支払い済み・上書きされた期のみが返されます。
      *
      * @param loanId ローンID
-     * @return 支払い詳細のリスト（支払い番号順）
+     * @return 永続化済み支払い詳細のリスト（支払い番号順）
      */
     @Query("SELECT pd FROM PaymentDetail pd WHERE pd.loan.id = :loanId ORDER BY pd.paymentNumber")
-    List<PaymentDetail> findByLoanIdOrderByPaymentNumber(@Param("loanId") Long loanId);
+    List<PaymentDetail> findStoredByLoanId(@Param("loanId") Long loanId);
 
     /**
-     * 指定されたローンIDに関連する支払い詳細をページングで取得します。
+     * 指定されたローンIDと支払い番号の永続化済み支払い詳細を取得します。
      *
-     * @param loanId   ローンID
-     * @param pageable ページング情報
-     * @return 支払い詳細のページ
+     * @param loanId        ローンID
+     * @param paymentNumber 支払い番号
+     * @return 永続化済み支払い詳細
      */
-    @Query("SELECT pd FROM PaymentDetail pd WHERE pd.loan.id = :loanId")
-    Page<PaymentDetail> findByLoanId(@Param("loanId") Long loanId, Pageable pageable);
+    @Query("SELECT pd FROM PaymentDetail pd WHERE pd.loan.id = :loanId AND pd.paymentNumber = :paymentNumber")
+    Optional<PaymentDetail> findStoredByLoanIdAndPaymentNumber(@Param("loanId") Long loanId,
+            @Param("paymentNumber") Integer paymentNumber);
 
     /**
-     * 指定されたローンIDの支払い詳細の件数を取得します。
+     * 指定されたローンIDと支払い番号の範囲（両端を含む）の永続化済み支払い詳細を、支払い番号順で取得します。
      *
-     * @param loanId ローンID
-     * @return 支払い詳細の件数
+     * @param loanId            ローンID
+     * @param fromPaymentNumber 開始支払い番号
+     * @param toPaymentNumber   終了支払い番号
+     * @return 永続化済み支払い詳細のリスト（支払い番号順）
      */
-    long countByLoanId(Long loanId);
+    @Query("SELECT pd FROM PaymentDetail pd WHERE pd.loan.id = :loanId"
+            + " AND pd.paymentNumber BETWEEN :fromPaymentNumber AND :toPaymentNumber ORDER BY pd.paymentNumber")
+    List<PaymentDetail> findStoredByLoanIdAndPaymentNumberBetween(@Param("loanId") Long loanId,
+            @Param("fromPaymentNumber") Integer fromPaymentNumber, @Param("toPaymentNumber") Integer toPaymentNumber);
 
     /**
      * 指定されたローンIDの支払い詳細をすべて削除します。
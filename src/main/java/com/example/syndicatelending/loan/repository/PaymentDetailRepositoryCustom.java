@@ -0,0 +1,58 @@
+package com.example.syndicatelending.loan.repository;
+
+import com.example.syndicatelending.loan.entity.PaymentDetail;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * ローンの支払いスケジュールを参照するカスタムリポジトリ。
+ * <p>
+ * STOREDモードのローンは永続化された明細をそのまま返す。
+ * PROJECTEDモードのローンはローン条件からスケジュールを計算し、
+ * 永続化済み（支払い済み・上書き）の期があればそちらを優先して返す。
+ * </p>
+ */
+public interface PaymentDetailRepositoryCustom {
+
+    /**
+     * 指定されたローンIDに関連するすべての支払い詳細を、支払い番号順で取得します。
+     *
+     * @param loanId ローンID
+     * @return 支払い詳細のリスト（支払い番号順）
+     */
+    List<PaymentDetail> findByLoanIdOrderByPaymentNumber(Long loanId);
+
+    /**
+     * 指定されたローンIDに関連する支払い詳細をページングで取得します。
+     * <p>
+     * PROJECTEDモードのローンでは paymentNumber / dueDate の並び順のみ指定でき、
+     * それ以外のソート指定は無視して支払い番号順で返します。
+     * </p>
+     *
+     * @param loanId   ローンID
+     * @param pageable ページング情報
+     * @return 支払い詳細のページ
+     */
+    Page<PaymentDetail> findByLoanId(Long loanId, Pageable pageable);
+
+    /**
+     * 指定された支払い番号の範囲（両端を含む）の支払い詳細を支払い番号順で取得します。
+     *
+     * @param loanId            ローンID
+     * @param fromPaymentNumber 開始支払い番号
+     * @param toPaymentNumber   終了支払い番号
+     * @return 支払い詳細のリスト（支払い番号順）
+     */
+    List<PaymentDetail> findByLoanIdAndPaymentNumberBetween(Long loanId, int fromPaymentNumber,
+            int toPaymentNumber);
+
+    /**
+     * 指定されたローンIDの支払い詳細の件数を取得します。
+     *
+     * @param loanId ローンID
+     * @return 支払い詳細の件数
+     */
+    long countByLoanId(Long loanId);
+}
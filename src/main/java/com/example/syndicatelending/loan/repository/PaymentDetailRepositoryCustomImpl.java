@@ -0,0 +1,163 @@
+package com.example.syndicatelending.loan.repository;
+
+import com.example.syndicatelending.loan.entity.Loan;
+import com.example.syndicatelending.loan.entity.PaymentDetail;
+import com.example.syndicatelending.loan.schedule.AmortizationSchedule;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link PaymentDetailRepositoryCustom} の実装。
+ * <p>
+ * PROJECTEDモードのローンは要求された範囲の期のみを PaymentDetail として生成し、
+ * 同じ範囲の永続化済み明細で置き換えて返す。生成した明細は永続化されない。
+ * </p>
+ */
+public class PaymentDetailRepositoryCustomImpl implements PaymentDetailRepositoryCustom {
+
+    private static final String STORED_QUERY = "SELECT pd FROM PaymentDetail pd WHERE pd.loan.id = :loanId";
+
+    private static final String STORED_RANGE_QUERY = STORED_QUERY
+            + " AND pd.paymentNumber BETWEEN :fromPaymentNumber AND :toPaymentNumber ORDER BY pd.paymentNumber";
+
+    private static final String STORED_COUNT_QUERY = "SELECT COUNT(pd) FROM PaymentDetail pd WHERE pd.loan.id = :loanId";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<PaymentDetail> findByLoanIdOrderByPaymentNumber(Long loanId) {
+        return findByLoanIdAndPaymentNumberBetween(loanId, 1, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<PaymentDetail> findByLoanIdAndPaymentNumberBetween(Long loanId, int fromPaymentNumber,
+            int toPaymentNumber) {
+        Loan loan = entityManager.find(Loan.class, loanId);
+        if (loan == null) {
+            return new ArrayList<>();
+        }
+        List<PaymentDetail> stored = findStored(loanId, fromPaymentNumber, toPaymentNumber);
+        if (!loan.isScheduleProjected()) {
+            return stored;
+        }
+        return project(loan, stored, fromPaymentNumber, toPaymentNumber);
+    }
+
+    @Override
+    public Page<PaymentDetail> findByLoanId(Long loanId, Pageable pageable) {
+        Loan loan = entityManager.find(Loan.class, loanId);
+        if (loan == null) {
+            return new PageImpl<>(new ArrayList<>(), pageable, 0);
+        }
+        if (!loan.isScheduleProjected()) {
+            return findStoredPage(loanId, pageable);
+        }
+
+        int total = Math.max(loan.getRepaymentPeriodMonths(), 0);
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(findByLoanIdAndPaymentNumberBetween(loanId, 1, total), pageable, total);
+        }
+
+        long offset = pageable.getOffset();
+        if (offset >= total) {
+            return new PageImpl<>(new ArrayList<>(), pageable, total);
+        }
+        int first = (int) offset + 1;
+        int last = (int) Math.min(offset + pageable.getPageSize(), total);
+
+        if (!isDescending(pageable.getSort())) {
+            return new PageImpl<>(findByLoanIdAndPaymentNumberBetween(loanId, first, last), pageable, total);
+        }
+        // 降順の場合は末尾から数えた範囲を取得して反転する
+        List<PaymentDetail> content = findByLoanIdAndPaymentNumberBetween(loanId, total - last + 1,
+                total - first + 1);
+        Collections.reverse(content);
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    public long countByLoanId(Long loanId) {
+        Loan loan = entityManager.find(Loan.class, loanId);
+        if (loan == null) {
+            return 0L;
+        }
+        if (loan.isScheduleProjected()) {
+            return Math.max(loan.getRepaymentPeriodMonths(), 0);
+        }
+        return entityManager.createQuery(STORED_COUNT_QUERY, Long.class)
+                .setParameter("loanId", loanId)
+                .getSingleResult();
+    }
+
+    /**
+     * 計算したスケジュールの指定範囲を、永続化済み明細で置き換えながら生成する。
+     */
+    private List<PaymentDetail> project(Loan loan, List<PaymentDetail> stored, int fromPaymentNumber,
+            int toPaymentNumber) {
+        AmortizationSchedule schedule = loan.projectPaymentSchedule();
+        int first = Math.max(fromPaymentNumber, 1);
+        int last = Math.min(toPaymentNumber, schedule.size());
+        if (first > last) {
+            return new ArrayList<>();
+        }
+
+        Map<Integer, PaymentDetail> storedByNumber = new HashMap<>();
+        for (PaymentDetail detail : stored) {
+            storedByNumber.put(detail.getPaymentNumber(), detail);
+        }
+
+        List<PaymentDetail> details = new ArrayList<>(last - first + 1);
+        for (int paymentNumber = first; paymentNumber <= last; paymentNumber++) {
+            PaymentDetail detail = storedByNumber.get(paymentNumber);
+            details.add(detail != null ? detail : schedule.toPaymentDetail(loan, paymentNumber - 1));
+        }
+        return details;
+    }
+
+    private List<PaymentDetail> findStored(Long loanId, int fromPaymentNumber, int toPaymentNumber) {
+        return entityManager.createQuery(STORED_RANGE_QUERY, PaymentDetail.class)
+                .setParameter("loanId", loanId)
+                .setParameter("fromPaymentNumber", fromPaymentNumber)
+                .setParameter("toPaymentNumber", toPaymentNumber)
+                .getResultList();
+    }
+
+    private Page<PaymentDetail> findStoredPage(Long loanId, Pageable pageable) {
+        TypedQuery<PaymentDetail> query = entityManager
+                .createQuery(QueryUtils.applySorting(STORED_QUERY, pageable.getSort(), "pd"), PaymentDetail.class)
+                .setParameter("loanId", loanId);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        long total = entityManager.createQuery(STORED_COUNT_QUERY, Long.class)
+                .setParameter("loanId", loanId)
+                .getSingleResult();
+        return new PageImpl<>(query.getResultList(), pageable, total);
+    }
+
+    /**
+     * 支払い番号（期日）の降順が指定されているか。
+     */
+    private static boolean isDescending(Sort sort) {
+        for (Sort.Order order : sort) {
+            if ("paymentNumber".equals(order.getProperty()) || "dueDate".equals(order.getProperty())) {
+                return order.isDescending();
+            }
+        }
+        return false;
+    }
+}
@@ -1,13 +1,58 @@
 package com.example.syndicatelending.loan.repository;
 
+import com.example.syndicatelending.loan.dto.PaymentSummary;
 import com.example.syndicatelending.loan.entity.Payment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
+    /** 配分件数付きの {@link PaymentSummary} を組み立てるSELECT句 */
+    String SUMMARY_SELECT = "SELECT new com.example.syndicatelending.loan.dto.PaymentSummary(p.id, p.loanId, "
+            + "p.paymentDate, p.totalAmount, p.principalAmount, p.interestAmount, p.currency, COUNT(d)) "
+            + "FROM Payment p LEFT JOIN p.paymentDistributions d";
+    String SUMMARY_GROUP_BY = "GROUP BY p.id, p.loanId, p.paymentDate, p.totalAmount, p.principalAmount, "
+            + "p.interestAmount, p.currency";
+
     List<Payment> findByLoanId(Long loanId);
     List<Payment> findByLoanIdOrderByPaymentDateDesc(Long loanId);
-}
\ No newline at end of file
+
+    /**
+     * 投資家への配分を同時に取得する
+     */
+    @EntityGraph(Payment.WITH_DISTRIBUTIONS)
+    Optional<Payment> findWithDistributionsById(Long id);
+
+    /**
+     * Loanの支払いを投資家への配分とともに、支払日の降順で取得する
+     */
+    @EntityGraph(Payment.WITH_DISTRIBUTIONS)
+    List<Payment> findWithDistributionsByLoanIdOrderByPaymentDateDesc(Long loanId);
+
+    /**
+     * 一覧表示用に、Loanの支払いを配分件数付きのサマリとして支払日の降順で取得する
+     */
+    @Query(SUMMARY_SELECT + " WHERE p.loanId = :loanId " + SUMMARY_GROUP_BY + " ORDER BY p.paymentDate DESC, p.id DESC")
+    List<PaymentSummary> findSummariesByLoanId(@Param("loanId") Long loanId);
+
+    /**
+     * キーセットページングの先頭ページを (支払日, ID) の昇順で取得する
+     */
+    @Query(SUMMARY_SELECT + " " + SUMMARY_GROUP_BY + " ORDER BY p.paymentDate, p.id")
+    List<PaymentSummary> findFirstSummaries(Pageable pageable);
+
+    /**
+     * キーセットページングで、指定した (支払日, ID) より後の支払いを取得する
+     */
+    @Query(SUMMARY_SELECT + " WHERE p.paymentDate > :date OR (p.paymentDate = :date AND p.id > :id) "
+            + SUMMARY_GROUP_BY + " ORDER BY p.paymentDate, p.id")
+    List<PaymentSummary> findSummariesAfter(@Param("date") LocalDate date, @Param("id") Long id, Pageable pageable);
+}
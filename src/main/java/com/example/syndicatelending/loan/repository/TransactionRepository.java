@@ -1,14 +1,36 @@
 package com.example.syndicatelending.loan.repository;
 
+import com.example.syndicatelending.loan.dto.TransactionView;
 import com.example.syndicatelending.transaction.entity.Transaction;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+    /** {@link TransactionView} を組み立てるSELECT句 */
+    String VIEW_SELECT = "SELECT new com.example.syndicatelending.loan.dto.TransactionView(t.id, t.facilityId, "
+            + "t.borrowerId, t.transactionDate, t.transactionType, t.amount) FROM Transaction t";
+
     List<Transaction> findByFacilityId(Long facilityId);
     List<Transaction> findByBorrowerId(Long borrowerId);
     List<Transaction> findByTransactionType(String transactionType);
+
+    /**
+     * キーセットページングの先頭ページを (取引日, ID) の昇順で取得する
+     */
+    @Query(VIEW_SELECT + " ORDER BY t.transactionDate, t.id")
+    List<TransactionView> findFirstViews(Pageable pageable);
+
+    /**
+     * キーセットページングで、指定した (取引日, ID) より後の取引を取得する
+     */
+    @Query(VIEW_SELECT + " WHERE t.transactionDate > :date OR (t.transactionDate = :date AND t.id > :id)"
+            + " ORDER BY t.transactionDate, t.id")
+    List<TransactionView> findViewsAfter(@Param("date") LocalDate date, @Param("id") Long id, Pageable pageable);
 }
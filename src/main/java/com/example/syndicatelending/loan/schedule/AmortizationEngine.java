@@ -0,0 +1,177 @@
+package com.example.syndicatelending.loan.schedule;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.loan.entity.RepaymentMethod;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * 返済スケジュール計算エンジン。
+ * <p>
+ * 金額を最小通貨単位（スケール2）の long、月利をスケール10の long として扱い、
+ * 期ごとの計算で BigDecimal / Money を生成しない。
+ * 丸めは従来の Loan 実装と同じ HALF_UP で、結果は1セント単位で一致する。
+ * 元利均等の年金係数 (1+r)^n のみ {@link #ANNUITY_CONTEXT} で精度を制限した BigDecimal で計算する。
+ * </p>
+ */
+public final class AmortizationEngine {
+
+    /** 月利の小数桁数（年利 / 12 をこの桁数で丸める） */
+    static final int MONTHLY_RATE_SCALE = 10;
+
+    /** 年金係数 (1+r)^n の計算精度 */
+    static final MathContext ANNUITY_CONTEXT = new MathContext(40, RoundingMode.HALF_EVEN);
+
+    /** 金額(スケール2) × 月利(スケール10) を整数単位に丸める際の除数 */
+    private static final long INTEREST_DIVISOR = 1_000_000_000_000L;
+
+    /** 整数単位 → 最小通貨単位 */
+    private static final long MINOR_PER_UNIT = 100L;
+
+    private static final BigDecimal TWELVE = new BigDecimal("12");
+
+    private AmortizationEngine() {
+    }
+
+    /**
+     * 返済方法に応じた支払いスケジュールを計算する。
+     *
+     * @param principal          元本金額
+     * @param annualInterestRate 年利率
+     * @param drawdownDate       ドローダウン日
+     * @param periods            返済回数（月数）
+     * @param repaymentMethod    返済方法
+     * @return 支払いスケジュール
+     */
+    public static AmortizationSchedule calculate(Money principal, Percentage annualInterestRate,
+            LocalDate drawdownDate, int periods, RepaymentMethod repaymentMethod) {
+        long principalMinor = principal.toMinorUnits();
+        long monthlyRate = monthlyRate(annualInterestRate);
+
+        switch (repaymentMethod) {
+            case EQUAL_INSTALLMENT:
+                return equalInstallment(principalMinor, monthlyRate, drawdownDate, periods);
+            case BULLET_PAYMENT:
+                return bulletPayment(principalMinor, monthlyRate, drawdownDate, periods);
+            default:
+                throw new IllegalStateException("サポートされていない返済方法です: " + repaymentMethod);
+        }
+    }
+
+    /**
+     * 元利均等返済のスケジュールを計算する。
+     */
+    private static AmortizationSchedule equalInstallment(long principalMinor, long monthlyRate,
+            LocalDate drawdownDate, int periods) {
+        AmortizationSchedule schedule = new AmortizationSchedule(periods);
+        if (periods <= 0) {
+            return schedule;
+        }
+
+        long installmentMinor = equalInstallmentPayment(principalMinor, monthlyRate, periods);
+        long remainingMinor = principalMinor;
+        LocalDate dueDate = drawdownDate.plusMonths(1);
+
+        for (int i = 0; i < periods; i++) {
+            long interestMinor = interest(remainingMinor, monthlyRate);
+            // 最終回は残高全額を元本として返済する
+            long principalPaymentMinor = (i == periods - 1) ? remainingMinor : installmentMinor - interestMinor;
+            remainingMinor -= principalPaymentMinor;
+
+            schedule.set(i, dueDate, principalPaymentMinor, interestMinor, remainingMinor);
+            dueDate = dueDate.plusMonths(1);
+        }
+        return schedule;
+    }
+
+    /**
+     * バレット返済のスケジュールを計算する。利息は毎回同額。
+     */
+    private static AmortizationSchedule bulletPayment(long principalMinor, long monthlyRate,
+            LocalDate drawdownDate, int periods) {
+        AmortizationSchedule schedule = new AmortizationSchedule(periods);
+        if (periods <= 0) {
+            return schedule;
+        }
+
+        long interestMinor = interest(principalMinor, monthlyRate);
+        LocalDate dueDate = drawdownDate.plusMonths(1);
+
+        for (int i = 0; i < periods - 1; i++) {
+            schedule.set(i, dueDate, 0L, interestMinor, principalMinor);
+            dueDate = dueDate.plusMonths(1);
+        }
+        // 最終回：元本 + 利息
+        schedule.set(periods - 1, dueDate, principalMinor, interestMinor, 0L);
+        return schedule;
+    }
+
+    /**
+     * 元利均等返済の毎回の支払額（整数単位に丸めた値の最小通貨単位表現）を計算する。
+     * <p>
+     * PMT = P * r * (1 + r)^n / ((1 + r)^n - 1)
+     * </p>
+     */
+    static long equalInstallmentPayment(long principalMinor, long monthlyRate, int periods) {
+        if (monthlyRate == 0L) {
+            // 無利息の場合
+            return divideHalfUp(principalMinor, MINOR_PER_UNIT * periods) * MINOR_PER_UNIT;
+        }
+
+        BigDecimal principal = Money.ofMinorUnits(principalMinor).getAmount();
+        BigDecimal rate = BigDecimal.valueOf(monthlyRate, MONTHLY_RATE_SCALE);
+        BigDecimal growth = BigDecimal.ONE.add(rate).pow(periods, ANNUITY_CONTEXT);
+
+        BigDecimal numerator = principal.multiply(rate).multiply(growth);
+        BigDecimal denominator = growth.subtract(BigDecimal.ONE);
+        return numerator.divide(denominator, 0, RoundingMode.HALF_UP).longValueExact() * MINOR_PER_UNIT;
+    }
+
+    /**
+     * 残高に月利を掛け、整数単位に HALF_UP で丸めた利息（最小通貨単位）を返す。
+     */
+    static long interest(long balanceMinor, long monthlyRate) {
+        return multiplyDivideHalfUp(balanceMinor, monthlyRate, INTEREST_DIVISOR) * MINOR_PER_UNIT;
+    }
+
+    /**
+     * 年利を12で割り、スケール10に HALF_UP で丸めた月利を long で返す。
+     */
+    static long monthlyRate(Percentage annualInterestRate) {
+        return annualInterestRate.getValue()
+                .divide(TWELVE, MONTHLY_RATE_SCALE, RoundingMode.HALF_UP)
+                .unscaledValue()
+                .longValueExact();
+    }
+
+    /**
+     * a * b / divisor を HALF_UP で丸める。積が long に収まらない場合のみ BigInteger で計算する。
+     */
+    static long multiplyDivideHalfUp(long a, long b, long divisor) {
+        long high = Math.multiplyHigh(a, b);
+        long low = a * b;
+        if ((high == 0L && low >= 0L) || (high == -1L && low < 0L)) {
+            return divideHalfUp(low, divisor);
+        }
+        return new BigDecimal(BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)))
+                .divide(BigDecimal.valueOf(divisor), 0, RoundingMode.HALF_UP)
+                .longValueExact();
+    }
+
+    /**
+     * dividend / divisor を HALF_UP（0から遠い方向への四捨五入）で丸める。divisor は正であること。
+     */
+    static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) >= divisor - Math.abs(remainder)) {
+            quotient += Long.signum(dividend);
+        }
+        return quotient;
+    }
+}
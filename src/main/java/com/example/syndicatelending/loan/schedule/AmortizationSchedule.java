@@ -0,0 +1,97 @@
+package com.example.syndicatelending.loan.schedule;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.loan.entity.Loan;
+import com.example.syndicatelending.loan.entity.PaymentDetail;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link AmortizationEngine} が計算した支払いスケジュール。
+ * <p>
+ * 各期の金額を最小通貨単位の long 配列で保持する。
+ * {@link PaymentDetail} や {@link Money} への変換は {@link #toPaymentDetails(Loan)} で永続化の直前にのみ行う。
+ * インデックスは0始まりで、支払い番号は index + 1。
+ * </p>
+ */
+public final class AmortizationSchedule {
+
+    private final LocalDate[] dueDates;
+    private final long[] principalPayments;
+    private final long[] interestPayments;
+    private final long[] remainingBalances;
+
+    AmortizationSchedule(int periods) {
+        int size = Math.max(periods, 0);
+        this.dueDates = new LocalDate[size];
+        this.principalPayments = new long[size];
+        this.interestPayments = new long[size];
+        this.remainingBalances = new long[size];
+    }
+
+    void set(int index, LocalDate dueDate, long principalPayment, long interestPayment, long remainingBalance) {
+        dueDates[index] = dueDate;
+        principalPayments[index] = principalPayment;
+        interestPayments[index] = interestPayment;
+        remainingBalances[index] = remainingBalance;
+    }
+
+    /**
+     * 支払い回数を返す。
+     */
+    public int size() {
+        return dueDates.length;
+    }
+
+    public int paymentNumber(int index) {
+        return index + 1;
+    }
+
+    public LocalDate dueDate(int index) {
+        return dueDates[index];
+    }
+
+    /** 元本返済額（最小通貨単位） */
+    public long principalPaymentMinor(int index) {
+        return principalPayments[index];
+    }
+
+    /** 利息返済額（最小通貨単位） */
+    public long interestPaymentMinor(int index) {
+        return interestPayments[index];
+    }
+
+    /** 返済後の元本残高（最小通貨単位） */
+    public long remainingBalanceMinor(int index) {
+        return remainingBalances[index];
+    }
+
+    /**
+     * 全期間の支払い詳細エンティティを生成する。
+     *
+     * @param loan 所属するローン
+     * @return 支払い詳細のリスト（支払い番号順）
+     */
+    public List<PaymentDetail> toPaymentDetails(Loan loan) {
+        List<PaymentDetail> details = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            details.add(toPaymentDetail(loan, i));
+        }
+        return details;
+    }
+
+    /**
+     * 指定した期の支払い詳細エンティティを生成する。
+     */
+    public PaymentDetail toPaymentDetail(Loan loan, int index) {
+        return new PaymentDetail(
+                loan,
+                paymentNumber(index),
+                Money.ofMinorUnits(principalPayments[index]),
+                Money.ofMinorUnits(interestPayments[index]),
+                dueDates[index],
+                Money.ofMinorUnits(remainingBalances[index]));
+    }
+}
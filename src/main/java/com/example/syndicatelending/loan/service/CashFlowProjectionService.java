@@ -0,0 +1,153 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.loan.domain.DistributionVector;
+import com.example.syndicatelending.loan.dto.CashFlowProjectionReport;
+import com.example.syndicatelending.loan.entity.AmountPie;
+import com.example.syndicatelending.loan.entity.Loan;
+import com.example.syndicatelending.loan.projection.CashFlowAccumulator;
+import com.example.syndicatelending.loan.projection.CashFlowGranularity;
+import com.example.syndicatelending.loan.projection.CashFlowProjectionEngine;
+import com.example.syndicatelending.loan.projection.ProjectedLoan;
+import com.example.syndicatelending.loan.repository.AmountPieRepository;
+import com.example.syndicatelending.loan.repository.LoanRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * ローン全体の予測入金額（投資家 × 通貨 × 日/月）を集計するサービス。
+ * <p>
+ * ローンIDの範囲ごとに専用の固定サイズのスレッドプールで並列に読み込み、{@link CashFlowProjectionEngine} で集計する。
+ * 範囲ごとの読み込みはそれぞれ独立したクエリで行うため、並列度はコネクションプールのサイズ以下に設定すること。
+ * 予測はローン条件から計算したスケジュールを各ローンの次回返済の期と残高から始めたもので、個別に上書きされた期は反映しない。
+ * </p>
+ */
+@Service
+public class CashFlowProjectionService {
+    private static final Logger log = LoggerFactory.getLogger(CashFlowProjectionService.class);
+
+    /** 予測期間の上限（月） */
+    static final int MAX_MONTHS = 120;
+
+    /** 日単位で集計する場合の予測期間の上限（月） */
+    static final int MAX_DAILY_MONTHS = 24;
+
+    private final LoanRepository loanRepository;
+    private final AmountPieRepository amountPieRepository;
+    private final ExecutorService executor;
+    private final CashFlowProjectionEngine engine;
+
+    public CashFlowProjectionService(LoanRepository loanRepository, AmountPieRepository amountPieRepository,
+            @Value("${loan.projection.parallelism:4}") int parallelism,
+            @Value("${loan.projection.range-size:1000}") long rangeSize) {
+        this.loanRepository = loanRepository;
+        this.amountPieRepository = amountPieRepository;
+        this.executor = Executors.newFixedThreadPool(parallelism,
+                new CustomizableThreadFactory("cash-flow-projection-"));
+        this.engine = new CashFlowProjectionEngine(executor, parallelism, rangeSize);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * from から months か月間に期日が来る予測入金額を集計する。
+     *
+     * @param investorId 指定した場合はその投資家の行のみを返す
+     */
+    public CashFlowProjectionReport project(LocalDate from, int months, CashFlowGranularity granularity,
+            Long investorId) {
+        int maxMonths = granularity == CashFlowGranularity.DAY ? MAX_DAILY_MONTHS : MAX_MONTHS;
+        if (months < 1 || months > maxMonths) {
+            throw new BusinessRuleViolationException(
+                    "months must be between 1 and " + maxMonths + " for " + granularity + ": " + months);
+        }
+        LocalDate to = from.plusMonths(months);
+        long started = System.nanoTime();
+
+        Long minId = loanRepository.findMinId();
+        Long maxId = loanRepository.findMaxId();
+        CashFlowAccumulator accumulator = minId == null
+                ? new CashFlowAccumulator(granularity.bucketCount(from, to))
+                : engine.project(minId, maxId, this::loadRange, from, to, granularity);
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Projected cash flows of {} loans ({} - {}, {}) in {} ms", accumulator.loanCount(), from, to,
+                granularity, elapsedMillis);
+        return toReport(accumulator, from, to, granularity, investorId, elapsedMillis);
+    }
+
+    /**
+     * ID範囲のローンを重みとともに読み込む。重みを持たない既存ローンはドローダウン時のAmountPieから作成する。
+     */
+    private List<ProjectedLoan> loadRange(long fromId, long toId) {
+        List<Loan> loans = loanRepository.findWithDistributionWeightsByIdBetween(fromId, toId);
+        List<Long> loansWithoutWeights = loans.stream()
+                .filter(loan -> loan.getDistributionWeights().isEmpty())
+                .map(Loan::getId)
+                .toList();
+        Map<Long, List<AmountPie>> amountPiesByLoan = loansWithoutWeights.isEmpty()
+                ? Map.of()
+                : amountPieRepository.findWithDrawdownByLoanIdIn(loansWithoutWeights).stream()
+                        .collect(Collectors.groupingBy(pie -> pie.getDrawdown().getLoanId()));
+
+        List<ProjectedLoan> projected = new ArrayList<>(loans.size());
+        for (Loan loan : loans) {
+            DistributionVector weights;
+            if (!loan.getDistributionWeights().isEmpty()) {
+                weights = DistributionVector.fromWeights(loan.getDistributionWeights());
+            } else if (amountPiesByLoan.containsKey(loan.getId())) {
+                weights = DistributionVector.fromAmountPies(amountPiesByLoan.get(loan.getId()));
+            } else {
+                log.warn("Skipped loan {} without distribution weights", loan.getId());
+                continue;
+            }
+            projected.add(ProjectedLoan.of(loan, weights));
+        }
+        return projected;
+    }
+
+    private static CashFlowProjectionReport toReport(CashFlowAccumulator accumulator, LocalDate from, LocalDate to,
+            CashFlowGranularity granularity, Long investorId, long elapsedMillis) {
+        List<LocalDate> buckets = new ArrayList<>(accumulator.bucketCount());
+        for (int bucket = 0; bucket < accumulator.bucketCount(); bucket++) {
+            buckets.add(granularity.bucketStart(from, bucket));
+        }
+
+        List<CashFlowProjectionReport.InvestorCashFlow> investors = new ArrayList<>();
+        for (int row = 0; row < accumulator.rowCount(); row++) {
+            if (investorId != null && investorId != accumulator.investorIdAt(row)) {
+                continue;
+            }
+            List<BigDecimal> principal = new ArrayList<>(buckets.size());
+            List<BigDecimal> interest = new ArrayList<>(buckets.size());
+            for (int bucket = 0; bucket < buckets.size(); bucket++) {
+                principal.add(BigDecimal.valueOf(accumulator.principalMinor(row, bucket), 2));
+                interest.add(BigDecimal.valueOf(accumulator.interestMinor(row, bucket), 2));
+            }
+            investors.add(new CashFlowProjectionReport.InvestorCashFlow(accumulator.investorIdAt(row),
+                    accumulator.currencyAt(row), principal, interest));
+        }
+        investors.sort(Comparator.comparing(CashFlowProjectionReport.InvestorCashFlow::getInvestorId)
+                .thenComparing(CashFlowProjectionReport.InvestorCashFlow::getCurrency));
+
+        return new CashFlowProjectionReport(from, to, granularity, buckets, investors, accumulator.loanCount(),
+                elapsedMillis);
+    }
+}
@@ -2,123 +2,248 @@ package com.example.syndicatelending.loan.service;
 
 import com.example.syndicatelending.common.application.exception.ResourceNotFoundException;
 import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.common.application.pagination.KeysetCursor;
+import com.example.syndicatelending.common.application.pagination.KeysetPage;
 import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.infrastructure.NdjsonExporter;
+import com.example.syndicatelending.common.infrastructure.StatementBudget;
+import com.example.syndicatelending.exposure.domain.ExposureMovement;
+import com.example.syndicatelending.exposure.service.ExposureRecorder;
 import com.example.syndicatelending.common.domain.model.Percentage;
 import com.example.syndicatelending.facility.entity.Facility;
 import com.example.syndicatelending.facility.repository.FacilityRepository;
 import com.example.syndicatelending.loan.dto.CreateDrawdownRequest;
+import com.example.syndicatelending.loan.dto.DrawdownBatchItemResult;
+import com.example.syndicatelending.loan.dto.DrawdownBatchResult;
+import com.example.syndicatelending.loan.dto.AmountPieView;
+import com.example.syndicatelending.loan.dto.DrawdownView;
 import com.example.syndicatelending.loan.entity.Drawdown;
 import com.example.syndicatelending.loan.entity.Loan;
+import com.example.syndicatelending.loan.entity.PaymentScheduleMode;
+import com.example.syndicatelending.loan.repository.AmountPieRepository;
 import com.example.syndicatelending.loan.repository.DrawdownRepository;
 import com.example.syndicatelending.loan.repository.LoanRepository;
+import com.example.syndicatelending.party.entity.Borrower;
 import com.example.syndicatelending.party.repository.BorrowerRepository;
+import com.example.syndicatelending.loan.domain.DistributionVector;
 import com.example.syndicatelending.loan.entity.AmountPie;
 import com.example.syndicatelending.loan.dto.AmountPieDto;
+import com.example.syndicatelending.facility.domain.InvestorShare;
 import com.example.syndicatelending.facility.entity.SharePie;
 import com.example.syndicatelending.facility.repository.SharePieRepository;
+import com.example.syndicatelending.facility.service.FacilitySharePieCache;
 import com.example.syndicatelending.party.entity.Investor;
+import com.example.syndicatelending.party.entity.InvestorExposureDelta;
 import com.example.syndicatelending.party.repository.InvestorRepository;
+import com.example.syndicatelending.party.service.InvestorExposureLedger;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 import java.math.BigDecimal;
 
 @Service
 public class DrawdownService {
+    private static final Logger log = LoggerFactory.getLogger(DrawdownService.class);
+    private static final String EXPOSURE_SOURCE_TYPE = "DRAWDOWN";
+
     private final DrawdownRepository drawdownRepository;
+    private final AmountPieRepository amountPieRepository;
     private final LoanRepository loanRepository;
     private final FacilityRepository facilityRepository;
     private final BorrowerRepository borrowerRepository;
     private final SharePieRepository sharePieRepository;
+    private final FacilitySharePieCache facilitySharePieCache;
     private final InvestorRepository investorRepository;
+    private final InvestorExposureLedger investorExposureLedger;
+    private final ExposureRecorder exposureRecorder;
+    private final NdjsonExporter ndjsonExporter;
+    private final PaymentScheduleMode scheduleMode;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
 
     public DrawdownService(DrawdownRepository drawdownRepository,
+            AmountPieRepository amountPieRepository,
             LoanRepository loanRepository,
             FacilityRepository facilityRepository,
             BorrowerRepository borrowerRepository,
             SharePieRepository sharePieRepository,
-            InvestorRepository investorRepository) {
+            FacilitySharePieCache facilitySharePieCache,
+            InvestorRepository investorRepository,
+            InvestorExposureLedger investorExposureLedger,
+            ExposureRecorder exposureRecorder,
+            NdjsonExporter ndjsonExporter,
+            @Value("${loan.schedule.mode:PROJECTED}") PaymentScheduleMode scheduleMode,
+            PlatformTransactionManager transactionManager,
+            @Value("${loan.drawdown.batch.chunk-size:100}") int chunkSize) {
         this.drawdownRepository = drawdownRepository;
+        this.amountPieRepository = amountPieRepository;
         this.loanRepository = loanRepository;
         this.facilityRepository = facilityRepository;
         this.borrowerRepository = borrowerRepository;
         this.sharePieRepository = sharePieRepository;
+        this.facilitySharePieCache = facilitySharePieCache;
         this.investorRepository = investorRepository;
+        this.investorExposureLedger = investorExposureLedger;
+        this.exposureRecorder = exposureRecorder;
+        this.ndjsonExporter = ndjsonExporter;
+        this.scheduleMode = scheduleMode;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("loan.drawdown.batch.chunk-size must be positive: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
     }
 
     @Transactional
     public Drawdown createDrawdown(CreateDrawdownRequest request) {
         // 1. バリデーション
-        validateDrawdownRequest(request);
+        Facility facility = facilityRepository.findById(request.getFacilityId())
+                .orElseThrow(
+                        () -> new ResourceNotFoundException("Facility not found with id: " + request.getFacilityId()));
+        if (!borrowerRepository.existsById(request.getBorrowerId())) {
+            throw new ResourceNotFoundException("Borrower not found with id: " + request.getBorrowerId());
+        }
+        validateDrawdownRequest(request, facility);
 
-        // 2. Loanエンティティの作成
-        Loan loan = createLoan(request);
-        Loan savedLoan = loanRepository.save(loan);
+        List<InvestorShare> sharePies = hasExplicitAmountPies(request)
+                ? List.of()
+                : facilitySharePieCache.getSharePies(request.getFacilityId());
 
-        // 3. Drawdownエンティティの作成
-        Drawdown drawdown = new Drawdown();
-        drawdown.setFacilityId(request.getFacilityId());
-        drawdown.setBorrowerId(request.getBorrowerId());
-        drawdown.setTransactionDate(request.getDrawdownDate());
-        drawdown.setAmount(Money.of(request.getAmount()));
-        drawdown.setLoanId(savedLoan.getId());
-        drawdown.setCurrency(request.getCurrency());
-        drawdown.setPurpose(request.getPurpose());
+        // 2-5. Loan, Drawdown, AmountPieの作成と保存
+        Drawdown savedDrawdown = saveDrawdown(request, sharePies);
 
-        // 4. AmountPieの生成
-        List<AmountPie> amountPies = new ArrayList<>();
-        if (request.getAmountPies() != null && !request.getAmountPies().isEmpty()) {
-            // 明示的指定あり
-            BigDecimal total = request.getAmountPies().stream().map(AmountPieDto::getAmount).reduce(BigDecimal.ZERO,
-                    BigDecimal::add);
-            if (total.compareTo(request.getAmount()) != 0) {
-                throw new BusinessRuleViolationException("AmountPieの合計がDrawdown金額と一致しません");
-            }
-            for (AmountPieDto dto : request.getAmountPies()) {
-                AmountPie pie = new AmountPie();
-                pie.setInvestorId(dto.getInvestorId());
-                pie.setAmount(dto.getAmount());
-                pie.setCurrency(dto.getCurrency());
-                pie.setDrawdown(drawdown);
-                amountPies.add(pie);
+        // 6. Investor投資額とエクスポージャ参照モデルの更新
+        updateInvestorAmounts(savedDrawdown.getAmountPies());
+
+        return savedDrawdown;
+    }
+
+    /**
+     * 複数のドローダウンを一括で実行する。
+     * <p>
+     * 参照されるファシリティ・借り手・SharePie・投資家をまとめて取得してメモリ上で検証し、
+     * 検証を通過したリクエストを {@code chunkSize} 件ごとに1トランザクションで書き込む。
+     * 検証エラーの明細やロールバックされたチャンクの明細は FAILED として結果に含め、他の明細の処理は継続する。
+     * </p>
+     *
+     * @param requests ドローダウンリクエストのリスト
+     * @return 明細ごとの処理結果
+     */
+    public DrawdownBatchResult createDrawdowns(List<CreateDrawdownRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new BusinessRuleViolationException("Drawdown requests must not be empty");
+        }
+
+        // 1. 参照データの一括取得
+        Set<Long> facilityIds = new HashSet<>();
+        Set<Long> borrowerIds = new HashSet<>();
+        for (CreateDrawdownRequest request : requests) {
+            if (request.getFacilityId() != null) {
+                facilityIds.add(request.getFacilityId());
             }
-        } else {
-            // SharePieで按分
-            List<SharePie> sharePies = sharePieRepository.findByFacility_Id(request.getFacilityId());
-            BigDecimal total = BigDecimal.ZERO;
-            for (SharePie sharePie : sharePies) {
-                AmountPie pie = new AmountPie();
-                pie.setInvestorId(sharePie.getInvestorId());
-                BigDecimal investorAmount = request.getAmount().multiply(sharePie.getShare().getValue());
-                // Java 9以降の推奨方式で端数処理
-                investorAmount = investorAmount.setScale(2, java.math.RoundingMode.HALF_UP);
-                pie.setAmount(investorAmount);
-                pie.setCurrency(request.getCurrency());
-                pie.setDrawdown(drawdown);
-                amountPies.add(pie);
-                total = total.add(investorAmount);
+            if (request.getBorrowerId() != null) {
+                borrowerIds.add(request.getBorrowerId());
             }
-            // 最後の投資家に端数調整
-            if (!amountPies.isEmpty()) {
-                AmountPie last = amountPies.get(amountPies.size() - 1);
-                BigDecimal diff = request.getAmount().subtract(total);
-                last.setAmount(last.getAmount().add(diff));
+        }
+        Map<Long, Facility> facilities = new HashMap<>();
+        for (Facility facility : facilityRepository.findAllById(facilityIds)) {
+            facilities.put(facility.getId(), facility);
+        }
+        Set<Long> existingBorrowerIds = new HashSet<>();
+        for (Borrower borrower : borrowerRepository.findAllById(borrowerIds)) {
+            existingBorrowerIds.add(borrower.getId());
+        }
+        Map<Long, List<InvestorShare>> sharePiesByFacility = new HashMap<>();
+        for (SharePie sharePie : sharePieRepository.findByFacility_IdIn(facilities.keySet())) {
+            sharePiesByFacility.computeIfAbsent(sharePie.getFacility().getId(), id -> new ArrayList<>())
+                    .add(InvestorShare.of(sharePie));
+        }
+        Set<Long> investorIds = new HashSet<>();
+        for (CreateDrawdownRequest request : requests) {
+            if (hasExplicitAmountPies(request)) {
+                for (AmountPieDto dto : request.getAmountPies()) {
+                    investorIds.add(dto.getInvestorId());
+                }
             }
         }
-        drawdown.setAmountPies(amountPies);
+        sharePiesByFacility.values().forEach(pies -> pies.forEach(pie -> investorIds.add(pie.getInvestorId())));
+        investorIds.remove(null);
+        Set<Long> existingInvestorIds = new HashSet<>();
+        for (Investor investor : investorRepository.findAllById(investorIds)) {
+            existingInvestorIds.add(investor.getId());
+        }
 
-        // 5. Drawdown保存
-        Drawdown savedDrawdown = drawdownRepository.save(drawdown);
+        // 2. メモリ上での検証
+        List<DrawdownBatchItemResult> results = new ArrayList<>(requests.size());
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            CreateDrawdownRequest request = requests.get(i);
+            try {
+                Facility facility = facilities.get(request.getFacilityId());
+                if (facility == null) {
+                    throw new ResourceNotFoundException("Facility not found with id: " + request.getFacilityId());
+                }
+                if (!existingBorrowerIds.contains(request.getBorrowerId())) {
+                    throw new ResourceNotFoundException("Borrower not found with id: " + request.getBorrowerId());
+                }
+                validateDrawdownRequest(request, facility);
+                validateInvestorsExist(request, sharePiesByFacility.getOrDefault(facility.getId(), List.of()),
+                        existingInvestorIds);
+                results.add(null);
+                validIndexes.add(i);
+            } catch (RuntimeException e) {
+                results.add(DrawdownBatchItemResult.failure(i, e.getMessage()));
+            }
+        }
 
-        // 6. Investor投資額の更新
-        updateInvestorAmounts(amountPies);
+        // 3. チャンク単位の書き込み
+        for (int from = 0; from < validIndexes.size(); from += chunkSize) {
+            List<Integer> chunk = validIndexes.subList(from, Math.min(from + chunkSize, validIndexes.size()));
+            try {
+                List<Drawdown> saved = transactionTemplate.execute(status -> {
+                    List<Drawdown> drawdowns = new ArrayList<>(chunk.size());
+                    List<AmountPie> amountPies = new ArrayList<>();
+                    for (Integer index : chunk) {
+                        CreateDrawdownRequest request = requests.get(index);
+                        List<InvestorShare> sharePies = hasExplicitAmountPies(request)
+                                ? List.of()
+                                : sharePiesByFacility.getOrDefault(request.getFacilityId(), List.of());
+                        Drawdown drawdown = saveDrawdown(request, sharePies);
+                        drawdowns.add(drawdown);
+                        amountPies.addAll(drawdown.getAmountPies());
+                    }
+                    updateInvestorAmounts(amountPies);
+                    return drawdowns;
+                });
+                for (int i = 0; i < chunk.size(); i++) {
+                    results.set(chunk.get(i), DrawdownBatchItemResult.success(chunk.get(i), saved.get(i)));
+                }
+            } catch (RuntimeException e) {
+                log.warn("Drawdown batch chunk rolled back: {}", e.getMessage());
+                for (Integer index : chunk) {
+                    results.set(index, DrawdownBatchItemResult.failure(index, e.getMessage()));
+                }
+            }
+        }
 
-        return savedDrawdown;
+        return new DrawdownBatchResult(results);
     }
 
     @Transactional(readOnly = true)
@@ -142,15 +267,97 @@ public class DrawdownService {
         return drawdownRepository.findByFacilityId(facilityId);
     }
 
-    private void validateDrawdownRequest(CreateDrawdownRequest request) {
-        Facility facility = facilityRepository.findById(request.getFacilityId())
-                .orElseThrow(
-                        () -> new ResourceNotFoundException("Facility not found with id: " + request.getFacilityId()));
+    /**
+     * 参照系APIで返すDrawdownの一覧を取得する。
+     *
+     * @param expandAmountPies trueの場合、AmountPieを1クエリでまとめて取得して含める
+     */
+    @StatementBudget(max = 2)
+    @Transactional(readOnly = true)
+    public List<DrawdownView> getDrawdownViews(boolean expandAmountPies) {
+        return withAmountPies(drawdownRepository.findAllViews(), expandAmountPies);
+    }
 
-        if (!borrowerRepository.existsById(request.getBorrowerId())) {
-            throw new ResourceNotFoundException("Borrower not found with id: " + request.getBorrowerId());
+    @StatementBudget(max = 3)
+    @Transactional(readOnly = true)
+    public Page<DrawdownView> getDrawdownViews(Pageable pageable, boolean expandAmountPies) {
+        Page<DrawdownView> page = drawdownRepository.findAllViews(pageable);
+        withAmountPies(page.getContent(), expandAmountPies);
+        return page;
+    }
+
+    @StatementBudget(max = 2)
+    @Transactional(readOnly = true)
+    public DrawdownView getDrawdownView(Long id, boolean expandAmountPies) {
+        DrawdownView view = drawdownRepository.findViewById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Drawdown not found with id: " + id));
+        withAmountPies(List.of(view), expandAmountPies);
+        return view;
+    }
+
+    @StatementBudget(max = 2)
+    @Transactional(readOnly = true)
+    public List<DrawdownView> getDrawdownViewsByFacilityId(Long facilityId, boolean expandAmountPies) {
+        return withAmountPies(drawdownRepository.findViewsByFacilityId(facilityId), expandAmountPies);
+    }
+
+    /**
+     * 全DrawdownをID順に NDJSON として書き出す。
+     * 一覧を List に保持せず、行を読み込みながら出力する。
+     *
+     * @return 書き出した件数
+     */
+    @Transactional(readOnly = true)
+    public long exportDrawdowns(OutputStream out) throws IOException {
+        try (Stream<DrawdownView> drawdowns = drawdownRepository.streamAllViews()) {
+            return ndjsonExporter.write(drawdowns, out);
         }
+    }
+
+    /**
+     * Drawdownを (取引日, ID) のキーセットで1ページ分取得する。
+     * ページが深くなっても取得コストは一定で、COUNT クエリは withTotal 指定時のみ発行する。
+     *
+     * @param cursor 前ページの {@link KeysetPage#getNextCursor()}。null の場合は先頭ページ
+     */
+    @StatementBudget(max = 3)
+    @Transactional(readOnly = true)
+    public KeysetPage<DrawdownView> scrollDrawdownViews(String cursor, int size, boolean withTotal,
+            boolean expandAmountPies) {
+        Pageable probe = KeysetPage.probe(size);
+        List<DrawdownView> rows;
+        if (cursor == null) {
+            rows = drawdownRepository.findFirstViews(probe);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = drawdownRepository.findViewsAfter(after.getDate(), after.getId(), probe);
+        }
+        KeysetPage<DrawdownView> page = KeysetPage.of(rows, size,
+                view -> KeysetCursor.of(view.getTransactionDate(), view.getId()),
+                withTotal ? drawdownRepository::count : null);
+        withAmountPies(page.getContent(), expandAmountPies);
+        return page;
+    }
 
+    private List<DrawdownView> withAmountPies(List<DrawdownView> views, boolean expandAmountPies) {
+        if (!expandAmountPies || views.isEmpty()) {
+            return views;
+        }
+        Map<Long, List<AmountPieView>> amountPiesByDrawdown = new HashMap<>();
+        List<Long> drawdownIds = views.stream().map(DrawdownView::getId).toList();
+        for (AmountPieView amountPie : amountPieRepository.findViewsByDrawdownIdIn(drawdownIds)) {
+            amountPiesByDrawdown.computeIfAbsent(amountPie.getDrawdownId(), id -> new ArrayList<>()).add(amountPie);
+        }
+        for (DrawdownView view : views) {
+            view.setAmountPies(amountPiesByDrawdown.getOrDefault(view.getId(), List.of()));
+        }
+        return views;
+    }
+
+    /**
+     * 取得済みのファシリティに対してリクエストの妥当性を検証する。
+     */
+    private void validateDrawdownRequest(CreateDrawdownRequest request, Facility facility) {
         // 金額の妥当性チェック
         Money amount = Money.of(request.getAmount());
         if (amount.isZero() || !amount.isPositiveOrZero()) {
@@ -173,6 +380,108 @@ public class DrawdownService {
         if (request.getRepaymentPeriodMonths() <= 0) {
             throw new BusinessRuleViolationException("Repayment period must be positive");
         }
+
+        // AmountPie明示指定時の合計チェック
+        if (hasExplicitAmountPies(request)) {
+            BigDecimal total = request.getAmountPies().stream().map(AmountPieDto::getAmount).reduce(BigDecimal.ZERO,
+                    BigDecimal::add);
+            if (total.compareTo(request.getAmount()) != 0) {
+                throw new BusinessRuleViolationException("AmountPieの合計がDrawdown金額と一致しません");
+            }
+        }
+    }
+
+    private void validateInvestorsExist(CreateDrawdownRequest request, List<InvestorShare> sharePies,
+            Set<Long> existingInvestorIds) {
+        if (hasExplicitAmountPies(request)) {
+            for (AmountPieDto dto : request.getAmountPies()) {
+                if (!existingInvestorIds.contains(dto.getInvestorId())) {
+                    throw new ResourceNotFoundException("Investor not found with id: " + dto.getInvestorId());
+                }
+            }
+            return;
+        }
+        for (InvestorShare sharePie : sharePies) {
+            if (!existingInvestorIds.contains(sharePie.getInvestorId())) {
+                throw new ResourceNotFoundException("Investor not found with id: " + sharePie.getInvestorId());
+            }
+        }
+    }
+
+    private static boolean hasExplicitAmountPies(CreateDrawdownRequest request) {
+        return request.getAmountPies() != null && !request.getAmountPies().isEmpty();
+    }
+
+    /**
+     * 検証済みのリクエストから Loan, Drawdown, AmountPie を作成して保存する。
+     */
+    private Drawdown saveDrawdown(CreateDrawdownRequest request, List<InvestorShare> sharePies) {
+        // Loanエンティティの作成
+        Loan loan = createLoan(request);
+        Loan savedLoan = loanRepository.save(loan);
+
+        // Drawdownエンティティの作成
+        Drawdown drawdown = new Drawdown();
+        drawdown.setFacilityId(request.getFacilityId());
+        drawdown.setBorrowerId(request.getBorrowerId());
+        drawdown.setTransactionDate(request.getDrawdownDate());
+        drawdown.setAmount(Money.of(request.getAmount()));
+        drawdown.setLoanId(savedLoan.getId());
+        drawdown.setCurrency(request.getCurrency());
+        drawdown.setPurpose(request.getPurpose());
+
+        // AmountPieの生成
+        List<AmountPie> amountPies = new ArrayList<>();
+        if (hasExplicitAmountPies(request)) {
+            // 明示的指定あり
+            for (AmountPieDto dto : request.getAmountPies()) {
+                AmountPie pie = new AmountPie();
+                pie.setInvestorId(dto.getInvestorId());
+                pie.setAmount(dto.getAmount());
+                pie.setCurrency(dto.getCurrency());
+                pie.setDrawdown(drawdown);
+                amountPies.add(pie);
+            }
+        } else {
+            amountPies = apportionBySharePies(request.getAmount(), request.getCurrency(), sharePies, drawdown);
+        }
+        drawdown.setAmountPies(amountPies);
+
+        // 支払い配分用の重みをLoanに保持
+        if (!amountPies.isEmpty()) {
+            savedLoan.setDistributionWeights(DistributionVector.fromAmountPies(amountPies).toWeights());
+        }
+
+        // Drawdown保存
+        return drawdownRepository.save(drawdown);
+    }
+
+    /**
+     * ドローダウン金額をSharePieで按分してAmountPieを作成する。端数は最後の投資家で調整する。
+     */
+    static List<AmountPie> apportionBySharePies(BigDecimal amount, String currency, List<InvestorShare> sharePies,
+            Drawdown drawdown) {
+        List<AmountPie> amountPies = new ArrayList<>(sharePies.size());
+        BigDecimal total = BigDecimal.ZERO;
+        for (InvestorShare sharePie : sharePies) {
+            AmountPie pie = new AmountPie();
+            pie.setInvestorId(sharePie.getInvestorId());
+            BigDecimal investorAmount = amount.multiply(sharePie.getShare().getValue());
+            // Java 9以降の推奨方式で端数処理
+            investorAmount = investorAmount.setScale(2, java.math.RoundingMode.HALF_UP);
+            pie.setAmount(investorAmount);
+            pie.setCurrency(currency);
+            pie.setDrawdown(drawdown);
+            amountPies.add(pie);
+            total = total.add(investorAmount);
+        }
+        // 最後の投資家に端数調整
+        if (!amountPies.isEmpty()) {
+            AmountPie last = amountPies.get(amountPies.size() - 1);
+            BigDecimal diff = amount.subtract(total);
+            last.setAmount(last.getAmount().add(diff));
+        }
+        return amountPies;
     }
 
     private Loan createLoan(CreateDrawdownRequest request) {
@@ -185,18 +494,31 @@ public class DrawdownService {
                 request.getRepaymentPeriodMonths(),
                 request.getRepaymentCycle(),
                 request.getRepaymentMethod(),
-                request.getCurrency());
+                request.getCurrency(),
+                scheduleMode);
     }
 
+    /**
+     * AmountPieの投資家の投資額を増加させる。
+     * Investor行は更新せず、exposure delta 台帳に1レッグ1行で追記する。
+     * 投資家 × Facility × 通貨 のエクスポージャ参照モデルにはドローダウン済み金額として加算する。
+     */
     private void updateInvestorAmounts(List<AmountPie> amountPies) {
+        List<InvestorExposureDelta> deltas = new ArrayList<>(amountPies.size());
         for (AmountPie amountPie : amountPies) {
-            Investor investor = investorRepository.findById(amountPie.getInvestorId())
-                    .orElseThrow(() -> new ResourceNotFoundException(
-                            "Investor not found with id: " + amountPie.getInvestorId()));
-            
             Money investmentAmount = Money.of(amountPie.getAmount());
-            investor.increaseInvestmentAmount(investmentAmount);
-            investorRepository.save(investor);
+            if (investmentAmount.isPositiveOrZero()) {
+                deltas.add(InvestorExposureDelta.increase(amountPie.getInvestorId(), investmentAmount,
+                        EXPOSURE_SOURCE_TYPE, amountPie.getDrawdown().getId()));
+            }
+        }
+        investorExposureLedger.append(deltas);
+
+        List<ExposureMovement> movements = new ArrayList<>(amountPies.size());
+        for (AmountPie amountPie : amountPies) {
+            movements.add(ExposureMovement.drawn(amountPie.getInvestorId(), amountPie.getDrawdown().getFacilityId(),
+                    amountPie.getCurrency(), Money.of(amountPie.getAmount())));
         }
+        exposureRecorder.record(movements);
     }
 }
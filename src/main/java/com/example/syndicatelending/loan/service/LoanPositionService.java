@@ -0,0 +1,64 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.common.application.exception.ResourceNotFoundException;
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.infrastructure.StatementBudget;
+import com.example.syndicatelending.loan.dto.LoanPosition;
+import com.example.syndicatelending.loan.repository.LoanRepository;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * ローンのポジション（残高・経過利息・次回返済）を返すサービス。
+ * <p>
+ * 残高と次回返済は支払い処理でLoan行に保持されるため、参照は主キーによる1行の取得のみで、
+ * 経過利息は最終支払日からの日割り（実日数 / 365）でその場で計算する。
+ * </p>
+ */
+@Service
+public class LoanPositionService {
+    private static final BigDecimal DAYS_PER_YEAR = new BigDecimal("365");
+
+    /** 日割り計算の中間桁数 */
+    private static final int ACCRUAL_SCALE = 10;
+
+    private final LoanRepository loanRepository;
+
+    public LoanPositionService(LoanRepository loanRepository) {
+        this.loanRepository = loanRepository;
+    }
+
+    /**
+     * 指定日時点のポジションを取得する。
+     *
+     * @param loanId ローンID
+     * @param asOf   経過利息の計算基準日
+     */
+    @StatementBudget(max = 1)
+    @Transactional(readOnly = true)
+    public LoanPosition getPosition(Long loanId, LocalDate asOf) {
+        LoanPosition position = loanRepository.findPositionById(loanId)
+                .orElseThrow(() -> new ResourceNotFoundException("Loan not found with id: " + loanId));
+        position.setAccruedInterest(asOf, accruedInterest(position, asOf));
+        return position;
+    }
+
+    private static Money accruedInterest(LoanPosition position, LocalDate asOf) {
+        long days = ChronoUnit.DAYS.between(position.getInterestAccrualStartDate(), asOf);
+        Money outstanding = position.getOutstandingBalance();
+        if (days <= 0 || outstanding.isZero() || !outstanding.isPositiveOrZero()) {
+            return Money.zero();
+        }
+        BigDecimal interest = outstanding.getAmount()
+                .multiply(position.getAnnualInterestRate().getValue())
+                .multiply(BigDecimal.valueOf(days))
+                .divide(DAYS_PER_YEAR, ACCRUAL_SCALE, RoundingMode.HALF_UP);
+        return Money.of(interest);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.loan.dto.PaymentBatchResult;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * サービシングファイルの取り込みが途中で中断したことを表す例外。
+ * 中断までにコミットされたウィンドウの明細結果と、最後にコミットされたレコード位置を保持する。
+ */
+public class PaymentFileIngestException extends IOException {
+
+    private final int lastCommittedIndex;
+    private final PaymentBatchResult partialResult;
+
+    public PaymentFileIngestException(Path file, int lastCommittedIndex, PaymentBatchResult partialResult,
+            Throwable cause) {
+        super("Payment file " + file.getFileName() + " was interrupted after record " + lastCommittedIndex + ": "
+                + cause.getMessage(), cause);
+        this.lastCommittedIndex = lastCommittedIndex;
+        this.partialResult = partialResult;
+    }
+
+    /**
+     * 最後にコミットされたレコード位置（0始まり）。-1 の場合はどのレコードもコミットされていない
+     */
+    public int getLastCommittedIndex() {
+        return lastCommittedIndex;
+    }
+
+    /**
+     * {@link #getLastCommittedIndex()} までのレコードの明細結果
+     */
+    public PaymentBatchResult getPartialResult() {
+        return partialResult;
+    }
+}
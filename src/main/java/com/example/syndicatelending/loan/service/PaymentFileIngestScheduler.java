@@ -0,0 +1,35 @@
+package com.example.syndicatelending.loan.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 取り込みディレクトリを定期的に確認し、到着したサービシングファイルの支払いを取り込むスケジューラ。
+ */
+@Component
+@EnableScheduling
+@ConditionalOnProperty(name = "loan.payment.ingest.enabled", havingValue = "true")
+public class PaymentFileIngestScheduler {
+    private static final Logger log = LoggerFactory.getLogger(PaymentFileIngestScheduler.class);
+
+    private final PaymentFileIngestService ingestService;
+
+    public PaymentFileIngestScheduler(PaymentFileIngestService ingestService) {
+        this.ingestService = ingestService;
+    }
+
+    @Scheduled(fixedDelayString = "${loan.payment.ingest.interval:PT1M}")
+    public void ingest() {
+        try {
+            ingestService.ingestDirectory();
+        } catch (IOException e) {
+            log.error("Payment ingest directory could not be read: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.loan.dto.CreatePaymentRequest;
+import com.example.syndicatelending.loan.dto.PaymentBatchItemResult;
+import com.example.syndicatelending.loan.dto.PaymentBatchResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * サービシングファイル（CSV / JSON Lines）から支払いを取り込むサービス。
+ * <p>
+ * ファイルを1行ずつ読み込み、{@code windowSize} 件ごとに {@link PaymentService#processPayments} で一括処理する。
+ * 解析できない行は明細単位で FAILED とし、取り込みは継続する。
+ * 処理済みのファイルは {@code processed/} に移動し、結果レポートを {@code <ファイル名>.result.json} として出力する。
+ * </p>
+ * <p>
+ * ウィンドウごとにコミットするため、読み込みや処理が途中で失敗した場合は、それまでのウィンドウは反映済みとなる。
+ * このときファイルは {@code failed/} に移動し、最後にコミットされたレコード位置（{@code lastCommittedIndex}）と
+ * それまでの明細結果をレポートに出力する。再投入するときは lastCommittedIndex より後のレコードのみを含めること。
+ * </p>
+ * <p>
+ * CSVはヘッダ行に {@code loanId,paymentDate,principalAmount,interestAmount,currency} を含むこと（列順は任意）。
+ * JSON Linesは1行に1件の {@link CreatePaymentRequest} を記述する。
+ * </p>
+ */
+@Service
+public class PaymentFileIngestService {
+    private static final Logger log = LoggerFactory.getLogger(PaymentFileIngestService.class);
+    private static final String PROCESSED_DIRECTORY = "processed";
+    private static final String FAILED_DIRECTORY = "failed";
+    private static final List<String> CSV_COLUMNS = List.of("loanId", "paymentDate", "principalAmount",
+            "interestAmount", "currency");
+
+    private final PaymentService paymentService;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final int windowSize;
+
+    public PaymentFileIngestService(PaymentService paymentService,
+            ObjectMapper objectMapper,
+            @Value("${loan.payment.ingest.directory:./inbox/payments}") Path directory,
+            @Value("${loan.payment.ingest.window-size:5000}") int windowSize) {
+        this.paymentService = paymentService;
+        this.objectMapper = objectMapper;
+        this.directory = directory;
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("loan.payment.ingest.window-size must be positive: " + windowSize);
+        }
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * 取り込みディレクトリ内の *.csv / *.jsonl をファイル名順に取り込む。
+     *
+     * @return 取り込んだファイルごとの処理結果
+     */
+    public Map<Path, PaymentBatchResult> ingestDirectory() throws IOException {
+        Map<Path, PaymentBatchResult> results = new LinkedHashMap<>();
+        if (!Files.isDirectory(directory)) {
+            return results;
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*.{csv,jsonl}")) {
+            stream.forEach(files::add);
+        }
+        files.sort(Comparator.comparing(Path::getFileName));
+        for (Path file : files) {
+            PaymentBatchResult result;
+            try {
+                result = ingest(file);
+            } catch (PaymentFileIngestException e) {
+                log.error(e.getMessage(), e.getCause());
+                writeFailureReport(file, e);
+                moveQuietly(file, FAILED_DIRECTORY);
+                continue;
+            }
+            results.put(file, result);
+            // 全ウィンドウがコミット済みのため、レポートを出力できなくても processed/ に移動して再取り込みを防ぐ
+            try {
+                writeReport(file, result);
+            } catch (IOException | RuntimeException e) {
+                log.error("Result report for payment file {} could not be written: {}", file.getFileName(),
+                        e.getMessage());
+            }
+            moveQuietly(file, PROCESSED_DIRECTORY);
+        }
+        return results;
+    }
+
+    /**
+     * 1ファイルを取り込む。結果の index はファイル内のレコード位置（ヘッダ・空行を除く0始まり）。
+     */
+    public PaymentBatchResult ingest(Path file) throws IOException {
+        long startedAt = System.nanoTime();
+        boolean csv = file.getFileName().toString().endsWith(".csv");
+        List<PaymentBatchItemResult> items = new ArrayList<>();
+        List<CreatePaymentRequest> window = new ArrayList<>(windowSize);
+        List<Integer> windowIndexes = new ArrayList<>(windowSize);
+
+        int lastCommittedIndex = -1;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Map<String, Integer> columns = csv ? parseHeader(reader.readLine()) : Map.of();
+            int lineNumber = csv ? 1 : 0;
+            int index = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    window.add(csv ? parseCsv(line, columns) : objectMapper.readValue(line, CreatePaymentRequest.class));
+                    windowIndexes.add(index);
+                } catch (IOException | RuntimeException e) {
+                    items.add(PaymentBatchItemResult.failure(index, "line " + lineNumber + ": " + e.getMessage()));
+                }
+                index++;
+                if (window.size() == windowSize) {
+                    items.addAll(process(window, windowIndexes));
+                    lastCommittedIndex = index - 1;
+                    window.clear();
+                    windowIndexes.clear();
+                }
+            }
+            if (!window.isEmpty()) {
+                items.addAll(process(window, windowIndexes));
+            }
+        } catch (IOException | RuntimeException e) {
+            int committed = lastCommittedIndex;
+            List<PaymentBatchItemResult> committedItems = items.stream()
+                    .filter(item -> item.getIndex() <= committed)
+                    .sorted(Comparator.comparingInt(PaymentBatchItemResult::getIndex))
+                    .toList();
+            throw new PaymentFileIngestException(file, committed,
+                    new PaymentBatchResult(committedItems, Duration.ofNanos(System.nanoTime() - startedAt)), e);
+        }
+
+        items.sort(Comparator.comparingInt(PaymentBatchItemResult::getIndex));
+        PaymentBatchResult result = new PaymentBatchResult(items, Duration.ofNanos(System.nanoTime() - startedAt));
+        log.info("Ingested payment file {}: {} records ({} failed) in {} ms ({} records/s)", file.getFileName(),
+                result.getTotal(), result.getFailed(), result.getElapsedMillis(),
+                String.format("%.1f", result.getRecordsPerSecond()));
+        return result;
+    }
+
+    private List<PaymentBatchItemResult> process(List<CreatePaymentRequest> window, List<Integer> windowIndexes) {
+        List<PaymentBatchItemResult> items = paymentService.processPayments(window).getItems();
+        for (PaymentBatchItemResult item : items) {
+            item.setIndex(windowIndexes.get(item.getIndex()));
+        }
+        return items;
+    }
+
+    private static Map<String, Integer> parseHeader(String header) {
+        if (header == null) {
+            throw new IllegalArgumentException("CSV header is missing");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        String[] names = header.split(",", -1);
+        for (int i = 0; i < names.length; i++) {
+            columns.put(names[i].trim(), i);
+        }
+        for (String column : CSV_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new IllegalArgumentException("CSV header must contain " + column);
+            }
+        }
+        return columns;
+    }
+
+    private static CreatePaymentRequest parseCsv(String line, Map<String, Integer> columns) {
+        String[] values = line.split(",", -1);
+        return new CreatePaymentRequest(
+                Long.valueOf(column(values, columns, "loanId")),
+                LocalDate.parse(column(values, columns, "paymentDate")),
+                new BigDecimal(column(values, columns, "principalAmount")),
+                new BigDecimal(column(values, columns, "interestAmount")),
+                column(values, columns, "currency"));
+    }
+
+    private static String column(String[] values, Map<String, Integer> columns, String name) {
+        int position = columns.get(name);
+        if (position >= values.length || values[position].isBlank()) {
+            throw new IllegalArgumentException(name + " is required");
+        }
+        return values[position].trim();
+    }
+
+    private void writeReport(Path file, PaymentBatchResult result) throws IOException {
+        Path target = Files.createDirectories(directory.resolve(PROCESSED_DIRECTORY));
+        objectMapper.writeValue(target.resolve(file.getFileName() + ".result.json").toFile(), result);
+    }
+
+    /**
+     * 中断時のレポート。lastCommittedIndex までのレコードは反映済み
+     */
+    private void writeFailureReport(Path file, PaymentFileIngestException failure) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("error", failure.getCause().getMessage());
+        report.put("lastCommittedIndex", failure.getLastCommittedIndex());
+        report.put("result", failure.getPartialResult());
+        try {
+            Path target = Files.createDirectories(directory.resolve(FAILED_DIRECTORY));
+            objectMapper.writeValue(target.resolve(file.getFileName() + ".result.json").toFile(), report);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failure report for payment file {} could not be written: {}", file.getFileName(),
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * ファイルを移動する。移動できない場合もログに記録してディレクトリ内の他のファイルの取り込みを続ける
+     */
+    private void moveQuietly(Path file, String subdirectory) {
+        try {
+            Path target = Files.createDirectories(directory.resolve(subdirectory));
+            Files.move(file, target.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            log.error("Payment file {} could not be moved to {}/: {}", file.getFileName(), subdirectory,
+                    e.getMessage());
+        }
+    }
+}
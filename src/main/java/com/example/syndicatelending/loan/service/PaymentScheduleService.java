@@ -0,0 +1,152 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.common.application.exception.ResourceNotFoundException;
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.loan.dto.OverridePaymentDetailRequest;
+import com.example.syndicatelending.loan.entity.Loan;
+import com.example.syndicatelending.loan.entity.PaymentDetail;
+import com.example.syndicatelending.loan.repository.LoanRepository;
+import com.example.syndicatelending.loan.repository.PaymentDetailRepository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * ローンの支払いスケジュール（PaymentDetail）の参照・永続化を担当するサービス。
+ * <p>
+ * PROJECTEDモードのローンでは、支払いで消し込まれた期と上書きされた期のみを永続化する。
+ * </p>
+ */
+@Service
+public class PaymentScheduleService {
+    private final LoanRepository loanRepository;
+    private final PaymentDetailRepository paymentDetailRepository;
+
+    public PaymentScheduleService(LoanRepository loanRepository,
+            PaymentDetailRepository paymentDetailRepository) {
+        this.loanRepository = loanRepository;
+        this.paymentDetailRepository = paymentDetailRepository;
+    }
+
+    /**
+     * 指定範囲（両端を含む）の支払い詳細を取得する。範囲未指定の場合は全期間。
+     */
+    @Transactional(readOnly = true)
+    public List<PaymentDetail> getPaymentSchedule(Long loanId, Integer fromPaymentNumber, Integer toPaymentNumber) {
+        Loan loan = getLoan(loanId);
+        int from = fromPaymentNumber != null ? fromPaymentNumber : 1;
+        int to = toPaymentNumber != null ? toPaymentNumber : loan.getRepaymentPeriodMonths();
+        if (from < 1 || from > to) {
+            throw new BusinessRuleViolationException(
+                    "Invalid payment number range: " + fromPaymentNumber + " - " + toPaymentNumber);
+        }
+        return paymentDetailRepository.findByLoanIdAndPaymentNumberBetween(loanId, from, to);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<PaymentDetail> getPaymentSchedule(Long loanId, Pageable pageable) {
+        getLoan(loanId);
+        return paymentDetailRepository.findByLoanId(loanId, pageable);
+    }
+
+    /**
+     * 指定された期の支払い詳細を上書きして永続化する。
+     */
+    @Transactional
+    public PaymentDetail overridePaymentDetail(Long loanId, Integer paymentNumber,
+            OverridePaymentDetailRequest request) {
+        Loan loan = getLoan(loanId);
+        PaymentDetail detail = materializePaymentDetail(loan, paymentNumber);
+
+        if (request.getPrincipalPayment() != null) {
+            detail.setPrincipalPayment(Money.of(request.getPrincipalPayment()));
+        }
+        if (request.getInterestPayment() != null) {
+            detail.setInterestPayment(Money.of(request.getInterestPayment()));
+        }
+        if (request.getDueDate() != null) {
+            detail.setDueDate(request.getDueDate());
+        }
+        if (request.getRemainingBalance() != null) {
+            detail.setRemainingBalance(Money.of(request.getRemainingBalance()));
+        }
+        if (!detail.getPrincipalPayment().isPositiveOrZero() || !detail.getInterestPayment().isPositiveOrZero()) {
+            throw new BusinessRuleViolationException("Payment amounts must be positive or zero");
+        }
+        PaymentDetail saved = paymentDetailRepository.save(detail);
+        // 次回返済の期を上書きした場合はLoanの次回返済にも反映する
+        loan.refreshNextDue(saved);
+        return saved;
+    }
+
+    /**
+     * 支払いで消し込まれた期（{@link Loan#applyPayment} の戻り値）を支払日とともに永続化する。
+     * 永続化済みの期（STOREDモード・上書き済み）は支払日のみを設定し、それ以外の期は計算値を保存する。
+     * 永続化済みの期はローンごとに1回のクエリで取得する。
+     */
+    @Transactional
+    public void recordSettledPeriods(List<PaymentDetail> settled) {
+        if (settled.isEmpty()) {
+            return;
+        }
+        Map<Loan, List<PaymentDetail>> settledByLoan = new LinkedHashMap<>();
+        for (PaymentDetail detail : settled) {
+            settledByLoan.computeIfAbsent(detail.getLoan(), loan -> new ArrayList<>()).add(detail);
+        }
+
+        List<PaymentDetail> projected = new ArrayList<>();
+        for (Map.Entry<Loan, List<PaymentDetail>> entry : settledByLoan.entrySet()) {
+            List<PaymentDetail> details = entry.getValue();
+            Map<Integer, PaymentDetail> storedByNumber = new HashMap<>();
+            for (PaymentDetail stored : paymentDetailRepository.findStoredByLoanIdAndPaymentNumberBetween(
+                    entry.getKey().getId(), details.get(0).getPaymentNumber(),
+                    details.get(details.size() - 1).getPaymentNumber())) {
+                storedByNumber.put(stored.getPaymentNumber(), stored);
+            }
+            for (PaymentDetail detail : details) {
+                PaymentDetail stored = storedByNumber.get(detail.getPaymentNumber());
+                if (stored != null) {
+                    stored.setPaidDate(detail.getPaidDate());
+                } else {
+                    projected.add(detail);
+                }
+            }
+        }
+        paymentDetailRepository.saveAll(projected);
+    }
+
+    /**
+     * 指定された期の支払い詳細を永続化する。既に永続化済みの場合はそれを返す。
+     */
+    PaymentDetail materializePaymentDetail(Loan loan, Integer paymentNumber) {
+        Optional<PaymentDetail> stored = paymentDetailRepository
+                .findStoredByLoanIdAndPaymentNumber(loan.getId(), paymentNumber);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+        if (!loan.isScheduleProjected() || paymentNumber == null
+                || paymentNumber < 1 || paymentNumber > loan.getRepaymentPeriodMonths()) {
+            throw new ResourceNotFoundException(
+                    "PaymentDetail not found for loan " + loan.getId() + ", payment number: " + paymentNumber);
+        }
+
+        PaymentDetail detail = loan.projectPaymentSchedule().toPaymentDetail(loan, paymentNumber - 1);
+        loan.getPaymentDetails().add(detail);
+        return paymentDetailRepository.save(detail);
+    }
+
+    private Loan getLoan(Long loanId) {
+        return loanRepository.findById(loanId)
+                .orElseThrow(() -> new ResourceNotFoundException("Loan not found with id: " + loanId));
+    }
+}
@@ -2,40 +2,81 @@ package com.example.syndicatelending.loan.service;
 
 import com.example.syndicatelending.common.application.exception.ResourceNotFoundException;
 import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.common.application.pagination.KeysetCursor;
+import com.example.syndicatelending.common.application.pagination.KeysetPage;
 import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.infrastructure.StatementBudget;
+import com.example.syndicatelending.exposure.domain.ExposureMovement;
+import com.example.syndicatelending.exposure.service.ExposureRecorder;
+import com.example.syndicatelending.loan.domain.DistributionVector;
 import com.example.syndicatelending.loan.dto.CreatePaymentRequest;
+import com.example.syndicatelending.loan.dto.PaymentBatchItemResult;
+import com.example.syndicatelending.loan.dto.PaymentBatchResult;
+import com.example.syndicatelending.loan.dto.PaymentSummary;
 import com.example.syndicatelending.loan.entity.Payment;
+import com.example.syndicatelending.loan.entity.PaymentDetail;
 import com.example.syndicatelending.loan.entity.PaymentDistribution;
 import com.example.syndicatelending.loan.entity.Loan;
 import com.example.syndicatelending.loan.entity.AmountPie;
 import com.example.syndicatelending.loan.repository.PaymentRepository;
 import com.example.syndicatelending.loan.repository.LoanRepository;
 import com.example.syndicatelending.loan.repository.AmountPieRepository;
-import com.example.syndicatelending.party.entity.Investor;
-import com.example.syndicatelending.party.repository.InvestorRepository;
+import com.example.syndicatelending.party.entity.InvestorExposureDelta;
+import com.example.syndicatelending.party.service.InvestorExposureLedger;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
 @Service
 public class PaymentService {
+    private static final Logger log = LoggerFactory.getLogger(PaymentService.class);
+    private static final String EXPOSURE_SOURCE_TYPE = "PAYMENT";
+
     private final PaymentRepository paymentRepository;
     private final LoanRepository loanRepository;
     private final AmountPieRepository amountPieRepository;
-    private final InvestorRepository investorRepository;
+    private final InvestorExposureLedger investorExposureLedger;
+    private final ExposureRecorder exposureRecorder;
+    private final PaymentScheduleService paymentScheduleService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
 
     public PaymentService(PaymentRepository paymentRepository,
                          LoanRepository loanRepository,
                          AmountPieRepository amountPieRepository,
-                         InvestorRepository investorRepository) {
+                         InvestorExposureLedger investorExposureLedger,
+                         ExposureRecorder exposureRecorder,
+                         PaymentScheduleService paymentScheduleService,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${loan.payment.batch.chunk-size:500}") int chunkSize) {
         this.paymentRepository = paymentRepository;
         this.loanRepository = loanRepository;
         this.amountPieRepository = amountPieRepository;
-        this.investorRepository = investorRepository;
+        this.investorExposureLedger = investorExposureLedger;
+        this.exposureRecorder = exposureRecorder;
+        this.paymentScheduleService = paymentScheduleService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("loan.payment.batch.chunk-size must be positive: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
     }
 
     @Transactional
@@ -48,41 +89,145 @@ public class PaymentService {
                 .orElseThrow(() -> new ResourceNotFoundException("Loan not found with id: " + request.getLoanId()));
 
         // 3. Paymentエンティティの作成
-        Money principalAmount = Money.of(request.getPrincipalAmount());
-        Money interestAmount = Money.of(request.getInterestAmount());
-        Money totalAmount = principalAmount.add(interestAmount);
-
-        Payment payment = new Payment(
-                request.getLoanId(),
-                request.getPaymentDate(),
-                totalAmount,
-                principalAmount,
-                interestAmount,
-                request.getCurrency()
-        );
+        Payment payment = createPayment(request);
+        validatePrincipalWithinOutstanding(loan.getId(), loan.getOutstandingBalance(), payment.getPrincipalAmount());
 
-        // 4. Payment保存
+        // 4. Payment保存とLoanの残高・次回返済の更新（Loan行の1回のUPDATE、バージョンチェック付き）と消し込んだ期の永続化
         Payment savedPayment = paymentRepository.save(payment);
+        paymentScheduleService.recordSettledPeriods(
+                loan.applyPayment(savedPayment.getPrincipalAmount(), savedPayment.getPaymentDate()));
 
         // 5. PaymentDistributionの生成と保存（ドローダウン時のAmountPieベース）
-        List<PaymentDistribution> paymentDistributions = createPaymentDistributions(
-                savedPayment, loan, principalAmount, interestAmount, request.getCurrency());
+        List<PaymentDistribution> paymentDistributions = createPaymentDistributions(savedPayment,
+                distributionWeights(loan, () -> amountPieRepository.findByDrawdown_LoanId(loan.getId())));
         savedPayment.setPaymentDistributions(paymentDistributions);
 
-        // 6. Investor投資額の減少（元本部分のみ）
-        updateInvestorAmountsForPayment(paymentDistributions);
+        // 6. Investor投資額の減少とエクスポージャ参照モデルの更新（元本部分のみ）
+        investorExposureLedger.append(exposureDeltas(savedPayment));
+        exposureRecorder.record(repaidMovements(savedPayment, loan.getFacilityId()));
 
         return savedPayment;
     }
 
+    /**
+     * 複数の支払いを一括で処理する。
+     * <p>
+     * 参照されるLoanの存在と残高をまとめて取得してメモリ上で検証し、検証を通過した支払いをLoan単位にまとめて
+     * {@code chunkSize} 件程度ごとに1トランザクションで書き込む。同じLoanの支払いは同じチャンクにリクエスト順で含まれる。
+     * チャンク内のLoan・配分用の重みは一括で取得し、Payment・PaymentDistributionは {@code saveAll} でまとめて保存する
+     * （batchプロファイルではJDBCバッチで発行される）。
+     * 残高を超える元本の支払いは、同じLoanの先行する明細を反映した残高と比較して明細単位で検証エラーとする。
+     * 検証エラーの明細やロールバックされたチャンクの明細は FAILED として結果に含め、他の明細の処理は継続する。
+     * </p>
+     *
+     * @param requests 支払いリクエストのリスト
+     * @return 明細ごとの処理結果と処理時間
+     */
+    public PaymentBatchResult processPayments(List<CreatePaymentRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new BusinessRuleViolationException("Payment requests must not be empty");
+        }
+        long startedAt = System.nanoTime();
+
+        // 1. 参照Loanの存在と残高の一括取得
+        Set<Long> loanIds = new HashSet<>();
+        for (CreatePaymentRequest request : requests) {
+            if (request != null && request.getLoanId() != null) {
+                loanIds.add(request.getLoanId());
+            }
+        }
+        Map<Long, Money> outstandingByLoan = new HashMap<>();
+        if (!loanIds.isEmpty()) {
+            for (Object[] row : loanRepository.findOutstandingBalancesByIdIn(loanIds)) {
+                outstandingByLoan.put((Long) row[0], (Money) row[1]);
+            }
+        }
+
+        // 2. メモリ上での検証とLoan単位のグルーピング
+        List<PaymentBatchItemResult> results = new ArrayList<>(requests.size());
+        Map<Long, List<Integer>> indexesByLoan = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            CreatePaymentRequest request = requests.get(i);
+            try {
+                validateRequiredFields(request);
+                Money outstanding = outstandingByLoan.get(request.getLoanId());
+                if (outstanding == null) {
+                    throw new ResourceNotFoundException("Loan not found with id: " + request.getLoanId());
+                }
+                validatePaymentAmounts(request);
+                Money principalAmount = Money.of(request.getPrincipalAmount());
+                validatePrincipalWithinOutstanding(request.getLoanId(), outstanding, principalAmount);
+                outstandingByLoan.put(request.getLoanId(), outstanding.subtract(principalAmount));
+                results.add(null);
+                indexesByLoan.computeIfAbsent(request.getLoanId(), id -> new ArrayList<>()).add(i);
+            } catch (RuntimeException e) {
+                results.add(PaymentBatchItemResult.failure(i, e.getMessage()));
+            }
+        }
+
+        // 3. チャンク単位の書き込み
+        for (List<Integer> chunk : chunksByLoan(indexesByLoan.values())) {
+            try {
+                List<Payment> saved = transactionTemplate.execute(status -> savePayments(requests, chunk));
+                for (int i = 0; i < chunk.size(); i++) {
+                    results.set(chunk.get(i), PaymentBatchItemResult.success(chunk.get(i), saved.get(i)));
+                }
+            } catch (RuntimeException e) {
+                log.warn("Payment batch chunk rolled back: {}", e.getMessage());
+                for (Integer index : chunk) {
+                    results.set(index, PaymentBatchItemResult.failure(index, e.getMessage()));
+                }
+            }
+        }
+
+        PaymentBatchResult result = new PaymentBatchResult(results, Duration.ofNanos(System.nanoTime() - startedAt));
+        log.info("Processed {} payments ({} failed) in {} ms ({} records/s)", result.getTotal(), result.getFailed(),
+                result.getElapsedMillis(), String.format("%.1f", result.getRecordsPerSecond()));
+        return result;
+    }
+
+    /**
+     * Loanの支払いを投資家への配分とともに取得する（1クエリ）。
+     */
+    @StatementBudget(max = 1)
     @Transactional(readOnly = true)
     public List<Payment> getPaymentsByLoanId(Long loanId) {
-        return paymentRepository.findByLoanIdOrderByPaymentDateDesc(loanId);
+        return paymentRepository.findWithDistributionsByLoanIdOrderByPaymentDateDesc(loanId);
+    }
+
+    /**
+     * 一覧表示用に、Loanの支払いを配分を含まないサマリとして取得する（1クエリ）。
+     */
+    @StatementBudget(max = 1)
+    @Transactional(readOnly = true)
+    public List<PaymentSummary> getPaymentSummariesByLoanId(Long loanId) {
+        return paymentRepository.findSummariesByLoanId(loanId);
     }
 
+    /**
+     * 全Loanの支払いを (支払日, ID) のキーセットで1ページ分、サマリとして取得する。
+     *
+     * @param cursor 前ページの {@link KeysetPage#getNextCursor()}。null の場合は先頭ページ
+     */
+    @StatementBudget(max = 2)
+    @Transactional(readOnly = true)
+    public KeysetPage<PaymentSummary> scrollPaymentSummaries(String cursor, int size, boolean withTotal) {
+        Pageable probe = KeysetPage.probe(size);
+        List<PaymentSummary> rows;
+        if (cursor == null) {
+            rows = paymentRepository.findFirstSummaries(probe);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = paymentRepository.findSummariesAfter(after.getDate(), after.getId(), probe);
+        }
+        return KeysetPage.of(rows, size, summary -> KeysetCursor.of(summary.getPaymentDate(), summary.getId()),
+                withTotal ? paymentRepository::count : null);
+    }
+
+    @StatementBudget(max = 1)
     @Transactional(readOnly = true)
     public Payment getPaymentById(Long id) {
-        return paymentRepository.findById(id)
+        return paymentRepository.findWithDistributionsById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Payment not found with id: " + id));
     }
 
@@ -90,7 +235,19 @@ public class PaymentService {
         if (!loanRepository.existsById(request.getLoanId())) {
             throw new ResourceNotFoundException("Loan not found with id: " + request.getLoanId());
         }
+        validatePaymentAmounts(request);
+    }
+
+    private static void validateRequiredFields(CreatePaymentRequest request) {
+        if (request == null || request.getLoanId() == null || request.getPaymentDate() == null
+                || request.getPrincipalAmount() == null || request.getInterestAmount() == null
+                || request.getCurrency() == null) {
+            throw new BusinessRuleViolationException(
+                    "loanId, paymentDate, principalAmount, interestAmount and currency are required");
+        }
+    }
 
+    private static void validatePaymentAmounts(CreatePaymentRequest request) {
         Money principalAmount = Money.of(request.getPrincipalAmount());
         Money interestAmount = Money.of(request.getInterestAmount());
 
@@ -107,48 +264,118 @@ public class PaymentService {
         }
     }
 
-    private List<PaymentDistribution> createPaymentDistributions(Payment payment, Loan loan, Money principalAmount, 
-                                                                Money interestAmount, String currency) {
-        // ドローダウン時のAmountPieから投資家の持分比率を取得
-        List<AmountPie> amountPies = amountPieRepository.findByDrawdown_LoanId(loan.getId());
-        if (amountPies.isEmpty()) {
-            throw new BusinessRuleViolationException("No amount pies found for loan: " + loan.getId());
+    /**
+     * 支払い元本がLoanの残高を超えないこと
+     */
+    private static void validatePrincipalWithinOutstanding(Long loanId, Money outstandingBalance,
+            Money principalAmount) {
+        if (principalAmount.isGreaterThan(outstandingBalance)) {
+            throw new BusinessRuleViolationException("Principal amount " + principalAmount
+                    + " exceeds outstanding balance " + outstandingBalance + " of loan: " + loanId);
         }
+    }
 
-        // 総投資額を計算
-        BigDecimal totalInvestmentAmount = amountPies.stream()
-                .map(AmountPie::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        List<PaymentDistribution> distributions = new ArrayList<>();
-        BigDecimal totalDistributedPrincipal = BigDecimal.ZERO;
-        BigDecimal totalDistributedInterest = BigDecimal.ZERO;
-
-        for (int i = 0; i < amountPies.size(); i++) {
-            AmountPie amountPie = amountPies.get(i);
-            
-            // 投資家の持分比率を計算
-            BigDecimal shareRatio = amountPie.getAmount().divide(totalInvestmentAmount, 10, java.math.RoundingMode.HALF_UP);
-
-            Money investorPrincipal;
-            Money investorInterest;
-
-            if (i == amountPies.size() - 1) {
-                // 最後の投資家には端数調整
-                investorPrincipal = principalAmount.subtract(Money.of(totalDistributedPrincipal));
-                investorInterest = interestAmount.subtract(Money.of(totalDistributedInterest));
-            } else {
-                investorPrincipal = principalAmount.multiply(shareRatio);
-                investorInterest = interestAmount.multiply(shareRatio);
-                totalDistributedPrincipal = totalDistributedPrincipal.add(investorPrincipal.getAmount());
-                totalDistributedInterest = totalDistributedInterest.add(investorInterest.getAmount());
+    /**
+     * Loan単位のグループを、1チャンクあたり {@code chunkSize} 件程度になるようにまとめる。
+     * 1つのLoanの支払いがチャンクをまたぐことはない。
+     */
+    private List<List<Integer>> chunksByLoan(Collection<List<Integer>> groups) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        List<Integer> current = new ArrayList<>();
+        for (List<Integer> group : groups) {
+            if (!current.isEmpty() && current.size() + group.size() > chunkSize) {
+                chunks.add(current);
+                current = new ArrayList<>();
+            }
+            current.addAll(group);
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    /**
+     * 検証済みの支払いを1チャンク分まとめて保存する。
+     */
+    private List<Payment> savePayments(List<CreatePaymentRequest> requests, List<Integer> chunk) {
+        Set<Long> loanIds = new HashSet<>();
+        for (Integer index : chunk) {
+            loanIds.add(requests.get(index).getLoanId());
+        }
+        Map<Long, Loan> loans = new HashMap<>();
+        List<Long> loanIdsWithoutWeights = new ArrayList<>();
+        for (Loan loan : loanRepository.findWithDistributionWeightsByIdIn(loanIds)) {
+            loans.put(loan.getId(), loan);
+            if (loan.getDistributionWeights().isEmpty()) {
+                loanIdsWithoutWeights.add(loan.getId());
             }
+        }
+        Map<Long, List<AmountPie>> amountPiesByLoan = new HashMap<>();
+        if (!loanIdsWithoutWeights.isEmpty()) {
+            for (AmountPie amountPie : amountPieRepository.findWithDrawdownByLoanIdIn(loanIdsWithoutWeights)) {
+                amountPiesByLoan.computeIfAbsent(amountPie.getDrawdown().getLoanId(), id -> new ArrayList<>())
+                        .add(amountPie);
+            }
+        }
+
+        Map<Long, DistributionVector> weightsByLoan = new HashMap<>();
+        List<Payment> payments = new ArrayList<>(chunk.size());
+        List<PaymentDetail> settled = new ArrayList<>();
+        for (Integer index : chunk) {
+            CreatePaymentRequest request = requests.get(index);
+            Loan loan = loans.get(request.getLoanId());
+            DistributionVector weights = weightsByLoan.computeIfAbsent(loan.getId(), id -> distributionWeights(loan,
+                    () -> amountPiesByLoan.getOrDefault(id, List.of())));
+            Payment payment = createPayment(request);
+            // 事前検証の後に別の支払いで残高が減っていた場合に備えて、書き込み時にも確認する
+            validatePrincipalWithinOutstanding(loan.getId(), loan.getOutstandingBalance(),
+                    payment.getPrincipalAmount());
+            payment.setPaymentDistributions(createPaymentDistributions(payment, weights));
+            settled.addAll(loan.applyPayment(payment.getPrincipalAmount(), payment.getPaymentDate()));
+            payments.add(payment);
+        }
+        List<Payment> saved = paymentRepository.saveAll(payments);
+        paymentScheduleService.recordSettledPeriods(settled);
+
+        List<InvestorExposureDelta> deltas = new ArrayList<>();
+        List<ExposureMovement> movements = new ArrayList<>();
+        for (Payment payment : saved) {
+            deltas.addAll(exposureDeltas(payment));
+            movements.addAll(repaidMovements(payment, loans.get(payment.getLoanId()).getFacilityId()));
+        }
+        investorExposureLedger.append(deltas);
+        exposureRecorder.record(movements);
+        return saved;
+    }
+
+    private static Payment createPayment(CreatePaymentRequest request) {
+        Money principalAmount = Money.of(request.getPrincipalAmount());
+        Money interestAmount = Money.of(request.getInterestAmount());
+        return new Payment(
+                request.getLoanId(),
+                request.getPaymentDate(),
+                principalAmount.add(interestAmount),
+                principalAmount,
+                interestAmount,
+                request.getCurrency()
+        );
+    }
 
+    /**
+     * Loanに保持した重みで元本・利息を投資家に按分する。
+     */
+    static List<PaymentDistribution> createPaymentDistributions(Payment payment, DistributionVector weights) {
+        Money[] principals = weights.allocate(payment.getPrincipalAmount());
+        Money[] interests = weights.allocate(payment.getInterestAmount());
+
+        List<PaymentDistribution> distributions = new ArrayList<>(weights.size());
+        for (int i = 0; i < weights.size(); i++) {
             PaymentDistribution distribution = new PaymentDistribution(
-                    amountPie.getInvestorId(),
-                    investorPrincipal,
-                    investorInterest,
-                    currency
+                    weights.investorIdAt(i),
+                    principals[i],
+                    interests[i],
+                    payment.getCurrency()
             );
             distribution.setPayment(payment);
             distributions.add(distribution);
@@ -157,15 +384,48 @@ public class PaymentService {
         return distributions;
     }
 
-    private void updateInvestorAmountsForPayment(List<PaymentDistribution> paymentDistributions) {
-        for (PaymentDistribution distribution : paymentDistributions) {
-            Investor investor = investorRepository.findById(distribution.getInvestorId())
-                    .orElseThrow(() -> new ResourceNotFoundException(
-                            "Investor not found with id: " + distribution.getInvestorId()));
+    /**
+     * Loanの支払い配分用の重みを取得する。
+     * 重みを持たない既存のLoanは、初回の支払い時にAmountPieから重みを作成して保持する。
+     */
+    private DistributionVector distributionWeights(Loan loan, Supplier<List<AmountPie>> amountPies) {
+        if (!loan.getDistributionWeights().isEmpty()) {
+            return DistributionVector.fromWeights(loan.getDistributionWeights());
+        }
+        List<AmountPie> pies = amountPies.get();
+        if (pies.isEmpty()) {
+            throw new BusinessRuleViolationException("No amount pies found for loan: " + loan.getId());
+        }
+        DistributionVector weights = DistributionVector.fromAmountPies(pies);
+        loan.setDistributionWeights(weights.toWeights());
+        return weights;
+    }
+
+    /**
+     * 支払い分配の元本部分を投資家の投資額から減算する delta を作成する（利息は投資額に影響しない）。
+     * Investor行は更新せず、exposure delta 台帳に1レッグ1行で追記する。
+     */
+    private List<InvestorExposureDelta> exposureDeltas(Payment payment) {
+        List<InvestorExposureDelta> deltas = new ArrayList<>(payment.getPaymentDistributions().size());
+        for (PaymentDistribution distribution : payment.getPaymentDistributions()) {
+            Money principal = distribution.getPrincipalAmount();
+            if (principal.isPositiveOrZero()) {
+                deltas.add(InvestorExposureDelta.decrease(distribution.getInvestorId(), principal,
+                        EXPOSURE_SOURCE_TYPE, payment.getId()));
+            }
+        }
+        return deltas;
+    }
 
-            // 元本部分のみ投資額から減算（利息は投資額に影響しない）
-            investor.decreaseInvestmentAmount(distribution.getPrincipalAmount());
-            investorRepository.save(investor);
+    /**
+     * 支払い分配の元本部分をエクスポージャ参照モデルの返済済み元本として加算する増減を作成する。
+     */
+    private static List<ExposureMovement> repaidMovements(Payment payment, Long facilityId) {
+        List<ExposureMovement> movements = new ArrayList<>(payment.getPaymentDistributions().size());
+        for (PaymentDistribution distribution : payment.getPaymentDistributions()) {
+            movements.add(ExposureMovement.repaid(distribution.getInvestorId(), facilityId,
+                    distribution.getCurrency(), distribution.getPrincipalAmount()));
         }
+        return movements;
     }
-}
\ No newline at end of file
+}
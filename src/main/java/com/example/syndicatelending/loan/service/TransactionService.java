@@ -0,0 +1,43 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.common.application.pagination.KeysetCursor;
+import com.example.syndicatelending.common.application.pagination.KeysetPage;
+import com.example.syndicatelending.loan.dto.TransactionView;
+import com.example.syndicatelending.loan.repository.TransactionRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 取引（Drawdown など全種別）の参照サービス。
+ */
+@Service
+@Transactional(readOnly = true)
+public class TransactionService {
+    private final TransactionRepository transactionRepository;
+
+    public TransactionService(TransactionRepository transactionRepository) {
+        this.transactionRepository = transactionRepository;
+    }
+
+    /**
+     * 取引を (取引日, ID) のキーセットで1ページ分取得する。
+     * 照合処理のように全件を順に読み進める用途を想定し、COUNT クエリは withTotal 指定時のみ発行する。
+     *
+     * @param cursor 前ページの {@link KeysetPage#getNextCursor()}。null の場合は先頭ページ
+     */
+    public KeysetPage<TransactionView> scrollTransactions(String cursor, int size, boolean withTotal) {
+        Pageable probe = KeysetPage.probe(size);
+        List<TransactionView> rows;
+        if (cursor == null) {
+            rows = transactionRepository.findFirstViews(probe);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = transactionRepository.findViewsAfter(after.getDate(), after.getId(), probe);
+        }
+        return KeysetPage.of(rows, size, view -> KeysetCursor.of(view.getTransactionDate(), view.getId()),
+                withTotal ? transactionRepository::count : null);
+    }
+}
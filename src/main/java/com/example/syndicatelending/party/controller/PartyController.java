@@ -1,5 +1,6 @@
 package com.example.syndicatelending.party.controller;
 
+import com.example.syndicatelending.common.application.pagination.KeysetPage;
 import com.example.syndicatelending.party.dto.*;
 import com.example.syndicatelending.party.entity.*;
 import com.example.syndicatelending.party.service.PartyService;
@@ -48,6 +49,15 @@ public class PartyController {
         return ResponseEntity.ok(companies);
     }
 
+    @GetMapping("/companies/scroll")
+    @Operation(summary = "Get companies with keyset pagination")
+    public ResponseEntity<KeysetPage<Company>> scrollCompanies(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        KeysetPage<Company> companies = partyService.scrollCompanies(cursor, size, withTotal);
+        return ResponseEntity.ok(companies);
+    }
+
     @PutMapping("/companies/{id}")
     @Operation(summary = "Update company by ID with optimistic locking")
     public ResponseEntity<Company> updateCompany(@PathVariable Long id,
@@ -85,6 +95,15 @@ public class PartyController {
         return ResponseEntity.ok(borrowers);
     }
 
+    @GetMapping("/borrowers/scroll")
+    @Operation(summary = "Get borrowers with keyset pagination")
+    public ResponseEntity<KeysetPage<Borrower>> scrollBorrowers(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        KeysetPage<Borrower> borrowers = partyService.scrollBorrowers(cursor, size, withTotal);
+        return ResponseEntity.ok(borrowers);
+    }
+
     @PutMapping("/borrowers/{id}")
     @Operation(summary = "Update borrower by ID with optimistic locking")
     public ResponseEntity<Borrower> updateBorrower(@PathVariable Long id,
@@ -129,6 +148,15 @@ public class PartyController {
         return ResponseEntity.ok(activeInvestors);
     }
 
+    @GetMapping("/investors/scroll")
+    @Operation(summary = "Get investors with keyset pagination")
+    public ResponseEntity<KeysetPage<Investor>> scrollInvestors(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        KeysetPage<Investor> investors = partyService.scrollInvestors(cursor, size, withTotal);
+        return ResponseEntity.ok(investors);
+    }
+
     @PutMapping("/investors/{id}")
     @Operation(summary = "Update investor by ID with optimistic locking")
     public ResponseEntity<Investor> updateInvestor(@PathVariable Long id,
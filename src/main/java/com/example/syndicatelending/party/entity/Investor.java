@@ -31,9 +31,17 @@ public class Investor {
     @Column(name = "investment_capacity", precision = 19, scale = 2)
     private BigDecimal investmentCapacity;
 
+    /** 投資額のスナップショット（圧縮済みの exposure delta を含む） */
     @Column(name = "current_investment_amount", precision = 19, scale = 2)
     private Money currentInvestmentAmount;
 
+    /**
+     * 未圧縮の exposure delta の合計。
+     * 現在の投資額を返す参照系でのみ InvestorExposureLedger#loadPendingInvestmentAmounts で読み込む（未読み込みはnull）。
+     */
+    @Transient
+    private BigDecimal pendingInvestmentAmount;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "investor_type")
     private InvestorType investorType;
@@ -161,10 +169,21 @@ public class Investor {
         this.updatedAt = updatedAt;
     }
 
+    /**
+     * 現在の投資額（スナップショット + 未圧縮の exposure delta）。
+     * delta の合計を読み込んでいない場合はスナップショットを返す。
+     */
     public Money getCurrentInvestmentAmount() {
-        return currentInvestmentAmount;
+        if (pendingInvestmentAmount == null || pendingInvestmentAmount.signum() == 0) {
+            return currentInvestmentAmount;
+        }
+        Money snapshot = currentInvestmentAmount != null ? currentInvestmentAmount : Money.zero();
+        return snapshot.add(Money.of(pendingInvestmentAmount));
     }
 
+    /**
+     * 投資額のスナップショットを設定する。
+     */
     public void setCurrentInvestmentAmount(Money currentInvestmentAmount) {
         this.currentInvestmentAmount = currentInvestmentAmount;
         this.updatedAt = LocalDateTime.now();
@@ -184,6 +203,25 @@ public class Investor {
         }
     }
 
+    /**
+     * 集計した未圧縮の exposure delta の合計を設定する（永続化はしない）。
+     */
+    public void setPendingInvestmentAmount(Money pendingInvestmentAmount) {
+        this.pendingInvestmentAmount = pendingInvestmentAmount.getAmount();
+    }
+
+    /**
+     * 圧縮した exposure delta の合計をスナップショットに移す。
+     */
+    public void compactInvestmentAmount(Money compacted) {
+        Money snapshot = currentInvestmentAmount != null ? currentInvestmentAmount : Money.zero();
+        this.currentInvestmentAmount = snapshot.add(compacted);
+        if (pendingInvestmentAmount != null) {
+            this.pendingInvestmentAmount = pendingInvestmentAmount.subtract(compacted.getAmount());
+        }
+        this.updatedAt = LocalDateTime.now();
+    }
+
     public Long getVersion() {
         return version;
     }
@@ -0,0 +1,89 @@
+package com.example.syndicatelending.party.entity;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 投資家の投資額の増減を記録する追記専用の台帳エントリ。
+ * <p>
+ * ドローダウン・支払いの1レッグにつき1行を追加し、Investor行は更新しない。
+ * 定期的な圧縮で Investor のスナップショットに畳み込まれ、削除される。
+ * </p>
+ */
+@Entity
+@Table(name = "investor_exposure_delta")
+public class InvestorExposureDelta {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "investor_exposure_delta_seq")
+    @SequenceGenerator(name = "investor_exposure_delta_seq", sequenceName = "investor_exposure_delta_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "investor_id", nullable = false)
+    private Long investorId;
+
+    /** 増減額（減少は負の値） */
+    @Column(name = "amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    /** 発生元の取引種別（例: DRAWDOWN, PAYMENT） */
+    @Column(name = "source_type", nullable = false)
+    private String sourceType;
+
+    /** 発生元の取引ID */
+    @Column(name = "source_id", nullable = false)
+    private Long sourceId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    protected InvestorExposureDelta() {
+        // for JPA
+    }
+
+    public InvestorExposureDelta(Long investorId, Money amount, String sourceType, Long sourceId) {
+        this.investorId = investorId;
+        this.amount = amount.getAmount();
+        this.sourceType = sourceType;
+        this.sourceId = sourceId;
+    }
+
+    public static InvestorExposureDelta increase(Long investorId, Money amount, String sourceType, Long sourceId) {
+        return new InvestorExposureDelta(investorId, amount, sourceType, sourceId);
+    }
+
+    public static InvestorExposureDelta decrease(Long investorId, Money amount, String sourceType, Long sourceId) {
+        return new InvestorExposureDelta(investorId, Money.zero().subtract(amount), sourceType, sourceId);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getInvestorId() {
+        return investorId;
+    }
+
+    public Money getAmount() {
+        return Money.of(amount);
+    }
+
+    public String getSourceType() {
+        return sourceType;
+    }
+
+    public Long getSourceId() {
+        return sourceId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
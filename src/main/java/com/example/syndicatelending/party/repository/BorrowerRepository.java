@@ -23,4 +23,14 @@ public interface BorrowerRepository extends JpaRepository<Borrower, Long>, JpaSp
     Page<Borrower> findByNameContainingIgnoreCase(String name, Pageable pageable);
 
     Page<Borrower> findByCreditRating(CreditRating creditRating, Pageable pageable);
+
+    /**
+     * キーセットページングの先頭ページをIDの昇順で取得する
+     */
+    List<Borrower> findAllByOrderByIdAsc(Pageable pageable);
+
+    /**
+     * キーセットページングで、指定したIDより後のBorrowerを取得する
+     */
+    List<Borrower> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
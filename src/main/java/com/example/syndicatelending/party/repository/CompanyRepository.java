@@ -28,4 +28,14 @@ public interface CompanyRepository extends JpaRepository<Company, Long>, JpaSpec
     Page<Company> findByCompanyNameContainingIgnoreCase(String companyName, Pageable pageable);
 
     Page<Company> findByIndustry(Industry industry, Pageable pageable);
+
+    /**
+     * キーセットページングの先頭ページをIDの昇順で取得する
+     */
+    List<Company> findAllByOrderByIdAsc(Pageable pageable);
+
+    /**
+     * キーセットページングで、指定したIDより後のCompanyを取得する
+     */
+    List<Company> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
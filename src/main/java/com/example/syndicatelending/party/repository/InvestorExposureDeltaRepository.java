@@ -0,0 +1,29 @@
+package com.example.syndicatelending.party.repository;
+
+import com.example.syndicatelending.party.entity.InvestorExposureDelta;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * InvestorExposureDelta Spring Data JPA Repository。
+ */
+@Repository
+public interface InvestorExposureDeltaRepository extends JpaRepository<InvestorExposureDelta, Long> {
+
+    List<InvestorExposureDelta> findByInvestorId(Long investorId);
+
+    @Query("SELECT DISTINCT d.investorId FROM InvestorExposureDelta d")
+    List<Long> findPendingInvestorIds();
+
+    /**
+     * 投資家ごとの未圧縮の delta の合計を取得する（[investorId, SUM(amount)]、delta のない投資家は含まない）
+     */
+    @Query("SELECT d.investorId, SUM(d.amount) FROM InvestorExposureDelta d WHERE d.investorId IN :investorIds "
+            + "GROUP BY d.investorId")
+    List<Object[]> sumAmountByInvestorIdIn(@Param("investorIds") Collection<Long> investorIds);
+}
@@ -25,4 +25,14 @@ public interface InvestorRepository extends JpaRepository<Investor, Long>, JpaSp
     Page<Investor> findByNameContainingIgnoreCase(String name, Pageable pageable);
 
     Page<Investor> findByInvestorType(InvestorType investorType, Pageable pageable);
+
+    /**
+     * キーセットページングの先頭ページをIDの昇順で取得する
+     */
+    List<Investor> findAllByOrderByIdAsc(Pageable pageable);
+
+    /**
+     * キーセットページングで、指定したIDより後のInvestorを取得する
+     */
+    List<Investor> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
@@ -0,0 +1,37 @@
+package com.example.syndicatelending.party.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * exposure delta を定期的に Investor のスナップショットへ圧縮するスケジューラ。
+ * 投資家ごとに別トランザクションで圧縮し、競合した投資家は次回に再試行する。
+ */
+@Component
+@EnableScheduling
+@ConditionalOnProperty(name = "investor.exposure.compaction.enabled", havingValue = "true", matchIfMissing = true)
+public class InvestorExposureCompactionScheduler {
+    private static final Logger log = LoggerFactory.getLogger(InvestorExposureCompactionScheduler.class);
+
+    private final InvestorExposureLedger ledger;
+
+    public InvestorExposureCompactionScheduler(InvestorExposureLedger ledger) {
+        this.ledger = ledger;
+    }
+
+    @Scheduled(fixedDelayString = "${investor.exposure.compaction.interval:PT1M}")
+    public void compact() {
+        for (Long investorId : ledger.findPendingInvestorIds()) {
+            try {
+                ledger.compact(investorId);
+            } catch (OptimisticLockingFailureException e) {
+                log.info("Exposure compaction for investor {} deferred: {}", investorId, e.getMessage());
+            }
+        }
+    }
+}
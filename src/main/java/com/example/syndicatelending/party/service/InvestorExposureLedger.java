@@ -0,0 +1,121 @@
+package com.example.syndicatelending.party.service;
+
+import com.example.syndicatelending.common.application.exception.ResourceNotFoundException;
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.party.entity.Investor;
+import com.example.syndicatelending.party.entity.InvestorExposureDelta;
+import com.example.syndicatelending.party.repository.InvestorExposureDeltaRepository;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 投資家の投資額を追記専用の exposure delta 台帳で管理するサービス。
+ * <p>
+ * ドローダウン・支払いは Investor 行を更新せずに delta を追加するだけなので、
+ * 同じ投資家を含む取引が同時に実行されても楽観的ロックで競合しない。
+ * delta は {@link #compact(Long)} で Investor のスナップショットに畳み込まれる。
+ * 未圧縮の delta の合計は Investor の読み込みでは集計せず、現在の投資額を返す参照系でのみ
+ * {@link #loadPendingInvestmentAmounts(Collection)} で読み込む。
+ * </p>
+ */
+@Service
+public class InvestorExposureLedger {
+    private final InvestorRepository investorRepository;
+    private final InvestorExposureDeltaRepository deltaRepository;
+
+    public InvestorExposureLedger(InvestorRepository investorRepository,
+            InvestorExposureDeltaRepository deltaRepository) {
+        this.investorRepository = investorRepository;
+        this.deltaRepository = deltaRepository;
+    }
+
+    /**
+     * delta を追加する。
+     * 投資家の存在確認は1回のクエリで行う。
+     *
+     * @param deltas 追加する delta
+     */
+    @Transactional
+    public void append(List<InvestorExposureDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Set<Long> investorIds = new HashSet<>();
+        for (InvestorExposureDelta delta : deltas) {
+            investorIds.add(delta.getInvestorId());
+        }
+        Set<Long> existingIds = new HashSet<>();
+        for (Investor investor : investorRepository.findAllById(investorIds)) {
+            existingIds.add(investor.getId());
+        }
+
+        for (InvestorExposureDelta delta : deltas) {
+            if (!existingIds.contains(delta.getInvestorId())) {
+                throw new ResourceNotFoundException("Investor not found with id: " + delta.getInvestorId());
+            }
+        }
+        deltaRepository.saveAll(deltas);
+    }
+
+    /**
+     * 指定された投資家の delta をスナップショットに畳み込み、削除する。
+     * 圧縮中に追加された delta は次回の圧縮対象として残る。
+     *
+     * @param investorId 投資家ID
+     * @return 圧縮した delta の件数
+     */
+    @Transactional
+    public int compact(Long investorId) {
+        List<InvestorExposureDelta> deltas = deltaRepository.findByInvestorId(investorId);
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        Investor investor = investorRepository.findById(investorId)
+                .orElseThrow(() -> new ResourceNotFoundException("Investor not found with id: " + investorId));
+
+        Money compacted = Money.zero();
+        for (InvestorExposureDelta delta : deltas) {
+            compacted = compacted.add(delta.getAmount());
+        }
+        investor.compactInvestmentAmount(compacted);
+        investorRepository.save(investor);
+        deltaRepository.deleteAllInBatch(deltas);
+        return deltas.size();
+    }
+
+    /**
+     * 投資家ごとの未圧縮の delta の合計を1回のクエリで集計し、現在の投資額に含める。
+     */
+    @Transactional(readOnly = true)
+    public void loadPendingInvestmentAmounts(Collection<Investor> investors) {
+        if (investors.isEmpty()) {
+            return;
+        }
+        Map<Long, Investor> byId = new HashMap<>();
+        for (Investor investor : investors) {
+            byId.put(investor.getId(), investor);
+            investor.setPendingInvestmentAmount(Money.zero());
+        }
+        for (Object[] row : deltaRepository.sumAmountByInvestorIdIn(byId.keySet())) {
+            byId.get((Long) row[0]).setPendingInvestmentAmount(Money.of((BigDecimal) row[1]));
+        }
+    }
+
+    /**
+     * 未圧縮の delta を持つ投資家IDの一覧を取得する。
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findPendingInvestorIds() {
+        return deltaRepository.findPendingInvestorIds();
+    }
+}
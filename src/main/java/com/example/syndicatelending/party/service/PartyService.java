@@ -2,6 +2,8 @@ package com.example.syndicatelending.party.service;
 
 import com.example.syndicatelending.common.application.exception.ResourceNotFoundException;
 import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.common.application.pagination.KeysetCursor;
+import com.example.syndicatelending.common.application.pagination.KeysetPage;
 import com.example.syndicatelending.party.dto.*;
 import com.example.syndicatelending.party.entity.*;
 import com.example.syndicatelending.party.repository.*;
@@ -11,6 +13,11 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
 /**
  * Party管理サービス（統合サービス）。
  */
@@ -21,13 +28,16 @@ public class PartyService {
     private final CompanyRepository companyRepository;
     private final BorrowerRepository borrowerRepository;
     private final InvestorRepository investorRepository;
+    private final InvestorExposureLedger investorExposureLedger;
 
     public PartyService(CompanyRepository companyRepository,
             BorrowerRepository borrowerRepository,
-            InvestorRepository investorRepository) {
+            InvestorRepository investorRepository,
+            InvestorExposureLedger investorExposureLedger) {
         this.companyRepository = companyRepository;
         this.borrowerRepository = borrowerRepository;
         this.investorRepository = investorRepository;
+        this.investorExposureLedger = investorExposureLedger;
     }
 
     // Company operations
@@ -52,6 +62,17 @@ public class PartyService {
         return companyRepository.findAll(pageable);
     }
 
+    /**
+     * CompanyをIDのキーセットで1ページ分取得する。
+     *
+     * @param cursor 前ページの {@link KeysetPage#getNextCursor()}。null の場合は先頭ページ
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<Company> scrollCompanies(String cursor, int size, boolean withTotal) {
+        return scrollById(cursor, size, withTotal, companyRepository::findAllByOrderByIdAsc,
+                companyRepository::findByIdGreaterThanOrderByIdAsc, Company::getId, companyRepository::count);
+    }
+
     // ==============================================================
     // 楽観的排他制御対応の更新メソッド
     // ==============================================================
@@ -126,6 +147,17 @@ public class PartyService {
         return borrowerRepository.findAll(pageable);
     }
 
+    /**
+     * BorrowerをIDのキーセットで1ページ分取得する。
+     *
+     * @param cursor 前ページの {@link KeysetPage#getNextCursor()}。null の場合は先頭ページ
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<Borrower> scrollBorrowers(String cursor, int size, boolean withTotal) {
+        return scrollById(cursor, size, withTotal, borrowerRepository::findAllByOrderByIdAsc,
+                borrowerRepository::findByIdGreaterThanOrderByIdAsc, Borrower::getId, borrowerRepository::count);
+    }
+
     // ==============================================================
     // 楽観的排他制御対応の更新メソッド
     // ==============================================================
@@ -203,18 +235,31 @@ public class PartyService {
 
     @Transactional(readOnly = true)
     public Investor getInvestorById(Long id) {
-        return investorRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Investor not found with ID: " + id));
+        return withCurrentInvestmentAmount(findInvestor(id));
     }
 
     @Transactional(readOnly = true)
     public Page<Investor> getAllInvestors(Pageable pageable) {
-        return investorRepository.findAll(pageable);
+        return withCurrentInvestmentAmounts(investorRepository.findAll(pageable));
+    }
+
+    /**
+     * InvestorをIDのキーセットで1ページ分取得する。
+     *
+     * @param cursor 前ページの {@link KeysetPage#getNextCursor()}。null の場合は先頭ページ
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<Investor> scrollInvestors(String cursor, int size, boolean withTotal) {
+        KeysetPage<Investor> page = scrollById(cursor, size, withTotal, investorRepository::findAllByOrderByIdAsc,
+                investorRepository::findByIdGreaterThanOrderByIdAsc, Investor::getId, investorRepository::count);
+        investorExposureLedger.loadPendingInvestmentAmounts(page.getContent());
+        return page;
     }
 
     @Transactional(readOnly = true)
     public Page<Investor> getActiveInvestors(Pageable pageable) {
-        return investorRepository.findAll((root, query, cb) -> cb.isTrue(root.get("isActive")), pageable);
+        return withCurrentInvestmentAmounts(
+                investorRepository.findAll((root, query, cb) -> cb.isTrue(root.get("isActive")), pageable));
     }
 
     // ==============================================================
@@ -222,7 +267,7 @@ public class PartyService {
     // ==============================================================
 
     public Investor updateInvestor(Long id, UpdateInvestorRequest request) {
-        Investor existingInvestor = getInvestorById(id);
+        Investor existingInvestor = findInvestor(id);
 
         // 企業IDが指定されている場合の存在チェック
         if (request.getCompanyId() != null && !request.getCompanyId().trim().isEmpty()) {
@@ -250,7 +295,7 @@ public class PartyService {
         entityToSave.setInvestorType(request.getInvestorType());
         entityToSave.setCreatedAt(existingInvestor.getCreatedAt());
 
-        return investorRepository.save(entityToSave);
+        return withCurrentInvestmentAmount(investorRepository.save(entityToSave));
     }
 
     public void deleteInvestor(Long id) {
@@ -298,13 +343,41 @@ public class PartyService {
             Specification<Investor> spec = (root, query, cb) -> cb.and(
                     cb.like(cb.lower(root.get("name")), "%" + name.toLowerCase() + "%"),
                     cb.equal(root.get("investorType"), investorType));
-            return investorRepository.findAll(spec, pageable);
+            return withCurrentInvestmentAmounts(investorRepository.findAll(spec, pageable));
         } else if (name != null && !name.isBlank()) {
-            return investorRepository.findByNameContainingIgnoreCase(name, pageable);
+            return withCurrentInvestmentAmounts(investorRepository.findByNameContainingIgnoreCase(name, pageable));
         } else if (investorType != null) {
-            return investorRepository.findByInvestorType(investorType, pageable);
+            return withCurrentInvestmentAmounts(investorRepository.findByInvestorType(investorType, pageable));
         } else {
-            return investorRepository.findAll(pageable);
+            return withCurrentInvestmentAmounts(investorRepository.findAll(pageable));
         }
     }
+
+    private Investor findInvestor(Long id) {
+        return investorRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Investor not found with ID: " + id));
+    }
+
+    /**
+     * 返却する投資家の現在の投資額に、未圧縮の exposure delta を含める
+     */
+    private Investor withCurrentInvestmentAmount(Investor investor) {
+        investorExposureLedger.loadPendingInvestmentAmounts(List.of(investor));
+        return investor;
+    }
+
+    private Page<Investor> withCurrentInvestmentAmounts(Page<Investor> investors) {
+        investorExposureLedger.loadPendingInvestmentAmounts(investors.getContent());
+        return investors;
+    }
+
+    private static <T> KeysetPage<T> scrollById(String cursor, int size, boolean withTotal,
+            Function<Pageable, List<T>> first, BiFunction<Long, Pageable, List<T>> after,
+            Function<T, Long> idOf, LongSupplier count) {
+        Pageable probe = KeysetPage.probe(size);
+        List<T> rows = cursor == null
+                ? first.apply(probe)
+                : after.apply(KeysetCursor.decode(cursor).getId(), probe);
+        return KeysetPage.of(rows, size, row -> KeysetCursor.ofId(idOf.apply(row)), withTotal ? count : null);
+    }
 }
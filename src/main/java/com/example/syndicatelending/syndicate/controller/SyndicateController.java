@@ -1,6 +1,7 @@
 package com.example.syndicatelending.syndicate.controller;
 
 import com.example.syndicatelending.syndicate.dto.CreateSyndicateRequest;
+import com.example.syndicatelending.syndicate.dto.SyndicateView;
 import com.example.syndicatelending.syndicate.dto.UpdateSyndicateRequest;
 import com.example.syndicatelending.syndicate.entity.Syndicate;
 import com.example.syndicatelending.syndicate.service.SyndicateService;
@@ -27,13 +28,13 @@ public class SyndicateController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Syndicate> getSyndicate(@PathVariable Long id) {
-        return ResponseEntity.ok(syndicateService.getSyndicateById(id));
+    public ResponseEntity<SyndicateView> getSyndicate(@PathVariable Long id) {
+        return ResponseEntity.ok(syndicateService.getSyndicateView(id));
     }
 
     @GetMapping
-    public ResponseEntity<Page<Syndicate>> getAllSyndicates(Pageable pageable) {
-        return ResponseEntity.ok(syndicateService.getAllSyndicates(pageable));
+    public ResponseEntity<Page<SyndicateView>> getAllSyndicates(Pageable pageable) {
+        return ResponseEntity.ok(syndicateService.getSyndicateViews(pageable));
     }
 
     @PutMapping("/{id}")
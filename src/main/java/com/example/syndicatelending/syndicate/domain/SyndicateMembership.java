@@ -0,0 +1,59 @@
+package com.example.syndicatelending.syndicate.domain;
+
+import com.example.syndicatelending.syndicate.entity.Syndicate;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * シンジケートのBorrowerとメンバー投資家ID（Syndicateの不変な写し）。
+ * キャッシュに保持するためエンティティではなくこの値オブジェクトを使う。
+ */
+public final class SyndicateMembership {
+    private final Long syndicateId;
+    private final Long borrowerId;
+    private final Set<Long> memberInvestorIds;
+
+    public SyndicateMembership(Long syndicateId, Long borrowerId, Set<Long> memberInvestorIds) {
+        this.syndicateId = syndicateId;
+        this.borrowerId = borrowerId;
+        this.memberInvestorIds = Set.copyOf(memberInvestorIds);
+    }
+
+    public static SyndicateMembership of(Syndicate syndicate) {
+        return new SyndicateMembership(syndicate.getId(), syndicate.getBorrowerId(),
+                Set.copyOf(syndicate.getMemberInvestorIds()));
+    }
+
+    public Long getSyndicateId() {
+        return syndicateId;
+    }
+
+    public Long getBorrowerId() {
+        return borrowerId;
+    }
+
+    public Set<Long> getMemberInvestorIds() {
+        return memberInvestorIds;
+    }
+
+    public boolean isMember(Long investorId) {
+        return memberInvestorIds.contains(investorId);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        SyndicateMembership that = (SyndicateMembership) o;
+        return Objects.equals(syndicateId, that.syndicateId) && Objects.equals(borrowerId, that.borrowerId)
+                && Objects.equals(memberInvestorIds, that.memberInvestorIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(syndicateId, borrowerId, memberInvestorIds);
+    }
+}
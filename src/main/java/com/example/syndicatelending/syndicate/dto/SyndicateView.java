@@ -0,0 +1,65 @@
+package com.example.syndicatelending.syndicate.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 参照系APIで返すSyndicate。
+ */
+public class SyndicateView {
+    private final Long id;
+    private final String name;
+    private final Long leadBankId;
+    private final Long borrowerId;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final Long version;
+    private List<Long> memberInvestorIds = List.of();
+
+    public SyndicateView(Long id, String name, Long leadBankId, Long borrowerId, LocalDateTime createdAt,
+            LocalDateTime updatedAt, Long version) {
+        this.id = id;
+        this.name = name;
+        this.leadBankId = leadBankId;
+        this.borrowerId = borrowerId;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Long getLeadBankId() {
+        return leadBankId;
+    }
+
+    public Long getBorrowerId() {
+        return borrowerId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public List<Long> getMemberInvestorIds() {
+        return memberInvestorIds;
+    }
+
+    public void setMemberInvestorIds(List<Long> memberInvestorIds) {
+        this.memberInvestorIds = memberInvestorIds;
+    }
+}
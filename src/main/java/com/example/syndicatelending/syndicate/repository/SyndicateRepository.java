@@ -1,10 +1,41 @@
 package com.example.syndicatelending.syndicate.repository;
 
+import com.example.syndicatelending.syndicate.dto.SyndicateView;
 import com.example.syndicatelending.syndicate.entity.Syndicate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface SyndicateRepository extends JpaRepository<Syndicate, Long> {
+    /** 参照系APIで返す {@link SyndicateView} を組み立てるSELECT句 */
+    String VIEW_SELECT = "SELECT new com.example.syndicatelending.syndicate.dto.SyndicateView(s.id, s.name, "
+            + "s.leadBankId, s.borrowerId, s.createdAt, s.updatedAt, s.version) FROM Syndicate s";
+
     boolean existsByName(String name);
+
+    /**
+     * メンバー投資家IDを fetch join してシンジケートを取得する
+     */
+    @Query("SELECT s FROM Syndicate s LEFT JOIN FETCH s.memberInvestorIds WHERE s.id = :id")
+    Optional<Syndicate> findWithMemberInvestorIdsById(@Param("id") Long id);
+
+    @Query(value = VIEW_SELECT, countQuery = "SELECT COUNT(s) FROM Syndicate s")
+    Page<SyndicateView> findAllViews(Pageable pageable);
+
+    @Query(VIEW_SELECT + " WHERE s.id = :id")
+    Optional<SyndicateView> findViewById(@Param("id") Long id);
+
+    /**
+     * 複数シンジケートのメンバー投資家IDを [syndicateId, investorId] の組でまとめて取得する
+     */
+    @Query("SELECT s.id, m FROM Syndicate s JOIN s.memberInvestorIds m WHERE s.id IN :ids")
+    List<Object[]> findMemberInvestorIdsBySyndicateIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,34 @@
+package com.example.syndicatelending.syndicate.service;
+
+import com.example.syndicatelending.common.infrastructure.CacheConfig;
+import com.example.syndicatelending.syndicate.domain.SyndicateMembership;
+import com.example.syndicatelending.syndicate.repository.SyndicateRepository;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * シンジケートのBorrowerとメンバー投資家IDを読み取るキャッシュ。
+ * SyndicateService の作成・更新・削除時に evict される。存在しないシンジケートはキャッシュしない。
+ */
+@Component
+public class SyndicateMembershipCache {
+    private final SyndicateRepository syndicateRepository;
+
+    public SyndicateMembershipCache(SyndicateRepository syndicateRepository) {
+        this.syndicateRepository = syndicateRepository;
+    }
+
+    @Cacheable(cacheNames = CacheConfig.SYNDICATE_MEMBERS, condition = "#syndicateId != null",
+            unless = "#result == null")
+    @Transactional(readOnly = true)
+    public Optional<SyndicateMembership> getMembership(Long syndicateId) {
+        if (syndicateId == null) {
+            return Optional.empty();
+        }
+        return syndicateRepository.findWithMemberInvestorIdsById(syndicateId).map(SyndicateMembership::of);
+    }
+}
@@ -2,17 +2,25 @@ package com.example.syndicatelending.syndicate.service;
 
 import com.example.syndicatelending.syndicate.entity.Syndicate;
 import com.example.syndicatelending.syndicate.repository.SyndicateRepository;
+import com.example.syndicatelending.syndicate.dto.SyndicateView;
 import com.example.syndicatelending.syndicate.dto.UpdateSyndicateRequest;
 import com.example.syndicatelending.common.application.exception.ResourceNotFoundException;
 import com.example.syndicatelending.party.repository.InvestorRepository;
 import com.example.syndicatelending.party.entity.Investor;
 import com.example.syndicatelending.party.entity.InvestorType;
 import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.common.infrastructure.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @Transactional
 public class SyndicateService {
@@ -24,6 +32,7 @@ public class SyndicateService {
         this.investorRepository = investorRepository;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.SYNDICATE_MEMBERS, key = "#result.id")
     public Syndicate createSyndicate(Syndicate syndicate) {
         if (syndicateRepository.existsByName(syndicate.getName())) {
             throw new IllegalArgumentException("Syndicate name already exists: " + syndicate.getName());
@@ -48,6 +57,38 @@ public class SyndicateService {
         return syndicateRepository.findAll(pageable);
     }
 
+    /**
+     * 参照系APIで返すSyndicateの一覧を取得する。メンバー投資家IDはページ分を1クエリでまとめて取得する。
+     */
+    @Transactional(readOnly = true)
+    public Page<SyndicateView> getSyndicateViews(Pageable pageable) {
+        Page<SyndicateView> page = syndicateRepository.findAllViews(pageable);
+        withMemberInvestorIds(page.getContent());
+        return page;
+    }
+
+    @Transactional(readOnly = true)
+    public SyndicateView getSyndicateView(Long id) {
+        SyndicateView view = syndicateRepository.findViewById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Syndicate not found with ID: " + id));
+        withMemberInvestorIds(List.of(view));
+        return view;
+    }
+
+    private void withMemberInvestorIds(List<SyndicateView> views) {
+        if (views.isEmpty()) {
+            return;
+        }
+        Map<Long, List<Long>> membersBySyndicate = new HashMap<>();
+        List<Long> syndicateIds = views.stream().map(SyndicateView::getId).toList();
+        for (Object[] row : syndicateRepository.findMemberInvestorIdsBySyndicateIdIn(syndicateIds)) {
+            membersBySyndicate.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Long) row[1]);
+        }
+        for (SyndicateView view : views) {
+            view.setMemberInvestorIds(membersBySyndicate.getOrDefault(view.getId(), List.of()));
+        }
+    }
+
     /**
      * Syndicateの更新メソッド。
      * 
@@ -55,6 +96,7 @@ public class SyndicateService {
      * @param updatedSyndicate
      * @return
      */
+    @CacheEvict(cacheNames = CacheConfig.SYNDICATE_MEMBERS, key = "#id")
     public Syndicate updateSyndicate(Long id, UpdateSyndicateRequest request) {
         Syndicate existingSyndicate = getSyndicateById(id);
 
@@ -86,6 +128,7 @@ public class SyndicateService {
         return syndicateRepository.save(entityToSave);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.SYNDICATE_MEMBERS, key = "#id")
     public void deleteSyndicate(Long id) {
         if (!syndicateRepository.existsById(id)) {
             throw new ResourceNotFoundException("Syndicate not found with ID: " + id);
@@ -0,0 +1,244 @@
+-- ベーススキーマ
+-- これまで spring.jpa.hibernate.ddl-auto=update で生成していたテーブル・シーケンス・インデックスを明示的に定義する。
+-- 以降のスキーマ変更はエンティティの変更と同じコミットで V<n>__*.sql を追加して行う（既存のファイルは変更しない）。
+
+-- シーケンス（エンティティの allocationSize = 50 と一致させること）
+CREATE SEQUENCE transaction_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE loan_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE payment_detail_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE payments_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE payment_distributions_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE drawdown_amount_pies_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE investor_exposure_delta_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE investor_facility_exposure_seq START WITH 1 INCREMENT BY 50;
+
+-- Party
+CREATE TABLE companies (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    company_name VARCHAR(255) NOT NULL,
+    registration_number VARCHAR(255),
+    industry VARCHAR(50),
+    country VARCHAR(50),
+    address VARCHAR(255),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    version BIGINT
+);
+
+CREATE TABLE borrowers (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255),
+    phone_number VARCHAR(255),
+    company_id VARCHAR(255),
+    credit_limit NUMERIC(38, 2),
+    credit_rating VARCHAR(50),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    version BIGINT
+);
+
+CREATE TABLE investors (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255),
+    phone_number VARCHAR(255),
+    company_id VARCHAR(255),
+    investment_capacity NUMERIC(19, 2),
+    current_investment_amount NUMERIC(19, 2),
+    investor_type VARCHAR(50),
+    is_active BOOLEAN NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    version BIGINT
+);
+
+CREATE TABLE investor_exposure_delta (
+    id BIGINT PRIMARY KEY,
+    investor_id BIGINT NOT NULL,
+    amount NUMERIC(19, 2) NOT NULL,
+    source_type VARCHAR(255) NOT NULL,
+    source_id BIGINT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL
+);
+CREATE INDEX idx_investor_exposure_delta_investor_id ON investor_exposure_delta (investor_id);
+
+-- Syndicate
+CREATE TABLE syndicates (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    lead_bank_id BIGINT,
+    borrower_id BIGINT,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    version BIGINT,
+    CONSTRAINT uk_syndicates_name UNIQUE (name)
+);
+
+CREATE TABLE syndicate_members (
+    syndicate_id BIGINT NOT NULL,
+    investor_id BIGINT,
+    CONSTRAINT fk_syndicate_members_syndicate FOREIGN KEY (syndicate_id) REFERENCES syndicates (id)
+);
+
+-- Facility
+CREATE TABLE facilities (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    syndicate_id BIGINT NOT NULL,
+    commitment NUMERIC(19, 2) NOT NULL,
+    currency VARCHAR(255) NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    interest_terms VARCHAR(255),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    version BIGINT
+);
+
+CREATE TABLE facility_share_pies (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    investor_id BIGINT NOT NULL,
+    share NUMERIC(8, 4) NOT NULL,
+    facility_id BIGINT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT fk_facility_share_pies_facility FOREIGN KEY (facility_id) REFERENCES facilities (id)
+);
+
+CREATE TABLE borrower_committed_exposure (
+    syndicate_id BIGINT PRIMARY KEY,
+    borrower_id BIGINT NOT NULL,
+    committed_amount NUMERIC(19, 2) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    version BIGINT
+);
+CREATE INDEX idx_borrower_committed_exposure_borrower_id ON borrower_committed_exposure (borrower_id);
+
+-- Transaction（JOINED継承: drawdown と facility_investment は transaction と同じIDを持つ）
+CREATE TABLE transaction (
+    id BIGINT PRIMARY KEY,
+    facility_id BIGINT NOT NULL,
+    borrower_id BIGINT NOT NULL,
+    transaction_date DATE NOT NULL,
+    transaction_type VARCHAR(255) NOT NULL,
+    amount NUMERIC(38, 2) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    version BIGINT
+);
+CREATE INDEX idx_transaction_transaction_date_id ON transaction (transaction_date, id);
+
+CREATE TABLE facility_investment (
+    id BIGINT PRIMARY KEY,
+    investor_id BIGINT NOT NULL,
+    CONSTRAINT fk_facility_investment_transaction FOREIGN KEY (id) REFERENCES transaction (id)
+);
+
+CREATE TABLE drawdown (
+    id BIGINT PRIMARY KEY,
+    loan_id BIGINT NOT NULL,
+    currency VARCHAR(255) NOT NULL,
+    purpose VARCHAR(255) NOT NULL,
+    CONSTRAINT fk_drawdown_transaction FOREIGN KEY (id) REFERENCES transaction (id)
+);
+
+CREATE TABLE drawdown_amount_pies (
+    id BIGINT PRIMARY KEY,
+    investor_id BIGINT NOT NULL,
+    amount NUMERIC(18, 2) NOT NULL,
+    currency VARCHAR(255) NOT NULL,
+    drawdown_id BIGINT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    version BIGINT,
+    CONSTRAINT fk_drawdown_amount_pies_drawdown FOREIGN KEY (drawdown_id) REFERENCES drawdown (id)
+);
+
+-- Loan
+CREATE TABLE loan (
+    id BIGINT PRIMARY KEY,
+    facility_id BIGINT NOT NULL,
+    borrower_id BIGINT NOT NULL,
+    principal_amount NUMERIC(38, 2) NOT NULL,
+    outstanding_balance NUMERIC(38, 2) NOT NULL,
+    annual_interest_rate NUMERIC(38, 4) NOT NULL,
+    drawdown_date DATE NOT NULL,
+    repayment_period_months INTEGER NOT NULL,
+    repayment_cycle VARCHAR(255) NOT NULL,
+    repayment_method VARCHAR(50) NOT NULL,
+    schedule_mode VARCHAR(50) NOT NULL,
+    currency VARCHAR(255) NOT NULL,
+    next_payment_number INTEGER,
+    next_due_date DATE,
+    next_principal_due NUMERIC(38, 2),
+    next_interest_due NUMERIC(38, 2),
+    last_payment_date DATE,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    version BIGINT
+);
+
+CREATE TABLE loan_distribution_weights (
+    loan_id BIGINT NOT NULL,
+    position INTEGER NOT NULL,
+    investor_id BIGINT NOT NULL,
+    weight BIGINT NOT NULL,
+    PRIMARY KEY (loan_id, position),
+    CONSTRAINT fk_loan_distribution_weights_loan FOREIGN KEY (loan_id) REFERENCES loan (id)
+);
+
+CREATE TABLE payment_detail (
+    id BIGINT PRIMARY KEY,
+    loan_id BIGINT NOT NULL,
+    payment_number INTEGER NOT NULL,
+    principal_payment NUMERIC(38, 2) NOT NULL,
+    interest_payment NUMERIC(38, 2) NOT NULL,
+    due_date DATE NOT NULL,
+    remaining_balance NUMERIC(38, 2) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT fk_payment_detail_loan FOREIGN KEY (loan_id) REFERENCES loan (id)
+);
+
+CREATE TABLE payments (
+    id BIGINT PRIMARY KEY,
+    loan_id BIGINT NOT NULL,
+    payment_date DATE NOT NULL,
+    total_amount NUMERIC(38, 2) NOT NULL,
+    principal_amount NUMERIC(38, 2) NOT NULL,
+    interest_amount NUMERIC(38, 2) NOT NULL,
+    currency VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    version BIGINT
+);
+CREATE INDEX idx_payments_payment_date_id ON payments (payment_date, id);
+
+CREATE TABLE payment_distributions (
+    id BIGINT PRIMARY KEY,
+    investor_id BIGINT NOT NULL,
+    principal_amount NUMERIC(38, 2) NOT NULL,
+    interest_amount NUMERIC(38, 2) NOT NULL,
+    currency VARCHAR(255) NOT NULL,
+    payment_id BIGINT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    version BIGINT,
+    CONSTRAINT fk_payment_distributions_payment FOREIGN KEY (payment_id) REFERENCES payments (id)
+);
+
+-- Exposure
+CREATE TABLE investor_facility_exposure (
+    id BIGINT PRIMARY KEY,
+    investor_id BIGINT NOT NULL,
+    facility_id BIGINT NOT NULL,
+    currency VARCHAR(255) NOT NULL,
+    committed_amount NUMERIC(19, 2) NOT NULL,
+    drawn_amount NUMERIC(19, 2) NOT NULL,
+    repaid_amount NUMERIC(19, 2) NOT NULL,
+    outstanding_amount NUMERIC(19, 2) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    version BIGINT,
+    CONSTRAINT uk_investor_facility_exposure UNIQUE (investor_id, facility_id, currency)
+);
+CREATE INDEX idx_investor_facility_exposure_facility_id ON investor_facility_exposure (facility_id);
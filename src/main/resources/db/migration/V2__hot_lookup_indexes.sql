@@ -0,0 +1,24 @@
+-- 参照頻度の高い検索条件・結合列のインデックス
+-- 外部キー列には外部キー制約のインデックスがあるため、ここでは外部キー制約のない列と、
+-- 並び順・範囲指定を含めた複合インデックスのみを定義する。
+-- 各検索でインデックスが使われることは RepositoryIndexUsageTest で EXPLAIN により確認する。
+
+-- ドローダウン: Loan別の取得
+CREATE INDEX idx_drawdown_loan_id ON drawdown (loan_id);
+
+-- Facility: Syndicate別の取得・Commitment集計
+CREATE INDEX idx_facilities_syndicate_id ON facilities (syndicate_id);
+
+-- 取引: Facility別・Borrower別の取得
+CREATE INDEX idx_transaction_facility_id ON transaction (facility_id);
+CREATE INDEX idx_transaction_borrower_id ON transaction (borrower_id);
+
+-- Loan: Facility別（Borrowerとの組み合わせを含む）・Borrower別の取得
+CREATE INDEX idx_loan_facility_id_borrower_id ON loan (facility_id, borrower_id);
+CREATE INDEX idx_loan_borrower_id ON loan (borrower_id);
+
+-- 支払い: Loan別の取得は支払日の降順で返すため、並び順を含めた複合インデックスにする
+CREATE INDEX idx_payments_loan_id_payment_date ON payments (loan_id, payment_date DESC, id DESC);
+
+-- 支払い詳細: Loan別の取得は支払い番号順・範囲指定のため、支払い番号を含めた複合インデックスにする
+CREATE INDEX idx_payment_detail_loan_id_payment_number ON payment_detail (loan_id, payment_number);
@@ -0,0 +1,3 @@
+-- 支払いで消し込まれた期の支払日
+-- PROJECTEDモードのローンでも、消し込まれた期は支払日とともに payment_detail に永続化する。
+ALTER TABLE payment_detail ADD COLUMN paid_date DATE;
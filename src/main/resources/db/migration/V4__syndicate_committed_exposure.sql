@@ -0,0 +1,5 @@
+-- コミット済みエクスポージャのカウンタはSyndicate単位（主キー syndicate_id）のため、テーブル名を実態に合わせる
+-- CreditLimitチェックはSyndicateのFacility Commitment合計で行い、borrower_id による参照はないため列とインデックスを削除する。
+DROP INDEX idx_borrower_committed_exposure_borrower_id;
+ALTER TABLE borrower_committed_exposure DROP COLUMN borrower_id;
+ALTER TABLE borrower_committed_exposure RENAME TO syndicate_committed_exposure;
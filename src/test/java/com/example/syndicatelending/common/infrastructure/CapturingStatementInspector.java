@@ -0,0 +1,38 @@
+package com.example.syndicatelending.common.infrastructure;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate が発行するSQLを、{@link #capture(Runnable)} の実行中に同じスレッドで記録する StatementInspector。
+ * テストで {@code spring.jpa.properties.hibernate.session_factory.statement_inspector} に指定して使う。
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> captured = CAPTURED.get();
+        if (captured != null) {
+            captured.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * 処理を実行し、その間に発行されたSQLを発行順に返す
+     */
+    public static List<String> capture(Runnable action) {
+        List<String> captured = new ArrayList<>();
+        CAPTURED.set(captured);
+        try {
+            action.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        return captured;
+    }
+}
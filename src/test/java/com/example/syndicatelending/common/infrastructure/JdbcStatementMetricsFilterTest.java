@@ -0,0 +1,102 @@
+package com.example.syndicatelending.common.infrastructure;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HTTPリクエストごとのSQL文件数の記録と {@link StatementBudget} の比較を検証するテスト
+ */
+class JdbcStatementMetricsFilterTest {
+
+    private final JdbcStatementCounter counter = new JdbcStatementCounter();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JdbcStatementMetricsFilter filter = new JdbcStatementMetricsFilter(counter,
+            new StatementBudgetEnforcer(StatementBudgetMode.FAIL, meterRegistry), meterRegistry);
+
+    @Test
+    void リクエスト中に準備されたSQL文の件数をパステンプレートごとに記録する() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/facilities/1"), new MockHttpServletResponse(),
+                new MockFilterChain(handler("unbudgeted", 3)));
+
+        DistributionSummary summary = summary("/api/v1/facilities/{id}");
+        assertNotNull(summary);
+        assertEquals(1, summary.count());
+        assertEquals(3.0, summary.totalAmount());
+    }
+
+    @Test
+    void リクエスト外で準備されたSQL文は数えない() throws Exception {
+        counter.inspect("select 1");
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/unknown"), new MockHttpServletResponse(),
+                new MockFilterChain());
+        counter.inspect("select 2");
+
+        DistributionSummary summary = summary("UNKNOWN");
+        assertNotNull(summary);
+        assertEquals(0.0, summary.totalAmount());
+    }
+
+    @Test
+    void ハンドラーのStatementBudgetを超えたリクエストは失敗する() {
+        StatementBudgetExceededException e = assertThrows(StatementBudgetExceededException.class,
+                () -> filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/facilities/1"),
+                        new MockHttpServletResponse(), new MockFilterChain(handler("budgeted", 3))));
+
+        assertEquals("GET /api/v1/facilities/{id}", e.getOperation());
+        assertEquals(2, e.getMax());
+        assertEquals(3, e.getStatements());
+        assertEquals(3.0, summary("/api/v1/facilities/{id}").totalAmount());
+    }
+
+    @Test
+    void ハンドラーのStatementBudget以内のリクエストは成功する() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/facilities/1"), new MockHttpServletResponse(),
+                new MockFilterChain(handler("budgeted", 2)));
+
+        assertNull(meterRegistry.find(StatementBudgetEnforcer.METRIC).counter());
+    }
+
+    /**
+     * {@code handlerMethod} にマッピングされ、{@code statements} 件のSQL文を発行するサーブレット
+     */
+    private HttpServlet handler(String handlerMethod, int statements) throws NoSuchMethodException {
+        HandlerMethod handler = new HandlerMethod(new Handlers(), Handlers.class.getMethod(handlerMethod));
+        return new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/facilities/{id}");
+                req.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler);
+                for (int i = 0; i < statements; i++) {
+                    counter.inspect("select " + i);
+                }
+            }
+        };
+    }
+
+    private DistributionSummary summary(String uri) {
+        return meterRegistry.find(JdbcStatementMetricsFilter.METRIC).tags("method", "GET", "uri", uri).summary();
+    }
+
+    static class Handlers {
+
+        public void unbudgeted() {
+        }
+
+        @StatementBudget(max = 2)
+        public void budgeted() {
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.syndicatelending.common.infrastructure;
+
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.facility.repository.SharePieRepository;
+import com.example.syndicatelending.loan.repository.AmountPieRepository;
+import com.example.syndicatelending.loan.repository.DrawdownRepository;
+import com.example.syndicatelending.loan.repository.LoanRepository;
+import com.example.syndicatelending.loan.repository.PaymentDetailRepository;
+import com.example.syndicatelending.loan.repository.PaymentRepository;
+import com.example.syndicatelending.loan.repository.TransactionRepository;
+import com.example.syndicatelending.syndicate.repository.SyndicateRepository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 参照頻度の高いリポジトリのクエリが検索条件・結合列のインデックスを使うことを
+ * 発行されたSQLの EXPLAIN で検証するテスト
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.syndicatelending.common.infrastructure.CapturingStatementInspector")
+@ActiveProfiles("test")
+class RepositoryIndexUsageTest {
+
+    @Autowired
+    private DrawdownRepository drawdownRepository;
+
+    @Autowired
+    private AmountPieRepository amountPieRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private SharePieRepository sharePieRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private PaymentDetailRepository paymentDetailRepository;
+
+    @Autowired
+    private SyndicateRepository syndicateRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void ドローダウンの検索がインデックスを使うこと() {
+        assertIndexUsed("idx_drawdown_loan_id", () -> drawdownRepository.findByLoanId(1L));
+        assertIndexUsed("idx_transaction_facility_id", () -> drawdownRepository.findViewsByFacilityId(1L));
+        assertForeignKeyIndexUsed("fk_drawdown_amount_pies_drawdown", () -> amountPieRepository.findByDrawdown_Id(1L));
+        assertForeignKeyIndexUsed("fk_drawdown_amount_pies_drawdown",
+                () -> amountPieRepository.findViewsByDrawdownIdIn(List.of(1L, 2L)));
+        assertIndexUsed("idx_drawdown_loan_id", () -> amountPieRepository.findByDrawdown_LoanId(1L));
+        assertIndexUsed("idx_drawdown_loan_id", () -> amountPieRepository.findWithDrawdownByLoanIdIn(List.of(1L, 2L)));
+        assertForeignKeyIndexUsed("fk_drawdown_amount_pies_drawdown",
+                () -> amountPieRepository.findWithDrawdownByLoanIdIn(List.of(1L, 2L)));
+    }
+
+    @Test
+    void Facilityの検索がインデックスを使うこと() {
+        assertIndexUsed("idx_facilities_syndicate_id", () -> facilityRepository.findBySyndicateId(1L));
+        assertIndexUsed("idx_facilities_syndicate_id", () -> facilityRepository.sumCommitmentBySyndicateId(1L));
+        assertIndexUsed("idx_facilities_syndicate_id",
+                () -> facilityRepository.sumCommitmentBySyndicateIdExcluding(1L, 2L));
+        assertForeignKeyIndexUsed("fk_facility_share_pies_facility", () -> sharePieRepository.findByFacility_Id(1L));
+        assertForeignKeyIndexUsed("fk_facility_share_pies_facility",
+                () -> sharePieRepository.findByFacility_IdIn(List.of(1L, 2L)));
+        assertForeignKeyIndexUsed("fk_facility_share_pies_facility",
+                () -> sharePieRepository.findViewsByFacilityIdIn(List.of(1L, 2L)));
+    }
+
+    @Test
+    void 取引の検索がインデックスを使うこと() {
+        assertIndexUsed("idx_transaction_facility_id", () -> transactionRepository.findByFacilityId(1L));
+        assertIndexUsed("idx_transaction_borrower_id", () -> transactionRepository.findByBorrowerId(1L));
+        assertIndexUsed("idx_transaction_borrower_id", () -> drawdownRepository.findByBorrowerId(1L));
+    }
+
+    @Test
+    void Loanの検索がインデックスを使うこと() {
+        assertIndexUsed("idx_loan_facility_id_borrower_id", () -> loanRepository.findByFacilityId(1L));
+        assertIndexUsed("idx_loan_facility_id_borrower_id", () -> loanRepository.findByFacilityIdAndBorrowerId(1L, 1L));
+        assertIndexUsed("idx_loan_borrower_id", () -> loanRepository.findByBorrowerId(1L));
+    }
+
+    @Test
+    void 支払いの検索がインデックスを使うこと() {
+        assertIndexUsed("idx_payments_loan_id_payment_date", () -> paymentRepository.findByLoanId(1L));
+        assertIndexUsed("idx_payments_loan_id_payment_date",
+                () -> paymentRepository.findByLoanIdOrderByPaymentDateDesc(1L));
+        assertIndexUsed("idx_payments_loan_id_payment_date",
+                () -> paymentRepository.findWithDistributionsByLoanIdOrderByPaymentDateDesc(1L));
+        assertIndexUsed("idx_payments_loan_id_payment_date", () -> paymentRepository.findSummariesByLoanId(1L));
+        assertForeignKeyIndexUsed("fk_payment_distributions_payment",
+                () -> paymentRepository.findWithDistributionsById(1L));
+    }
+
+    @Test
+    void 支払い詳細の検索がインデックスを使うこと() {
+        assertForeignKeyIndexUsed("fk_payment_detail_loan", () -> paymentDetailRepository.findStoredByLoanId(1L));
+        assertIndexUsed("idx_payment_detail_loan_id_payment_number",
+                () -> paymentDetailRepository.findStoredByLoanIdAndPaymentNumber(1L, 1));
+        assertIndexUsed("idx_payment_detail_loan_id_payment_number",
+                () -> paymentDetailRepository.findStoredByLoanIdAndPaymentNumberBetween(1L, 1, 12));
+    }
+
+    @Test
+    void シンジケートメンバーの検索がインデックスを使うこと() {
+        assertForeignKeyIndexUsed("fk_syndicate_members_syndicate",
+                () -> syndicateRepository.findWithMemberInvestorIdsById(1L));
+        assertForeignKeyIndexUsed("fk_syndicate_members_syndicate",
+                () -> syndicateRepository.findMemberInvestorIdsBySyndicateIdIn(List.of(1L, 2L)));
+    }
+
+    /**
+     * 外部キー制約のインデックス（名前はH2が採番する）が使われていることを検証する
+     */
+    private void assertForeignKeyIndexUsed(String constraintName, Runnable query) {
+        assertIndexUsed(foreignKeyIndexName(constraintName), query);
+    }
+
+    /**
+     * 処理中に発行されたSELECTのいずれかの実行計画が、指定した名前のインデックスを使っていることを検証する
+     */
+    private void assertIndexUsed(String indexName, Runnable query) {
+        String expected = indexName.toUpperCase(Locale.ROOT);
+        List<String> selects = CapturingStatementInspector.capture(query).stream()
+                .filter(sql -> sql.trim().toLowerCase(Locale.ROOT).startsWith("select"))
+                .toList();
+        assertFalse(selects.isEmpty(), "SELECTが発行されていません");
+
+        List<String> plans = new ArrayList<>();
+        for (String select : selects) {
+            plans.add(explain(select).toUpperCase(Locale.ROOT));
+        }
+        assertTrue(plans.stream().anyMatch(plan -> plan.contains("." + expected + ":")),
+                () -> "インデックス " + expected + " が使われていません: " + plans);
+    }
+
+    private String foreignKeyIndexName(String constraintName) {
+        String sql = "SELECT INDEX_NAME FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS"
+                + " WHERE CONSTRAINT_NAME = ? AND CONSTRAINT_TYPE = 'FOREIGN KEY'";
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, constraintName.toUpperCase(Locale.ROOT));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                assertTrue(resultSet.next(), () -> "外部キー制約 " + constraintName + " がありません");
+                return resultSet.getString(1);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * パラメータをすべてNULLにして EXPLAIN を実行する（実行計画はパラメータの値によらない）
+     */
+    private String explain(String sql) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameterCount = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                statement.setObject(i, null);
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1));
+                }
+            }
+            return plan.toString();
+        } catch (SQLException e) {
+            throw new IllegalStateException("EXPLAIN failed: " + sql, e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.syndicatelending.common.infrastructure;
+
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.loan.service.DrawdownService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * サービス・リポジトリの計測と業務ルール違反のカウントを検証する統合テスト
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ServiceMetricsAspectTest {
+
+    @Autowired
+    private DrawdownService drawdownService;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void 業務ルール違反で例外を送出したメソッドごとに違反件数とサービスの処理時間を記録する() {
+        double violationsBefore = violations("DrawdownService.createDrawdowns");
+        long callsBefore = serviceCalls("createDrawdowns", "BusinessRuleViolationException");
+
+        assertThrows(BusinessRuleViolationException.class, () -> drawdownService.createDrawdowns(List.of()));
+
+        assertEquals(violationsBefore + 1, violations("DrawdownService.createDrawdowns"));
+        assertEquals(callsBefore + 1, serviceCalls("createDrawdowns", "BusinessRuleViolationException"));
+    }
+
+    @Test
+    void リポジトリメソッドの処理時間をインターフェース名で記録する() {
+        long findBefore = repositoryCalls("findBySyndicateId");
+        long countBefore = repositoryCalls("count");
+
+        facilityRepository.findBySyndicateId(1L);
+        facilityRepository.count();
+
+        assertEquals(findBefore + 1, repositoryCalls("findBySyndicateId"));
+        assertEquals(countBefore + 1, repositoryCalls("count"));
+    }
+
+    @Test
+    void ルールは例外を送出したアプリケーションのクラスとメソッドで識別する() {
+        BusinessRuleViolationException e = new BusinessRuleViolationException("violation");
+        e.setStackTrace(new StackTraceElement[] {
+                new StackTraceElement("org.springframework.Foo", "bar", null, 1),
+                new StackTraceElement("com.example.syndicatelending.loan.service.PaymentService$$SpringCGLIB$$0",
+                        "makePayment", null, 1),
+                new StackTraceElement("com.example.syndicatelending.loan.service.PaymentService",
+                        "validatePayment", null, 1) });
+
+        assertEquals("PaymentService.validatePayment", ServiceMetricsAspect.rule(e));
+    }
+
+    private double violations(String rule) {
+        Counter counter = meterRegistry.find(ServiceMetricsAspect.VIOLATION_METRIC).tag("rule", rule).counter();
+        return counter != null ? counter.count() : 0.0;
+    }
+
+    private long serviceCalls(String method, String exception) {
+        Timer timer = meterRegistry.find(ServiceMetricsAspect.SERVICE_METRIC)
+                .tags("class", "DrawdownService", "method", method, "exception", exception)
+                .timer();
+        return timer != null ? timer.count() : 0L;
+    }
+
+    private long repositoryCalls(String method) {
+        Timer timer = meterRegistry.find(ServiceMetricsAspect.REPOSITORY_METRIC)
+                .tags("repository", "FacilityRepository", "method", method, "exception", "none")
+                .timer();
+        return timer != null ? timer.count() : 0L;
+    }
+}
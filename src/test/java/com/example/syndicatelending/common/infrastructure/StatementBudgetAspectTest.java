@@ -0,0 +1,81 @@
+package com.example.syndicatelending.common.infrastructure;
+
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.example.syndicatelending.common.infrastructure.StatementCountAssertions.assertMaxStatements;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link StatementBudget} を付けたメソッドの上限超過がテストプロファイル（FAIL）で失敗になることを検証する統合テスト
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class StatementBudgetAspectTest {
+
+    @Autowired
+    private BudgetedQueries budgetedQueries;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private JdbcStatementCounter counter;
+
+    @Test
+    void 上限以内のSQL文であれば成功する() {
+        assertDoesNotThrow(() -> budgetedQueries.countOnce());
+    }
+
+    @Test
+    void 上限を超えるSQL文を発行すると失敗する() {
+        StatementBudgetExceededException e = assertThrows(StatementBudgetExceededException.class,
+                () -> budgetedQueries.countTwice());
+
+        assertEquals("BudgetedQueries.countTwice", e.getOperation());
+        assertEquals(1, e.getMax());
+        assertEquals(2, e.getStatements());
+    }
+
+    @Test
+    void 発行したSQL文の件数をアサーションで検証できる() {
+        assertMaxStatements(counter, 1, () -> facilityRepository.findBySyndicateId(1L));
+
+        assertThrows(AssertionError.class,
+                () -> assertMaxStatements(counter, 1, () -> facilityRepository.count() + facilityRepository.count()));
+    }
+
+    @TestConfiguration
+    static class BudgetedQueriesConfig {
+
+        @Bean
+        BudgetedQueries budgetedQueries(FacilityRepository facilityRepository) {
+            return new BudgetedQueries(facilityRepository);
+        }
+    }
+
+    static class BudgetedQueries {
+
+        private final FacilityRepository facilityRepository;
+
+        BudgetedQueries(FacilityRepository facilityRepository) {
+            this.facilityRepository = facilityRepository;
+        }
+
+        @StatementBudget(max = 1)
+        public long countOnce() {
+            return facilityRepository.count();
+        }
+
+        @StatementBudget(max = 1)
+        public long countTwice() {
+            return facilityRepository.count() + facilityRepository.count();
+        }
+    }
+}
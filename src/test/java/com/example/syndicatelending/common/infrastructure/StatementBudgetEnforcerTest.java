@@ -0,0 +1,51 @@
+package com.example.syndicatelending.common.infrastructure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link StatementBudget} の上限超過の扱いを検証するテスト
+ */
+class StatementBudgetEnforcerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void LOGモードでは上限超過を記録して処理を続ける() throws Exception {
+        StatementBudget budget = budget();
+        StatementBudgetEnforcer enforcer = new StatementBudgetEnforcer(StatementBudgetMode.LOG, meterRegistry);
+
+        enforcer.check("FacilityService.getFacilityView", budget, 2);
+        assertNull(meterRegistry.find(StatementBudgetEnforcer.METRIC).counter());
+
+        assertDoesNotThrow(() -> enforcer.check("FacilityService.getFacilityView", budget, 5));
+        Counter exceeded = meterRegistry.find(StatementBudgetEnforcer.METRIC)
+                .tag("operation", "FacilityService.getFacilityView")
+                .counter();
+        assertNotNull(exceeded);
+        assertEquals(1.0, exceeded.count());
+    }
+
+    @Test
+    void FAILモードでは上限超過で例外を送出する() throws Exception {
+        StatementBudget budget = budget();
+        StatementBudgetEnforcer enforcer = new StatementBudgetEnforcer(StatementBudgetMode.FAIL, meterRegistry);
+
+        StatementBudgetExceededException e = assertThrows(StatementBudgetExceededException.class,
+                () -> enforcer.check("FacilityService.getFacilityView", budget, 5));
+
+        assertEquals("FacilityService.getFacilityView issued 5 SQL statements (budget: 2)", e.getMessage());
+        assertEquals(1.0, meterRegistry.find(StatementBudgetEnforcer.METRIC).counter().count());
+    }
+
+    private static StatementBudget budget() throws NoSuchMethodException {
+        return StatementBudgetEnforcerTest.class.getDeclaredMethod("budgeted").getAnnotation(StatementBudget.class);
+    }
+
+    @StatementBudget(max = 2)
+    private static void budgeted() {
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.syndicatelending.common.infrastructure;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link JdbcStatementCounter} で処理中に発行されたSQL文の件数を検証するアサーション
+ */
+public final class StatementCountAssertions {
+
+    private StatementCountAssertions() {
+    }
+
+    /**
+     * {@code action} の実行中に現在のスレッドで発行されたSQL文が {@code max} 件以下であることを検証する
+     *
+     * @return {@code action} の戻り値
+     */
+    public static <T> T assertMaxStatements(JdbcStatementCounter counter, int max, Supplier<T> action) {
+        long before = counter.current();
+        T result = action.get();
+        long statements = counter.current() - before;
+        assertTrue(statements <= max, () -> "expected at most " + max + " SQL statements but was " + statements);
+        return result;
+    }
+}
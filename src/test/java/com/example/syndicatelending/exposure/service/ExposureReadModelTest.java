@@ -0,0 +1,223 @@
+package com.example.syndicatelending.exposure.service;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.exposure.dto.ExposureRebuildResult;
+import com.example.syndicatelending.exposure.dto.ExposureView;
+import com.example.syndicatelending.exposure.entity.InvestorFacilityExposure;
+import com.example.syndicatelending.exposure.repository.InvestorFacilityExposureRepository;
+import com.example.syndicatelending.facility.dto.CreateFacilityRequest;
+import com.example.syndicatelending.facility.dto.UpdateFacilityRequest;
+import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.facility.service.FacilityService;
+import com.example.syndicatelending.loan.dto.CreateDrawdownRequest;
+import com.example.syndicatelending.loan.dto.CreatePaymentRequest;
+import com.example.syndicatelending.loan.entity.Drawdown;
+import com.example.syndicatelending.loan.entity.RepaymentMethod;
+import com.example.syndicatelending.loan.service.DrawdownService;
+import com.example.syndicatelending.loan.service.PaymentService;
+import com.example.syndicatelending.party.entity.Borrower;
+import com.example.syndicatelending.party.entity.CreditRating;
+import com.example.syndicatelending.party.entity.Investor;
+import com.example.syndicatelending.party.entity.InvestorType;
+import com.example.syndicatelending.party.repository.BorrowerRepository;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+import com.example.syndicatelending.syndicate.entity.Syndicate;
+import com.example.syndicatelending.syndicate.repository.SyndicateRepository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * エクスポージャ参照モデルが Facility・ドローダウン・支払いと同じトランザクションで更新され、
+ * 再構築で元データからの再計算値と照合できることを検証するテスト
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ExposureReadModelTest {
+
+    @Autowired
+    private ExposureService exposureService;
+
+    @Autowired
+    private InvestorFacilityExposureRepository exposureRepository;
+
+    @Autowired
+    private FacilityService facilityService;
+
+    @Autowired
+    private DrawdownService drawdownService;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private SyndicateRepository syndicateRepository;
+
+    @Autowired
+    private BorrowerRepository borrowerRepository;
+
+    @Autowired
+    private InvestorRepository investorRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Borrower borrower;
+    private Syndicate syndicate;
+    private Investor investor1;
+    private Investor investor2;
+    private Facility facility;
+
+    @BeforeEach
+    void setUp() {
+        borrower = borrowerRepository.save(new Borrower("Exposure Borrower", "exposure@example.com",
+                "000-0000-0000", "COMP-EXP", Money.of(new BigDecimal("100000000")), CreditRating.A));
+        investor1 = investorRepository.save(new Investor("Investor 1", "investor1@example.com", "111-1111-1111",
+                "COMP001", new BigDecimal("100000000"), InvestorType.BANK));
+        investor2 = investorRepository.save(new Investor("Investor 2", "investor2@example.com", "222-2222-2222",
+                "COMP002", new BigDecimal("100000000"), InvestorType.BANK));
+        syndicate = syndicateRepository.save(new Syndicate("Exposure Syndicate", investor1.getId(), borrower.getId(),
+                List.of(investor1.getId(), investor2.getId())));
+
+        CreateFacilityRequest request = new CreateFacilityRequest();
+        request.setSyndicateId(syndicate.getId());
+        request.setCommitment(Money.of(new BigDecimal("10000000")));
+        request.setCurrency("JPY");
+        request.setStartDate(LocalDate.now());
+        request.setEndDate(LocalDate.now().plusYears(1));
+        request.setInterestTerms("TIBOR + 1%");
+        request.setSharePies(List.of(createSharePie(investor1.getId(), "0.6"), createSharePie(investor2.getId(), "0.4")));
+        facility = facilityService.createFacility(request);
+
+        Drawdown drawdown = drawdownService.createDrawdown(createDrawdownRequest());
+        CreatePaymentRequest payment = new CreatePaymentRequest();
+        payment.setLoanId(drawdown.getLoanId());
+        payment.setPaymentDate(LocalDate.now().plusMonths(1));
+        payment.setPrincipalAmount(new BigDecimal("100000"));
+        payment.setInterestAmount(new BigDecimal("2500"));
+        payment.setCurrency("JPY");
+        paymentService.processPayment(payment);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void ドローダウンと支払いがコミット額_引出額_返済額_残高に反映されること() {
+        List<ExposureView> exposures = exposureService.getFacilityExposures(facility.getId());
+        assertEquals(2, exposures.size());
+
+        ExposureView first = exposureService.getInvestorFacilityExposures(investor1.getId(), facility.getId()).get(0);
+        assertEquals("JPY", first.getCurrency());
+        assertEquals(Money.of(new BigDecimal("6000000")), first.getCommittedAmount());
+        assertEquals(Money.of(new BigDecimal("600000")), first.getDrawnAmount());
+        assertEquals(Money.of(new BigDecimal("60000")), first.getRepaidAmount());
+        assertEquals(Money.of(new BigDecimal("540000")), first.getOutstandingAmount());
+
+        ExposureView second = exposureService.getInvestorExposures(investor2.getId()).get(0);
+        assertEquals(Money.of(new BigDecimal("4000000")), second.getCommittedAmount());
+        assertEquals(Money.of(new BigDecimal("360000")), second.getOutstandingAmount());
+    }
+
+    @Test
+    void Facilityの持分変更でコミット額が置き換えられ残高は維持されること() {
+        Facility current = facilityRepository.findById(facility.getId()).orElseThrow();
+        UpdateFacilityRequest request = new UpdateFacilityRequest();
+        request.setSyndicateId(syndicate.getId());
+        request.setCommitment(Money.of(new BigDecimal("12000000")));
+        request.setCurrency(current.getCurrency());
+        request.setStartDate(current.getStartDate());
+        request.setEndDate(current.getEndDate());
+        request.setInterestTerms(current.getInterestTerms());
+        request.setVersion(current.getVersion());
+        UpdateFacilityRequest.SharePieRequest pie = new UpdateFacilityRequest.SharePieRequest();
+        pie.setInvestorId(investor1.getId());
+        pie.setShare(Percentage.of(BigDecimal.ONE));
+        request.setSharePies(List.of(pie));
+        facilityService.updateFacility(facility.getId(), request);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(Money.of(new BigDecimal("12000000")), exposureService
+                .getInvestorFacilityExposures(investor1.getId(), facility.getId()).get(0).getCommittedAmount());
+        ExposureView removed = exposureService.getInvestorFacilityExposures(investor2.getId(), facility.getId()).get(0);
+        assertEquals(Money.zero(), removed.getCommittedAmount());
+        assertEquals(Money.of(new BigDecimal("360000")), removed.getOutstandingAmount());
+        assertEquals(0, exposureService.rebuild(facility.getId(), true).getMismatchCount());
+    }
+
+    @Test
+    void 再構築で差異を検出し元データからの再計算値に置き換えること() {
+        assertEquals(0, exposureService.rebuild(facility.getId(), true).getMismatchCount());
+
+        InvestorFacilityExposure corrupted = exposureRepository.findAll().stream()
+                .filter(row -> row.getInvestorId().equals(investor1.getId()))
+                .findFirst()
+                .orElseThrow();
+        corrupted.replace(corrupted.getCommittedAmount(), Money.of(new BigDecimal("1")), Money.zero());
+        exposureRepository.deleteAll(exposureRepository.findAll().stream()
+                .filter(row -> row.getInvestorId().equals(investor2.getId()))
+                .toList());
+        entityManager.flush();
+        entityManager.clear();
+
+        ExposureRebuildResult dryRun = exposureService.rebuild(facility.getId(), true);
+        assertTrue(dryRun.isDryRun());
+        assertEquals(2, dryRun.getMismatchCount());
+        assertEquals(Money.of(new BigDecimal("600000")), dryRun.getMismatches().stream()
+                .filter(mismatch -> mismatch.getInvestorId().equals(investor1.getId()))
+                .findFirst()
+                .orElseThrow()
+                .getExpectedDrawnAmount());
+        entityManager.flush();
+        entityManager.clear();
+        assertTrue(exposureService.getInvestorExposures(investor2.getId()).isEmpty());
+
+        assertEquals(2, exposureService.rebuild(facility.getId(), false).getMismatchCount());
+        entityManager.flush();
+        entityManager.clear();
+        assertEquals(0, exposureService.rebuild(facility.getId(), true).getMismatchCount());
+        assertEquals(Money.of(new BigDecimal("540000")), exposureService
+                .getInvestorFacilityExposures(investor1.getId(), facility.getId()).get(0).getOutstandingAmount());
+        assertEquals(Money.of(new BigDecimal("360000")), exposureService
+                .getInvestorFacilityExposures(investor2.getId(), facility.getId()).get(0).getOutstandingAmount());
+    }
+
+    private CreateDrawdownRequest createDrawdownRequest() {
+        CreateDrawdownRequest request = new CreateDrawdownRequest();
+        request.setFacilityId(facility.getId());
+        request.setBorrowerId(borrower.getId());
+        request.setAmount(new BigDecimal("1000000"));
+        request.setCurrency("JPY");
+        request.setPurpose("Exposure");
+        request.setAnnualInterestRate(new BigDecimal("0.025"));
+        request.setDrawdownDate(LocalDate.now());
+        request.setRepaymentPeriodMonths(12);
+        request.setRepaymentCycle("MONTHLY");
+        request.setRepaymentMethod(RepaymentMethod.EQUAL_INSTALLMENT);
+        return request;
+    }
+
+    private CreateFacilityRequest.SharePieRequest createSharePie(Long investorId, String share) {
+        CreateFacilityRequest.SharePieRequest pie = new CreateFacilityRequest.SharePieRequest();
+        pie.setInvestorId(investorId);
+        pie.setShare(Percentage.of(new BigDecimal(share)));
+        return pie;
+    }
+}
@@ -3,6 +3,8 @@ package com.example.syndicatelending.facility.controller;
 import com.example.syndicatelending.common.domain.model.Money;
 import com.example.syndicatelending.common.domain.model.Percentage;
 import com.example.syndicatelending.facility.dto.CreateFacilityRequest;
+import com.example.syndicatelending.facility.dto.FacilityView;
+import com.example.syndicatelending.facility.dto.SharePieView;
 import com.example.syndicatelending.facility.dto.UpdateFacilityRequest;
 import com.example.syndicatelending.facility.entity.Facility;
 import com.example.syndicatelending.facility.service.FacilityService;
@@ -67,24 +69,36 @@ class FacilityControllerTest {
 
     @Test
     void 全てのFacilityリストを取得できる() throws Exception {
-        Facility facility = new Facility();
-        facility.setId(1L);
-        List<Facility> facilities = List.of(facility);
+        List<FacilityView> facilities = List.of(facilityView(1L));
         Pageable pageable = PageRequest.of(0, 20);
-        Page<Facility> facilityPage = new PageImpl<>(facilities, pageable, facilities.size());
+        Page<FacilityView> facilityPage = new PageImpl<>(facilities, pageable, facilities.size());
 
-        when(facilityService.getAllFacilities(any(Pageable.class))).thenReturn(facilityPage);
+        when(facilityService.getFacilityViews(any(Pageable.class), eq(false))).thenReturn(facilityPage);
 
         mockMvc.perform(get("/api/v1/facilities"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.content").isArray())
-                .andExpect(jsonPath("$.content[0].id").value(1));
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.content[0].sharePies").doesNotExist());
+    }
+
+    @Test
+    void expand指定時のみSharePieを含めて取得できる() throws Exception {
+        FacilityView facility = facilityView(1L);
+        facility.setSharePies(List.of(new SharePieView(10L, 1L, 2L, Percentage.of(BigDecimal.valueOf(0.4)))));
+
+        when(facilityService.getFacilityView(1L, true)).thenReturn(facility);
+
+        mockMvc.perform(get("/api/v1/facilities/1?expand=sharePies"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sharePies[0].investorId").value(2))
+                .andExpect(jsonPath("$.sharePies[0].share").value(0.4));
     }
 
     @Test
     void 存在しないFacilityを取得すると404が返る() throws Exception {
-        when(facilityService.getFacilityById(999L))
+        when(facilityService.getFacilityView(999L, false))
                 .thenThrow(new com.example.syndicatelending.common.application.exception.ResourceNotFoundException(
                         "Facility not found"));
 
@@ -185,6 +199,11 @@ class FacilityControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    private FacilityView facilityView(Long id) {
+        return new FacilityView(id, 1L, Money.of(BigDecimal.valueOf(5000000)), "USD", LocalDate.of(2025, 1, 1),
+                LocalDate.of(2026, 1, 1), "LIBOR + 2%", null, null, 0L);
+    }
+
     private CreateFacilityRequest createValidFacilityRequest() {
         CreateFacilityRequest request = new CreateFacilityRequest();
         request.setSyndicateId(1L);
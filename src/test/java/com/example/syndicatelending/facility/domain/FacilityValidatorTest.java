@@ -4,7 +4,8 @@ import com.example.syndicatelending.common.application.exception.BusinessRuleVio
 import com.example.syndicatelending.common.domain.model.Money;
 import com.example.syndicatelending.common.domain.model.Percentage;
 import com.example.syndicatelending.facility.dto.CreateFacilityRequest;
-import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.entity.SyndicateCommittedExposure;
+import com.example.syndicatelending.facility.repository.SyndicateCommittedExposureRepository;
 import com.example.syndicatelending.facility.repository.FacilityRepository;
 import com.example.syndicatelending.party.entity.Borrower;
 import com.example.syndicatelending.party.entity.Investor;
@@ -13,6 +14,7 @@ import com.example.syndicatelending.party.repository.BorrowerRepository;
 import com.example.syndicatelending.party.repository.InvestorRepository;
 import com.example.syndicatelending.syndicate.entity.Syndicate;
 import com.example.syndicatelending.syndicate.repository.SyndicateRepository;
+import com.example.syndicatelending.syndicate.service.SyndicateMembershipCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,11 +24,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.lenient;
 
@@ -45,15 +50,18 @@ class FacilityValidatorTest {
     @Mock
     private FacilityRepository facilityRepository;
 
+    @Mock
+    private SyndicateCommittedExposureRepository committedExposureRepository;
+
     private FacilityValidator facilityValidator;
 
     @BeforeEach
     void setUp() {
         facilityValidator = new FacilityValidator(
-                syndicateRepository,
+                new SyndicateMembershipCache(syndicateRepository),
                 investorRepository,
                 borrowerRepository,
-                facilityRepository);
+                new SyndicateCommittedExposureCounter(committedExposureRepository, facilityRepository, syndicateRepository));
     }
 
     @Test
@@ -64,8 +72,7 @@ class FacilityValidatorTest {
         // Syndicateのモック設定
         Syndicate mockSyndicate = new Syndicate("Test Syndicate", 1L, 1L, Arrays.asList(1L, 2L, 3L));
         mockSyndicate.setId(1L);
-        when(syndicateRepository.existsById(1L)).thenReturn(true);
-        when(syndicateRepository.findById(1L)).thenReturn(Optional.of(mockSyndicate));
+        when(syndicateRepository.findWithMemberInvestorIdsById(1L)).thenReturn(Optional.of(mockSyndicate));
 
         // Investorのモック設定
         Investor investor1 = new Investor("Investor 1", null, null, null, null, InvestorType.BANK);
@@ -78,17 +85,15 @@ class FacilityValidatorTest {
         investor3.setId(3L);
         investor3.setIsActive(true);
 
-        when(investorRepository.findById(1L)).thenReturn(Optional.of(investor1));
-        when(investorRepository.findById(2L)).thenReturn(Optional.of(investor2));
-        when(investorRepository.findById(3L)).thenReturn(Optional.of(investor3));
+        when(investorRepository.findAllById(any())).thenReturn(List.of(investor1, investor2, investor3));
 
         // Borrowerのモック設定
         Borrower mockBorrower = new Borrower("Test Borrower", null, null, null, Money.of(10000000), null);
         mockBorrower.setId(1L);
         when(borrowerRepository.findById(1L)).thenReturn(Optional.of(mockBorrower));
 
-        // 既存Facilityのモック設定（空リスト）
-        when(facilityRepository.findBySyndicateId(1L)).thenReturn(Collections.emptyList());
+        // 既存Facilityのモック設定（Commitment合計0）
+        when(facilityRepository.sumCommitmentBySyndicateId(1L)).thenReturn(BigDecimal.ZERO);
 
         // When & Then
         assertThatCode(() -> facilityValidator.validateCreateFacilityRequest(request))
@@ -138,14 +143,13 @@ class FacilityValidatorTest {
         // Syndicateのモック設定
         Syndicate mockSyndicate = new Syndicate("Test Syndicate", 1L, 1L, Arrays.asList(1L));
         mockSyndicate.setId(1L);
-        when(syndicateRepository.existsById(1L)).thenReturn(true);
-        when(syndicateRepository.findById(1L)).thenReturn(Optional.of(mockSyndicate));
+        when(syndicateRepository.findWithMemberInvestorIdsById(1L)).thenReturn(Optional.of(mockSyndicate));
 
         // 重複しているInvestor(ID=1)のモック設定のみ
         Investor investor1 = new Investor("Investor 1", null, null, null, null, InvestorType.BANK);
         investor1.setId(1L);
         investor1.setIsActive(true);
-        when(investorRepository.findById(1L)).thenReturn(Optional.of(investor1));
+        when(investorRepository.findAllById(any())).thenReturn(List.of(investor1));
 
         // When & Then
         assertThatThrownBy(() -> facilityValidator.validateCreateFacilityRequest(request))
@@ -184,7 +188,7 @@ class FacilityValidatorTest {
     void Syndicateが存在しない場合はバリデーションでエラーになる() {
         // Given
         CreateFacilityRequest request = createValidFacilityRequest();
-        when(syndicateRepository.existsById(1L)).thenReturn(false);
+        when(syndicateRepository.findWithMemberInvestorIdsById(1L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> facilityValidator.validateCreateFacilityRequest(request))
@@ -200,11 +204,10 @@ class FacilityValidatorTest {
         // Syndicateのモック設定
         Syndicate mockSyndicate = new Syndicate("Test Syndicate", 1L, 1L, Arrays.asList(1L, 2L, 3L));
         mockSyndicate.setId(1L);
-        when(syndicateRepository.existsById(1L)).thenReturn(true);
-        when(syndicateRepository.findById(1L)).thenReturn(Optional.of(mockSyndicate));
+        when(syndicateRepository.findWithMemberInvestorIdsById(1L)).thenReturn(Optional.of(mockSyndicate));
 
         // Investor 1のみ存在しない設定
-        when(investorRepository.findById(1L)).thenReturn(Optional.empty());
+        when(investorRepository.findAllById(any())).thenReturn(List.of());
 
         // When & Then
         assertThatThrownBy(() -> facilityValidator.validateCreateFacilityRequest(request))
@@ -220,14 +223,13 @@ class FacilityValidatorTest {
         // Syndicateのモック設定（Investor 1が所属していない）
         Syndicate mockSyndicate = new Syndicate("Test Syndicate", 1L, 1L, Arrays.asList(2L, 3L));
         mockSyndicate.setId(1L);
-        when(syndicateRepository.existsById(1L)).thenReturn(true);
-        when(syndicateRepository.findById(1L)).thenReturn(Optional.of(mockSyndicate));
+        when(syndicateRepository.findWithMemberInvestorIdsById(1L)).thenReturn(Optional.of(mockSyndicate));
 
         // Investorのモック設定
         Investor investor1 = new Investor("Investor 1", null, null, null, null, InvestorType.BANK);
         investor1.setId(1L);
         investor1.setIsActive(true);
-        when(investorRepository.findById(1L)).thenReturn(Optional.of(investor1));
+        when(investorRepository.findAllById(any())).thenReturn(List.of(investor1));
 
         // When & Then
         assertThatThrownBy(() -> facilityValidator.validateCreateFacilityRequest(request))
@@ -243,14 +245,13 @@ class FacilityValidatorTest {
         // Syndicateのモック設定
         Syndicate mockSyndicate = new Syndicate("Test Syndicate", 1L, 1L, Arrays.asList(1L, 2L, 3L));
         mockSyndicate.setId(1L);
-        when(syndicateRepository.existsById(1L)).thenReturn(true);
-        when(syndicateRepository.findById(1L)).thenReturn(Optional.of(mockSyndicate));
+        when(syndicateRepository.findWithMemberInvestorIdsById(1L)).thenReturn(Optional.of(mockSyndicate));
 
         // Investor 1が非アクティブの設定
         Investor investor1 = new Investor("Investor 1", null, null, null, null, InvestorType.BANK);
         investor1.setId(1L);
         investor1.setIsActive(false); // 非アクティブ
-        when(investorRepository.findById(1L)).thenReturn(Optional.of(investor1));
+        when(investorRepository.findAllById(any())).thenReturn(List.of(investor1));
 
         // When & Then
         assertThatThrownBy(() -> facilityValidator.validateCreateFacilityRequest(request))
@@ -267,8 +268,7 @@ class FacilityValidatorTest {
         // Syndicateのモック設定
         Syndicate mockSyndicate = new Syndicate("Test Syndicate", 1L, 1L, Arrays.asList(1L, 2L, 3L));
         mockSyndicate.setId(1L);
-        lenient().when(syndicateRepository.existsById(1L)).thenReturn(true);
-        lenient().when(syndicateRepository.findById(1L)).thenReturn(Optional.of(mockSyndicate));
+        lenient().when(syndicateRepository.findWithMemberInvestorIdsById(1L)).thenReturn(Optional.of(mockSyndicate));
 
         // Investorのモック設定（requestで使用される1,2,3のみ）
         Investor investor1 = new Investor("Investor 1", null, null, null, null, InvestorType.BANK);
@@ -281,17 +281,15 @@ class FacilityValidatorTest {
         investor3.setId(3L);
         investor3.setIsActive(true);
 
-        lenient().when(investorRepository.findById(1L)).thenReturn(Optional.of(investor1));
-        lenient().when(investorRepository.findById(2L)).thenReturn(Optional.of(investor2));
-        lenient().when(investorRepository.findById(3L)).thenReturn(Optional.of(investor3));
+        lenient().when(investorRepository.findAllById(any())).thenReturn(List.of(investor1, investor2, investor3));
 
         // Borrowerのモック設定（クレジット限度額: 10,000,000）
         Borrower mockBorrower = new Borrower("Test Borrower", null, null, null, Money.of(10000000), null);
         mockBorrower.setId(1L);
         lenient().when(borrowerRepository.findById(1L)).thenReturn(Optional.of(mockBorrower));
 
-        // 既存Facilityのモック設定（空リスト）
-        lenient().when(facilityRepository.findBySyndicateId(1L)).thenReturn(Collections.emptyList());
+        // 既存Facilityのモック設定（Commitment合計0）
+        lenient().when(facilityRepository.sumCommitmentBySyndicateId(1L)).thenReturn(BigDecimal.ZERO);
 
         // When & Then
         assertThatThrownBy(() -> facilityValidator.validateCreateFacilityRequest(request))
@@ -308,8 +306,7 @@ class FacilityValidatorTest {
         // Syndicateのモック設定
         Syndicate mockSyndicate = new Syndicate("Test Syndicate", 1L, 1L, Arrays.asList(1L, 2L, 3L));
         mockSyndicate.setId(1L);
-        lenient().when(syndicateRepository.existsById(1L)).thenReturn(true);
-        lenient().when(syndicateRepository.findById(1L)).thenReturn(Optional.of(mockSyndicate));
+        lenient().when(syndicateRepository.findWithMemberInvestorIdsById(1L)).thenReturn(Optional.of(mockSyndicate));
 
         // Investorのモック設定
         Investor investor1 = new Investor("Investor 1", null, null, null, null, InvestorType.BANK);
@@ -322,19 +319,16 @@ class FacilityValidatorTest {
         investor3.setId(3L);
         investor3.setIsActive(true);
 
-        lenient().when(investorRepository.findById(1L)).thenReturn(Optional.of(investor1));
-        lenient().when(investorRepository.findById(2L)).thenReturn(Optional.of(investor2));
-        lenient().when(investorRepository.findById(3L)).thenReturn(Optional.of(investor3));
+        lenient().when(investorRepository.findAllById(any())).thenReturn(List.of(investor1, investor2, investor3));
 
         // Borrowerのモック設定（クレジット限度額: 10,000,000）
         Borrower mockBorrower = new Borrower("Test Borrower", null, null, null, Money.of(10000000), null);
         mockBorrower.setId(1L);
         lenient().when(borrowerRepository.findById(1L)).thenReturn(Optional.of(mockBorrower));
 
-        // 既存Facilityのモック設定（既に5,000,000のコミットメントが存在）
-        Facility existingFacility = new Facility(1L, Money.of(5000000), "USD",
-                LocalDate.of(2024, 1, 1), LocalDate.of(2025, 12, 31), "LIBOR + 1%");
-        lenient().when(facilityRepository.findBySyndicateId(1L)).thenReturn(Arrays.asList(existingFacility));
+        // コミット済みエクスポージャのモック設定（既に5,000,000のコミットメントが存在）
+        lenient().when(committedExposureRepository.findById(1L))
+                .thenReturn(Optional.of(new SyndicateCommittedExposure(1L, Money.of(5000000))));
 
         // When & Then
         assertThatThrownBy(() -> facilityValidator.validateCreateFacilityRequest(request))
@@ -342,6 +336,50 @@ class FacilityValidatorTest {
                 .hasMessageContaining("総Commitment(11000000.00)がBorrowerのCreditLimit(10000000.00)を超えています");
     }
 
+    @Test
+    void 複数のルール違反がまとめて報告され参照データは一括取得される() {
+        // Given
+        CreateFacilityRequest request = createInvalidFacilityRequest(); // 合計95%
+        request.setCommitment(Money.of(BigDecimal.valueOf(15000000))); // クレジット限度額を超える金額
+
+        // Syndicateのモック設定（Investor 2が所属していない）
+        Syndicate mockSyndicate = new Syndicate("Test Syndicate", 1L, 1L, Arrays.asList(1L, 3L));
+        mockSyndicate.setId(1L);
+        when(syndicateRepository.findWithMemberInvestorIdsById(1L)).thenReturn(Optional.of(mockSyndicate));
+
+        // Investor 1は非アクティブ、Investor 3は存在しない
+        Investor investor1 = new Investor("Investor 1", null, null, null, null, InvestorType.BANK);
+        investor1.setId(1L);
+        investor1.setIsActive(false);
+        Investor investor2 = new Investor("Investor 2", null, null, null, null, InvestorType.BANK);
+        investor2.setId(2L);
+        investor2.setIsActive(true);
+        when(investorRepository.findAllById(any())).thenReturn(List.of(investor1, investor2));
+
+        Borrower mockBorrower = new Borrower("Test Borrower", null, null, null, Money.of(10000000), null);
+        mockBorrower.setId(1L);
+        when(borrowerRepository.findById(1L)).thenReturn(Optional.of(mockBorrower));
+        when(facilityRepository.sumCommitmentBySyndicateId(1L)).thenReturn(BigDecimal.ZERO);
+
+        // When
+        Throwable thrown = catchThrowable(() -> facilityValidator.validateCreateFacilityRequest(request));
+
+        // Then
+        assertThat(thrown).isInstanceOf(BusinessRuleViolationException.class);
+        List<String> violations = ((BusinessRuleViolationException) thrown).getViolations();
+        assertThat(violations).hasSize(6).startsWith(
+                "非アクティブなInvestorは投資できません: investorId=1",
+                "InvestorはSyndicateメンバーではありません: investorId=2",
+                "指定されたInvestorが存在しません: id=3",
+                "FacilityのCommitment(15000000.00)がBorrowerのCreditLimit(10000000.00)を超えています",
+                "総Commitment(15000000.00)がBorrowerのCreditLimit(10000000.00)を超えています");
+        assertThat(violations.get(5)).startsWith("SharePieの合計は100%である必要があります");
+        verify(investorRepository, times(1)).findAllById(any());
+        verify(investorRepository, never()).findById(any());
+        verify(syndicateRepository, never()).existsById(any());
+        verify(borrowerRepository, times(1)).findById(1L);
+    }
+
     private CreateFacilityRequest createValidFacilityRequest() {
         CreateFacilityRequest request = new CreateFacilityRequest();
         request.setSyndicateId(1L);
@@ -470,8 +508,7 @@ class FacilityValidatorTest {
         // Syndicateのモック設定
         Syndicate mockSyndicate = new Syndicate("Test Syndicate", 1L, 1L, Arrays.asList(1L, 2L, 3L));
         mockSyndicate.setId(1L);
-        when(syndicateRepository.existsById(1L)).thenReturn(true);
-        when(syndicateRepository.findById(1L)).thenReturn(Optional.of(mockSyndicate));
+        when(syndicateRepository.findWithMemberInvestorIdsById(1L)).thenReturn(Optional.of(mockSyndicate));
 
         // Investorのモック設定
         Investor investor1 = new Investor("Investor 1", null, null, null, null, InvestorType.BANK);
@@ -484,16 +521,14 @@ class FacilityValidatorTest {
         investor3.setId(3L);
         investor3.setIsActive(true);
 
-        when(investorRepository.findById(1L)).thenReturn(Optional.of(investor1));
-        when(investorRepository.findById(2L)).thenReturn(Optional.of(investor2));
-        when(investorRepository.findById(3L)).thenReturn(Optional.of(investor3));
+        when(investorRepository.findAllById(any())).thenReturn(List.of(investor1, investor2, investor3));
 
         // Borrowerのモック設定
         Borrower mockBorrower = new Borrower("Test Borrower", null, null, null, Money.of(10000000), null);
         mockBorrower.setId(1L);
         when(borrowerRepository.findById(1L)).thenReturn(Optional.of(mockBorrower));
 
-        // 既存Facilityのモック設定（空リスト）
-        when(facilityRepository.findBySyndicateId(1L)).thenReturn(Collections.emptyList());
+        // 既存Facilityのモック設定（Commitment合計0）
+        when(facilityRepository.sumCommitmentBySyndicateId(1L)).thenReturn(BigDecimal.ZERO);
     }
 }
@@ -0,0 +1,200 @@
+package com.example.syndicatelending.facility.domain;
+
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.facility.dto.CreateFacilityRequest;
+import com.example.syndicatelending.facility.dto.UpdateFacilityRequest;
+import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.repository.SyndicateCommittedExposureRepository;
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.facility.service.FacilityService;
+import com.example.syndicatelending.party.entity.Borrower;
+import com.example.syndicatelending.party.entity.CreditRating;
+import com.example.syndicatelending.party.entity.Investor;
+import com.example.syndicatelending.party.entity.InvestorType;
+import com.example.syndicatelending.party.repository.BorrowerRepository;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+import com.example.syndicatelending.syndicate.entity.Syndicate;
+import com.example.syndicatelending.syndicate.repository.SyndicateRepository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * コミット済みエクスポージャのカウンタと集計クエリが、
+ * 従来の「Syndicateの全Facilityを読み込んで合計する」方式と同じ値になることを検証するテスト
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SyndicateCommittedExposureCounterTest {
+
+    private static final int FACILITY_COUNT = 30;
+
+    @Autowired
+    private FacilityService facilityService;
+
+    @Autowired
+    private SyndicateCommittedExposureCounter committedExposureCounter;
+
+    @Autowired
+    private SyndicateCommittedExposureRepository committedExposureRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private SyndicateRepository syndicateRepository;
+
+    @Autowired
+    private BorrowerRepository borrowerRepository;
+
+    @Autowired
+    private InvestorRepository investorRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Syndicate syndicate;
+    private Investor investor1;
+    private Investor investor2;
+
+    @BeforeEach
+    void setUp() {
+        Borrower borrower = borrowerRepository.save(new Borrower("Exposure Borrower", "exposure@example.com",
+                "000-0000-0000", "COMP-EXP", Money.of(new BigDecimal("1000000000")), CreditRating.A));
+        investor1 = investorRepository.save(new Investor("Investor 1", "investor1@example.com", "111-1111-1111",
+                "COMP001", new BigDecimal("100000000"), InvestorType.BANK));
+        investor2 = investorRepository.save(new Investor("Investor 2", "investor2@example.com", "222-2222-2222",
+                "COMP002", new BigDecimal("100000000"), InvestorType.BANK));
+        syndicate = syndicateRepository.save(new Syndicate("Exposure Syndicate", investor1.getId(), borrower.getId(),
+                List.of(investor1.getId(), investor2.getId())));
+    }
+
+    @Test
+    void 作成更新削除を経てもカウンタと集計クエリが従来の合計と一致すること() {
+        List<Facility> facilities = new ArrayList<>();
+        for (int i = 0; i < FACILITY_COUNT; i++) {
+            facilities.add(facilityService.createFacility(createFacilityRequest(new BigDecimal(1000000 + i * 12345))));
+        }
+        entityManager.flush();
+
+        // 一部のCommitmentを変更し、一部を削除する
+        for (int i = 0; i < FACILITY_COUNT; i += 3) {
+            Facility facility = facilities.get(i);
+            facilityService.updateFacility(facility.getId(),
+                    updateFacilityRequest(facility, new BigDecimal(2000000 + i * 777)));
+        }
+        for (int i = 1; i < FACILITY_COUNT; i += 5) {
+            facilityService.deleteFacility(facilities.get(i).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Money legacyTotal = legacyTotal(null);
+        assertEquals(legacyTotal, committedExposureRepository.findById(syndicate.getId()).orElseThrow()
+                .getCommittedAmount());
+        assertEquals(legacyTotal, Money.of(facilityRepository.sumCommitmentBySyndicateId(syndicate.getId())));
+
+        for (Facility facility : facilityRepository.findBySyndicateId(syndicate.getId())) {
+            Money expected = legacyTotal(facility.getId());
+            assertEquals(expected, committedExposureCounter.committedAmountExcluding(syndicate.getId(), facility.getId()));
+            assertEquals(expected, Money.of(facilityRepository.sumCommitmentBySyndicateIdExcluding(
+                    syndicate.getId(), facility.getId())));
+        }
+    }
+
+    @Test
+    void カウンタ未作成のSyndicateは集計値で初期化されCreditLimit判定が従来と一致すること() {
+        // カウンタ導入前から存在するFacility
+        Facility legacy = new Facility(syndicate.getId(), Money.of(new BigDecimal("400000000")), "JPY",
+                LocalDate.now(), LocalDate.now().plusYears(1), "TIBOR + 1%");
+        facilityRepository.save(legacy);
+        entityManager.flush();
+        assertTrue(committedExposureRepository.findById(syndicate.getId()).isEmpty());
+
+        // 残り枠ちょうどは成功し、カウンタが既存分を含めて作成される
+        facilityService.createFacility(createFacilityRequest(new BigDecimal("600000000")));
+        entityManager.flush();
+        assertEquals(Money.of(new BigDecimal("1000000000")),
+                committedExposureRepository.findById(syndicate.getId()).orElseThrow().getCommittedAmount());
+
+        // 1円でも超えると失敗する
+        BusinessRuleViolationException exception = assertThrows(BusinessRuleViolationException.class,
+                () -> facilityService.createFacility(createFacilityRequest(new BigDecimal("1"))));
+        assertTrue(exception.getMessage().contains("総Commitment(1000000001.00)"));
+    }
+
+    @Test
+    void Syndicateが存在しないFacilityの削除ではカウンタを作成しないこと() {
+        Facility orphan = new Facility(Long.MAX_VALUE, Money.of(new BigDecimal("1000000")), "JPY",
+                LocalDate.now(), LocalDate.now().plusYears(1), "TIBOR + 1%");
+        facilityRepository.save(orphan);
+        entityManager.flush();
+
+        facilityService.deleteFacility(orphan.getId());
+        entityManager.flush();
+
+        assertTrue(facilityRepository.findById(orphan.getId()).isEmpty());
+        assertTrue(committedExposureRepository.findById(Long.MAX_VALUE).isEmpty());
+    }
+
+    private Money legacyTotal(Long excludeFacilityId) {
+        return facilityRepository.findBySyndicateId(syndicate.getId()).stream()
+                .filter(facility -> !facility.getId().equals(excludeFacilityId))
+                .map(Facility::getCommitment)
+                .reduce(Money.zero(), Money::add);
+    }
+
+    private CreateFacilityRequest createFacilityRequest(BigDecimal commitment) {
+        CreateFacilityRequest request = new CreateFacilityRequest();
+        request.setSyndicateId(syndicate.getId());
+        request.setCommitment(Money.of(commitment));
+        request.setCurrency("JPY");
+        request.setStartDate(LocalDate.now());
+        request.setEndDate(LocalDate.now().plusYears(1));
+        request.setInterestTerms("TIBOR + 1%");
+
+        CreateFacilityRequest.SharePieRequest pie1 = new CreateFacilityRequest.SharePieRequest();
+        pie1.setInvestorId(investor1.getId());
+        pie1.setShare(Percentage.of(new BigDecimal("0.6")));
+        CreateFacilityRequest.SharePieRequest pie2 = new CreateFacilityRequest.SharePieRequest();
+        pie2.setInvestorId(investor2.getId());
+        pie2.setShare(Percentage.of(new BigDecimal("0.4")));
+        request.setSharePies(List.of(pie1, pie2));
+        return request;
+    }
+
+    private UpdateFacilityRequest updateFacilityRequest(Facility facility, BigDecimal commitment) {
+        UpdateFacilityRequest request = new UpdateFacilityRequest();
+        request.setSyndicateId(syndicate.getId());
+        request.setCommitment(Money.of(commitment));
+        request.setCurrency("JPY");
+        request.setStartDate(facility.getStartDate());
+        request.setEndDate(facility.getEndDate());
+        request.setInterestTerms("TIBOR + 1.5%");
+        request.setVersion(facility.getVersion());
+
+        UpdateFacilityRequest.SharePieRequest pie1 = new UpdateFacilityRequest.SharePieRequest();
+        pie1.setInvestorId(investor1.getId());
+        pie1.setShare(Percentage.of(new BigDecimal("0.5")));
+        UpdateFacilityRequest.SharePieRequest pie2 = new UpdateFacilityRequest.SharePieRequest();
+        pie2.setInvestorId(investor2.getId());
+        pie2.setShare(Percentage.of(new BigDecimal("0.5")));
+        request.setSharePies(List.of(pie1, pie2));
+        return request;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.syndicatelending.facility.service;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Facilityの NDJSON エクスポートが、フラッシュ間隔をまたいでも全件をID順に1行ずつ出力することを検証するテスト
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class FacilityExportTest {
+
+    private static final int FACILITY_COUNT = 1200;
+
+    @Autowired
+    private FacilityService facilityService;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Set<Long> insertedIds;
+
+    @BeforeEach
+    void setUp() {
+        List<Facility> facilities = new ArrayList<>();
+        for (int i = 0; i < FACILITY_COUNT; i++) {
+            facilities.add(new Facility(1L, Money.of(new BigDecimal(1000000 + i)), "JPY",
+                    LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1), "TIBOR + 1%"));
+        }
+        insertedIds = facilityRepository.saveAll(facilities).stream()
+                .map(Facility::getId)
+                .collect(Collectors.toSet());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void 全件がID順に1行1JSONで出力されること() throws Exception {
+        // 同じコンテキストの他のテストがコミットしたFacilityも出力されるため、このテストで登録した行のみを検証する
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long exported = facilityService.exportFacilities(out);
+
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertTrue(body.endsWith("\n"));
+        String[] lines = body.split("\n");
+        assertEquals(lines.length, exported);
+
+        Set<Long> exportedIds = new HashSet<>();
+        long previousId = Long.MIN_VALUE;
+        for (String line : lines) {
+            JsonNode node = objectMapper.readTree(line);
+            long id = node.get("id").asLong();
+            assertTrue(id > previousId);
+            assertFalse(node.has("sharePies"));
+            if (insertedIds.contains(id)) {
+                assertEquals("JPY", node.get("currency").asText());
+                exportedIds.add(id);
+            }
+            previousId = id;
+        }
+        assertEquals(insertedIds, exportedIds);
+    }
+}
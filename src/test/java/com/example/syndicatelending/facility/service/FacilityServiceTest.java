@@ -4,6 +4,8 @@ import com.example.syndicatelending.common.application.exception.BusinessRuleVio
 import com.example.syndicatelending.common.application.exception.ResourceNotFoundException;
 import com.example.syndicatelending.common.domain.model.Money;
 import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.exposure.service.ExposureRecorder;
+import com.example.syndicatelending.facility.domain.SyndicateCommittedExposureCounter;
 import com.example.syndicatelending.facility.domain.FacilityValidator;
 import com.example.syndicatelending.facility.dto.CreateFacilityRequest;
 import com.example.syndicatelending.facility.dto.UpdateFacilityRequest;
@@ -23,6 +25,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.when;
 
@@ -44,6 +47,12 @@ class FacilityServiceTest {
     @Mock
     private com.example.syndicatelending.syndicate.repository.SyndicateRepository syndicateRepository;
 
+    @Mock
+    private SyndicateCommittedExposureCounter committedExposureCounter;
+
+    @Mock
+    private ExposureRecorder exposureRecorder;
+
     @InjectMocks
     private FacilityService facilityService;
 
@@ -72,7 +81,9 @@ class FacilityServiceTest {
         verify(facilityValidator).validateCreateFacilityRequest(request);
         verify(facilityRepository).save(any(Facility.class));
         verify(syndicateRepository).findById(1L); // Syndicate取得確認
+        verify(committedExposureCounter).record(1L, Money.of(BigDecimal.valueOf(5000000))); // コミット済みエクスポージャ加算確認
         verify(facilityInvestmentRepository).saveAll(any(List.class)); // FacilityInvestment保存確認
+        verify(exposureRecorder).recordCommitments(eq(1L), any(), any()); // エクスポージャ参照モデル更新確認
     }
 
     @Test
@@ -102,6 +113,8 @@ class FacilityServiceTest {
 
         Facility existingFacility = new Facility();
         existingFacility.setId(facilityId);
+        existingFacility.setSyndicateId(1L);
+        existingFacility.setCommitment(Money.of(BigDecimal.valueOf(5000000)));
         existingFacility.setVersion(1L); // 同じバージョン
         when(facilityRepository.findById(facilityId)).thenReturn(java.util.Optional.of(existingFacility));
         
@@ -125,9 +138,10 @@ class FacilityServiceTest {
         verify(facilityValidator).validateUpdateFacilityRequest(eq(request), eq(facilityId));
         verify(facilityRepository).findById(facilityId);
         verify(facilityRepository).save(any(Facility.class));
-        verify(facilityInvestmentRepository).deleteByFacilityId(facilityId); // FacilityInvestment削除確認
+        verify(facilityInvestmentRepository, never()).deleteByFacilityId(facilityId); // 既存の履歴は削除しない
         verify(syndicateRepository).findById(1L); // Syndicate取得確認
-        verify(facilityInvestmentRepository).saveAll(any(List.class)); // FacilityInvestment再生成確認
+        verify(committedExposureCounter).record(1L, Money.of(BigDecimal.valueOf(1000000))); // 差分のみ加算
+        verify(facilityInvestmentRepository).saveAll(any(List.class)); // 差分の調整取引を追記
     }
 
     @Test
@@ -158,16 +172,13 @@ class FacilityServiceTest {
         existingFacility.setId(facilityId);
         existingFacility.setVersion(2L); // 現在のバージョンが異なる
         when(facilityRepository.findById(facilityId)).thenReturn(java.util.Optional.of(existingFacility));
-        // Spring Data JPAのOptimisticLockingFailureExceptionをシミュレート
-        when(facilityRepository.save(any(Facility.class)))
-                .thenThrow(new OptimisticLockingFailureException("Version mismatch"));
 
         // When & Then
         assertThatThrownBy(() -> facilityService.updateFacility(facilityId, request))
                 .isInstanceOf(OptimisticLockingFailureException.class);
 
         verify(facilityRepository).findById(facilityId);
-        verify(facilityRepository).save(any(Facility.class));
+        verify(facilityRepository, never()).save(any(Facility.class));
     }
 
     @Test
@@ -175,14 +186,20 @@ class FacilityServiceTest {
         // Given
         Long facilityId = 1L;
 
-        when(facilityRepository.existsById(facilityId)).thenReturn(true);
+        Facility existingFacility = new Facility();
+        existingFacility.setId(facilityId);
+        existingFacility.setSyndicateId(1L);
+        existingFacility.setCommitment(Money.of(BigDecimal.valueOf(5000000)));
+        when(facilityRepository.findById(facilityId)).thenReturn(java.util.Optional.of(existingFacility));
 
         // When
         facilityService.deleteFacility(facilityId);
 
         // Then
-        verify(facilityRepository).existsById(facilityId);
-        verify(facilityRepository).deleteById(facilityId);
+        verify(facilityRepository).findById(facilityId);
+        verify(facilityRepository).delete(existingFacility);
+        verify(committedExposureCounter).record(1L, Money.of(BigDecimal.valueOf(-5000000)));
+        verify(exposureRecorder).recordCommitments(facilityId, existingFacility.getCurrency(), java.util.Map.of());
     }
 
     @Test
@@ -190,15 +207,15 @@ class FacilityServiceTest {
         // Given
         Long facilityId = 1L;
 
-        when(facilityRepository.existsById(facilityId)).thenReturn(false);
+        when(facilityRepository.findById(facilityId)).thenReturn(java.util.Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> facilityService.deleteFacility(facilityId))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Facility not found");
 
-        verify(facilityRepository).existsById(facilityId);
-        verify(facilityRepository, never()).deleteById(facilityId);
+        verify(facilityRepository).findById(facilityId);
+        verify(facilityRepository, never()).delete(any(Facility.class));
     }
 
     private CreateFacilityRequest createValidFacilityRequest() {
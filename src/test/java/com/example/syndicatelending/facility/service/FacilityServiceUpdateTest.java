@@ -0,0 +1,188 @@
+package com.example.syndicatelending.facility.service;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.facility.dto.CreateFacilityRequest;
+import com.example.syndicatelending.facility.dto.UpdateFacilityRequest;
+import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.entity.FacilityInvestment;
+import com.example.syndicatelending.facility.entity.SharePie;
+import com.example.syndicatelending.facility.repository.FacilityInvestmentRepository;
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.facility.repository.SharePieRepository;
+import com.example.syndicatelending.party.entity.Borrower;
+import com.example.syndicatelending.party.entity.CreditRating;
+import com.example.syndicatelending.party.entity.Investor;
+import com.example.syndicatelending.party.entity.InvestorType;
+import com.example.syndicatelending.party.repository.BorrowerRepository;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+import com.example.syndicatelending.syndicate.entity.Syndicate;
+import com.example.syndicatelending.syndicate.repository.SyndicateRepository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Facility更新が差分のみを反映し、FacilityInvestmentの履歴を残すことを検証するテスト
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class FacilityServiceUpdateTest {
+
+    @Autowired
+    private FacilityService facilityService;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private SharePieRepository sharePieRepository;
+
+    @Autowired
+    private FacilityInvestmentRepository facilityInvestmentRepository;
+
+    @Autowired
+    private SyndicateRepository syndicateRepository;
+
+    @Autowired
+    private BorrowerRepository borrowerRepository;
+
+    @Autowired
+    private InvestorRepository investorRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Syndicate syndicate;
+    private Investor investor1;
+    private Investor investor2;
+    private Investor investor3;
+    private Facility facility;
+
+    @BeforeEach
+    void setUp() {
+        Borrower borrower = borrowerRepository.save(new Borrower("Update Borrower", "update@example.com",
+                "000-0000-0000", "COMP-UPD", Money.of(new BigDecimal("100000000")), CreditRating.A));
+        investor1 = investorRepository.save(new Investor("Investor 1", "investor1@example.com", "111-1111-1111",
+                "COMP001", new BigDecimal("100000000"), InvestorType.BANK));
+        investor2 = investorRepository.save(new Investor("Investor 2", "investor2@example.com", "222-2222-2222",
+                "COMP002", new BigDecimal("100000000"), InvestorType.BANK));
+        investor3 = investorRepository.save(new Investor("Investor 3", "investor3@example.com", "333-3333-3333",
+                "COMP003", new BigDecimal("100000000"), InvestorType.BANK));
+        syndicate = syndicateRepository.save(new Syndicate("Update Syndicate", investor1.getId(), borrower.getId(),
+                List.of(investor1.getId(), investor2.getId(), investor3.getId())));
+
+        CreateFacilityRequest request = new CreateFacilityRequest();
+        request.setSyndicateId(syndicate.getId());
+        request.setCommitment(Money.of(new BigDecimal("10000000")));
+        request.setCurrency("JPY");
+        request.setStartDate(LocalDate.of(2025, 1, 1));
+        request.setEndDate(LocalDate.of(2026, 1, 1));
+        request.setInterestTerms("TIBOR + 1%");
+        request.setSharePies(List.of(
+                createSharePie(investor1.getId(), "0.5"),
+                createSharePie(investor2.getId(), "0.5")));
+        facility = facilityService.createFacility(request);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void 金利条件のみの変更ではSharePieとFacilityInvestmentに触れないこと() {
+        Map<Long, Long> sharePieIdsBefore = sharePieIdsByInvestor();
+        List<Long> investmentIdsBefore = investmentIds();
+
+        UpdateFacilityRequest request = updateRequest(new BigDecimal("10000000"),
+                Map.of(investor1.getId(), "0.5", investor2.getId(), "0.5"));
+        request.setInterestTerms("TIBOR + 1.25%");
+        facilityService.updateFacility(facility.getId(), request);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals("TIBOR + 1.25%", facilityRepository.findById(facility.getId()).orElseThrow().getInterestTerms());
+        assertEquals(sharePieIdsBefore, sharePieIdsByInvestor());
+        assertEquals(investmentIdsBefore, investmentIds());
+    }
+
+    @Test
+    void 持分とCommitmentの変更は差分の調整取引として追記されること() {
+        Map<Long, Long> sharePieIdsBefore = sharePieIdsByInvestor();
+        List<Long> investmentIdsBefore = investmentIds();
+
+        // investor1: 50% → 60%, investor2: 削除, investor3: 追加 40%, Commitment: 10,000,000 → 12,000,000
+        facilityService.updateFacility(facility.getId(), updateRequest(new BigDecimal("12000000"),
+                Map.of(investor1.getId(), "0.6", investor3.getId(), "0.4")));
+        entityManager.flush();
+        entityManager.clear();
+
+        Map<Long, Long> sharePieIdsAfter = sharePieIdsByInvestor();
+        assertEquals(sharePieIdsBefore.get(investor1.getId()), sharePieIdsAfter.get(investor1.getId()));
+        assertFalse(sharePieIdsAfter.containsKey(investor2.getId()));
+        assertTrue(sharePieIdsAfter.containsKey(investor3.getId()));
+
+        List<FacilityInvestment> investments = facilityInvestmentRepository.findByFacilityId(facility.getId());
+        assertTrue(investments.stream().map(FacilityInvestment::getId).toList().containsAll(investmentIdsBefore));
+        assertEquals(investmentIdsBefore.size() + 3, investments.size());
+
+        Map<Long, Money> netByInvestor = investments.stream()
+                .collect(Collectors.groupingBy(FacilityInvestment::getInvestorId,
+                        Collectors.reducing(Money.zero(), FacilityInvestment::getAmount, Money::add)));
+        assertEquals(Money.of(new BigDecimal("7200000")), netByInvestor.get(investor1.getId()));
+        assertEquals(Money.zero(), netByInvestor.get(investor2.getId()));
+        assertEquals(Money.of(new BigDecimal("4800000")), netByInvestor.get(investor3.getId()));
+    }
+
+    private Map<Long, Long> sharePieIdsByInvestor() {
+        return sharePieRepository.findByFacility_Id(facility.getId()).stream()
+                .collect(Collectors.toMap(SharePie::getInvestorId, SharePie::getId));
+    }
+
+    private List<Long> investmentIds() {
+        return facilityInvestmentRepository.findByFacilityId(facility.getId()).stream()
+                .map(FacilityInvestment::getId)
+                .sorted()
+                .toList();
+    }
+
+    private UpdateFacilityRequest updateRequest(BigDecimal commitment, Map<Long, String> shares) {
+        Facility current = facilityRepository.findById(facility.getId()).orElseThrow();
+        UpdateFacilityRequest request = new UpdateFacilityRequest();
+        request.setSyndicateId(syndicate.getId());
+        request.setCommitment(Money.of(commitment));
+        request.setCurrency(current.getCurrency());
+        request.setStartDate(current.getStartDate());
+        request.setEndDate(current.getEndDate());
+        request.setInterestTerms(current.getInterestTerms());
+        request.setVersion(current.getVersion());
+        request.setSharePies(shares.entrySet().stream()
+                .map(entry -> {
+                    UpdateFacilityRequest.SharePieRequest pie = new UpdateFacilityRequest.SharePieRequest();
+                    pie.setInvestorId(entry.getKey());
+                    pie.setShare(Percentage.of(new BigDecimal(entry.getValue())));
+                    return pie;
+                })
+                .toList());
+        return request;
+    }
+
+    private CreateFacilityRequest.SharePieRequest createSharePie(Long investorId, String share) {
+        CreateFacilityRequest.SharePieRequest pie = new CreateFacilityRequest.SharePieRequest();
+        pie.setInvestorId(investorId);
+        pie.setShare(Percentage.of(new BigDecimal(share)));
+        return pie;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.syndicatelending.facility.service;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.common.infrastructure.CacheConfig;
+import com.example.syndicatelending.facility.domain.InvestorShare;
+import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.entity.SharePie;
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.facility.repository.SharePieRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SharePieキャッシュのテスト。
+ * キャッシュへの反映はコミット後に行われるため、テストはトランザクションで囲まない。
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class FacilitySharePieCacheTest {
+
+    @Autowired
+    private FacilitySharePieCache facilitySharePieCache;
+
+    @Autowired
+    private FacilityService facilityService;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private SharePieRepository sharePieRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Facility facility;
+
+    @BeforeEach
+    void setUp() {
+        facility = new Facility();
+        facility.setSyndicateId(1L);
+        facility.setCommitment(Money.of(new BigDecimal("1000000")));
+        facility.setCurrency("JPY");
+        facility.setStartDate(LocalDate.now());
+        facility.setEndDate(LocalDate.now().plusYears(1));
+        facility = facilityRepository.save(facility);
+        saveSharePie(10L, "0.6");
+    }
+
+    @Test
+    void 二回目以降の読み取りはキャッシュから返され削除時にevictされること() {
+        List<InvestorShare> first = facilitySharePieCache.getSharePies(facility.getId());
+        assertEquals(1, first.size());
+        assertNotNull(sharePieCache().get(facility.getId()));
+
+        // キャッシュを経由しない変更は、evict されるまで読み取り結果に現れない
+        saveSharePie(20L, "0.4");
+        assertEquals(first, facilitySharePieCache.getSharePies(facility.getId()));
+
+        facilityService.deleteFacility(facility.getId());
+
+        assertNull(sharePieCache().get(facility.getId()));
+        assertTrue(facilitySharePieCache.getSharePies(facility.getId()).isEmpty());
+    }
+
+    private Cache sharePieCache() {
+        return cacheManager.getCache(CacheConfig.FACILITY_SHARE_PIES);
+    }
+
+    private void saveSharePie(Long investorId, String share) {
+        SharePie sharePie = new SharePie();
+        sharePie.setFacility(facility);
+        sharePie.setInvestorId(investorId);
+        sharePie.setShare(Percentage.of(new BigDecimal(share)));
+        sharePieRepository.save(sharePie);
+    }
+}
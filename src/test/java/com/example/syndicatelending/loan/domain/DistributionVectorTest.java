@@ -0,0 +1,96 @@
+package com.example.syndicatelending.loan.domain;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.loan.entity.AmountPie;
+import com.example.syndicatelending.loan.entity.DistributionWeight;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 支払い按分用の重みベクトルのテスト。
+ */
+class DistributionVectorTest {
+
+    @Test
+    void 割り切れる金額は重みに比例して按分されること() {
+        DistributionVector vector = DistributionVector.fromAmountPies(List.of(
+                amountPie(1L, "600000"), amountPie(2L, "400000")));
+
+        Money[] shares = vector.allocate(Money.of(new BigDecimal("100000")));
+
+        assertEquals(Money.of(new BigDecimal("60000")), shares[0]);
+        assertEquals(Money.of(new BigDecimal("40000")), shares[1]);
+    }
+
+    @Test
+    void 端数は剰余の大きい投資家から配分され合計が支払額と一致すること() {
+        DistributionVector vector = DistributionVector.fromAmountPies(List.of(
+                amountPie(1L, "1"), amountPie(2L, "1"), amountPie(3L, "1")));
+
+        Money[] shares = vector.allocate(Money.of(new BigDecimal("100.00")));
+
+        // 剰余が同じ場合は先頭の投資家から1単位ずつ配分される
+        assertEquals(Money.of(new BigDecimal("33.34")), shares[0]);
+        assertEquals(Money.of(new BigDecimal("33.33")), shares[1]);
+        assertEquals(Money.of(new BigDecimal("33.33")), shares[2]);
+    }
+
+    @Test
+    void 多数の投資家でも各配分が按分値から1単位以内で合計が一致すること() {
+        List<AmountPie> amountPies = new ArrayList<>();
+        for (long i = 1; i <= 97; i++) {
+            amountPies.add(amountPie(i, String.valueOf(1000 + i * 37)));
+        }
+        DistributionVector vector = DistributionVector.fromAmountPies(amountPies);
+        BigDecimal total = amountPies.stream().map(AmountPie::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+        Money amount = Money.of(new BigDecimal("123456.79"));
+
+        Money[] shares = vector.allocate(amount);
+
+        assertEquals(amount, Arrays.stream(shares).reduce(Money.zero(), Money::add));
+        for (int i = 0; i < shares.length; i++) {
+            BigDecimal exact = amount.getAmount().multiply(amountPies.get(i).getAmount())
+                    .divide(total, 10, java.math.RoundingMode.HALF_UP);
+            assertTrue(shares[i].getAmount().subtract(exact).abs().compareTo(new BigDecimal("0.01")) < 0,
+                    "investor " + i + ": " + shares[i] + " vs " + exact);
+        }
+    }
+
+    @Test
+    void 同一投資家のAmountPieは合算されること() {
+        DistributionVector vector = DistributionVector.fromAmountPies(List.of(
+                amountPie(1L, "300"), amountPie(2L, "500"), amountPie(1L, "200")));
+
+        assertEquals(List.of(new DistributionWeight(1L, 50000), new DistributionWeight(2L, 50000)),
+                vector.toWeights());
+    }
+
+    @Test
+    void 永続化した重みから同じ按分結果が得られること() {
+        DistributionVector vector = DistributionVector.fromAmountPies(List.of(
+                amountPie(1L, "333.33"), amountPie(2L, "666.67")));
+        DistributionVector restored = DistributionVector.fromWeights(vector.toWeights());
+        Money amount = Money.of(new BigDecimal("1000.01"));
+
+        assertArrayEquals(vector.allocate(amount), restored.allocate(amount));
+    }
+
+    @Test
+    void 重みの合計がゼロの場合は例外となること() {
+        assertThrows(IllegalArgumentException.class,
+                () -> DistributionVector.fromAmountPies(List.of(amountPie(1L, "0"))));
+    }
+
+    private AmountPie amountPie(Long investorId, String amount) {
+        AmountPie amountPie = new AmountPie();
+        amountPie.setInvestorId(investorId);
+        amountPie.setAmount(new BigDecimal(amount));
+        return amountPie;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.syndicatelending.loan.entity;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 支払いによるLoanの残高・次回返済の更新のテスト。
+ */
+class LoanPositionTest {
+
+    private static final LocalDate DRAWDOWN_DATE = LocalDate.of(2025, 1, 10);
+
+    @Test
+    void 作成時は第1回が次回返済になること() {
+        Loan loan = loan(RepaymentMethod.EQUAL_INSTALLMENT, "0", 12, PaymentScheduleMode.PROJECTED);
+
+        assertEquals(1, loan.getNextPaymentNumber());
+        assertEquals(LocalDate.of(2025, 2, 10), loan.getNextDueDate());
+        assertEquals(Money.of(new BigDecimal("100000")), loan.getNextPrincipalDue());
+        assertEquals(Money.zero(), loan.getNextInterestDue());
+        assertNull(loan.getLastPaymentDate());
+    }
+
+    @Test
+    void 支払いで残高が減り繰上返済済みの期は読み飛ばされること() {
+        Loan loan = loan(RepaymentMethod.EQUAL_INSTALLMENT, "0", 12, PaymentScheduleMode.STORED);
+
+        loan.applyPayment(Money.of(new BigDecimal("100000")), LocalDate.of(2025, 2, 10));
+        assertEquals(Money.of(new BigDecimal("1100000")), loan.getOutstandingBalance());
+        assertEquals(2, loan.getNextPaymentNumber());
+        assertEquals(LocalDate.of(2025, 2, 10), loan.getLastPaymentDate());
+
+        // 第2回で250,000を返済すると、第3回の返済後残高(900,000)も下回る
+        loan.applyPayment(Money.of(new BigDecimal("250000")), LocalDate.of(2025, 3, 10));
+        assertEquals(Money.of(new BigDecimal("850000")), loan.getOutstandingBalance());
+        assertEquals(4, loan.getNextPaymentNumber());
+        assertEquals(LocalDate.of(2025, 5, 10), loan.getNextDueDate());
+
+        loan.applyPayment(Money.of(new BigDecimal("850000")), LocalDate.of(2025, 4, 10));
+        assertTrue(loan.getOutstandingBalance().isZero());
+        assertNull(loan.getNextPaymentNumber());
+        assertNull(loan.getNextDueDate());
+        assertNull(loan.getNextPrincipalDue());
+    }
+
+    @Test
+    void 約定額に満たない支払いでは次回返済の期が変わらないこと() {
+        Loan loan = loan(RepaymentMethod.EQUAL_INSTALLMENT, "0", 12, PaymentScheduleMode.PROJECTED);
+
+        assertTrue(loan.applyPayment(Money.of(new BigDecimal("40000")), LocalDate.of(2025, 2, 10)).isEmpty());
+        assertEquals(Money.of(new BigDecimal("1160000")), loan.getOutstandingBalance());
+        assertEquals(1, loan.getNextPaymentNumber());
+        assertEquals(LocalDate.of(2025, 2, 10), loan.getNextDueDate());
+
+        // 残りの60,000で第1回の返済後残高(1,100,000)に達する
+        List<PaymentDetail> settled = loan.applyPayment(Money.of(new BigDecimal("60000")), LocalDate.of(2025, 2, 12));
+        assertEquals(1, settled.size());
+        assertEquals(1, settled.get(0).getPaymentNumber());
+        assertEquals(LocalDate.of(2025, 2, 12), settled.get(0).getPaidDate());
+        assertEquals(2, loan.getNextPaymentNumber());
+        assertEquals(LocalDate.of(2025, 3, 10), loan.getNextDueDate());
+    }
+
+    @Test
+    void 残高ちょうどの支払いで完済となり以降の利息の支払いでも完済のままであること() {
+        Loan loan = loan(RepaymentMethod.EQUAL_INSTALLMENT, "0", 12, PaymentScheduleMode.PROJECTED);
+
+        assertEquals(12, loan.applyPayment(Money.of(new BigDecimal("1200000")), LocalDate.of(2025, 2, 10)).size());
+        assertTrue(loan.getOutstandingBalance().isZero());
+        assertNull(loan.getNextPaymentNumber());
+        assertNull(loan.getNextDueDate());
+
+        assertTrue(loan.applyPayment(Money.zero(), LocalDate.of(2025, 3, 10)).isEmpty());
+        assertTrue(loan.getOutstandingBalance().isZero());
+        assertNull(loan.getNextPaymentNumber());
+        assertEquals(LocalDate.of(2025, 3, 10), loan.getLastPaymentDate());
+    }
+
+    @Test
+    void バレット返済の利息のみの期は元本残高があっても読み飛ばされないこと() {
+        Loan loan = loan(RepaymentMethod.BULLET_PAYMENT, "0.06", 3, PaymentScheduleMode.PROJECTED);
+        assertEquals(Money.zero(), loan.getNextPrincipalDue());
+
+        loan.applyPayment(Money.zero(), LocalDate.of(2025, 2, 10));
+        assertEquals(2, loan.getNextPaymentNumber());
+        assertEquals(Money.of(new BigDecimal("1200000")), loan.getOutstandingBalance());
+
+        loan.applyPayment(Money.zero(), LocalDate.of(2025, 3, 10));
+        assertEquals(3, loan.getNextPaymentNumber());
+        assertEquals(Money.of(new BigDecimal("1200000")), loan.getNextPrincipalDue());
+    }
+
+    @Test
+    void 上書きされた支払い詳細が次回返済の期であれば反映されること() {
+        Loan loan = loan(RepaymentMethod.EQUAL_INSTALLMENT, "0", 12, PaymentScheduleMode.STORED);
+        PaymentDetail second = loan.getPaymentDetails().get(1);
+        second.setDueDate(LocalDate.of(2025, 3, 31));
+        loan.refreshNextDue(second);
+        assertEquals(LocalDate.of(2025, 2, 10), loan.getNextDueDate());
+
+        PaymentDetail first = loan.getPaymentDetails().get(0);
+        first.setDueDate(LocalDate.of(2025, 2, 28));
+        loan.refreshNextDue(first);
+        assertEquals(LocalDate.of(2025, 2, 28), loan.getNextDueDate());
+    }
+
+    private static Loan loan(RepaymentMethod method, String rate, int months, PaymentScheduleMode mode) {
+        return new Loan(1L, 1L, Money.of(new BigDecimal("1200000")), Percentage.of(new BigDecimal(rate)),
+                DRAWDOWN_DATE, months, "MONTHLY", method, "JPY", mode);
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.syndicatelending.loan.projection;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.loan.domain.DistributionVector;
+import com.example.syndicatelending.loan.entity.DistributionWeight;
+import com.example.syndicatelending.loan.entity.Loan;
+import com.example.syndicatelending.loan.entity.PaymentScheduleMode;
+import com.example.syndicatelending.loan.entity.RepaymentMethod;
+import com.example.syndicatelending.loan.schedule.AmortizationSchedule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * キャッシュフロー予測エンジンのテスト。
+ * 100,000件の処理時間は JMH の CashFlowProjectionBenchmark（benchmark プロファイル）で計測する。
+ */
+class CashFlowProjectionEngineTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void 期日が属する月のバケットに投資家ごとの按分額が集計されること() {
+        // 年利12%（月利1%）、12回のバレット返済。毎月15日に利息12,000、最終回（2026/1/15）に元本
+        ProjectedLoan loan = loan(1L, "JPY", "1200000", "0.12", LocalDate.of(2025, 1, 15), 12,
+                RepaymentMethod.BULLET_PAYMENT, weights(1L, 60, 2L, 40));
+
+        CashFlowAccumulator accumulator = new CashFlowAccumulator(13);
+        CashFlowProjectionEngine.accumulate(loan, FROM, FROM.plusMonths(13), CashFlowGranularity.MONTH, accumulator);
+
+        assertEquals(1, accumulator.loanCount());
+        assertEquals(2, accumulator.rowCount());
+        int investor1 = accumulator.row(1L, "JPY");
+        int investor2 = accumulator.row(2L, "JPY");
+        assertEquals(0L, accumulator.interestMinor(investor1, 0));
+        for (int bucket = 1; bucket <= 12; bucket++) {
+            assertEquals(720_000L, accumulator.interestMinor(investor1, bucket));
+            assertEquals(480_000L, accumulator.interestMinor(investor2, bucket));
+        }
+        assertEquals(72_000_000L, accumulator.principalMinor(investor1, 12));
+        assertEquals(48_000_000L, accumulator.principalMinor(investor2, 12));
+        assertEquals(0L, accumulator.principalMinor(investor1, 11));
+    }
+
+    @Test
+    void 集計期間外の期日は含まれず日単位では期日の日に集計されること() {
+        ProjectedLoan loan = loan(1L, "USD", "1000", "0.12", LocalDate.of(2024, 11, 10), 6,
+                RepaymentMethod.BULLET_PAYMENT, weights(7L, 1));
+        LocalDate to = FROM.plusMonths(1);
+
+        CashFlowAccumulator accumulator = new CashFlowAccumulator(CashFlowGranularity.DAY.bucketCount(FROM, to));
+        CashFlowProjectionEngine.accumulate(loan, FROM, to, CashFlowGranularity.DAY, accumulator);
+
+        // 2025/1/10 の1回のみ
+        int row = accumulator.row(7L, "USD");
+        for (int bucket = 0; bucket < accumulator.bucketCount(); bucket++) {
+            assertEquals(bucket == 9 ? 1_000L : 0L, accumulator.interestMinor(row, bucket), "bucket " + bucket);
+        }
+    }
+
+    @Test
+    void 支払い済みの期は含まれず次回返済の期から集計されること() {
+        Loan loan = new Loan(1L, 1L, Money.of(new BigDecimal("1200000")), Percentage.of(new BigDecimal("0.12")),
+                LocalDate.of(2024, 12, 15), 12, "MONTHLY", RepaymentMethod.EQUAL_INSTALLMENT, "JPY",
+                PaymentScheduleMode.PROJECTED);
+        loan.setId(1L);
+        loan.generatePaymentSchedule();
+        AmortizationSchedule schedule = loan.projectPaymentSchedule();
+        // 第1回〜第3回（2025/1/15〜3/15）を期日どおりに支払う
+        for (int i = 0; i < 3; i++) {
+            loan.applyPayment(Money.ofMinorUnits(schedule.principalPaymentMinor(i)), schedule.dueDate(i));
+        }
+        assertEquals(4, loan.getNextPaymentNumber());
+
+        CashFlowAccumulator accumulator = new CashFlowAccumulator(13);
+        CashFlowProjectionEngine.accumulate(ProjectedLoan.of(loan, weights(1L, 1)), FROM, FROM.plusMonths(13),
+                CashFlowGranularity.MONTH, accumulator);
+
+        int row = accumulator.row(1L, "JPY");
+        long principal = 0;
+        for (int bucket = 0; bucket < 13; bucket++) {
+            // 2025/1 が第1回
+            boolean open = bucket >= 3 && bucket < schedule.size();
+            assertEquals(open ? schedule.principalPaymentMinor(bucket) : 0L, accumulator.principalMinor(row, bucket),
+                    "bucket " + bucket);
+            assertEquals(open ? schedule.interestPaymentMinor(bucket) : 0L, accumulator.interestMinor(row, bucket),
+                    "bucket " + bucket);
+            principal += accumulator.principalMinor(row, bucket);
+        }
+        assertEquals(loan.getOutstandingBalance().toMinorUnits(), principal);
+    }
+
+    @Test
+    void 繰上返済の分は次回返済の期から差し引かれ完済したローンは集計されないこと() {
+        // 元本1,200,000、年利12%のバレット返済。第1回の前に元本の1/4を繰上返済した
+        ProjectedLoan prepaid = new ProjectedLoan(1L, "JPY", Money.of(new BigDecimal("1200000")),
+                Percentage.of(new BigDecimal("0.12")), LocalDate.of(2024, 12, 15), 12, RepaymentMethod.BULLET_PAYMENT,
+                90_000_000L, 1, weights(1L, 1));
+        ProjectedLoan paidOff = new ProjectedLoan(2L, "JPY", Money.of(new BigDecimal("1200000")),
+                Percentage.of(new BigDecimal("0.12")), LocalDate.of(2024, 12, 15), 12, RepaymentMethod.BULLET_PAYMENT,
+                0L, null, weights(1L, 1));
+
+        CashFlowAccumulator accumulator = new CashFlowAccumulator(13);
+        CashFlowProjectionEngine.accumulate(prepaid, FROM, FROM.plusMonths(13), CashFlowGranularity.MONTH, accumulator);
+        CashFlowProjectionEngine.accumulate(paidOff, FROM, FROM.plusMonths(13), CashFlowGranularity.MONTH, accumulator);
+
+        assertEquals(1, accumulator.loanCount());
+        int row = accumulator.row(1L, "JPY");
+        for (int bucket = 0; bucket < 12; bucket++) {
+            // 利息は残高 900,000 に対する月利1%
+            assertEquals(900_000L, accumulator.interestMinor(row, bucket), "bucket " + bucket);
+        }
+        assertEquals(90_000_000L, accumulator.principalMinor(row, 11));
+        assertEquals(0L, accumulator.interestMinor(row, 12));
+    }
+
+    @Test
+    void 並列集計の結果が逐次集計と一致し元本の合計がスケジュールと一致すること() {
+        List<ProjectedLoan> loans = generateLoans(2_000, 50);
+        LocalDate to = FROM.plusMonths(120);
+
+        CashFlowAccumulator parallel = new CashFlowProjectionEngine(executor, 4, 37)
+                .project(1L, loans.size(), rangeLoader(loans), FROM, to, CashFlowGranularity.MONTH);
+
+        CashFlowAccumulator sequential = new CashFlowAccumulator(CashFlowGranularity.MONTH.bucketCount(FROM, to));
+        long expectedPrincipal = 0;
+        for (ProjectedLoan loan : loans) {
+            CashFlowProjectionEngine.accumulate(loan, FROM, to, CashFlowGranularity.MONTH, sequential);
+            AmortizationSchedule schedule = loan.schedule();
+            for (int i = 0; i < schedule.size(); i++) {
+                if (!schedule.dueDate(i).isBefore(FROM) && schedule.dueDate(i).isBefore(to)) {
+                    expectedPrincipal += schedule.principalPaymentMinor(i);
+                }
+            }
+        }
+
+        assertEquals(sequential.loanCount(), parallel.loanCount());
+        assertEquals(sequential.rowCount(), parallel.rowCount());
+        long parallelPrincipal = 0;
+        for (int row = 0; row < sequential.rowCount(); row++) {
+            int other = parallel.row(sequential.investorIdAt(row), sequential.currencyAt(row));
+            for (int bucket = 0; bucket < sequential.bucketCount(); bucket++) {
+                assertEquals(sequential.principalMinor(row, bucket), parallel.principalMinor(other, bucket));
+                assertEquals(sequential.interestMinor(row, bucket), parallel.interestMinor(other, bucket));
+                parallelPrincipal += parallel.principalMinor(other, bucket);
+            }
+        }
+        assertEquals(expectedPrincipal, parallelPrincipal);
+    }
+
+    private static CashFlowProjectionEngine.LoanRangeLoader rangeLoader(List<ProjectedLoan> loans) {
+        // ローンIDは 1 から連番
+        return (fromId, toId) -> loans.subList((int) fromId - 1, (int) Math.min(toId, loans.size()));
+    }
+
+    private static List<ProjectedLoan> generateLoans(int count, int investorCount) {
+        List<ProjectedLoan> loans = new ArrayList<>(count);
+        String[] currencies = { "JPY", "USD", "EUR" };
+        for (int i = 1; i <= count; i++) {
+            List<DistributionWeight> weights = new ArrayList<>();
+            for (int j = 0; j < 3 + i % 5; j++) {
+                weights.add(new DistributionWeight((long) ((i * 7 + j * 13) % investorCount) + 1, 100_000L + j * 3));
+            }
+            loans.add(loan((long) i, currencies[i % currencies.length], String.valueOf(1_000_000 + i * 17L),
+                    i % 2 == 0 ? "0.025" : "0.031", FROM.minusMonths(i % 24).plusDays(i % 28),
+                    12 + (i % 10) * 12, i % 3 == 0 ? RepaymentMethod.BULLET_PAYMENT : RepaymentMethod.EQUAL_INSTALLMENT,
+                    DistributionVector.fromWeights(weights)));
+        }
+        return loans;
+    }
+
+    private static DistributionVector weights(Object... investorAndWeight) {
+        List<DistributionWeight> weights = new ArrayList<>();
+        for (int i = 0; i < investorAndWeight.length; i += 2) {
+            weights.add(new DistributionWeight((Long) investorAndWeight[i],
+                    ((Integer) investorAndWeight[i + 1]).longValue()));
+        }
+        return DistributionVector.fromWeights(weights);
+    }
+
+    private static ProjectedLoan loan(Long id, String currency, String principal, String rate, LocalDate drawdownDate,
+            int periods, RepaymentMethod method, DistributionVector weights) {
+        return new ProjectedLoan(id, currency, Money.of(new BigDecimal(principal)),
+                Percentage.of(new BigDecimal(rate)), drawdownDate, periods, method, weights);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.syndicatelending.loan.schedule;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.loan.entity.Loan;
+import com.example.syndicatelending.loan.entity.PaymentDetail;
+import com.example.syndicatelending.loan.entity.RepaymentMethod;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AmortizationEngineのゴールデンファイルテスト。
+ * <p>
+ * amortization-golden.csv は BigDecimal で期ごとに計算していた旧 Loan 実装の出力を記録したもの。
+ * エンジンと Loan.generatePaymentSchedule の結果が1セント単位で一致することを検証する。
+ * </p>
+ */
+class AmortizationEngineGoldenTest {
+
+    private static final String GOLDEN_FILE = "/loan/schedule/amortization-golden.csv";
+
+    private static List<GoldenCase> cases;
+
+    @BeforeAll
+    static void loadGoldenFile() throws IOException {
+        cases = new ArrayList<>();
+        try (InputStream in = AmortizationEngineGoldenTest.class.getResourceAsStream(GOLDEN_FILE)) {
+            assertNotNull(in, "ゴールデンファイルが存在すること");
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            GoldenCase current = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] cols = line.split(",");
+                if ("CASE".equals(cols[0])) {
+                    current = new GoldenCase(
+                            Money.of(new BigDecimal(cols[1])),
+                            Percentage.of(new BigDecimal(cols[2])),
+                            LocalDate.parse(cols[3]),
+                            Integer.parseInt(cols[4]),
+                            RepaymentMethod.valueOf(cols[5]));
+                    cases.add(current);
+                } else {
+                    current.rows.add(cols);
+                }
+            }
+        }
+        assertFalse(cases.isEmpty(), "ゴールデンケースが読み込まれること");
+    }
+
+    @Test
+    void エンジンの計算結果がゴールデンファイルと一致すること() {
+        for (GoldenCase c : cases) {
+            AmortizationSchedule schedule = AmortizationEngine.calculate(
+                    c.principal, c.annualInterestRate, c.drawdownDate, c.periods, c.repaymentMethod);
+
+            assertEquals(c.rows.size(), schedule.size(), c + " の支払い回数");
+            for (int i = 0; i < schedule.size(); i++) {
+                String[] row = c.rows.get(i);
+                String label = c + " 第" + row[0] + "回";
+                assertEquals(Integer.parseInt(row[0]), schedule.paymentNumber(i), label);
+                assertEquals(LocalDate.parse(row[1]), schedule.dueDate(i), label);
+                assertEquals(minor(row[2]), schedule.principalPaymentMinor(i), label + " 元本");
+                assertEquals(minor(row[3]), schedule.interestPaymentMinor(i), label + " 利息");
+                assertEquals(minor(row[4]), schedule.remainingBalanceMinor(i), label + " 残高");
+            }
+        }
+    }
+
+    @Test
+    void Loanが生成するPaymentDetailがゴールデンファイルと一致すること() {
+        for (GoldenCase c : cases) {
+            Loan loan = new Loan(1L, 1L, c.principal, c.annualInterestRate, c.drawdownDate, c.periods,
+                    "MONTHLY", c.repaymentMethod, "JPY");
+            List<PaymentDetail> details = loan.getPaymentDetails();
+
+            assertEquals(c.rows.size(), details.size(), c + " の支払い回数");
+            for (int i = 0; i < details.size(); i++) {
+                String[] row = c.rows.get(i);
+                PaymentDetail detail = details.get(i);
+                String label = c + " 第" + row[0] + "回";
+                assertSame(loan, detail.getLoan(), label);
+                assertEquals(Integer.valueOf(row[0]), detail.getPaymentNumber(), label);
+                assertEquals(LocalDate.parse(row[1]), detail.getDueDate(), label);
+                assertEquals(Money.of(new BigDecimal(row[2])), detail.getPrincipalPayment(), label + " 元本");
+                assertEquals(Money.of(new BigDecimal(row[3])), detail.getInterestPayment(), label + " 利息");
+                assertEquals(Money.of(new BigDecimal(row[4])), detail.getRemainingBalance(), label + " 残高");
+            }
+        }
+    }
+
+    @Test
+    void long演算がオーバーフローする金額でもBigDecimal計算と一致すること() {
+        // 残高(スケール2) × 月利(スケール10) が long の範囲を超えるケース
+        long balanceMinor = 9_000_000_000_000_000L;
+        long monthlyRate = 41_666_667L; // 0.0041666667
+
+        BigDecimal expected = BigDecimal.valueOf(balanceMinor, 2)
+                .multiply(BigDecimal.valueOf(monthlyRate, 10))
+                .setScale(0, java.math.RoundingMode.HALF_UP);
+
+        assertEquals(expected.longValueExact() * 100, AmortizationEngine.interest(balanceMinor, monthlyRate));
+    }
+
+    @Test
+    void 端数がちょうど半分の場合は切り上げられること() {
+        assertEquals(3L, AmortizationEngine.divideHalfUp(5L, 2L));
+        assertEquals(2L, AmortizationEngine.divideHalfUp(7L, 4L));
+        assertEquals(-3L, AmortizationEngine.divideHalfUp(-5L, 2L));
+        assertEquals(1L, AmortizationEngine.divideHalfUp(149L, 100L));
+    }
+
+    private static long minor(String amount) {
+        return new BigDecimal(amount).setScale(2).unscaledValue().longValueExact();
+    }
+
+    private static final class GoldenCase {
+        final Money principal;
+        final Percentage annualInterestRate;
+        final LocalDate drawdownDate;
+        final int periods;
+        final RepaymentMethod repaymentMethod;
+        final List<String[]> rows = new ArrayList<>();
+
+        GoldenCase(Money principal, Percentage annualInterestRate, LocalDate drawdownDate, int periods,
+                RepaymentMethod repaymentMethod) {
+            this.principal = principal;
+            this.annualInterestRate = annualInterestRate;
+            this.drawdownDate = drawdownDate;
+            this.periods = periods;
+            this.repaymentMethod = repaymentMethod;
+        }
+
+        @Override
+        public String toString() {
+            return repaymentMethod + "(" + principal + ", " + annualInterestRate + ", " + drawdownDate + ", "
+                    + periods + ")";
+        }
+    }
+}
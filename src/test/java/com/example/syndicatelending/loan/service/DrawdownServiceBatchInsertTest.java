@@ -0,0 +1,142 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.entity.SharePie;
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.facility.repository.SharePieRepository;
+import com.example.syndicatelending.loan.dto.CreateDrawdownRequest;
+import com.example.syndicatelending.loan.entity.Drawdown;
+import com.example.syndicatelending.loan.entity.RepaymentMethod;
+import com.example.syndicatelending.loan.repository.PaymentDetailRepository;
+import com.example.syndicatelending.party.entity.Borrower;
+import com.example.syndicatelending.party.entity.CreditRating;
+import com.example.syndicatelending.party.entity.Investor;
+import com.example.syndicatelending.party.entity.InvestorType;
+import com.example.syndicatelending.party.repository.BorrowerRepository;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * batchプロファイルでのドローダウン書き込みのJDBCステートメント数を検証するテスト
+ */
+@SpringBootTest(properties = {
+        "loan.schedule.mode=STORED",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles({ "test", "batch" })
+@Transactional
+class DrawdownServiceBatchInsertTest {
+
+    private static final int INVESTOR_COUNT = 50;
+    private static final int REPAYMENT_PERIOD_MONTHS = 360;
+
+    /**
+     * 360期・50投資家のドローダウンで許容するステートメント数。
+     * バッチ無効時は PaymentDetail と AmountPie の INSERT だけで 400 件を超える。
+     */
+    private static final long MAX_STATEMENTS = 100;
+
+    @Autowired
+    private DrawdownService drawdownService;
+
+    @Autowired
+    private PaymentDetailRepository paymentDetailRepository;
+
+    @Autowired
+    private InvestorRepository investorRepository;
+
+    @Autowired
+    private BorrowerRepository borrowerRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private SharePieRepository sharePieRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Borrower borrower;
+    private Facility facility;
+
+    @BeforeEach
+    void setUp() {
+        borrower = borrowerRepository.save(new Borrower("Batch Borrower", "batch@example.com", "000-0000-0000",
+                "COMP-BATCH", Money.of(new BigDecimal("100000000")), CreditRating.A));
+
+        facility = new Facility();
+        facility.setSyndicateId(1L);
+        facility.setCommitment(Money.of(new BigDecimal("100000000")));
+        facility.setCurrency("JPY");
+        facility.setStartDate(LocalDate.now());
+        facility.setEndDate(LocalDate.now().plusYears(30));
+        facility = facilityRepository.save(facility);
+
+        // 各投資家 2% ずつの SharePie
+        for (int i = 0; i < INVESTOR_COUNT; i++) {
+            Investor investor = investorRepository.save(new Investor("Investor " + i, "investor" + i + "@example.com",
+                    "111-1111-1111", "COMP" + i, new BigDecimal("100000000"), InvestorType.BANK));
+            SharePie sharePie = new SharePie();
+            sharePie.setFacility(facility);
+            sharePie.setInvestorId(investor.getId());
+            sharePie.setShare(Percentage.of(new BigDecimal("0.02")));
+            sharePieRepository.save(sharePie);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void 長期ローンのドローダウンが有限個のステートメントで書き込まれること() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Drawdown drawdown = drawdownService.createDrawdown(createDrawdownRequest());
+        entityManager.flush();
+
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements <= MAX_STATEMENTS,
+                "createDrawdown executed " + statements + " statements (max " + MAX_STATEMENTS + ")");
+
+        entityManager.clear();
+        assertEquals(REPAYMENT_PERIOD_MONTHS, paymentDetailRepository.findStoredByLoanId(drawdown.getLoanId()).size());
+        assertEquals(INVESTOR_COUNT, drawdown.getAmountPies().size());
+    }
+
+    private CreateDrawdownRequest createDrawdownRequest() {
+        CreateDrawdownRequest request = new CreateDrawdownRequest();
+        request.setFacilityId(facility.getId());
+        request.setBorrowerId(borrower.getId());
+        request.setAmount(new BigDecimal("50000000"));
+        request.setCurrency("JPY");
+        request.setPurpose("Month-end drawdown");
+        request.setAnnualInterestRate(new BigDecimal("0.025"));
+        request.setDrawdownDate(LocalDate.now());
+        request.setRepaymentPeriodMonths(REPAYMENT_PERIOD_MONTHS);
+        request.setRepaymentCycle("MONTHLY");
+        request.setRepaymentMethod(RepaymentMethod.EQUAL_INSTALLMENT);
+        return request;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.entity.SharePie;
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.facility.repository.SharePieRepository;
+import com.example.syndicatelending.loan.dto.AmountPieDto;
+import com.example.syndicatelending.loan.dto.CreateDrawdownRequest;
+import com.example.syndicatelending.loan.dto.DrawdownBatchItemResult;
+import com.example.syndicatelending.loan.dto.DrawdownBatchResult;
+import com.example.syndicatelending.loan.entity.RepaymentMethod;
+import com.example.syndicatelending.loan.repository.DrawdownRepository;
+import com.example.syndicatelending.party.entity.Borrower;
+import com.example.syndicatelending.party.entity.CreditRating;
+import com.example.syndicatelending.party.entity.Investor;
+import com.example.syndicatelending.party.entity.InvestorType;
+import com.example.syndicatelending.party.repository.BorrowerRepository;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+import com.example.syndicatelending.party.service.PartyService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "loan.drawdown.batch.chunk-size=2")
+@ActiveProfiles("test")
+@Transactional
+class DrawdownServiceBatchTest {
+
+    @Autowired
+    private DrawdownService drawdownService;
+
+    @Autowired
+    private DrawdownRepository drawdownRepository;
+
+    @Autowired
+    private InvestorRepository investorRepository;
+
+    @Autowired
+    private PartyService partyService;
+
+    @Autowired
+    private BorrowerRepository borrowerRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private SharePieRepository sharePieRepository;
+
+    private Investor investor1;
+    private Investor investor2;
+    private Borrower borrower;
+    private Facility facility;
+
+    @BeforeEach
+    void setUp() {
+        investor1 = investorRepository.save(new Investor("Investor 1", "investor1@example.com", "111-1111-1111",
+                "COMP001", new BigDecimal("5000000"), InvestorType.BANK));
+        investor2 = investorRepository.save(new Investor("Investor 2", "investor2@example.com", "222-2222-2222",
+                "COMP002", new BigDecimal("3000000"), InvestorType.INSURANCE));
+
+        borrower = borrowerRepository.save(new Borrower("Test Borrower", "borrower@example.com", "333-3333-3333",
+                "COMP003", Money.of(new BigDecimal("10000000")), CreditRating.A));
+
+        facility = new Facility();
+        facility.setSyndicateId(1L);
+        facility.setCommitment(Money.of(new BigDecimal("1000000")));
+        facility.setCurrency("JPY");
+        facility.setStartDate(LocalDate.now());
+        facility.setEndDate(LocalDate.now().plusYears(1));
+        facility = facilityRepository.save(facility);
+
+        SharePie sharePie1 = new SharePie();
+        sharePie1.setFacility(facility);
+        sharePie1.setInvestorId(investor1.getId());
+        sharePie1.setShare(Percentage.of(new BigDecimal("0.7")));
+        sharePieRepository.save(sharePie1);
+
+        SharePie sharePie2 = new SharePie();
+        sharePie2.setFacility(facility);
+        sharePie2.setInvestorId(investor2.getId());
+        sharePie2.setShare(Percentage.of(new BigDecimal("0.3")));
+        sharePieRepository.save(sharePie2);
+    }
+
+    @Test
+    void 一括ドローダウンで明細ごとの結果が返り成功分のみ反映されること() {
+        CreateDrawdownRequest unknownFacility = createDrawdownRequest(new BigDecimal("100000"));
+        unknownFacility.setFacilityId(-1L);
+        CreateDrawdownRequest overCommitment = createDrawdownRequest(new BigDecimal("2000000"));
+
+        DrawdownBatchResult result = drawdownService.createDrawdowns(List.of(
+                createDrawdownRequest(new BigDecimal("100000")),
+                unknownFacility,
+                createDrawdownRequest(new BigDecimal("200000")),
+                overCommitment,
+                createDrawdownRequest(new BigDecimal("300000"))));
+
+        assertEquals(5, result.getTotal());
+        assertEquals(3, result.getSucceeded());
+        assertEquals(2, result.getFailed());
+
+        List<DrawdownBatchItemResult> items = result.getItems();
+        assertEquals(DrawdownBatchItemResult.Status.SUCCESS, items.get(0).getStatus());
+        assertEquals(DrawdownBatchItemResult.Status.FAILED, items.get(1).getStatus());
+        assertEquals("Facility not found with id: -1", items.get(1).getErrorMessage());
+        assertEquals(DrawdownBatchItemResult.Status.SUCCESS, items.get(2).getStatus());
+        assertEquals(DrawdownBatchItemResult.Status.FAILED, items.get(3).getStatus());
+        assertEquals("Drawdown amount exceeds facility commitment", items.get(3).getErrorMessage());
+        assertEquals(DrawdownBatchItemResult.Status.SUCCESS, items.get(4).getStatus());
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(i, items.get(i).getIndex());
+        }
+        assertNotNull(items.get(4).getDrawdownId());
+        assertNotNull(items.get(4).getLoanId());
+
+        assertEquals(3, drawdownRepository.findByFacilityId(facility.getId()).size());
+
+        // 成功した 600000 のみ 70%:30% で反映される
+        assertEquals(Money.of(new BigDecimal("420000")),
+                partyService.getInvestorById(investor1.getId()).getCurrentInvestmentAmount());
+        assertEquals(Money.of(new BigDecimal("180000")),
+                partyService.getInvestorById(investor2.getId()).getCurrentInvestmentAmount());
+    }
+
+    @Test
+    void 存在しない投資家へのAmountPie指定は明細単位で失敗すること() {
+        CreateDrawdownRequest request = createDrawdownRequest(new BigDecimal("100000"));
+        AmountPieDto pie = new AmountPieDto();
+        pie.setInvestorId(-1L);
+        pie.setAmount(new BigDecimal("100000"));
+        pie.setCurrency("JPY");
+        request.setAmountPies(List.of(pie));
+
+        DrawdownBatchResult result = drawdownService.createDrawdowns(List.of(request,
+                createDrawdownRequest(new BigDecimal("100000"))));
+
+        assertEquals(DrawdownBatchItemResult.Status.FAILED, result.getItems().get(0).getStatus());
+        assertEquals("Investor not found with id: -1", result.getItems().get(0).getErrorMessage());
+        assertEquals(DrawdownBatchItemResult.Status.SUCCESS, result.getItems().get(1).getStatus());
+    }
+
+    private CreateDrawdownRequest createDrawdownRequest(BigDecimal amount) {
+        CreateDrawdownRequest request = new CreateDrawdownRequest();
+        request.setFacilityId(facility.getId());
+        request.setBorrowerId(borrower.getId());
+        request.setAmount(amount);
+        request.setCurrency("JPY");
+        request.setDrawdownDate(LocalDate.now());
+        request.setAnnualInterestRate(new BigDecimal("0.03"));
+        request.setRepaymentPeriodMonths(12);
+        request.setRepaymentCycle("MONTHLY");
+        request.setRepaymentMethod(RepaymentMethod.EQUAL_INSTALLMENT);
+        request.setPurpose("Rollover");
+        return request;
+    }
+}
@@ -15,6 +15,7 @@ import com.example.syndicatelending.party.entity.Investor;
 import com.example.syndicatelending.party.entity.InvestorType;
 import com.example.syndicatelending.party.repository.BorrowerRepository;
 import com.example.syndicatelending.party.repository.InvestorRepository;
+import com.example.syndicatelending.party.service.PartyService;
 import com.example.syndicatelending.common.domain.model.Percentage;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -41,6 +42,9 @@ class DrawdownServiceInvestorAmountTest {
     @Autowired
     private InvestorRepository investorRepository;
 
+    @Autowired
+    private PartyService partyService;
+
     @Autowired
     private BorrowerRepository borrowerRepository;
 
@@ -119,8 +123,8 @@ class DrawdownServiceInvestorAmountTest {
         assertNotNull(drawdown);
 
         // 投資家エンティティを再取得
-        investor1 = investorRepository.findById(investor1.getId()).orElseThrow();
-        investor2 = investorRepository.findById(investor2.getId()).orElseThrow();
+        investor1 = partyService.getInvestorById(investor1.getId());
+        investor2 = partyService.getInvestorById(investor2.getId());
 
         // 投資額の確認（70%:30%の比率で分配）
         Money expectedInvestor1Amount = Money.of(new BigDecimal("140000")); // 200000 * 0.7
@@ -141,8 +145,8 @@ class DrawdownServiceInvestorAmountTest {
         drawdownService.createDrawdown(request2);
 
         // 投資家エンティティを再取得
-        investor1 = investorRepository.findById(investor1.getId()).orElseThrow();
-        investor2 = investorRepository.findById(investor2.getId()).orElseThrow();
+        investor1 = partyService.getInvestorById(investor1.getId());
+        investor2 = partyService.getInvestorById(investor2.getId());
 
         // 累積投資額の確認
         Money expectedInvestor1Total = Money.of(new BigDecimal("175000")); // (100000 + 150000) * 0.7
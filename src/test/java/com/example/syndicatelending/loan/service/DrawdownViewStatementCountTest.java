@@ -0,0 +1,149 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.entity.SharePie;
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.facility.repository.SharePieRepository;
+import com.example.syndicatelending.loan.dto.AmountPieView;
+import com.example.syndicatelending.loan.dto.CreateDrawdownRequest;
+import com.example.syndicatelending.loan.dto.DrawdownView;
+import com.example.syndicatelending.loan.entity.RepaymentMethod;
+import com.example.syndicatelending.party.entity.Borrower;
+import com.example.syndicatelending.party.entity.CreditRating;
+import com.example.syndicatelending.party.entity.Investor;
+import com.example.syndicatelending.party.entity.InvestorType;
+import com.example.syndicatelending.party.repository.BorrowerRepository;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drawdownの参照系APIがDrawdown件数に比例したステートメントを発行しないことを検証するテスト
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class DrawdownViewStatementCountTest {
+
+    private static final int INVESTOR_COUNT = 3;
+    private static final int DRAWDOWN_COUNT = 10;
+
+    @Autowired
+    private DrawdownService drawdownService;
+
+    @Autowired
+    private InvestorRepository investorRepository;
+
+    @Autowired
+    private BorrowerRepository borrowerRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private SharePieRepository sharePieRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Facility facility;
+
+    @BeforeEach
+    void setUp() {
+        Borrower borrower = borrowerRepository.save(new Borrower("Borrower", "borrower@example.com",
+                "000-0000-0000", "COMP-B", Money.of(new BigDecimal("100000000")), CreditRating.A));
+
+        facility = new Facility();
+        facility.setSyndicateId(1L);
+        facility.setCommitment(Money.of(new BigDecimal("10000000")));
+        facility.setCurrency("JPY");
+        facility.setStartDate(LocalDate.now());
+        facility.setEndDate(LocalDate.now().plusYears(1));
+        facility = facilityRepository.save(facility);
+
+        String[] shares = { "0.5", "0.3", "0.2" };
+        for (int i = 0; i < INVESTOR_COUNT; i++) {
+            Investor investor = investorRepository.save(new Investor("Investor " + i, "investor" + i + "@example.com",
+                    "111-1111-1111", "COMP" + i, new BigDecimal("100000000"), InvestorType.BANK));
+            SharePie sharePie = new SharePie();
+            sharePie.setFacility(facility);
+            sharePie.setInvestorId(investor.getId());
+            sharePie.setShare(Percentage.of(new BigDecimal(shares[i])));
+            sharePieRepository.save(sharePie);
+        }
+
+        for (int i = 0; i < DRAWDOWN_COUNT; i++) {
+            CreateDrawdownRequest request = new CreateDrawdownRequest();
+            request.setFacilityId(facility.getId());
+            request.setBorrowerId(borrower.getId());
+            request.setAmount(new BigDecimal("100000"));
+            request.setCurrency("JPY");
+            request.setPurpose("Statement count");
+            request.setAnnualInterestRate(new BigDecimal("0.025"));
+            request.setDrawdownDate(LocalDate.now());
+            request.setRepaymentPeriodMonths(12);
+            request.setRepaymentCycle("MONTHLY");
+            request.setRepaymentMethod(RepaymentMethod.EQUAL_INSTALLMENT);
+            drawdownService.createDrawdown(request);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void 一覧取得ではAmountPieを読み込まないこと() {
+        Statistics statistics = statistics();
+
+        Page<DrawdownView> page = drawdownService.getDrawdownViews(PageRequest.of(0, 20), false);
+
+        assertEquals(DRAWDOWN_COUNT, page.getContent().size());
+        page.getContent().forEach(view -> assertNull(view.getAmountPies()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void expand指定時はAmountPieを1クエリでまとめて取得すること() {
+        Statistics statistics = statistics();
+
+        List<DrawdownView> views = drawdownService.getDrawdownViewsByFacilityId(facility.getId(), true);
+
+        assertEquals(DRAWDOWN_COUNT, views.size());
+        for (DrawdownView view : views) {
+            assertEquals(INVESTOR_COUNT, view.getAmountPies().size());
+            BigDecimal total = view.getAmountPies().stream()
+                    .map(AmountPieView::getAmount)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            assertEquals(0, new BigDecimal("100000").compareTo(total));
+        }
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
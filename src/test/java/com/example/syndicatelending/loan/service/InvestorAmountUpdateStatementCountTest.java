@@ -0,0 +1,176 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.entity.SharePie;
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.facility.repository.SharePieRepository;
+import com.example.syndicatelending.loan.dto.CreateDrawdownRequest;
+import com.example.syndicatelending.loan.dto.CreatePaymentRequest;
+import com.example.syndicatelending.loan.entity.Drawdown;
+import com.example.syndicatelending.loan.entity.RepaymentMethod;
+import com.example.syndicatelending.party.entity.Borrower;
+import com.example.syndicatelending.party.entity.CreditRating;
+import com.example.syndicatelending.party.entity.Investor;
+import com.example.syndicatelending.party.entity.InvestorType;
+import com.example.syndicatelending.party.repository.BorrowerRepository;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+import com.example.syndicatelending.party.service.PartyService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 投資家の投資額更新が投資家数に比例したステートメントを発行しないことを検証するテスト
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles({ "test", "batch" })
+@Transactional
+class InvestorAmountUpdateStatementCountTest {
+
+    private static final int INVESTOR_COUNT = 100;
+
+    /** 投資家数に依存しない上限（投資家ごとに findById/UPDATE すると 200 件を超える） */
+    private static final long MAX_STATEMENTS = 25;
+
+    @Autowired
+    private DrawdownService drawdownService;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private InvestorRepository investorRepository;
+
+    @Autowired
+    private PartyService partyService;
+
+    @Autowired
+    private BorrowerRepository borrowerRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private SharePieRepository sharePieRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> investorIds = new ArrayList<>();
+    private Borrower borrower;
+    private Facility facility;
+
+    @BeforeEach
+    void setUp() {
+        borrower = borrowerRepository.save(new Borrower("Borrower", "borrower@example.com", "000-0000-0000",
+                "COMP-B", Money.of(new BigDecimal("100000000")), CreditRating.A));
+
+        facility = new Facility();
+        facility.setSyndicateId(1L);
+        facility.setCommitment(Money.of(new BigDecimal("100000000")));
+        facility.setCurrency("JPY");
+        facility.setStartDate(LocalDate.now());
+        facility.setEndDate(LocalDate.now().plusYears(1));
+        facility = facilityRepository.save(facility);
+
+        // 各投資家 1% ずつの SharePie
+        for (int i = 0; i < INVESTOR_COUNT; i++) {
+            Investor investor = investorRepository.save(new Investor("Investor " + i, "investor" + i + "@example.com",
+                    "111-1111-1111", "COMP" + i, new BigDecimal("100000000"), InvestorType.BANK));
+            investorIds.add(investor.getId());
+            SharePie sharePie = new SharePie();
+            sharePie.setFacility(facility);
+            sharePie.setInvestorId(investor.getId());
+            sharePie.setShare(Percentage.of(new BigDecimal("0.01")));
+            sharePieRepository.save(sharePie);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void ドローダウン時の投資額更新がまとめて行われること() {
+        Statistics statistics = statistics();
+
+        drawdownService.createDrawdown(createDrawdownRequest());
+        entityManager.flush();
+
+        assertStatementsBounded(statistics);
+        entityManager.clear();
+        assertEquals(Money.of(new BigDecimal("10000")),
+                partyService.getInvestorById(investorIds.get(0)).getCurrentInvestmentAmount());
+    }
+
+    @Test
+    void 支払い時の投資額更新がまとめて行われること() {
+        Drawdown drawdown = drawdownService.createDrawdown(createDrawdownRequest());
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = statistics();
+
+        CreatePaymentRequest request = new CreatePaymentRequest();
+        request.setLoanId(drawdown.getLoanId());
+        request.setPaymentDate(LocalDate.now().plusMonths(1));
+        request.setPrincipalAmount(new BigDecimal("100000"));
+        request.setInterestAmount(new BigDecimal("2500"));
+        request.setCurrency("JPY");
+        paymentService.processPayment(request);
+        entityManager.flush();
+
+        assertStatementsBounded(statistics);
+        entityManager.clear();
+        Investor investor = partyService.getInvestorById(investorIds.get(0));
+        assertEquals(Money.of(new BigDecimal("9000")), investor.getCurrentInvestmentAmount());
+        // 投資額は exposure delta 台帳に追記され、Investor行は更新されない
+        assertEquals(0L, investor.getVersion());
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private void assertStatementsBounded(Statistics statistics) {
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements <= MAX_STATEMENTS,
+                "executed " + statements + " statements for " + INVESTOR_COUNT + " investors (max "
+                        + MAX_STATEMENTS + ")");
+    }
+
+    private CreateDrawdownRequest createDrawdownRequest() {
+        CreateDrawdownRequest request = new CreateDrawdownRequest();
+        request.setFacilityId(facility.getId());
+        request.setBorrowerId(borrower.getId());
+        request.setAmount(new BigDecimal("1000000"));
+        request.setCurrency("JPY");
+        request.setPurpose("Statement count");
+        request.setAnnualInterestRate(new BigDecimal("0.025"));
+        request.setDrawdownDate(LocalDate.now());
+        request.setRepaymentPeriodMonths(12);
+        request.setRepaymentCycle("MONTHLY");
+        request.setRepaymentMethod(RepaymentMethod.EQUAL_INSTALLMENT);
+        return request;
+    }
+}
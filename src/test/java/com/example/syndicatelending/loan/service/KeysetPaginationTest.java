@@ -0,0 +1,164 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.common.application.pagination.KeysetCursor;
+import com.example.syndicatelending.common.application.pagination.KeysetPage;
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.entity.SharePie;
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.facility.repository.SharePieRepository;
+import com.example.syndicatelending.loan.dto.CreateDrawdownRequest;
+import com.example.syndicatelending.loan.dto.DrawdownView;
+import com.example.syndicatelending.loan.dto.TransactionView;
+import com.example.syndicatelending.loan.entity.Drawdown;
+import com.example.syndicatelending.loan.entity.RepaymentMethod;
+import com.example.syndicatelending.loan.repository.DrawdownRepository;
+import com.example.syndicatelending.party.entity.Borrower;
+import com.example.syndicatelending.party.entity.CreditRating;
+import com.example.syndicatelending.party.entity.Investor;
+import com.example.syndicatelending.party.entity.InvestorType;
+import com.example.syndicatelending.party.repository.BorrowerRepository;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * キーセットページングで全件を重複・欠落なく (日付, ID) 順に読み進められることを検証するテスト
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class KeysetPaginationTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 4, 1);
+
+    @Autowired
+    private DrawdownService drawdownService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private DrawdownRepository drawdownRepository;
+
+    @Autowired
+    private InvestorRepository investorRepository;
+
+    @Autowired
+    private BorrowerRepository borrowerRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private SharePieRepository sharePieRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        Borrower borrower = borrowerRepository.save(new Borrower("Borrower", "borrower@example.com",
+                "000-0000-0000", "COMP-B", Money.of(new BigDecimal("100000000")), CreditRating.A));
+        Investor investor = investorRepository.save(new Investor("Investor", "investor@example.com",
+                "111-1111-1111", "COMP-I", new BigDecimal("100000000"), InvestorType.BANK));
+
+        Facility facility = new Facility();
+        facility.setSyndicateId(1L);
+        facility.setCommitment(Money.of(new BigDecimal("10000000")));
+        facility.setCurrency("JPY");
+        facility.setStartDate(BASE_DATE);
+        facility.setEndDate(BASE_DATE.plusYears(1));
+        facility = facilityRepository.save(facility);
+
+        SharePie sharePie = new SharePie();
+        sharePie.setFacility(facility);
+        sharePie.setInvestorId(investor.getId());
+        sharePie.setShare(Percentage.of(BigDecimal.ONE));
+        sharePieRepository.save(sharePie);
+
+        // 同じ取引日のDrawdownがページ境界をまたぐよう、作成順と取引日の順を揃えない
+        int[] dayOffsets = { 2, 0, 2, 1, 2, 0, 1 };
+        for (int offset : dayOffsets) {
+            CreateDrawdownRequest request = new CreateDrawdownRequest();
+            request.setFacilityId(facility.getId());
+            request.setBorrowerId(borrower.getId());
+            request.setAmount(new BigDecimal("100000"));
+            request.setCurrency("JPY");
+            request.setPurpose("Keyset");
+            request.setAnnualInterestRate(new BigDecimal("0.025"));
+            request.setDrawdownDate(BASE_DATE.plusDays(offset));
+            request.setRepaymentPeriodMonths(12);
+            request.setRepaymentCycle("MONTHLY");
+            request.setRepaymentMethod(RepaymentMethod.EQUAL_INSTALLMENT);
+            drawdownService.createDrawdown(request);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void Drawdownを取引日とIDの順に重複なく最後まで読み進められること() {
+        List<Long> expected = drawdownRepository.findAll().stream()
+                .sorted(Comparator.comparing(Drawdown::getTransactionDate).thenComparing(Drawdown::getId))
+                .map(Drawdown::getId)
+                .toList();
+
+        List<Long> actual = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            KeysetPage<DrawdownView> page = drawdownService.scrollDrawdownViews(cursor, 2, false, false);
+            assertNull(page.getTotalElements());
+            page.getContent().forEach(view -> actual.add(view.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(expected, actual);
+        assertEquals(4, pages);
+    }
+
+    @Test
+    void 取引の総件数はwithTotal指定時のみ返されること() {
+        KeysetPage<TransactionView> first = transactionService.scrollTransactions(null, 5, true);
+        assertEquals(7L, first.getTotalElements());
+        assertEquals(5, first.getContent().size());
+        assertTrue(first.isHasNext());
+
+        KeysetPage<TransactionView> last = transactionService.scrollTransactions(first.getNextCursor(), 5, false);
+        assertNull(last.getTotalElements());
+        assertEquals(2, last.getContent().size());
+        assertFalse(last.isHasNext());
+        assertNull(last.getNextCursor());
+        assertTrue(last.getContent().get(0).getTransactionDate()
+                .compareTo(first.getContent().get(4).getTransactionDate()) >= 0);
+    }
+
+    @Test
+    void 不正なカーソルはエラーになること() {
+        String idCursor = KeysetCursor.ofId(1L).encode();
+
+        assertThrows(BusinessRuleViolationException.class,
+                () -> drawdownService.scrollDrawdownViews(idCursor, 2, false, false));
+        assertThrows(BusinessRuleViolationException.class,
+                () -> transactionService.scrollTransactions("not a cursor", 2, false));
+    }
+}
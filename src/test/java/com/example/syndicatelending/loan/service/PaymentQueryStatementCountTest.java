@@ -0,0 +1,171 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.entity.SharePie;
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.facility.repository.SharePieRepository;
+import com.example.syndicatelending.loan.dto.CreateDrawdownRequest;
+import com.example.syndicatelending.loan.dto.CreatePaymentRequest;
+import com.example.syndicatelending.loan.dto.PaymentSummary;
+import com.example.syndicatelending.loan.entity.Payment;
+import com.example.syndicatelending.loan.entity.RepaymentMethod;
+import com.example.syndicatelending.party.entity.Borrower;
+import com.example.syndicatelending.party.entity.CreditRating;
+import com.example.syndicatelending.party.entity.Investor;
+import com.example.syndicatelending.party.entity.InvestorType;
+import com.example.syndicatelending.party.repository.BorrowerRepository;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 支払い一覧の取得が支払い件数に比例したステートメントを発行しないことを検証するテスト
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class PaymentQueryStatementCountTest {
+
+    private static final int INVESTOR_COUNT = 3;
+    private static final int PAYMENT_COUNT = 20;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private DrawdownService drawdownService;
+
+    @Autowired
+    private InvestorRepository investorRepository;
+
+    @Autowired
+    private BorrowerRepository borrowerRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private SharePieRepository sharePieRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long loanId;
+
+    @BeforeEach
+    void setUp() {
+        Borrower borrower = borrowerRepository.save(new Borrower("Borrower", "borrower@example.com",
+                "000-0000-0000", "COMP-B", Money.of(new BigDecimal("100000000")), CreditRating.A));
+
+        Facility facility = new Facility();
+        facility.setSyndicateId(1L);
+        facility.setCommitment(Money.of(new BigDecimal("3000000")));
+        facility.setCurrency("JPY");
+        facility.setStartDate(LocalDate.now());
+        facility.setEndDate(LocalDate.now().plusYears(1));
+        facility = facilityRepository.save(facility);
+
+        String[] shares = { "0.5", "0.3", "0.2" };
+        for (int i = 0; i < INVESTOR_COUNT; i++) {
+            Investor investor = investorRepository.save(new Investor("Investor " + i, "investor" + i + "@example.com",
+                    "111-1111-1111", "COMP" + i, new BigDecimal("100000000"), InvestorType.BANK));
+            SharePie sharePie = new SharePie();
+            sharePie.setFacility(facility);
+            sharePie.setInvestorId(investor.getId());
+            sharePie.setShare(Percentage.of(new BigDecimal(shares[i])));
+            sharePieRepository.save(sharePie);
+        }
+
+        CreateDrawdownRequest drawdown = new CreateDrawdownRequest();
+        drawdown.setFacilityId(facility.getId());
+        drawdown.setBorrowerId(borrower.getId());
+        drawdown.setAmount(new BigDecimal("3000000"));
+        drawdown.setCurrency("JPY");
+        drawdown.setPurpose("Statement count");
+        drawdown.setAnnualInterestRate(new BigDecimal("0.025"));
+        drawdown.setDrawdownDate(LocalDate.now());
+        drawdown.setRepaymentPeriodMonths(24);
+        drawdown.setRepaymentCycle("MONTHLY");
+        drawdown.setRepaymentMethod(RepaymentMethod.EQUAL_INSTALLMENT);
+        loanId = drawdownService.createDrawdown(drawdown).getLoanId();
+
+        List<CreatePaymentRequest> payments = new ArrayList<>();
+        for (int i = 0; i < PAYMENT_COUNT; i++) {
+            payments.add(new CreatePaymentRequest(loanId, LocalDate.now().plusMonths(i + 1),
+                    new BigDecimal("100000"), new BigDecimal("5000"), "JPY"));
+        }
+        paymentService.processPayments(payments);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void 配分付きの支払い一覧が1ステートメントで取得されること() {
+        Statistics statistics = statistics();
+
+        List<Payment> payments = paymentService.getPaymentsByLoanId(loanId);
+
+        assertEquals(PAYMENT_COUNT, payments.size());
+        for (Payment payment : payments) {
+            assertTrue(Hibernate.isInitialized(payment.getPaymentDistributions()));
+            assertEquals(INVESTOR_COUNT, payment.getPaymentDistributions().size());
+        }
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertTrue(payments.get(0).getPaymentDate().isAfter(payments.get(1).getPaymentDate()));
+    }
+
+    @Test
+    void 支払いサマリ一覧が配分を読み込まずに1ステートメントで取得されること() {
+        Statistics statistics = statistics();
+
+        List<PaymentSummary> summaries = paymentService.getPaymentSummariesByLoanId(loanId);
+
+        assertEquals(PAYMENT_COUNT, summaries.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        PaymentSummary latest = summaries.get(0);
+        assertEquals(LocalDate.now().plusMonths(PAYMENT_COUNT), latest.getPaymentDate());
+        assertEquals(Money.of(new BigDecimal("105000")), latest.getTotalAmount());
+        assertEquals(INVESTOR_COUNT, latest.getDistributionCount());
+    }
+
+    @Test
+    void 支払いの単純な一覧取得では配分が読み込まれないこと() {
+        Payment payment = paymentService.getPaymentsByLoanId(loanId).get(0);
+        entityManager.clear();
+        Statistics statistics = statistics();
+
+        Payment reloaded = entityManager.find(Payment.class, payment.getId());
+
+        assertFalse(Hibernate.isInitialized(reloaded.getPaymentDistributions()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
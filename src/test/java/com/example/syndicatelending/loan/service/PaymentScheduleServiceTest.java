@@ -0,0 +1,153 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.loan.dto.OverridePaymentDetailRequest;
+import com.example.syndicatelending.loan.entity.Loan;
+import com.example.syndicatelending.loan.entity.PaymentDetail;
+import com.example.syndicatelending.loan.entity.PaymentScheduleMode;
+import com.example.syndicatelending.loan.entity.RepaymentMethod;
+import com.example.syndicatelending.loan.repository.LoanRepository;
+import com.example.syndicatelending.loan.repository.PaymentDetailRepository;
+import com.example.syndicatelending.loan.schedule.AmortizationSchedule;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class PaymentScheduleServiceTest {
+
+    @Autowired
+    private PaymentScheduleService paymentScheduleService;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private PaymentDetailRepository paymentDetailRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void PROJECTEDモードではローン作成時にPaymentDetailが永続化されないこと() {
+        Loan loan = saveLoan(PaymentScheduleMode.PROJECTED, 360);
+
+        assertTrue(paymentDetailRepository.findStoredByLoanId(loan.getId()).isEmpty());
+        assertEquals(360, paymentDetailRepository.countByLoanId(loan.getId()));
+        assertEquals(360, paymentDetailRepository.findByLoanIdOrderByPaymentNumber(loan.getId()).size());
+    }
+
+    @Test
+    void 指定範囲の期だけを計算して返すこと() {
+        Loan loan = saveLoan(PaymentScheduleMode.PROJECTED, 360);
+        AmortizationSchedule expected = loan.projectPaymentSchedule();
+
+        List<PaymentDetail> window = paymentScheduleService.getPaymentSchedule(loan.getId(), 120, 132);
+
+        assertEquals(13, window.size());
+        for (int i = 0; i < window.size(); i++) {
+            PaymentDetail detail = window.get(i);
+            int index = 119 + i;
+            assertNull(detail.getId(), "計算された明細は永続化されていないこと");
+            assertEquals(120 + i, detail.getPaymentNumber());
+            assertEquals(expected.dueDate(index), detail.getDueDate());
+            assertEquals(Money.ofMinorUnits(expected.principalPaymentMinor(index)),
+                    detail.getPrincipalPayment());
+            assertEquals(Money.ofMinorUnits(expected.interestPaymentMinor(index)),
+                    detail.getInterestPayment());
+            assertEquals(Money.ofMinorUnits(expected.remainingBalanceMinor(index)),
+                    detail.getRemainingBalance());
+        }
+    }
+
+    @Test
+    void ページング取得がSTOREDモードと同じ結果になること() {
+        Loan projected = saveLoan(PaymentScheduleMode.PROJECTED, 24);
+        Loan stored = saveLoan(PaymentScheduleMode.STORED, 24);
+        entityManager.flush();
+        entityManager.clear();
+
+        PageRequest ascending = PageRequest.of(1, 10, Sort.by("paymentNumber"));
+        assertSamePage(paymentDetailRepository.findByLoanId(stored.getId(), ascending),
+                paymentDetailRepository.findByLoanId(projected.getId(), ascending));
+
+        PageRequest descending = PageRequest.of(2, 10, Sort.by(Sort.Direction.DESC, "paymentNumber"));
+        assertSamePage(paymentDetailRepository.findByLoanId(stored.getId(), descending),
+                paymentDetailRepository.findByLoanId(projected.getId(), descending));
+    }
+
+    @Test
+    void 上書きした期のみ永続化され計算結果より優先されること() {
+        Loan loan = saveLoan(PaymentScheduleMode.PROJECTED, 12);
+
+        OverridePaymentDetailRequest request = new OverridePaymentDetailRequest();
+        request.setInterestPayment(new BigDecimal("1234"));
+        request.setDueDate(LocalDate.of(2024, 6, 3));
+        PaymentDetail overridden = paymentScheduleService.overridePaymentDetail(loan.getId(), 5, request);
+
+        assertNotNull(overridden.getId());
+        assertEquals(1, paymentDetailRepository.findStoredByLoanId(loan.getId()).size());
+
+        List<PaymentDetail> schedule = paymentScheduleService.getPaymentSchedule(loan.getId(), 4, 6);
+        assertEquals(3, schedule.size());
+        assertNull(schedule.get(0).getId());
+        assertEquals(overridden.getId(), schedule.get(1).getId());
+        assertEquals(Money.of(new BigDecimal("1234")), schedule.get(1).getInterestPayment());
+        assertEquals(LocalDate.of(2024, 6, 3), schedule.get(1).getDueDate());
+        assertNull(schedule.get(2).getId());
+    }
+
+    @Test
+    void 永続化済みの期を再度永続化しても重複しないこと() {
+        Loan loan = saveLoan(PaymentScheduleMode.PROJECTED, 12);
+
+        PaymentDetail first = paymentScheduleService.materializePaymentDetail(loan, 1);
+        PaymentDetail second = paymentScheduleService.materializePaymentDetail(loan, 1);
+
+        assertEquals(first.getId(), second.getId());
+        assertEquals(1, paymentDetailRepository.findStoredByLoanId(loan.getId()).size());
+    }
+
+    private void assertSamePage(Page<PaymentDetail> expected, Page<PaymentDetail> actual) {
+        assertEquals(expected.getTotalElements(), actual.getTotalElements());
+        assertEquals(expected.getContent().size(), actual.getContent().size());
+        for (int i = 0; i < expected.getContent().size(); i++) {
+            PaymentDetail e = expected.getContent().get(i);
+            PaymentDetail a = actual.getContent().get(i);
+            assertEquals(e.getPaymentNumber(), a.getPaymentNumber());
+            assertEquals(e.getDueDate(), a.getDueDate());
+            assertEquals(e.getPrincipalPayment(), a.getPrincipalPayment());
+            assertEquals(e.getInterestPayment(), a.getInterestPayment());
+            assertEquals(e.getRemainingBalance(), a.getRemainingBalance());
+        }
+    }
+
+    private Loan saveLoan(PaymentScheduleMode mode, int periods) {
+        Loan loan = new Loan(1L, 1L,
+                Money.of(new BigDecimal("30000000")),
+                Percentage.of(new BigDecimal("0.045")),
+                LocalDate.of(2024, 1, 31),
+                periods,
+                "MONTHLY",
+                RepaymentMethod.EQUAL_INSTALLMENT,
+                "JPY",
+                mode);
+        return loanRepository.save(loan);
+    }
+}
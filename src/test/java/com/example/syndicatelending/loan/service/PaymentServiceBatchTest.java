@@ -0,0 +1,269 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.entity.SharePie;
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.facility.repository.SharePieRepository;
+import com.example.syndicatelending.loan.dto.CreateDrawdownRequest;
+import com.example.syndicatelending.loan.dto.CreatePaymentRequest;
+import com.example.syndicatelending.loan.dto.PaymentBatchItemResult;
+import com.example.syndicatelending.loan.dto.PaymentBatchResult;
+import com.example.syndicatelending.loan.entity.RepaymentMethod;
+import com.example.syndicatelending.loan.repository.LoanRepository;
+import com.example.syndicatelending.loan.repository.PaymentRepository;
+import com.example.syndicatelending.party.entity.Borrower;
+import com.example.syndicatelending.party.entity.CreditRating;
+import com.example.syndicatelending.party.entity.Investor;
+import com.example.syndicatelending.party.entity.InvestorType;
+import com.example.syndicatelending.party.repository.BorrowerRepository;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+import com.example.syndicatelending.party.service.PartyService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "loan.payment.batch.chunk-size=2")
+@ActiveProfiles("test")
+@Transactional
+class PaymentServiceBatchTest {
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private DrawdownService drawdownService;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private InvestorRepository investorRepository;
+
+    @Autowired
+    private PartyService partyService;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private BorrowerRepository borrowerRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private SharePieRepository sharePieRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @TempDir
+    Path inbox;
+
+    private Investor investor1;
+    private Investor investor2;
+    private Long loanId1;
+    private Long loanId2;
+
+    @BeforeEach
+    void setUp() {
+        investor1 = investorRepository.save(new Investor("Investor 1", "investor1@example.com", "111-1111-1111",
+                "COMP001", new BigDecimal("5000000"), InvestorType.BANK));
+        investor2 = investorRepository.save(new Investor("Investor 2", "investor2@example.com", "222-2222-2222",
+                "COMP002", new BigDecimal("3000000"), InvestorType.INSURANCE));
+        Borrower borrower = borrowerRepository.save(new Borrower("Test Borrower", "borrower@example.com",
+                "333-3333-3333", "COMP003", Money.of(new BigDecimal("10000000")), CreditRating.A));
+
+        Facility facility = new Facility();
+        facility.setSyndicateId(1L);
+        facility.setCommitment(Money.of(new BigDecimal("1000000")));
+        facility.setCurrency("JPY");
+        facility.setStartDate(LocalDate.now());
+        facility.setEndDate(LocalDate.now().plusYears(1));
+        facility = facilityRepository.save(facility);
+
+        SharePie sharePie1 = new SharePie();
+        sharePie1.setFacility(facility);
+        sharePie1.setInvestorId(investor1.getId());
+        sharePie1.setShare(Percentage.of(new BigDecimal("0.6")));
+        sharePieRepository.save(sharePie1);
+
+        SharePie sharePie2 = new SharePie();
+        sharePie2.setFacility(facility);
+        sharePie2.setInvestorId(investor2.getId());
+        sharePie2.setShare(Percentage.of(new BigDecimal("0.4")));
+        sharePieRepository.save(sharePie2);
+
+        loanId1 = drawdownService.createDrawdown(createDrawdownRequest(facility, borrower)).getLoanId();
+        loanId2 = drawdownService.createDrawdown(createDrawdownRequest(facility, borrower)).getLoanId();
+    }
+
+    @Test
+    void 一括支払いで明細ごとの結果が返り成功分のみ反映されること() {
+        PaymentBatchResult result = paymentService.processPayments(List.of(
+                paymentRequest(loanId1, "10000", "500"),
+                paymentRequest(-1L, "10000", "500"),
+                paymentRequest(loanId2, "20000", "500"),
+                paymentRequest(loanId1, "0", "0"),
+                paymentRequest(loanId1, "30000", "500")));
+
+        assertEquals(5, result.getTotal());
+        assertEquals(3, result.getSucceeded());
+        assertEquals(2, result.getFailed());
+        assertTrue(result.getRecordsPerSecond() > 0);
+
+        List<PaymentBatchItemResult> items = result.getItems();
+        assertEquals(PaymentBatchItemResult.Status.SUCCESS, items.get(0).getStatus());
+        assertEquals(PaymentBatchItemResult.Status.FAILED, items.get(1).getStatus());
+        assertEquals("Loan not found with id: -1", items.get(1).getErrorMessage());
+        assertEquals(PaymentBatchItemResult.Status.SUCCESS, items.get(2).getStatus());
+        assertEquals(PaymentBatchItemResult.Status.FAILED, items.get(3).getStatus());
+        assertEquals("Payment amount cannot be zero", items.get(3).getErrorMessage());
+        assertEquals(PaymentBatchItemResult.Status.SUCCESS, items.get(4).getStatus());
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(i, items.get(i).getIndex());
+        }
+        assertEquals(loanId2, items.get(2).getLoanId());
+        assertNotNull(items.get(4).getPaymentId());
+
+        assertEquals(2, paymentRepository.findByLoanId(loanId1).size());
+        assertEquals(1, paymentRepository.findByLoanId(loanId2).size());
+
+        // ドローダウン 200000 × 2 を 60%:40% で配分した後、元本 60000 の返済分が減少する
+        assertEquals(Money.of(new BigDecimal("204000")),
+                partyService.getInvestorById(investor1.getId()).getCurrentInvestmentAmount());
+        assertEquals(Money.of(new BigDecimal("136000")),
+                partyService.getInvestorById(investor2.getId()).getCurrentInvestmentAmount());
+    }
+
+    @Test
+    void 残高を超える元本の支払いは明細単位で失敗し同じチャンクの他の支払いは反映されること() {
+        // chunk-size=2 のため、全明細が同じチャンクに入る
+        PaymentBatchResult result = paymentService.processPayments(List.of(
+                paymentRequest(loanId1, "150000", "500"),
+                paymentRequest(loanId2, "20000", "500"),
+                paymentRequest(loanId1, "60000", "500"),
+                paymentRequest(loanId1, "50000", "500")));
+
+        List<PaymentBatchItemResult> items = result.getItems();
+        assertEquals(Arrays.asList(PaymentBatchItemResult.Status.SUCCESS, PaymentBatchItemResult.Status.SUCCESS,
+                PaymentBatchItemResult.Status.FAILED, PaymentBatchItemResult.Status.SUCCESS),
+                items.stream().map(PaymentBatchItemResult::getStatus).toList());
+        // 先行する 150,000 の支払いを反映した残高 50,000 と比較する
+        assertEquals("Principal amount 60000.00 exceeds outstanding balance 50000.00 of loan: " + loanId1,
+                items.get(2).getErrorMessage());
+
+        assertEquals(2, paymentRepository.findByLoanId(loanId1).size());
+        assertEquals(1, paymentRepository.findByLoanId(loanId2).size());
+        assertTrue(loanRepository.findById(loanId1).orElseThrow().getOutstandingBalance().isZero());
+    }
+
+    @Test
+    void サービシングファイルの支払いが取り込まれ解析できない行は明細単位で失敗すること() throws Exception {
+        Files.writeString(inbox.resolve("20250601.csv"), String.join("\n",
+                "currency,loanId,paymentDate,principalAmount,interestAmount",
+                "JPY," + loanId1 + ",2025-06-01,10000,500",
+                "JPY," + loanId2 + ",not-a-date,10000,500",
+                "",
+                "JPY," + loanId2 + ",2025-06-01,20000,500"));
+        Files.writeString(inbox.resolve("20250602.jsonl"), String.join("\n",
+                objectMapper.writeValueAsString(paymentRequest(loanId1, "5000", "100")),
+                "{broken",
+                objectMapper.writeValueAsString(paymentRequest(loanId2, "5000", "100"))));
+        PaymentFileIngestService ingestService = new PaymentFileIngestService(paymentService, objectMapper, inbox, 2);
+
+        Map<Path, PaymentBatchResult> results = ingestService.ingestDirectory();
+
+        PaymentBatchResult csv = results.get(inbox.resolve("20250601.csv"));
+        assertEquals(3, csv.getTotal());
+        assertEquals(2, csv.getSucceeded());
+        assertEquals(PaymentBatchItemResult.Status.FAILED, csv.getItems().get(1).getStatus());
+        assertTrue(csv.getItems().get(1).getErrorMessage().startsWith("line 3: "));
+        assertEquals(loanId2, csv.getItems().get(2).getLoanId());
+
+        PaymentBatchResult jsonLines = results.get(inbox.resolve("20250602.jsonl"));
+        assertEquals(3, jsonLines.getTotal());
+        assertEquals(2, jsonLines.getSucceeded());
+        assertEquals(Arrays.asList(PaymentBatchItemResult.Status.SUCCESS, PaymentBatchItemResult.Status.FAILED,
+                PaymentBatchItemResult.Status.SUCCESS),
+                jsonLines.getItems().stream().map(PaymentBatchItemResult::getStatus).toList());
+
+        assertEquals(2, paymentRepository.findByLoanId(loanId1).size());
+        assertEquals(2, paymentRepository.findByLoanId(loanId2).size());
+        assertFalse(Files.exists(inbox.resolve("20250601.csv")));
+        assertTrue(Files.exists(inbox.resolve("processed").resolve("20250601.csv")));
+        assertTrue(Files.exists(inbox.resolve("processed").resolve("20250601.csv.result.json")));
+    }
+
+    @Test
+    void 取り込みが途中で中断したファイルは最後にコミットされた位置を出力し他のファイルの取り込みを続けること() throws Exception {
+        // 先頭のウィンドウ（2件）をコミットした後、BufferedReader の次の読み込みで不正なUTF-8に当たる
+        byte[] committed = String.join("\n",
+                objectMapper.writeValueAsString(paymentRequest(loanId1, "5000", "100")),
+                objectMapper.writeValueAsString(paymentRequest(loanId2, "5000", "100")),
+                " ".repeat(10000),
+                "").getBytes(StandardCharsets.UTF_8);
+        byte[] malformed = { (byte) 0xFF, (byte) 0xFE, '\n' };
+        Path interrupted = inbox.resolve("20250601.jsonl");
+        Files.write(interrupted, committed);
+        Files.write(interrupted, malformed, StandardOpenOption.APPEND);
+        Files.writeString(inbox.resolve("20250602.jsonl"),
+                objectMapper.writeValueAsString(paymentRequest(loanId1, "5000", "100")));
+        PaymentFileIngestService ingestService = new PaymentFileIngestService(paymentService, objectMapper, inbox, 2);
+
+        Map<Path, PaymentBatchResult> results = ingestService.ingestDirectory();
+
+        assertFalse(results.containsKey(interrupted));
+        assertEquals(1, results.get(inbox.resolve("20250602.jsonl")).getSucceeded());
+        assertTrue(Files.exists(inbox.resolve("failed").resolve("20250601.jsonl")));
+        JsonNode report = objectMapper.readTree(
+                inbox.resolve("failed").resolve("20250601.jsonl.result.json").toFile());
+        assertEquals(1, report.get("lastCommittedIndex").asInt());
+        assertEquals(2, report.get("result").get("items").size());
+        assertTrue(Files.exists(inbox.resolve("processed").resolve("20250602.jsonl")));
+
+        assertEquals(2, paymentRepository.findByLoanId(loanId1).size());
+        assertEquals(1, paymentRepository.findByLoanId(loanId2).size());
+    }
+
+    private CreatePaymentRequest paymentRequest(Long loanId, String principal, String interest) {
+        return new CreatePaymentRequest(loanId, LocalDate.of(2025, 6, 1), new BigDecimal(principal),
+                new BigDecimal(interest), "JPY");
+    }
+
+    private CreateDrawdownRequest createDrawdownRequest(Facility facility, Borrower borrower) {
+        CreateDrawdownRequest request = new CreateDrawdownRequest();
+        request.setFacilityId(facility.getId());
+        request.setBorrowerId(borrower.getId());
+        request.setAmount(new BigDecimal("200000"));
+        request.setCurrency("JPY");
+        request.setDrawdownDate(LocalDate.now());
+        request.setAnnualInterestRate(new BigDecimal("0.03"));
+        request.setRepaymentPeriodMonths(12);
+        request.setRepaymentCycle("MONTHLY");
+        request.setRepaymentMethod(RepaymentMethod.EQUAL_INSTALLMENT);
+        request.setPurpose("Servicing");
+        return request;
+    }
+}
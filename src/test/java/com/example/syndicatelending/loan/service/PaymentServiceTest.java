@@ -1,5 +1,6 @@
 package com.example.syndicatelending.loan.service;
 
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
 import com.example.syndicatelending.common.domain.model.Money;
 import com.example.syndicatelending.facility.entity.Facility;
 import com.example.syndicatelending.facility.entity.SharePie;
@@ -7,16 +8,21 @@ import com.example.syndicatelending.facility.repository.FacilityRepository;
 import com.example.syndicatelending.facility.repository.SharePieRepository;
 import com.example.syndicatelending.loan.dto.CreateDrawdownRequest;
 import com.example.syndicatelending.loan.dto.CreatePaymentRequest;
+import com.example.syndicatelending.loan.dto.LoanPosition;
 import com.example.syndicatelending.loan.entity.Drawdown;
 import com.example.syndicatelending.loan.entity.Loan;
 import com.example.syndicatelending.loan.entity.Payment;
+import com.example.syndicatelending.loan.entity.PaymentDetail;
 import com.example.syndicatelending.loan.entity.RepaymentMethod;
 import com.example.syndicatelending.loan.repository.LoanRepository;
+import com.example.syndicatelending.loan.repository.PaymentDetailRepository;
+import com.example.syndicatelending.loan.repository.PaymentRepository;
 import com.example.syndicatelending.party.entity.Borrower;
 import com.example.syndicatelending.party.entity.Investor;
 import com.example.syndicatelending.party.entity.InvestorType;
 import com.example.syndicatelending.party.repository.BorrowerRepository;
 import com.example.syndicatelending.party.repository.InvestorRepository;
+import com.example.syndicatelending.party.service.PartyService;
 import com.example.syndicatelending.common.domain.model.Percentage;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +34,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -45,6 +52,9 @@ class PaymentServiceTest {
     @Autowired
     private InvestorRepository investorRepository;
 
+    @Autowired
+    private PartyService partyService;
+
     @Autowired
     private BorrowerRepository borrowerRepository;
 
@@ -57,6 +67,18 @@ class PaymentServiceTest {
     @Autowired
     private LoanRepository loanRepository;
 
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private PaymentDetailRepository paymentDetailRepository;
+
+    @Autowired
+    private PaymentScheduleService paymentScheduleService;
+
+    @Autowired
+    private LoanPositionService loanPositionService;
+
     private Investor investor1;
     private Investor investor2;
     private Borrower borrower;
@@ -122,8 +144,8 @@ class PaymentServiceTest {
     @Test
     void 元本返済時に投資家の投資額が正しく減少する() {
         // ドローダウン後の投資額確認
-        investor1 = investorRepository.findById(investor1.getId()).orElseThrow();
-        investor2 = investorRepository.findById(investor2.getId()).orElseThrow();
+        investor1 = partyService.getInvestorById(investor1.getId());
+        investor2 = partyService.getInvestorById(investor2.getId());
 
         Money initialInvestor1Amount = investor1.getCurrentInvestmentAmount(); // 300000 * 0.6 = 180000
         Money initialInvestor2Amount = investor2.getCurrentInvestmentAmount(); // 300000 * 0.4 = 120000
@@ -144,8 +166,8 @@ class PaymentServiceTest {
         assertNotNull(payment);
 
         // 投資家エンティティを再取得
-        investor1 = investorRepository.findById(investor1.getId()).orElseThrow();
-        investor2 = investorRepository.findById(investor2.getId()).orElseThrow();
+        investor1 = partyService.getInvestorById(investor1.getId());
+        investor2 = partyService.getInvestorById(investor2.getId());
 
         // 投資額の確認（元本返済分が減少、60%:40%の比率で分配）
         Money expectedInvestor1Amount = Money.of(new BigDecimal("144000")); // 180000 - (60000 * 0.6)
@@ -155,11 +177,74 @@ class PaymentServiceTest {
         assertEquals(expectedInvestor2Amount, investor2.getCurrentInvestmentAmount());
     }
 
+    @Test
+    void 支払いで消し込まれた期が支払日とともに永続化され参照できること() {
+        CreatePaymentRequest paymentRequest = new CreatePaymentRequest();
+        paymentRequest.setLoanId(loan.getId());
+        paymentRequest.setPaymentDate(LocalDate.now());
+        paymentRequest.setPrincipalAmount(new BigDecimal("60000"));
+        paymentRequest.setInterestAmount(new BigDecimal("750"));
+        paymentRequest.setCurrency("JPY");
+        paymentService.processPayment(paymentRequest);
+        loanRepository.flush();
+
+        // 第1回・第2回が消し込まれ、第3回以降は計算値のまま
+        List<PaymentDetail> schedule = paymentScheduleService.getPaymentSchedule(loan.getId(), 1, 3);
+        assertNotNull(schedule.get(0).getId());
+        assertEquals(LocalDate.now(), schedule.get(0).getPaidDate());
+        assertNotNull(schedule.get(1).getId());
+        assertEquals(LocalDate.now(), schedule.get(1).getPaidDate());
+        assertNull(schedule.get(2).getId());
+        assertNull(schedule.get(2).getPaidDate());
+        assertEquals(List.of(1, 2), paymentDetailRepository.findStoredByLoanId(loan.getId()).stream()
+                .map(PaymentDetail::getPaymentNumber).toList());
+    }
+
+    @Test
+    void 残高を超える元本の支払いは拒否され残高が変わらないこと() {
+        CreatePaymentRequest paymentRequest = new CreatePaymentRequest();
+        paymentRequest.setLoanId(loan.getId());
+        paymentRequest.setPaymentDate(LocalDate.now());
+        paymentRequest.setPrincipalAmount(new BigDecimal("300000.01"));
+        paymentRequest.setInterestAmount(new BigDecimal("750"));
+        paymentRequest.setCurrency("JPY");
+
+        assertThrows(BusinessRuleViolationException.class, () -> paymentService.processPayment(paymentRequest));
+
+        Loan reloaded = loanRepository.findById(loan.getId()).orElseThrow();
+        assertEquals(Money.of(new BigDecimal("300000")), reloaded.getOutstandingBalance());
+        assertEquals(1, reloaded.getNextPaymentNumber());
+        assertTrue(paymentRepository.findByLoanId(loan.getId()).isEmpty());
+    }
+
+    @Test
+    void 支払いでLoanの残高と次回返済が更新されポジションとして取得できる() {
+        assertEquals(1, loan.getNextPaymentNumber());
+
+        CreatePaymentRequest paymentRequest = new CreatePaymentRequest();
+        paymentRequest.setLoanId(loan.getId());
+        paymentRequest.setPaymentDate(LocalDate.now());
+        paymentRequest.setPrincipalAmount(new BigDecimal("60000"));
+        paymentRequest.setInterestAmount(new BigDecimal("750"));
+        paymentRequest.setCurrency("JPY");
+        paymentService.processPayment(paymentRequest);
+        loanRepository.flush();
+
+        LoanPosition position = loanPositionService.getPosition(loan.getId(), LocalDate.now().plusDays(30));
+        assertEquals(Money.of(new BigDecimal("240000")), position.getOutstandingBalance());
+        // 第2回の返済後残高(250,622.13)も下回るため、次回返済は第3回
+        assertEquals(3, position.getNextPaymentNumber());
+        assertEquals(LocalDate.now().plusMonths(1).plusMonths(1).plusMonths(1), position.getNextDueDate());
+        assertEquals(LocalDate.now(), position.getLastPaymentDate());
+        // 240,000 × 3% × 30 / 365
+        assertEquals(Money.of(new BigDecimal("591.78")), position.getAccruedInterest());
+    }
+
     @Test
     void 利息のみの支払いでは投資額が変更されない() {
         // ドローダウン後の投資額確認
-        investor1 = investorRepository.findById(investor1.getId()).orElseThrow();
-        investor2 = investorRepository.findById(investor2.getId()).orElseThrow();
+        investor1 = partyService.getInvestorById(investor1.getId());
+        investor2 = partyService.getInvestorById(investor2.getId());
 
         Money initialInvestor1Amount = investor1.getCurrentInvestmentAmount();
         Money initialInvestor2Amount = investor2.getCurrentInvestmentAmount();
@@ -177,8 +262,8 @@ class PaymentServiceTest {
         assertNotNull(payment);
 
         // 投資家エンティティを再取得
-        investor1 = investorRepository.findById(investor1.getId()).orElseThrow();
-        investor2 = investorRepository.findById(investor2.getId()).orElseThrow();
+        investor1 = partyService.getInvestorById(investor1.getId());
+        investor2 = partyService.getInvestorById(investor2.getId());
 
         // 投資額が変更されていないことを確認
         assertEquals(initialInvestor1Amount, investor1.getCurrentInvestmentAmount());
@@ -188,8 +273,8 @@ class PaymentServiceTest {
     @Test
     void 複数回の返済で投資額が累積的に減少する() {
         // ドローダウン後の初期投資額
-        investor1 = investorRepository.findById(investor1.getId()).orElseThrow();
-        investor2 = investorRepository.findById(investor2.getId()).orElseThrow();
+        investor1 = partyService.getInvestorById(investor1.getId());
+        investor2 = partyService.getInvestorById(investor2.getId());
 
         Money initialInvestor1Amount = investor1.getCurrentInvestmentAmount();
         Money initialInvestor2Amount = investor2.getCurrentInvestmentAmount();
@@ -215,8 +300,8 @@ class PaymentServiceTest {
         paymentService.processPayment(payment2);
 
         // 投資家エンティティを再取得
-        investor1 = investorRepository.findById(investor1.getId()).orElseThrow();
-        investor2 = investorRepository.findById(investor2.getId()).orElseThrow();
+        investor1 = partyService.getInvestorById(investor1.getId());
+        investor2 = partyService.getInvestorById(investor2.getId());
 
         // 累積的な減少を確認
         Money totalPrincipalReduction = Money.of(new BigDecimal("80000")); // 30000 + 50000
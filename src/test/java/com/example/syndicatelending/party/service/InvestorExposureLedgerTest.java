@@ -0,0 +1,129 @@
+package com.example.syndicatelending.party.service;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.party.entity.Investor;
+import com.example.syndicatelending.party.entity.InvestorExposureDelta;
+import com.example.syndicatelending.party.entity.InvestorType;
+import com.example.syndicatelending.party.repository.InvestorExposureDeltaRepository;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * exposure delta 台帳のテスト。
+ * 同時実行を検証するため、各操作は個別のトランザクションでコミットされる。
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class InvestorExposureLedgerTest {
+
+    @Autowired
+    private InvestorExposureLedger ledger;
+
+    @Autowired
+    private InvestorRepository investorRepository;
+
+    @Autowired
+    private PartyService partyService;
+
+    @Autowired
+    private InvestorExposureDeltaRepository deltaRepository;
+
+    private Investor investor;
+
+    @BeforeEach
+    void setUp() {
+        investor = investorRepository.save(new Investor("Lead Bank", "lead@example.com", "111-1111-1111",
+                "COMP001", new BigDecimal("100000000"), InvestorType.BANK));
+    }
+
+    @AfterEach
+    void tearDown() {
+        deltaRepository.deleteAllInBatch(deltaRepository.findByInvestorId(investor.getId()));
+        investorRepository.deleteById(investor.getId());
+    }
+
+    @Test
+    void 同じ投資家への同時追記が競合せずに全件反映されること() throws Exception {
+        int threads = 8;
+        int drawdownsPerThread = 25;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long sourceBase = t * 1000L;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < drawdownsPerThread; i++) {
+                        ledger.append(List.of(InvestorExposureDelta.increase(investor.getId(),
+                                Money.of(new BigDecimal("1000")), "DRAWDOWN", sourceBase + i)));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Investor reloaded = partyService.getInvestorById(investor.getId());
+        assertEquals(Money.of(new BigDecimal("200000")), reloaded.getCurrentInvestmentAmount());
+        assertEquals(investor.getVersion(), reloaded.getVersion(), "Investor行は更新されないこと");
+        assertEquals(threads * drawdownsPerThread, deltaRepository.findByInvestorId(investor.getId()).size());
+    }
+
+    @Test
+    void 圧縮後もスナップショットと残りのdeltaの合計が投資額になること() {
+        ledger.append(List.of(
+                InvestorExposureDelta.increase(investor.getId(), Money.of(new BigDecimal("500000")), "DRAWDOWN", 1L),
+                InvestorExposureDelta.decrease(investor.getId(), Money.of(new BigDecimal("120000")), "PAYMENT", 2L)));
+
+        assertEquals(2, ledger.compact(investor.getId()));
+        ledger.append(List.of(
+                InvestorExposureDelta.increase(investor.getId(), Money.of(new BigDecimal("30000")), "DRAWDOWN", 3L)));
+
+        Investor reloaded = partyService.getInvestorById(investor.getId());
+        assertEquals(Money.of(new BigDecimal("410000")), reloaded.getCurrentInvestmentAmount());
+        assertEquals(1, deltaRepository.findByInvestorId(investor.getId()).size());
+        assertTrue(ledger.findPendingInvestorIds().contains(investor.getId()));
+
+        assertEquals(1, ledger.compact(investor.getId()));
+        assertEquals(0, ledger.compact(investor.getId()));
+        reloaded = partyService.getInvestorById(investor.getId());
+        assertEquals(Money.of(new BigDecimal("410000")), reloaded.getCurrentInvestmentAmount());
+        assertTrue(deltaRepository.findByInvestorId(investor.getId()).isEmpty());
+    }
+
+    @Test
+    void deltaの合計は投資額を返す参照系でのみ集計されること() {
+        investor.setCurrentInvestmentAmount(Money.of(new BigDecimal("100000")));
+        investor = investorRepository.save(investor);
+        ledger.append(List.of(
+                InvestorExposureDelta.increase(investor.getId(), Money.of(new BigDecimal("50000")), "DRAWDOWN", 1L)));
+
+        // 取引の処理で使う読み込みはスナップショットのみ
+        assertEquals(Money.of(new BigDecimal("100000")),
+                investorRepository.findById(investor.getId()).orElseThrow().getCurrentInvestmentAmount());
+
+        assertEquals(Money.of(new BigDecimal("150000")),
+                partyService.getInvestorById(investor.getId()).getCurrentInvestmentAmount());
+        Investor listed = partyService.scrollInvestors(null, 1000, false).getContent().stream()
+                .filter(candidate -> candidate.getId().equals(investor.getId()))
+                .findFirst().orElseThrow();
+        assertEquals(Money.of(new BigDecimal("150000")), listed.getCurrentInvestmentAmount());
+    }
+}
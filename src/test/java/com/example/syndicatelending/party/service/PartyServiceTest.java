@@ -40,11 +40,15 @@ class PartyServiceTest {
         @Mock
         private InvestorRepository investorRepository;
 
+        @Mock
+        private InvestorExposureLedger investorExposureLedger;
+
         private PartyService partyService;
 
         @BeforeEach
         void setUp() {
-                partyService = new PartyService(companyRepository, borrowerRepository, investorRepository);
+                partyService = new PartyService(companyRepository, borrowerRepository, investorRepository,
+                                investorExposureLedger);
         }
 
         @Test
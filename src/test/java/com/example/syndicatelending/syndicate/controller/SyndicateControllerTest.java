@@ -1,5 +1,6 @@
 package com.example.syndicatelending.syndicate.controller;
 
+import com.example.syndicatelending.syndicate.dto.SyndicateView;
 import com.example.syndicatelending.syndicate.entity.Syndicate;
 import com.example.syndicatelending.syndicate.service.SyndicateService;
 import org.junit.jupiter.api.BeforeEach;
@@ -53,21 +54,28 @@ class SyndicateControllerTest {
 
         @Test
         void getSyndicate正常系() throws Exception {
-                when(syndicateService.getSyndicateById(1L)).thenReturn(sampleSyndicate);
+                when(syndicateService.getSyndicateView(1L)).thenReturn(sampleView());
                 mockMvc.perform(get("/api/v1/syndicates/1"))
                                 .andExpect(status().isOk())
-                                .andExpect(jsonPath("$.id").value(1L));
+                                .andExpect(jsonPath("$.id").value(1L))
+                                .andExpect(jsonPath("$.memberInvestorIds.length()").value(2));
         }
 
         @Test
         void getAllSyndicatesページング() throws Exception {
-                Page<Syndicate> page = new PageImpl<>(List.of(sampleSyndicate), PageRequest.of(0, 10), 1);
-                when(syndicateService.getAllSyndicates(any(Pageable.class))).thenReturn(page);
+                Page<SyndicateView> page = new PageImpl<>(List.of(sampleView()), PageRequest.of(0, 10), 1);
+                when(syndicateService.getSyndicateViews(any(Pageable.class))).thenReturn(page);
                 mockMvc.perform(get("/api/v1/syndicates?page=0&size=10"))
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$.content[0].name").value("団A"));
         }
 
+        private SyndicateView sampleView() {
+                SyndicateView view = new SyndicateView(1L, "団A", 1L, 1L, null, null, 0L);
+                view.setMemberInvestorIds(List.of(2L, 3L));
+                return view;
+        }
+
         // Update Tests
         @Test
         void updateSyndicate正常系() throws Exception {
@@ -0,0 +1,86 @@
+package com.example.syndicatelending.syndicate.service;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.infrastructure.CacheConfig;
+import com.example.syndicatelending.party.entity.Borrower;
+import com.example.syndicatelending.party.entity.CreditRating;
+import com.example.syndicatelending.party.entity.Investor;
+import com.example.syndicatelending.party.entity.InvestorType;
+import com.example.syndicatelending.party.repository.BorrowerRepository;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+import com.example.syndicatelending.syndicate.domain.SyndicateMembership;
+import com.example.syndicatelending.syndicate.dto.UpdateSyndicateRequest;
+import com.example.syndicatelending.syndicate.entity.Syndicate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * シンジケートメンバーキャッシュのテスト。
+ * キャッシュへの反映はコミット後に行われるため、テストはトランザクションで囲まない。
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SyndicateMembershipCacheTest {
+
+    @Autowired
+    private SyndicateMembershipCache syndicateMembershipCache;
+
+    @Autowired
+    private SyndicateService syndicateService;
+
+    @Autowired
+    private InvestorRepository investorRepository;
+
+    @Autowired
+    private BorrowerRepository borrowerRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void メンバーはキャッシュから返されSyndicateの更新時にevictされること() {
+        Investor leadBank = saveInvestor("Membership Lead Bank", InvestorType.LEAD_BANK);
+        Investor member = saveInvestor("Membership Member", InvestorType.BANK);
+        Borrower borrower = borrowerRepository.save(new Borrower("Membership Borrower", "borrower@example.com",
+                "000-0000-0000", null, Money.of(new BigDecimal("1000000")), CreditRating.AA));
+        Syndicate syndicate = syndicateService.createSyndicate(new Syndicate("Membership Syndicate",
+                leadBank.getId(), borrower.getId(), List.of(leadBank.getId())));
+
+        SyndicateMembership first = syndicateMembershipCache.getMembership(syndicate.getId()).orElseThrow();
+        assertEquals(Set.of(leadBank.getId()), first.getMemberInvestorIds());
+        assertEquals(borrower.getId(), first.getBorrowerId());
+        assertNotNull(membershipCache().get(syndicate.getId()));
+
+        syndicateService.updateSyndicate(syndicate.getId(), new UpdateSyndicateRequest("Membership Syndicate",
+                leadBank.getId(), borrower.getId(), List.of(leadBank.getId(), member.getId()),
+                syndicate.getVersion()));
+
+        assertNull(membershipCache().get(syndicate.getId()));
+        assertTrue(syndicateMembershipCache.getMembership(syndicate.getId()).orElseThrow().isMember(member.getId()));
+    }
+
+    @Test
+    void 存在しないSyndicateはキャッシュされないこと() {
+        assertTrue(syndicateMembershipCache.getMembership(Long.MAX_VALUE).isEmpty());
+        assertNull(membershipCache().get(Long.MAX_VALUE));
+    }
+
+    private Cache membershipCache() {
+        return cacheManager.getCache(CacheConfig.SYNDICATE_MEMBERS);
+    }
+
+    private Investor saveInvestor(String name, InvestorType type) {
+        return investorRepository.save(new Investor(name, null, null, null, new BigDecimal("1000000"), type));
+    }
+}